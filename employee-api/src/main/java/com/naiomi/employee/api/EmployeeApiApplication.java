@@ -2,14 +2,20 @@ package com.naiomi.employee.api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
-@EnableRetry
 public class EmployeeApiApplication {
 
+    /**
+     * Number of startup steps kept for the {@code /admin/startup} report.
+     */
+    private static final int STARTUP_STEP_CAPACITY = 10_000;
+
     public static void main(String[] args) {
-        SpringApplication.run(EmployeeApiApplication.class, args);
+        SpringApplication application = new SpringApplication(EmployeeApiApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 
 }
@@ -0,0 +1,114 @@
+package com.naiomi.employee.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.naiomi.employee.contract.EmployeeResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of employee lookups, kept consistent by the change events of employee-data.
+ * <p>
+ * The cache is only trusted while {@link EmployeeEventSubscriber} is connected: while
+ * disconnected, reads and writes bypass it, because invalidations could be missed. A lookup
+ * that overlaps any invalidation is not cached, so a response read before a change cannot be
+ * stored after the change was applied.
+ * </p>
+ */
+@Component
+public class EmployeeCache {
+
+    private final boolean enabled;
+    private final Cache<Long, EmployeeResponse> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile boolean consistent;
+
+    public EmployeeCache(@Value("${employee.cache.enabled:true}") boolean enabled,
+                         @Value("${employee.cache.ttl-seconds:3600}") long ttlSeconds,
+                         @Value("${employee.cache.max-size:100000}") long maxSize) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * @param id the employee ID
+     * @return the cached employee, or {@code null} on a miss or while the cache is not trusted
+     */
+    public EmployeeResponse get(Long id) {
+        return isActive() ? cache.getIfPresent(id) : null;
+    }
+
+    /**
+     * Returns the current generation, to be passed to {@link #put} after the lookup.
+     *
+     * @return the number of invalidations so far
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Caches a lookup unless an invalidation happened since {@code lookupGeneration} was read.
+     *
+     * @param id               the employee ID
+     * @param employee         the employee returned by employee-data
+     * @param lookupGeneration the generation read before the lookup started
+     */
+    public void put(Long id, EmployeeResponse employee, long lookupGeneration) {
+        if (!isActive() || generation.get() != lookupGeneration) {
+            return;
+        }
+        cache.put(id, employee);
+        // An invalidation between the check and the put must still win
+        if (generation.get() != lookupGeneration) {
+            cache.invalidate(id);
+        }
+    }
+
+    public void invalidate(Long id) {
+        generation.incrementAndGet();
+        cache.invalidate(id);
+    }
+
+    public void invalidateRole(Long roleId) {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(employee -> roleId.equals(employee.roleId()));
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Marks whether invalidations are currently being received. Becoming inconsistent drops
+     * all entries, since changes may be missed from now on.
+     *
+     * @param consistent {@code true} once the event stream has caught up
+     */
+    public void setConsistent(boolean consistent) {
+        if (!consistent) {
+            invalidateAll();
+        }
+        this.consistent = consistent;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isActive() {
+        return enabled && consistent;
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,245 @@
+package com.naiomi.employee.api.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.InputStreamResponseListener;
+import org.eclipse.jetty.client.Response;
+import org.eclipse.jetty.http.HttpHeader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Subscribes to the employee change stream of employee-data (Server-Sent Events),
+ * invalidates the affected {@link EmployeeCache} entries, adds created employees to the
+ * {@link EmployeeIdFilter} and drops deleted employees from the {@link LastKnownGoodStore}.
+ * <p>
+ * On disconnect the cache and the ID filter are bypassed and the subscriber reconnects with exponential backoff,
+ * sending the last event ID so missed events are replayed (or a {@code reset} is received if
+ * they are no longer available). The cache is trusted again once the {@code ready} event
+ * arrives.
+ * </p>
+ */
+@Component
+public class EmployeeEventSubscriber {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeEventSubscriber.class);
+
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private final EmployeeCache employeeCache;
+    private final EmployeeIdFilter employeeIdFilter;
+    private final LastKnownGoodStore lastKnownGoodStore;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String eventsUrl;
+    private final long idleTimeoutMs;
+    private final long initialBackoffMs;
+
+    private volatile boolean running;
+    private volatile String lastEventId;
+    private Thread thread;
+
+    // Event being parsed, only touched by the subscriber thread
+    private String eventName;
+    private String eventId;
+    private final StringBuilder data = new StringBuilder();
+
+    public EmployeeEventSubscriber(EmployeeCache employeeCache,
+                                   EmployeeIdFilter employeeIdFilter,
+                                   LastKnownGoodStore lastKnownGoodStore,
+                                   HttpClient employeeDataHttpClient,
+                                   ObjectMapper objectMapper,
+                                   @Value("${employee.data.events-url:${employee.data.url}/events}") String eventsUrl,
+                                   @Value("${employee.cache.events.idle-timeout-ms:45000}") long idleTimeoutMs,
+                                   @Value("${employee.cache.events.reconnect-backoff-ms:1000}") long initialBackoffMs) {
+        this.employeeCache = employeeCache;
+        this.employeeIdFilter = employeeIdFilter;
+        this.lastKnownGoodStore = lastKnownGoodStore;
+        this.httpClient = employeeDataHttpClient;
+        this.objectMapper = objectMapper;
+        this.eventsUrl = eventsUrl;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.initialBackoffMs = initialBackoffMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!employeeCache.isEnabled() && !employeeIdFilter.isEnabled()) {
+            logger.info("Employee cache and ID filter disabled, not subscribing to {}", eventsUrl);
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "employee-event-subscriber");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    public String getLastEventId() {
+        return lastEventId;
+    }
+
+    private void run() {
+        long backoffMs = initialBackoffMs;
+        int failures = 0;
+        while (running) {
+            try {
+                consume();
+                backoffMs = initialBackoffMs;
+                failures = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // Log the first failure loudly, then quietly until the stream is back
+                if (failures++ == 0) {
+                    logger.warn("Employee event stream at {} unavailable, caching suspended: {}", eventsUrl, e.getMessage());
+                } else {
+                    logger.debug("Reconnect to {} failed: {}", eventsUrl, e.getMessage());
+                }
+            }
+            employeeCache.setConsistent(false);
+            employeeIdFilter.suspend();
+            try {
+                Thread.sleep(backoffMs);
+            } catch (InterruptedException e) {
+                return;
+            }
+            backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+        }
+    }
+
+    private void consume() throws Exception {
+        InputStreamResponseListener listener = new InputStreamResponseListener();
+        httpClient.newRequest(eventsUrl)
+                .headers(headers -> {
+                    headers.put(HttpHeader.ACCEPT, "text/event-stream");
+                    if (lastEventId != null) {
+                        headers.put("Last-Event-ID", lastEventId);
+                    }
+                })
+                .idleTimeout(idleTimeoutMs, TimeUnit.MILLISECONDS)
+                .send(listener);
+
+        Response response = listener.get(idleTimeoutMs, TimeUnit.MILLISECONDS);
+        if (response.getStatus() != 200) {
+            listener.getInputStream().close();
+            throw new IOException("Unexpected status " + response.getStatus());
+        }
+
+        try (InputStream in = listener.getInputStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            resetEvent();
+            String line;
+            while (running && (line = reader.readLine()) != null) {
+                onLine(line);
+            }
+        }
+        logger.info("Employee event stream closed by employee-data");
+    }
+
+    /**
+     * Parses one line of the event stream and dispatches the event on a blank line.
+     *
+     * @param line the line without its terminator
+     */
+    void onLine(String line) {
+        if (line.isEmpty()) {
+            if (eventName != null || data.length() > 0) {
+                dispatch(eventName == null ? "message" : eventName, data.toString());
+                if (eventId != null) {
+                    lastEventId = eventId;
+                }
+            }
+            resetEvent();
+            return;
+        }
+        if (line.startsWith(":")) {
+            return;
+        }
+        int colon = line.indexOf(':');
+        String field = colon < 0 ? line : line.substring(0, colon);
+        String value = colon < 0 ? "" : line.substring(colon + 1);
+        if (value.startsWith(" ")) {
+            value = value.substring(1);
+        }
+        switch (field) {
+            case "event" -> eventName = value;
+            case "id" -> eventId = value;
+            case "data" -> {
+                if (data.length() > 0) {
+                    data.append('\n');
+                }
+                data.append(value);
+            }
+            default -> { }
+        }
+    }
+
+    private void dispatch(String name, String payload) {
+        switch (name) {
+            case "ready" -> {
+                employeeCache.setConsistent(true);
+                employeeIdFilter.resume();
+                logger.info("Subscribed to employee changes at {}", eventsUrl);
+            }
+            case "reset" -> {
+                logger.info("Employee event stream reset, dropping {} cached employees", employeeCache.size());
+                employeeCache.invalidateAll();
+            }
+            case "change" -> onChange(payload);
+            default -> logger.debug("Ignoring employee event {}", name);
+        }
+    }
+
+    private void onChange(String payload) {
+        JsonNode event;
+        try {
+            event = objectMapper.readTree(payload);
+        } catch (IOException e) {
+            logger.warn("Unreadable employee change event, dropping cache: {}", e.getMessage());
+            employeeCache.invalidateAll();
+            return;
+        }
+        String type = event.path("type").asText();
+        if ("CREATED".equals(type) && event.hasNonNull("employeeId")) {
+            employeeIdFilter.add(event.get("employeeId").asLong());
+        }
+        if ("DELETED".equals(type) && event.hasNonNull("employeeId")) {
+            lastKnownGoodStore.forget(event.get("employeeId").asLong());
+        }
+        if ("ROLE_DELETED".equals(type)) {
+            employeeCache.invalidateRole(event.path("roleId").asLong());
+            lastKnownGoodStore.forgetRole(event.path("roleId").asLong());
+        } else if (event.hasNonNull("employeeId")) {
+            employeeCache.invalidate(event.get("employeeId").asLong());
+        } else {
+            employeeCache.invalidateAll();
+        }
+    }
+
+    private void resetEvent() {
+        eventName = null;
+        eventId = null;
+        data.setLength(0);
+    }
+}
@@ -0,0 +1,301 @@
+package com.naiomi.employee.api.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bloom filter of existing employee IDs, used to answer lookups for unknown IDs with a 404
+ * without calling employee-data.
+ * <p>
+ * The filter is built from {@code GET /api/employees/ids} and kept up to date with the
+ * {@code CREATED} events received by {@link EmployeeEventSubscriber}. Like {@link EmployeeCache}
+ * it is only trusted while the event stream is connected; after a reconnect it is rebuilt.
+ * IDs above the highest known ID are never rejected, since they may belong to employees
+ * whose creation event has not arrived yet. employee-data may commit a higher ID before a
+ * lower one, so a created ID only raises the highest known ID if it follows it without a gap;
+ * otherwise it waits for the lower IDs or the next rebuild. Deleted IDs stay in the filter
+ * until the next periodic rebuild, which also resizes it to the current directory.
+ * </p>
+ */
+@Component
+public class EmployeeIdFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeIdFilter.class);
+
+    private final RestTemplate restTemplate;
+    private final String idsUrl;
+    private final boolean enabled;
+    private final double falsePositiveRate;
+    private final long minExpectedInsertions;
+    private final long rebuildIntervalMs;
+
+    private final AtomicLong maxKnownId = new AtomicLong(Long.MIN_VALUE);
+    /** Created IDs not yet covered by {@link #maxKnownId}. Guarded by {@code this}. */
+    private final TreeSet<Long> createdAboveMaxKnownId = new TreeSet<>();
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private final Counter rejected;
+    private final Counter passed;
+    private final Counter bypassed;
+
+    private volatile BloomFilter active;
+    private volatile boolean subscribed;
+    private long subscription;
+    private List<Long> createdDuringRebuild;
+    private ScheduledExecutorService executor;
+
+    public EmployeeIdFilter(RestTemplate restTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${employee.data.url}") String employeeDataUrl,
+                            @Value("${employee.idfilter.enabled:true}") boolean enabled,
+                            @Value("${employee.idfilter.false-positive-rate:0.01}") double falsePositiveRate,
+                            @Value("${employee.idfilter.min-expected-insertions:10000}") long minExpectedInsertions,
+                            @Value("${employee.idfilter.rebuild-interval-ms:600000}") long rebuildIntervalMs) {
+        this.restTemplate = restTemplate;
+        this.idsUrl = employeeDataUrl + "/ids";
+        this.enabled = enabled;
+        this.falsePositiveRate = falsePositiveRate;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.rebuildIntervalMs = rebuildIntervalMs;
+
+        // Fail at startup rather than on the first rebuild
+        BloomFilter.create(minExpectedInsertions, falsePositiveRate);
+
+        this.rejected = lookups(meterRegistry, "rejected");
+        this.passed = lookups(meterRegistry, "passed");
+        this.bypassed = lookups(meterRegistry, "bypassed");
+        Gauge.builder("employee.idfilter.memory", this, filter -> filter.sizeInBytes())
+                .description("Memory used by the employee ID filter")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("employee.idfilter.false.positive.rate", this, filter -> filter.expectedFalsePositiveRate())
+                .description("Expected false-positive rate for the IDs currently in the filter")
+                .register(meterRegistry);
+        Gauge.builder("employee.idfilter.ids", this, filter -> filter.size())
+                .description("Employee IDs inserted into the filter")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.idfilter.lookups")
+                .description("Employee lookups checked against the ID filter")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-id-filter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> {
+            if (subscribed) {
+                rebuildQuietly();
+            }
+        }, rebuildIntervalMs, rebuildIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @param id the employee ID
+     * @return {@code false} only if the employee certainly does not exist
+     */
+    public boolean mightExist(long id) {
+        BloomFilter filter = active;
+        if (!enabled || filter == null || id > maxKnownId.get()) {
+            bypassed.increment();
+            return true;
+        }
+        if (filter.mightContain(id)) {
+            passed.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Records a newly created employee.
+     *
+     * @param id the employee ID
+     */
+    public synchronized void add(long id) {
+        if (!subscribed) {
+            // The rebuild after resume() loads it
+            return;
+        }
+        if (id > maxKnownId.get()) {
+            createdAboveMaxKnownId.add(id);
+            raiseMaxKnownId(maxKnownId.get());
+        }
+        if (createdDuringRebuild != null) {
+            createdDuringRebuild.add(id);
+        }
+        BloomFilter filter = active;
+        if (filter != null) {
+            filter.put(id);
+            if (filter.insertions() > filter.expectedInsertions()) {
+                scheduleRebuild();
+            }
+        }
+    }
+
+    /**
+     * Called once the event stream has caught up; schedules a rebuild, after which the filter
+     * is trusted.
+     */
+    public synchronized void resume() {
+        if (!enabled) {
+            return;
+        }
+        subscribed = true;
+        scheduleRebuild();
+    }
+
+    /**
+     * Called when the event stream is lost. The filter is not trusted until the next rebuild
+     * after {@link #resume()}, since creations may be missed.
+     */
+    public synchronized void suspend() {
+        subscribed = false;
+        subscription++;
+        active = null;
+    }
+
+    /**
+     * Loads all employee IDs into a new filter and activates it, unless the event stream was
+     * lost in the meantime.
+     */
+    void rebuild() {
+        long startedSubscription;
+        synchronized (this) {
+            if (!subscribed) {
+                return;
+            }
+            startedSubscription = subscription;
+            // The ID list may miss employees created while it is downloaded
+            createdDuringRebuild = new ArrayList<>();
+        }
+
+        long start = System.nanoTime();
+        Long[] ids;
+        try {
+            ids = restTemplate.getForObject(idsUrl, Long[].class);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                createdDuringRebuild = null;
+            }
+            throw e;
+        }
+        if (ids == null) {
+            throw new IllegalStateException("Empty ID list from " + idsUrl);
+        }
+
+        BloomFilter next = BloomFilter.create(Math.max(minExpectedInsertions, ids.length * 2L), falsePositiveRate);
+        long highest = Long.MIN_VALUE;
+        for (Long id : ids) {
+            next.put(id);
+            highest = Math.max(highest, id);
+        }
+        synchronized (this) {
+            raiseMaxKnownId(highest);
+            createdDuringRebuild.forEach(next::put);
+            createdDuringRebuild = null;
+            if (!subscribed || subscription != startedSubscription) {
+                return;
+            }
+            active = next;
+        }
+
+        logger.info("Employee ID filter rebuilt with {} IDs in {} ms: {} bytes, {} hash functions, reject rate so far {}",
+                ids.length, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), next.sizeInBytes(),
+                next.hashCount(), String.format("%.3f", getRejectRate()));
+    }
+
+    /**
+     * Raises the highest known ID to at least {@code id}, and further through any created IDs
+     * that follow it without a gap.
+     */
+    private void raiseMaxKnownId(long id) {
+        long max = Math.max(maxKnownId.get(), id);
+        while (!createdAboveMaxKnownId.isEmpty() && createdAboveMaxKnownId.first() <= max + 1) {
+            max = Math.max(max, createdAboveMaxKnownId.pollFirst());
+        }
+        maxKnownId.set(max);
+    }
+
+    private void scheduleRebuild() {
+        if (executor != null && rebuildPending.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                rebuildPending.set(false);
+                rebuildQuietly();
+            });
+        }
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            logger.warn("Employee ID filter rebuild from {} failed, lookups are not filtered: {}", idsUrl, e.getMessage());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isActive() {
+        return enabled && active != null;
+    }
+
+    /**
+     * @return the share of filtered lookups answered locally as not found
+     */
+    public double getRejectRate() {
+        double total = rejected.count() + passed.count();
+        return total == 0 ? 0 : rejected.count() / total;
+    }
+
+    public long sizeInBytes() {
+        BloomFilter filter = active;
+        return filter == null ? 0 : filter.sizeInBytes();
+    }
+
+    public double expectedFalsePositiveRate() {
+        BloomFilter filter = active;
+        return filter == null ? 0 : filter.expectedFalsePositiveRate();
+    }
+
+    public long size() {
+        BloomFilter filter = active;
+        return filter == null ? 0 : filter.insertions();
+    }
+}
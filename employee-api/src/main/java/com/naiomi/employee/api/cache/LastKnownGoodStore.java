@@ -0,0 +1,278 @@
+package com.naiomi.employee.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.naiomi.employee.api.exception.EmployeeNotFoundException;
+import com.naiomi.employee.api.scheduling.PriorityContext;
+import com.naiomi.employee.contract.EmployeeResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded store of the last employee read successfully from employee-data, used to keep
+ * answering reads while employee-data fails or is slow.
+ * <p>
+ * Unlike {@link EmployeeCache}, entries are not served while employee-data is healthy and are
+ * kept while the change events are disconnected: they are only a fallback, and responses built
+ * from them are marked stale. A read of an employee with a stored copy gets the latency budget
+ * to complete; if it fails with a server error or takes longer, the stored copy is returned.
+ * A read that runs over the budget keeps going in the background and refreshes the copy when it
+ * completes. Reads of employees without a copy wait for employee-data as before.
+ * </p>
+ * <p>
+ * Concurrent reads of the same employee share one call to employee-data, so a slow employee-data
+ * does not collect a backlog of reads for the employees it is already late with. At most
+ * {@code employee.stale.threads} calls run at once and {@code employee.stale.queue-size} wait;
+ * reads beyond that are answered from the stored copy straight away.
+ * </p>
+ * <p>
+ * Deleted employees are forgotten, so a stale read never brings one back. Employees that
+ * employee-data reports as missing, and requests that it rejects, are never served stale.
+ * </p>
+ */
+@Component
+public class LastKnownGoodStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(LastKnownGoodStore.class);
+
+    static final String REASON_ERROR = "error";
+    static final String REASON_TIMEOUT = "timeout";
+    static final String REASON_OVERLOAD = "overload";
+
+    private final boolean enabled;
+    private final long latencyBudgetMs;
+    private final Cache<Long, Entry> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final ThreadPoolExecutor executor;
+    private final Map<Flight, CompletableFuture<EmployeeResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter servedOnError;
+    private final Counter servedOnTimeout;
+    private final Counter servedOnOverload;
+
+    public LastKnownGoodStore(MeterRegistry meterRegistry,
+                              @Value("${employee.stale.enabled:true}") boolean enabled,
+                              @Value("${employee.stale.max-size:100000}") long maxSize,
+                              @Value("${employee.stale.max-age-seconds:86400}") long maxAgeSeconds,
+                              @Value("${employee.stale.latency-budget-ms:500}") long latencyBudgetMs,
+                              @Value("${employee.stale.threads:16}") int threads,
+                              @Value("${employee.stale.queue-size:64}") int queueSize) {
+        this.enabled = enabled;
+        this.latencyBudgetMs = latencyBudgetMs;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(maxAgeSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "employee.stale");
+
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                queueSize > 0 ? new ArrayBlockingQueue<>(queueSize) : new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "employee-stale-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.servedOnError = Counter.builder("employee.stale.served")
+                .description("Employee reads answered with a stale copy")
+                .tag("reason", REASON_ERROR)
+                .register(meterRegistry);
+        this.servedOnTimeout = Counter.builder("employee.stale.served")
+                .description("Employee reads answered with a stale copy")
+                .tag("reason", REASON_TIMEOUT)
+                .register(meterRegistry);
+        this.servedOnOverload = Counter.builder("employee.stale.served")
+                .description("Employee reads answered with a stale copy")
+                .tag("reason", REASON_OVERLOAD)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Reads an employee from employee-data, falling back to the stored copy if the read fails with
+     * a server error or runs over the latency budget.
+     *
+     * @param id    the employee ID
+     * @param fetch the read from employee-data; it is expected to {@link #remember} what it reads
+     * @return the fresh employee, or the stored copy marked stale
+     */
+    public ReadResult<EmployeeResponse> read(Long id, Supplier<EmployeeResponse> fetch) {
+        return read(id, null, fetch);
+    }
+
+    /**
+     * Like {@link #read(Long, Supplier)}, for reads that return a different view of the employee.
+     *
+     * @param variant what distinguishes the view, such as the requested fields; only concurrent
+     *                reads of the same employee and variant share a call to employee-data
+     */
+    public ReadResult<EmployeeResponse> read(Long id, Object variant, Supplier<EmployeeResponse> fetch) {
+        Entry lastKnownGood = enabled ? cache.getIfPresent(id) : null;
+        if (lastKnownGood == null) {
+            return ReadResult.fresh(fetch.get());
+        }
+
+        CompletableFuture<EmployeeResponse> future;
+        try {
+            future = join(new Flight(id, variant), fetch);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Too many employee-data reads in flight for employee {}, serving stale copy", id);
+            servedOnOverload.increment();
+            return lastKnownGood.toResult(REASON_OVERLOAD);
+        }
+        try {
+            return ReadResult.fresh(future.get(latencyBudgetMs, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            // Not cancelled: the read refreshes the stored copy when it completes
+            logger.warn("Employee-data did not answer within {} ms for employee {}, serving stale copy",
+                    latencyBudgetMs, id);
+            servedOnTimeout.increment();
+            return lastKnownGood.toResult(REASON_TIMEOUT);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (!isDownstreamFailure(cause)) {
+                throw cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+            }
+            logger.warn("Employee-data failed for employee {}, serving stale copy: {}", id, cause.getMessage());
+            servedOnError.increment();
+            return lastKnownGood.toResult(REASON_ERROR);
+        } catch (InterruptedException e) {
+            // Not cancelled: other reads may be waiting for the same call
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching employee " + id, e);
+        }
+    }
+
+    /**
+     * Returns the call to employee-data in flight for the read, starting it if there is none.
+     *
+     * @throws RejectedExecutionException if too many calls are running or waiting
+     */
+    private CompletableFuture<EmployeeResponse> join(Flight flight, Supplier<EmployeeResponse> fetch) {
+        CompletableFuture<EmployeeResponse> started = new CompletableFuture<>();
+        CompletableFuture<EmployeeResponse> running = inFlight.putIfAbsent(flight, started);
+        if (running != null) {
+            return running;
+        }
+
+        Callable<EmployeeResponse> call = PriorityContext.propagate(fetch::get);
+        try {
+            executor.execute(() -> {
+                EmployeeResponse result;
+                try {
+                    result = call.call();
+                } catch (Throwable t) {
+                    inFlight.remove(flight, started);
+                    started.completeExceptionally(t);
+                    return;
+                }
+                // Removed first, so that a read started after the outcome is known makes its own call
+                inFlight.remove(flight, started);
+                started.complete(result);
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(flight, started);
+            throw e;
+        }
+        return started;
+    }
+
+    /**
+     * Returns the current generation, to be passed to {@link #remember} after the read.
+     *
+     * @return the number of times employees were forgotten so far
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Stores an employee read successfully from employee-data, unless an employee was forgotten
+     * since {@code readGeneration} was taken. A read that outlives its latency budget may complete
+     * after the employee was deleted, and must not bring it back.
+     *
+     * @param id             the employee ID
+     * @param employee       the employee returned by employee-data
+     * @param readGeneration the generation taken before the read started
+     */
+    public void remember(Long id, EmployeeResponse employee, long readGeneration) {
+        if (!enabled || generation.get() != readGeneration) {
+            return;
+        }
+        cache.put(id, new Entry(employee, System.currentTimeMillis()));
+        // A forget between the check and the put must still win
+        if (generation.get() != readGeneration) {
+            cache.invalidate(id);
+        }
+    }
+
+    public void forget(Long id) {
+        generation.incrementAndGet();
+        cache.invalidate(id);
+    }
+
+    public void forgetRole(Long roleId) {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(entry -> roleId.equals(entry.employee.roleId()));
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Only failures of employee-data itself are masked. An employee that is missing, or a request
+     * that employee-data rejects, gets the same answer as without the store; being rate limited
+     * counts as a failure.
+     */
+    private static boolean isDownstreamFailure(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof EmployeeNotFoundException) {
+                return false;
+            }
+            if (t instanceof HttpClientErrorException clientError) {
+                return clientError.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+            }
+        }
+        return true;
+    }
+
+    private record Flight(Long id, Object variant) {
+    }
+
+    private record Entry(EmployeeResponse employee, long storedAtMs) {
+
+        ReadResult<EmployeeResponse> toResult(String reason) {
+            return ReadResult.stale(employee, Duration.ofMillis(System.currentTimeMillis() - storedAtMs), reason);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.naiomi.employee.api.cache;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * The outcome of a read: the value, and whether it is a stale copy served by
+ * {@link LastKnownGoodStore} because employee-data failed or was too slow.
+ *
+ * @param <T> the type of the value
+ */
+public final class ReadResult<T> {
+
+    private final T value;
+    private final Duration age;
+    private final String staleReason;
+
+    private ReadResult(T value, Duration age, String staleReason) {
+        this.value = value;
+        this.age = age;
+        this.staleReason = staleReason;
+    }
+
+    public static <T> ReadResult<T> fresh(T value) {
+        return new ReadResult<>(value, Duration.ZERO, null);
+    }
+
+    /**
+     * @param age    how long ago the value was read from employee-data
+     * @param reason why the stale copy was served, {@code error} or {@code timeout}
+     */
+    public static <T> ReadResult<T> stale(T value, Duration age, String reason) {
+        return new ReadResult<>(value, age, reason);
+    }
+
+    public <R> ReadResult<R> map(Function<? super T, ? extends R> mapper) {
+        return new ReadResult<>(mapper.apply(value), age, staleReason);
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    public boolean isStale() {
+        return staleReason != null;
+    }
+
+    public Duration getAge() {
+        return age;
+    }
+
+    /**
+     * @return {@code error} or {@code timeout} for a stale value, {@code null} for a fresh one
+     */
+    public String getStaleReason() {
+        return staleReason;
+    }
+}
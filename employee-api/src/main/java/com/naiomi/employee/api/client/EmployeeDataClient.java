@@ -0,0 +1,48 @@
+package com.naiomi.employee.api.client;
+
+import com.naiomi.employee.api.dto.ProjectDto;
+import com.naiomi.employee.api.dto.RoleDto;
+import com.naiomi.employee.api.model.EmployeeField;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Calls to the employee, role and project endpoints of employee-data.
+ * <p>
+ * Implementations report failures the way {@link org.springframework.web.client.RestTemplate}
+ * does: an error answered by employee-data is a
+ * {@link org.springframework.web.client.HttpStatusCodeException} carrying its status and body,
+ * so callers handle both transports alike.
+ * </p>
+ */
+public interface EmployeeDataClient {
+
+    EmployeeResponse createEmployee(EmployeeRequest request);
+
+    /**
+     * @param fields the fields to read, or {@code null} for the full employee
+     */
+    EmployeeResponse getEmployee(Long id, Set<EmployeeField> fields);
+
+    /**
+     * Looks up several employees in one call.
+     *
+     * @return the employees found; IDs without an employee are left out
+     */
+    List<EmployeeResponse> getEmployees(Collection<Long> ids);
+
+    EmployeeResponse updateEmployee(Long id, EmployeeRequest request);
+
+    void deleteEmployee(Long id);
+
+    RoleDto getRole(Long employeeId);
+
+    /**
+     * @return the projects of the employee, empty if they have none
+     */
+    List<ProjectDto> getProjects(Long employeeId);
+}
@@ -0,0 +1,114 @@
+package com.naiomi.employee.api.client;
+
+import com.naiomi.employee.api.dto.ProjectDto;
+import com.naiomi.employee.api.dto.RoleDto;
+import com.naiomi.employee.api.model.EmployeeField;
+import com.naiomi.employee.api.retry.RetryPolicy;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Calls employee-data over HTTP, the default {@code employee.data.transport}. Calls are retried
+ * by the {@link RetryPolicy}; only creation is not idempotent. A delete retried after an attempt
+ * that may have been applied takes {@code 404} as success, since that attempt may have deleted
+ * the employee.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.data.transport", havingValue = "http", matchIfMissing = true)
+public class RestEmployeeDataClient implements EmployeeDataClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestEmployeeDataClient.class);
+
+    private final RestTemplate restTemplate;
+    private final RetryPolicy retryPolicy;
+    private final String employeeDataUrl;
+
+    public RestEmployeeDataClient(RestTemplate restTemplate, RetryPolicy retryPolicy,
+                                  @Value("${employee.data.url}") String employeeDataUrl) {
+        this.restTemplate = restTemplate;
+        this.retryPolicy = retryPolicy;
+        this.employeeDataUrl = employeeDataUrl;
+    }
+
+    @Override
+    public EmployeeResponse createEmployee(EmployeeRequest request) {
+        return retryPolicy.call(false,
+                () -> restTemplate.postForObject(employeeDataUrl, request, EmployeeResponse.class));
+    }
+
+    @Override
+    public EmployeeResponse getEmployee(Long id, Set<EmployeeField> fields) {
+        String url = String.format("%s/%d", employeeDataUrl, id);
+        if (fields != null) {
+            url += "?fields=" + EmployeeField.toDataFields(fields);
+        }
+        String target = url;
+        return retryPolicy.call(true, () -> restTemplate.getForObject(target, EmployeeResponse.class));
+    }
+
+    @Override
+    public List<EmployeeResponse> getEmployees(Collection<Long> ids) {
+        String url = employeeDataUrl + "/batch?ids="
+                + ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+        EmployeeResponse[] employees = retryPolicy.call(true,
+                () -> restTemplate.getForObject(url, EmployeeResponse[].class));
+        return employees == null ? List.of() : Arrays.asList(employees);
+    }
+
+    @Override
+    public EmployeeResponse updateEmployee(Long id, EmployeeRequest request) {
+        String url = String.format("%s/%d", employeeDataUrl, id);
+        return retryPolicy.call(true, () -> restTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(request),
+                EmployeeResponse.class).getBody());
+    }
+
+    @Override
+    public void deleteEmployee(Long id) {
+        String url = String.format("%s/%d", employeeDataUrl, id);
+        AtomicBoolean mayHaveBeenDeleted = new AtomicBoolean();
+        retryPolicy.run(true, () -> {
+            try {
+                restTemplate.delete(url);
+            } catch (HttpClientErrorException.NotFound e) {
+                if (!mayHaveBeenDeleted.get()) {
+                    throw e;
+                }
+                logger.info("Employee {} was not found on retry, deleted by the earlier attempt", id);
+            } catch (RuntimeException e) {
+                if (RetryPolicy.mayHaveBeenApplied(e)) {
+                    mayHaveBeenDeleted.set(true);
+                }
+                throw e;
+            }
+        });
+    }
+
+    @Override
+    public RoleDto getRole(Long employeeId) {
+        String url = String.format("%s/%d/role", employeeDataUrl, employeeId);
+        return retryPolicy.call(true, () -> restTemplate.getForObject(url, RoleDto.class));
+    }
+
+    @Override
+    public List<ProjectDto> getProjects(Long employeeId) {
+        String url = String.format("%s/%d/projects", employeeDataUrl, employeeId);
+        ProjectDto[] projects = retryPolicy.call(true, () -> restTemplate.getForObject(url, ProjectDto[].class));
+        return projects == null ? List.of() : Arrays.asList(projects);
+    }
+}
@@ -1,14 +1,96 @@
 package com.naiomi.employee.api.config;
 
+import com.naiomi.employee.contract.http.ContractJsonHttpMessageConverter;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.HttpClientTransport;
+import org.eclipse.jetty.client.transport.HttpClientTransportOverHTTP;
+import org.eclipse.jetty.http2.client.HTTP2Client;
+import org.eclipse.jetty.http2.client.transport.HttpClientTransportOverHTTP2;
+import org.eclipse.jetty.io.ClientConnector;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.JettyClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
 @Configuration
 public class RestTemplateConfig {
 
+    /**
+     * HTTP client used for all calls to employee-data.
+     * <p>
+     * With {@code employee.data.client.protocol=h2c} calls are multiplexed as HTTP/2 streams over
+     * at most {@code max-connections} cleartext connections, using prior knowledge (no upgrade
+     * round trip). With {@code http1} every in-flight call needs its own connection.
+     * </p>
+     * <p>
+     * With {@code employee.data.client.unix-socket} set, usually derived from a {@code unix:}
+     * {@code employee.data.url} by {@link UnixSocketUrlPostProcessor}, every connection is made to
+     * that Unix domain socket instead of over TCP, whatever the host in the URL.
+     * </p>
+     */
+    @Bean(destroyMethod = "stop")
+    public HttpClient employeeDataHttpClient(
+            @Value("${employee.data.client.protocol:h2c}") String protocol,
+            @Value("${employee.data.client.max-connections:4}") int maxConnections,
+            @Value("${employee.data.client.max-queued-requests:4096}") int maxQueuedRequests,
+            @Value("${employee.data.client.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${employee.data.client.h2c.session-recv-window:16777216}") int sessionRecvWindow,
+            @Value("${employee.data.client.h2c.stream-recv-window:1048576}") int streamRecvWindow,
+            @Value("${employee.data.client.unix-socket:}") String unixSocket) throws Exception {
+        ClientConnector connector = unixSocket.isBlank()
+                ? new ClientConnector()
+                : ClientConnector.forUnixDomain(Path.of(unixSocket));
+        HttpClient httpClient = new HttpClient(createTransport(protocol, connector, sessionRecvWindow, streamRecvWindow));
+
+        QueuedThreadPool executor = new QueuedThreadPool();
+        executor.setName("employee-data-client");
+        httpClient.setExecutor(executor);
+
+        httpClient.setMaxConnectionsPerDestination(maxConnections);
+        httpClient.setMaxRequestsQueuedPerDestination(maxQueuedRequests);
+        httpClient.setConnectTimeout(connectTimeoutMs);
+        httpClient.setFollowRedirects(false);
+        httpClient.start();
+        return httpClient;
+    }
+
+    /**
+     * Calls to employee-data pass through {@code interceptors}, which include the
+     * {@link com.naiomi.employee.api.scheduling.PriorityInterceptor}. The contract DTOs are read
+     * and written by their generated codecs, ahead of the Jackson converter.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(HttpClient employeeDataHttpClient,
+                                     @Value("${employee.data.client.read-timeout-ms:10000}") long readTimeoutMs,
+                                     List<ClientHttpRequestInterceptor> interceptors) {
+        JettyClientHttpRequestFactory requestFactory = new JettyClientHttpRequestFactory(employeeDataHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.getMessageConverters().add(0, new ContractJsonHttpMessageConverter());
+        restTemplate.setInterceptors(interceptors);
+        return restTemplate;
+    }
+
+    private HttpClientTransport createTransport(String protocol, ClientConnector connector,
+                                                int sessionRecvWindow, int streamRecvWindow) {
+        return switch (protocol.toLowerCase()) {
+            case "h2c" -> {
+                HTTP2Client http2Client = new HTTP2Client(connector);
+                http2Client.setInitialSessionRecvWindow(sessionRecvWindow);
+                http2Client.setInitialStreamRecvWindow(streamRecvWindow);
+                HttpClientTransportOverHTTP2 transport = new HttpClientTransportOverHTTP2(http2Client);
+                transport.setUseALPN(false);
+                yield transport;
+            }
+            case "http1" -> new HttpClientTransportOverHTTP(connector);
+            default -> throw new IllegalArgumentException("Invalid employee.data.client.protocol: " + protocol + ". Allowed values are h2c, http1");
+        };
     }
 }
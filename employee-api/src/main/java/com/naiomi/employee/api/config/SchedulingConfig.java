@@ -0,0 +1,34 @@
+package com.naiomi.employee.api.config;
+
+import com.naiomi.employee.api.scheduling.Priority;
+import com.naiomi.employee.api.scheduling.PriorityClassifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class SchedulingConfig implements WebMvcConfigurer {
+
+    /**
+     * Priority of the calls to employee-data made while serving each endpoint. Endpoints without
+     * a rule are {@link Priority#NORMAL}; work outside of requests is {@link Priority#LOW}.
+     */
+    @Bean
+    public PriorityClassifier priorityClassifier() {
+        return PriorityClassifier.builder()
+                .rule(HttpMethod.POST, "/employees", Priority.HIGH)
+                .rule(HttpMethod.PUT, "/employees/{id}", Priority.HIGH)
+                .rule(HttpMethod.DELETE, "/employees/{id}", Priority.HIGH)
+                .rule(HttpMethod.GET, "/employees/{id}", "ADMIN", Priority.HIGH)
+                // Fans out into three calls per request
+                .rule(HttpMethod.GET, "/employees/{id}/profile", Priority.LOW)
+                .build();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(priorityClassifier());
+    }
+}
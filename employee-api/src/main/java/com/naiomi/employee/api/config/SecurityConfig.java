@@ -1,23 +1,32 @@
 package com.naiomi.employee.api.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naiomi.employee.api.security.AuthorizationMatrix;
+import com.naiomi.employee.api.security.BearerTokenAuthenticationFilter;
 import com.naiomi.employee.api.security.RoleValidationFilter;
+import com.naiomi.employee.api.security.VerifiedTokenCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.config.Customizer;
-import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
-import jakarta.servlet.http.HttpServletResponse;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Configuration
-@EnableMethodSecurity
 public class SecurityConfig {
 
     /**
@@ -25,20 +34,57 @@ public class SecurityConfig {
      * - username: user
      * - password: d1b82d02-3868-4575-8ca6-41abc3e9edd2
      * - authority: "ADMIN"
+     * The password is stored as {noop}<plaintext> by default; set security.user.password to a
+     * {bcrypt} hash to store it hashed.
      */
     @Bean
-    public UserDetailsService userDetailsService() {
-        // For demo: store the password in {noop}<plaintext> format
+    public UserDetailsService userDetailsService(
+            @Value("${security.user.password:{noop}d1b82d02-3868-4575-8ca6-41abc3e9edd2}") String password) {
         UserDetails adminUser = User.withUsername("user")
-                .password("{noop}d1b82d02-3868-4575-8ca6-41abc3e9edd2")
+                .password(password)
                 .authorities("ADMIN") // literal "ADMIN"
                 .build();
 
         return new InMemoryUserDetailsManager(adminUser);
     }
 
+    /**
+     * Token issuance only accepts Basic credentials, never the Role header or another token.
+     */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    @Order(1)
+    public SecurityFilterChain tokenFilterChain(HttpSecurity http) throws Exception {
+        http.securityMatcher("/auth/**")
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth.anyRequest().authenticated())
+                .httpBasic(Customizer.withDefaults());
+        return http.build();
+    }
+
+    /**
+     * Who may call which endpoint. This is the only place authorization is evaluated; the
+     * {@code @PreAuthorize} annotations on the controllers must match it, or startup fails.
+     */
+    @Bean
+    public AuthorizationMatrix authorizationMatrix() {
+        return AuthorizationMatrix.builder()
+                .rule(HttpMethod.POST, "/employees", "ADMIN")
+                .rule(HttpMethod.GET, "/employees/{id}", "ADMIN", "USER")
+                .rule(HttpMethod.GET, "/employees/{id}/profile", "ADMIN", "USER")
+                .rule(HttpMethod.PUT, "/employees/{id}", "USER")
+                .rule(HttpMethod.DELETE, "/employees/{id}", "ADMIN")
+                .rule(HttpMethod.GET, "/employees/jobs/{jobId}", "ADMIN", "USER")
+                .rule(HttpMethod.GET, "/admin/startup", "ADMIN")
+                // Authenticated with Basic credentials by tokenFilterChain
+                .permitAll(HttpMethod.POST, "/auth/token")
+                .build();
+    }
+
+    @Bean
+    public SecurityFilterChain filterChain(HttpSecurity http, VerifiedTokenCache tokenCache,
+                                           AuthorizationMatrix authorizationMatrix,
+                                           AccessDeniedHandler accessDeniedHandler) throws Exception {
         // (1) Disable CSRF (simplifies testing)
         http.csrf(csrf -> csrf.disable());
 
@@ -46,18 +92,16 @@ public class SecurityConfig {
         http.addFilterBefore(new RoleValidationFilter(),
                 UsernamePasswordAuthenticationFilter.class);
 
+        // Bearer tokens are verified once and then served from the cache
+        http.addFilterBefore(new BearerTokenAuthenticationFilter(tokenCache),
+                BasicAuthenticationFilter.class);
+
         // (3) Configure Authorization
-        http.authorizeHttpRequests(auth -> auth
-                .requestMatchers(HttpMethod.POST, "/employees").hasAuthority("ADMIN")
-                .requestMatchers(HttpMethod.DELETE, "/employees/**").hasAuthority("ADMIN")
-                .requestMatchers(HttpMethod.GET, "/employees/**").hasAnyAuthority("ADMIN", "USER")
-                .requestMatchers(HttpMethod.PUT, "/employees/**").hasAnyAuthority("ADMIN", "USER")
-                .anyRequest().permitAll()
-        );
+        http.authorizeHttpRequests(auth -> auth.anyRequest().access(authorizationMatrix));
 
         // (4) Use a custom AccessDeniedHandler for 403 responses
         http.exceptionHandling(exception -> exception
-                .accessDeniedHandler(customAccessDeniedHandler())
+                .accessDeniedHandler(accessDeniedHandler)
         );
 
         // (5) Enable Basic Auth
@@ -66,13 +110,21 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Writes the same error body as {@code GlobalExceptionHandler}.
+     */
     @Bean
-    public AccessDeniedHandler customAccessDeniedHandler() {
+    public AccessDeniedHandler customAccessDeniedHandler(ObjectMapper objectMapper) {
         return (request, response, ex) -> {
-            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            Map<String, Object> errorBody = new LinkedHashMap<>();
+            errorBody.put("timestamp", LocalDateTime.now());
+            errorBody.put("status", HttpStatus.FORBIDDEN.value());
+            errorBody.put("error", HttpStatus.FORBIDDEN.getReasonPhrase());
+            errorBody.put("message", "Access Denied");
+
+            response.setStatus(HttpStatus.FORBIDDEN.value());
             response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-            String jsonBody = "{\"error\":\"Access Denied\"}";
-            response.getWriter().write(jsonBody);
+            objectMapper.writeValue(response.getWriter(), errorBody);
         };
     }
 }
@@ -0,0 +1,25 @@
+package com.naiomi.employee.api.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Serves the OpenAPI spec generated at build time when runtime scanning is switched off.
+ * <p>
+ * The Maven build writes {@code static/openapi.json} and a gzip copy. With
+ * {@code springdoc.api-docs.enabled=false} springdoc creates no beans at all, so this keeps
+ * {@code /v3/api-docs} answering by forwarding it to the static file, which is sent pre-compressed
+ * to clients that accept gzip.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", havingValue = "false")
+public class StaticOpenApiConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addViewControllers(ViewControllerRegistry registry) {
+        registry.addViewController("/v3/api-docs").setViewName("forward:/openapi.json");
+    }
+}
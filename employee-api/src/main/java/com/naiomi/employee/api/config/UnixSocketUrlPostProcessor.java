@@ -0,0 +1,51 @@
+package com.naiomi.employee.api.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Lets {@code employee.data.url} point at a Unix domain socket, for deployments where
+ * employee-data runs next to employee-api, e.g. as a sidecar in the same pod:
+ * <pre>
+ * employee.data.url=unix:/run/employee-data/http.sock:/api/employees
+ * </pre>
+ * The part after the socket path is the path of the API. The URL is rewritten to
+ * {@code http://localhost/api/employees} for the code that builds request URLs from it, and the
+ * socket path is set as {@code employee.data.client.unix-socket}, so the HTTP client of
+ * {@link RestTemplateConfig} connects to the socket instead of over TCP.
+ */
+public class UnixSocketUrlPostProcessor implements EnvironmentPostProcessor {
+
+    static final String URL_PROPERTY = "employee.data.url";
+    static final String SOCKET_PROPERTY = "employee.data.client.unix-socket";
+    private static final String SCHEME = "unix:";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        String url = environment.getProperty(URL_PROPERTY);
+        if (url == null || !url.regionMatches(true, 0, SCHEME, 0, SCHEME.length())) {
+            return;
+        }
+        environment.getPropertySources().addFirst(new MapPropertySource("employeeDataUnixSocket", resolve(url)));
+    }
+
+    /**
+     * @param url a {@code unix:<socket path>[:<path>]} URL
+     * @return the HTTP URL and the socket path
+     */
+    static Map<String, Object> resolve(String url) {
+        String location = url.substring(SCHEME.length());
+        int separator = location.indexOf(":/");
+        String socket = separator < 0 ? location : location.substring(0, separator);
+        String path = separator < 0 ? "" : location.substring(separator + 1);
+        if (socket.isBlank()) {
+            throw new IllegalArgumentException("Invalid " + URL_PROPERTY + ": " + url
+                    + ". Expected unix:<socket path>:<path>, e.g. unix:/run/employee-data/http.sock:/api/employees");
+        }
+        return Map.of(URL_PROPERTY, "http://localhost" + path, SOCKET_PROPERTY, socket);
+    }
+}
@@ -0,0 +1,47 @@
+package com.naiomi.employee.api.controller;
+
+import com.naiomi.employee.api.dto.TokenResponseDto;
+import com.naiomi.employee.api.security.TokenService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/auth")
+@Tag(name = "Authentication", description = "Bearer token issuance")
+public class AuthController {
+
+    private final TokenService tokenService;
+
+    public AuthController(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    /**
+     * Exchanges Basic credentials for a bearer token carrying the user's authorities, so the
+     * password hash is checked once per token rather than once per request.
+     */
+    @PostMapping("/token")
+    @Operation(summary = "Issue a bearer token",
+            description = "Authenticates with Basic credentials and returns a signed token for the Authorization header.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Token issued successfully"),
+            @ApiResponse(responseCode = "401", description = "Missing or invalid credentials")
+    })
+    public ResponseEntity<TokenResponseDto> issueToken(Authentication authentication) {
+        List<String> authorities = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+        String token = tokenService.issue(authentication.getName(), authorities);
+        return ResponseEntity.ok(new TokenResponseDto(token, "Bearer", tokenService.getTtl().toSeconds()));
+    }
+}
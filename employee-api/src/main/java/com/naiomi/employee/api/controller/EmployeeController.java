@@ -1,10 +1,16 @@
 package com.naiomi.employee.api.controller;
 
+import com.naiomi.employee.api.cache.ReadResult;
 import com.naiomi.employee.api.dto.EmployeeApiRequestDto;
 import com.naiomi.employee.api.dto.EmployeeApiResponseDto;
+import com.naiomi.employee.api.dto.EmployeeProfileDto;
 import com.naiomi.employee.api.exception.EmployeeNotFoundException;
 import com.naiomi.employee.api.exception.InvalidRoleException;
+import com.naiomi.employee.api.model.EmployeeField;
 import com.naiomi.employee.api.model.Role;
+import com.naiomi.employee.api.queue.WriteJob;
+import com.naiomi.employee.api.queue.WriteQueueService;
+import com.naiomi.employee.api.service.EmployeeProfileService;
 import com.naiomi.employee.api.service.EmployeeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,14 +20,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RestController
@@ -32,10 +41,17 @@ public class EmployeeController {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
 
+    static final String STALE_REASON_HEADER = "X-Stale-Reason";
+
     private final EmployeeService employeeService;
+    private final Optional<WriteQueueService> writeQueueService;
+    private final EmployeeProfileService employeeProfileService;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, Optional<WriteQueueService> writeQueueService,
+                              EmployeeProfileService employeeProfileService) {
         this.employeeService = employeeService;
+        this.writeQueueService = writeQueueService;
+        this.employeeProfileService = employeeProfileService;
     }
 
     /**
@@ -45,6 +61,7 @@ public class EmployeeController {
     @Operation(summary = "Create a new employee", description = "Creates a new employee. Only ADMIN roles are authorized.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employee created successfully"),
+            @ApiResponse(responseCode = "202", description = "Create accepted by the write queue"),
             @ApiResponse(responseCode = "400", description = "Invalid input or unauthorized role"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
@@ -69,6 +86,10 @@ public class EmployeeController {
         // Set the role from the header into the DTO so it's not null
         employeeRequest.setRole(roleHeader);
 
+        if (writeQueueService.isPresent()) {
+            return accepted(writeQueueService.get().enqueueCreate(employeeRequest));
+        }
+
         EmployeeApiResponseDto response = employeeService.createEmployee(employeeRequest);
 
         // Build response body
@@ -87,16 +108,48 @@ public class EmployeeController {
      */
     @GetMapping("/{id}")
     @Operation(summary = "Get employee details by ID",
-            description = "Fetch employee details by ID. USER or ADMIN role is required.")
+            description = "Fetch employee details by ID. USER or ADMIN role is required. "
+                    + "With fields, only the listed fields are returned.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Employee retrieved successfully"),
+            @ApiResponse(responseCode = "200", description = "Employee retrieved successfully; with Age and "
+                    + STALE_REASON_HEADER + " headers if it is a stale copy served while employee-data is unavailable"),
             @ApiResponse(responseCode = "404", description = "Employee not found"),
-            @ApiResponse(responseCode = "400", description = "Invalid role")
+            @ApiResponse(responseCode = "400", description = "Invalid role or unknown field")
     })
     @PreAuthorize("hasAnyAuthority('ADMIN','USER')")
-    public ResponseEntity<EmployeeApiResponseDto> getEmployeeById(@PathVariable Long id) {
+    public ResponseEntity<?> getEmployeeById(
+            @PathVariable Long id,
+            @Parameter(description = "Comma-separated fields to return, e.g. firstName,role") @RequestParam(required = false) String fields) {
         logger.info("Received request to view employee with ID: {}", id);
-        return ResponseEntity.ok(employeeService.getEmployeeById(id));
+        ReadResult<?> result = fields != null
+                ? employeeService.readEmployeeFieldsById(id, EmployeeField.parse(fields))
+                : employeeService.readEmployeeById(id);
+        if (result.isStale()) {
+            // Served from the last copy read from employee-data, which failed or was too slow
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.AGE, String.valueOf(result.getAge().toSeconds()))
+                    .header(STALE_REASON_HEADER, result.getStaleReason())
+                    .body(result.getValue());
+        }
+        return ResponseEntity.ok(result.getValue());
+    }
+
+    /**
+     * Retrieves an employee together with their role and projects. Allows ADMIN or USER.
+     */
+    @GetMapping("/{id}/profile")
+    @Operation(summary = "Get employee profile by ID",
+            description = "Fetches the employee, their role and their projects concurrently. Parts that fail or "
+                    + "time out are left empty and reported in parts. USER or ADMIN role is required.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Profile retrieved, possibly partially"),
+            @ApiResponse(responseCode = "404", description = "Employee not found"),
+            @ApiResponse(responseCode = "400", description = "Invalid role")
+    })
+    @PreAuthorize("hasAnyAuthority('ADMIN','USER')")
+    public ResponseEntity<EmployeeProfileDto> getEmployeeProfile(@PathVariable Long id) {
+        logger.info("Received request to view profile of employee with ID: {}", id);
+        return ResponseEntity.ok(employeeProfileService.getProfile(id));
     }
 
     /**
@@ -107,6 +160,7 @@ public class EmployeeController {
             description = "Updates employee details. Only USER roles are authorized.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employee updated successfully"),
+            @ApiResponse(responseCode = "202", description = "Update accepted by the write queue"),
             @ApiResponse(responseCode = "400", description = "Invalid input or unauthorized role"),
             @ApiResponse(responseCode = "404", description = "Employee not found")
     })
@@ -131,6 +185,10 @@ public class EmployeeController {
         // Set the role from the header into the DTO
         employeeRequest.setRole(roleHeader);
 
+        if (writeQueueService.isPresent()) {
+            return accepted(writeQueueService.get().enqueueUpdate(id, employeeRequest));
+        }
+
         EmployeeApiResponseDto response = employeeService.updateEmployee(id, employeeRequest, roleHeader);
 
         // Construct response body
@@ -152,14 +210,46 @@ public class EmployeeController {
             description = "Deletes an employee. Only ADMIN roles are authorized.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employee deleted successfully"),
+            @ApiResponse(responseCode = "202", description = "Delete accepted by the write queue"),
             @ApiResponse(responseCode = "400", description = "Invalid role"),
             @ApiResponse(responseCode = "404", description = "Employee not found")
     })
     @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<Map<String, String>> deleteEmployee(@PathVariable Long id) {
+    public ResponseEntity<Map<String, Object>> deleteEmployee(@PathVariable Long id) {
         logger.info("Received request to delete employee with ID: {}", id);
+        if (writeQueueService.isPresent()) {
+            return accepted(writeQueueService.get().enqueueDelete(id));
+        }
         employeeService.deleteEmployee(id);
-        return ResponseEntity.ok(Map.of("message", "Employee deleted successfully"));
+        return ResponseEntity.ok(Map.<String, Object>of("message", "Employee deleted successfully"));
+    }
+
+    /**
+     * Returns the state of a write accepted by the write queue. Allows ADMIN or USER.
+     */
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "Get the status of a queued write",
+            description = "Returns the status of a write accepted with 202 while the write queue is enabled.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Job not found or write queue disabled")
+    })
+    @PreAuthorize("hasAnyAuthority('ADMIN','USER')")
+    public ResponseEntity<WriteJob> getWriteJob(@PathVariable String jobId) {
+        return writeQueueService
+                .map(queue -> ResponseEntity.ok(queue.getJob(jobId)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Builds the 202 response for a write accepted by the write queue.
+     */
+    private ResponseEntity<Map<String, Object>> accepted(WriteJob job) {
+        Map<String, Object> responseBody = new HashMap<>();
+        responseBody.put("jobId", job.getJobId());
+        responseBody.put("operation", job.getOperation());
+        responseBody.put("status", job.getStatus());
+        return ResponseEntity.accepted().location(URI.create("/employees/jobs/" + job.getJobId())).body(responseBody);
     }
 
     /**
@@ -0,0 +1,54 @@
+package com.naiomi.employee.api.controller;
+
+import com.naiomi.employee.api.dto.StartupReportDto;
+import com.naiomi.employee.api.dto.StartupStepDto;
+import com.naiomi.employee.startup.StartupReport;
+import com.naiomi.employee.startup.StartupTimelineService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/startup")
+@Tag(name = "Administration", description = "Operational endpoints")
+public class StartupController {
+
+    private final StartupTimelineService startupTimelineService;
+
+    public StartupController(StartupTimelineService startupTimelineService) {
+        this.startupTimelineService = startupTimelineService;
+    }
+
+    /**
+     * Returns the recorded startup steps, slowest first. Only users with the ADMIN role are authorized.
+     */
+    @GetMapping
+    @Operation(summary = "Get the startup timeline",
+            description = "Returns the recorded startup steps with durations and bean names. Only ADMIN roles are authorized.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Startup timeline retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid sort order or role")
+    })
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<StartupReportDto> getStartupTimeline(
+            @Parameter(description = "Maximum number of steps to return") @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Sort order: duration, self or start") @RequestParam(defaultValue = "duration") String sort) {
+        return ResponseEntity.ok(toDto(startupTimelineService.getReport(limit, sort)));
+    }
+
+    private static StartupReportDto toDto(StartupReport report) {
+        return new StartupReportDto(report.recorded(), report.timeToReadyMs(), report.budgetMs(), report.totalSteps(),
+                report.steps().stream()
+                        .map(step -> new StartupStepDto(step.id(), step.parentId(), step.name(), step.beanName(),
+                                step.startOffsetMs(), step.durationMs(), step.selfMs()))
+                        .toList());
+    }
+}
@@ -0,0 +1,72 @@
+package com.naiomi.employee.api.dto;
+
+import com.naiomi.employee.contract.EmployeeResponse;
+
+public class ChangeDto {
+
+    private long seq;
+    private String entity;
+    private Long entityId;
+    private String operation;
+    private long changedAt;
+    private EmployeeResponse employee;
+
+    public ChangeDto(long seq, String entity, Long entityId, String operation, long changedAt, EmployeeResponse employee) {
+        this.seq = seq;
+        this.entity = entity;
+        this.entityId = entityId;
+        this.operation = operation;
+        this.changedAt = changedAt;
+        this.employee = employee;
+    }
+
+    public ChangeDto() {}
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(long seq) {
+        this.seq = seq;
+    }
+
+    public String getEntity() {
+        return entity;
+    }
+
+    public void setEntity(String entity) {
+        this.entity = entity;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public long getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(long changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    public EmployeeResponse getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(EmployeeResponse employee) {
+        this.employee = employee;
+    }
+}
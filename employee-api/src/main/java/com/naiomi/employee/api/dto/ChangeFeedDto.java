@@ -0,0 +1,52 @@
+package com.naiomi.employee.api.dto;
+
+import java.util.List;
+
+public class ChangeFeedDto {
+
+    private List<ChangeDto> changes;
+    private long lastSequence;
+    private long headSequence;
+    private boolean hasMore;
+
+    public ChangeFeedDto(List<ChangeDto> changes, long lastSequence, long headSequence, boolean hasMore) {
+        this.changes = changes;
+        this.lastSequence = lastSequence;
+        this.headSequence = headSequence;
+        this.hasMore = hasMore;
+    }
+
+    public ChangeFeedDto() {}
+
+    public List<ChangeDto> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<ChangeDto> changes) {
+        this.changes = changes;
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    public void setLastSequence(long lastSequence) {
+        this.lastSequence = lastSequence;
+    }
+
+    public long getHeadSequence() {
+        return headSequence;
+    }
+
+    public void setHeadSequence(long headSequence) {
+        this.headSequence = headSequence;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
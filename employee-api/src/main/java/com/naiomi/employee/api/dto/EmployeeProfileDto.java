@@ -0,0 +1,47 @@
+package com.naiomi.employee.api.dto;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class EmployeeProfileDto {
+
+    private EmployeeApiResponseDto employee;
+    private RoleDto role;
+    private List<ProjectDto> projects;
+    private Map<String, ProfilePartDto> parts = new LinkedHashMap<>();
+
+    public EmployeeProfileDto() {}
+
+    public EmployeeApiResponseDto getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(EmployeeApiResponseDto employee) {
+        this.employee = employee;
+    }
+
+    public RoleDto getRole() {
+        return role;
+    }
+
+    public void setRole(RoleDto role) {
+        this.role = role;
+    }
+
+    public List<ProjectDto> getProjects() {
+        return projects;
+    }
+
+    public void setProjects(List<ProjectDto> projects) {
+        this.projects = projects;
+    }
+
+    public Map<String, ProfilePartDto> getParts() {
+        return parts;
+    }
+
+    public void setParts(Map<String, ProfilePartDto> parts) {
+        this.parts = parts;
+    }
+}
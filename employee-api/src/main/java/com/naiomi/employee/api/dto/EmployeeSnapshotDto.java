@@ -0,0 +1,34 @@
+package com.naiomi.employee.api.dto;
+
+import com.naiomi.employee.contract.EmployeeResponse;
+
+import java.util.List;
+
+public class EmployeeSnapshotDto {
+
+    private long sequence;
+    private List<EmployeeResponse> employees;
+
+    public EmployeeSnapshotDto(long sequence, List<EmployeeResponse> employees) {
+        this.sequence = sequence;
+        this.employees = employees;
+    }
+
+    public EmployeeSnapshotDto() {}
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public List<EmployeeResponse> getEmployees() {
+        return employees;
+    }
+
+    public void setEmployees(List<EmployeeResponse> employees) {
+        this.employees = employees;
+    }
+}
@@ -0,0 +1,32 @@
+package com.naiomi.employee.api.dto;
+
+import com.naiomi.employee.api.model.ProfilePartStatus;
+
+public class ProfilePartDto {
+
+    private ProfilePartStatus status;
+    private String message;
+
+    public ProfilePartDto(ProfilePartStatus status, String message) {
+        this.status = status;
+        this.message = message;
+    }
+
+    public ProfilePartDto() {}
+
+    public ProfilePartStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ProfilePartStatus status) {
+        this.status = status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
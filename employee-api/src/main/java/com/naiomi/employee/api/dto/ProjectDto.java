@@ -1,19 +1,16 @@
 package com.naiomi.employee.api.dto;
 
-public class EmployeeDataResponseDto {
+public class ProjectDto {
 
     private Long id;
     private String name;
-    private Long roleId;
 
-    public EmployeeDataResponseDto(Long id, String name, Long roleId) {
+    public ProjectDto(Long id, String name) {
         this.id = id;
         this.name = name;
-        this.roleId = roleId;
     }
 
-    public EmployeeDataResponseDto() {
-    }
+    public ProjectDto() {}
 
     public Long getId() {
         return id;
@@ -30,12 +27,4 @@ public class EmployeeDataResponseDto {
     public void setName(String name) {
         this.name = name;
     }
-
-    public Long getRoleId() {
-        return roleId;
-    }
-
-    public void setRoleId(Long roleId) {
-        this.roleId = roleId;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.naiomi.employee.api.dto;
+
+import com.naiomi.employee.api.model.Role;
+
+public class RoleDto {
+
+    private Long id;
+    private Role name;
+
+    public RoleDto(Long id, Role name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public RoleDto() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Role getName() {
+        return name;
+    }
+
+    public void setName(Role name) {
+        this.name = name;
+    }
+}
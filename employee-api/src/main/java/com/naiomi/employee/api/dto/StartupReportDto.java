@@ -0,0 +1,62 @@
+package com.naiomi.employee.api.dto;
+
+import java.util.List;
+
+public class StartupReportDto {
+
+    private boolean recorded;
+    private Long timeToReadyMs;
+    private long budgetMs;
+    private int totalSteps;
+    private List<StartupStepDto> steps;
+
+    public StartupReportDto(boolean recorded, Long timeToReadyMs, long budgetMs, int totalSteps, List<StartupStepDto> steps) {
+        this.recorded = recorded;
+        this.timeToReadyMs = timeToReadyMs;
+        this.budgetMs = budgetMs;
+        this.totalSteps = totalSteps;
+        this.steps = steps;
+    }
+
+    public StartupReportDto() {}
+
+    public boolean isRecorded() {
+        return recorded;
+    }
+
+    public void setRecorded(boolean recorded) {
+        this.recorded = recorded;
+    }
+
+    public Long getTimeToReadyMs() {
+        return timeToReadyMs;
+    }
+
+    public void setTimeToReadyMs(Long timeToReadyMs) {
+        this.timeToReadyMs = timeToReadyMs;
+    }
+
+    public long getBudgetMs() {
+        return budgetMs;
+    }
+
+    public void setBudgetMs(long budgetMs) {
+        this.budgetMs = budgetMs;
+    }
+
+    public int getTotalSteps() {
+        return totalSteps;
+    }
+
+    public void setTotalSteps(int totalSteps) {
+        this.totalSteps = totalSteps;
+    }
+
+    public List<StartupStepDto> getSteps() {
+        return steps;
+    }
+
+    public void setSteps(List<StartupStepDto> steps) {
+        this.steps = steps;
+    }
+}
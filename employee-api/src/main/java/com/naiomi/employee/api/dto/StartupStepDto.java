@@ -0,0 +1,81 @@
+package com.naiomi.employee.api.dto;
+
+public class StartupStepDto {
+
+    private long id;
+    private Long parentId;
+    private String name;
+    private String beanName;
+    private double startOffsetMs;
+    private double durationMs;
+    private double selfMs;
+
+    public StartupStepDto(long id, Long parentId, String name, String beanName,
+                          double startOffsetMs, double durationMs, double selfMs) {
+        this.id = id;
+        this.parentId = parentId;
+        this.name = name;
+        this.beanName = beanName;
+        this.startOffsetMs = startOffsetMs;
+        this.durationMs = durationMs;
+        this.selfMs = selfMs;
+    }
+
+    public StartupStepDto() {}
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getBeanName() {
+        return beanName;
+    }
+
+    public void setBeanName(String beanName) {
+        this.beanName = beanName;
+    }
+
+    public double getStartOffsetMs() {
+        return startOffsetMs;
+    }
+
+    public void setStartOffsetMs(double startOffsetMs) {
+        this.startOffsetMs = startOffsetMs;
+    }
+
+    public double getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(double durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public double getSelfMs() {
+        return selfMs;
+    }
+
+    public void setSelfMs(double selfMs) {
+        this.selfMs = selfMs;
+    }
+}
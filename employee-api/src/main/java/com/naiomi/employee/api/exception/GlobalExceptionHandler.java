@@ -1,5 +1,7 @@
 package com.naiomi.employee.api.exception;
 
+import com.naiomi.employee.api.scheduling.RequestShedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -41,6 +43,17 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage());
     }
 
+    /**
+     * Handles WriteJobNotFoundException.
+     *
+     * @param ex the exception
+     * @return response entity with error details
+     */
+    @ExceptionHandler(WriteJobNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleWriteJobNotFoundException(WriteJobNotFoundException ex) {
+        return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
     /**
      * Handles IllegalArgumentException.
      *
@@ -82,6 +95,20 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, message);
     }
 
+    /**
+     * Handles RequestShedException: employee-data is overloaded and the call was not sent.
+     *
+     * @param ex the exception
+     * @return response entity with error details
+     */
+    @ExceptionHandler(RequestShedException.class)
+    public ResponseEntity<Map<String, Object>> handleRequestShedException(RequestShedException ex) {
+        ResponseEntity<Map<String, Object>> response = buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
+
     /**
      * Handles RuntimeException for unexpected server-side issues.
      *
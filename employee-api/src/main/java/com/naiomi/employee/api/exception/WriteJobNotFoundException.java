@@ -0,0 +1,7 @@
+package com.naiomi.employee.api.exception;
+
+public class WriteJobNotFoundException extends RuntimeException {
+    public WriteJobNotFoundException(String message) {
+        super(message);
+    }
+}
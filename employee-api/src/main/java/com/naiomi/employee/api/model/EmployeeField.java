@@ -0,0 +1,65 @@
+package com.naiomi.employee.api.model;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Fields of an employee that can be requested with the {@code fields} parameter, and the
+ * employee-data field each one is derived from.
+ */
+public enum EmployeeField {
+    ID("id", "id"),
+    FIRST_NAME("firstName", "name"),
+    SURNAME("surname", "name"),
+    ROLE("role", "roleId");
+
+    private final String fieldName;
+    private final String dataFieldName;
+
+    EmployeeField(String fieldName, String dataFieldName) {
+        this.fieldName = fieldName;
+        this.dataFieldName = dataFieldName;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Parses a comma-separated field list such as {@code "firstName,role"}.
+     *
+     * @param fields the requested fields
+     * @return the matching fields in declaration order
+     * @throws IllegalArgumentException if the list is empty or contains an unknown field
+     */
+    public static Set<EmployeeField> parse(String fields) {
+        Set<EmployeeField> parsed = EnumSet.noneOf(EmployeeField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            parsed.add(Arrays.stream(values())
+                    .filter(field -> field.fieldName.equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown field: " + trimmed
+                            + ". Allowed fields are: " + Arrays.stream(values())
+                            .map(EmployeeField::getFieldName)
+                            .collect(Collectors.joining(", ", "[", "]")))));
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be requested");
+        }
+        return parsed;
+    }
+
+    /**
+     * @param fields the requested fields
+     * @return the {@code fields} parameter to send to employee-data
+     */
+    public static String toDataFields(Set<EmployeeField> fields) {
+        return fields.stream().map(field -> field.dataFieldName).distinct().collect(Collectors.joining(","));
+    }
+}
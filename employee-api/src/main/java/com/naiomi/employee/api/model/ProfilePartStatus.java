@@ -0,0 +1,11 @@
+package com.naiomi.employee.api.model;
+
+/**
+ * Outcome of fetching one part of an employee profile.
+ */
+public enum ProfilePartStatus {
+    OK,
+    NOT_FOUND,
+    TIMEOUT,
+    ERROR
+}
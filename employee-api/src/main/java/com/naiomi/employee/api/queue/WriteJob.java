@@ -0,0 +1,176 @@
+package com.naiomi.employee.api.queue;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.naiomi.employee.contract.EmployeeRequest;
+
+/**
+ * A write accepted by employee-api and persisted in the {@link WriteQueueLog}.
+ * <p>
+ * The same type is written for the "enqueued" record (with the request) and for the
+ * "completed" record (with the outcome only).
+ * </p>
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WriteJob {
+
+    private String jobId;
+    private WriteOperation operation;
+    private Long employeeId;
+    private EmployeeRequest request;
+    private WriteJobStatus status;
+    private Long resultEmployeeId;
+    private String error;
+    private Long acceptedAt;
+    private Long completedAt;
+    private int attempts;
+
+    @JsonIgnore
+    private int segment;
+
+    @JsonIgnore
+    private int serverErrors;
+
+    public WriteJob() {}
+
+    public WriteJob(String jobId, WriteOperation operation, Long employeeId, EmployeeRequest request, long acceptedAt) {
+        this.jobId = jobId;
+        this.operation = operation;
+        this.employeeId = employeeId;
+        this.request = request;
+        this.status = WriteJobStatus.QUEUED;
+        this.acceptedAt = acceptedAt;
+    }
+
+    /**
+     * @return a copy of this job, e.g. to hand out while the original is still being forwarded
+     */
+    public WriteJob copy() {
+        WriteJob copy = new WriteJob();
+        copy.jobId = jobId;
+        copy.operation = operation;
+        copy.employeeId = employeeId;
+        copy.request = request;
+        copy.acceptedAt = acceptedAt;
+        copy.status = status;
+        copy.resultEmployeeId = resultEmployeeId;
+        copy.error = error;
+        copy.completedAt = completedAt;
+        copy.attempts = attempts;
+        copy.segment = segment;
+        copy.serverErrors = serverErrors;
+        return copy;
+    }
+
+    /**
+     * Writes to the same employee are forwarded strictly in order; creates have no employee
+     * yet and are independent of each other.
+     *
+     * @return the ordering key of this job
+     */
+    @JsonIgnore
+    public String getOrderingKey() {
+        return employeeId != null ? "employee-" + employeeId : "job-" + jobId;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public WriteOperation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(WriteOperation operation) {
+        this.operation = operation;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public EmployeeRequest getRequest() {
+        return request;
+    }
+
+    public void setRequest(EmployeeRequest request) {
+        this.request = request;
+    }
+
+    public WriteJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(WriteJobStatus status) {
+        this.status = status;
+    }
+
+    public Long getResultEmployeeId() {
+        return resultEmployeeId;
+    }
+
+    public void setResultEmployeeId(Long resultEmployeeId) {
+        this.resultEmployeeId = resultEmployeeId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public Long getAcceptedAt() {
+        return acceptedAt;
+    }
+
+    public void setAcceptedAt(Long acceptedAt) {
+        this.acceptedAt = acceptedAt;
+    }
+
+    public Long getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(Long completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public int getSegment() {
+        return segment;
+    }
+
+    public void setSegment(int segment) {
+        this.segment = segment;
+    }
+
+    /**
+     * @return the number of server errors employee-data answered this job with, since it was
+     * accepted or recovered
+     */
+    @JsonIgnore
+    public int getServerErrors() {
+        return serverErrors;
+    }
+
+    public void setServerErrors(int serverErrors) {
+        this.serverErrors = serverErrors;
+    }
+}
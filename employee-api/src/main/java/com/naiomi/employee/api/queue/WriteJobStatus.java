@@ -0,0 +1,17 @@
+package com.naiomi.employee.api.queue;
+
+/**
+ * Lifecycle of a queued write.
+ */
+public enum WriteJobStatus {
+    /** Persisted locally and waiting to be forwarded to employee-data. */
+    QUEUED,
+    /** Accepted by employee-data. */
+    COMPLETED,
+    /** Rejected by employee-data (4xx); it will not be retried. */
+    FAILED;
+
+    public boolean isTerminal() {
+        return this != QUEUED;
+    }
+}
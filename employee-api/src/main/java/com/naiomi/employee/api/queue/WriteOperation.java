@@ -0,0 +1,10 @@
+package com.naiomi.employee.api.queue;
+
+/**
+ * Write operations that can be accepted while employee-data is unavailable.
+ */
+public enum WriteOperation {
+    CREATE,
+    UPDATE,
+    DELETE
+}
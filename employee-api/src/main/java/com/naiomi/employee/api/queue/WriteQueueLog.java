@@ -0,0 +1,196 @@
+package com.naiomi.employee.api.queue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log made of fixed-size, memory-mapped segment files.
+ * <p>
+ * Each record is stored as {@code [int length][int crc32][byte type][payload]}. Segments are
+ * pre-allocated and zero-filled, so a zero length marks the end of the written data; a record
+ * whose checksum does not match (torn write after a crash) also ends the segment. A new segment
+ * is started on every open, so existing segments are never written again.
+ * </p>
+ */
+public class WriteQueueLog implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteQueueLog.class);
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d{10})\\.log");
+    private static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES + Byte.BYTES;
+
+    /**
+     * Receives the records of the log in append order.
+     */
+    @FunctionalInterface
+    public interface RecordHandler {
+        void onRecord(int segment, byte type, byte[] payload);
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean forceOnAppend;
+    private final List<Integer> segments = new ArrayList<>();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int currentSegment;
+
+    public WriteQueueLog(Path directory, int segmentSize, boolean forceOnAppend) {
+        if (segmentSize <= HEADER_BYTES) {
+            throw new IllegalArgumentException("Segment size must be larger than " + HEADER_BYTES + " bytes");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.forceOnAppend = forceOnAppend;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.map(file -> SEGMENT_NAME.matcher(file.getFileName().toString()))
+                        .filter(Matcher::matches)
+                        .map(matcher -> Integer.parseInt(matcher.group(1)))
+                        .sorted()
+                        .forEach(segments::add);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open write queue log in " + directory, e);
+        }
+        currentSegment = segments.isEmpty() ? 0 : segments.get(segments.size() - 1) + 1;
+    }
+
+    /**
+     * Reads every record of the existing segments, oldest first. Must be called before the
+     * first {@link #append}.
+     *
+     * @param handler receives each record
+     */
+    public synchronized void replay(RecordHandler handler) {
+        for (int segment : segments) {
+            try {
+                ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(segmentPath(segment)));
+                while (data.remaining() >= HEADER_BYTES) {
+                    int length = data.getInt();
+                    int checksum = data.getInt();
+                    if (length <= 0 || length > data.remaining() - Byte.BYTES) {
+                        break;
+                    }
+                    byte type = data.get();
+                    byte[] payload = new byte[length];
+                    data.get(payload);
+                    if (checksum(type, payload) != checksum) {
+                        logger.warn("Discarding corrupt record at the end of segment {}", segment);
+                        break;
+                    }
+                    handler.onRecord(segment, type, payload);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read write queue segment " + segment, e);
+            }
+        }
+    }
+
+    /**
+     * Appends a record, rolling over to a new segment when the current one is full.
+     *
+     * @param type    the record type
+     * @param payload the record payload
+     * @return the segment the record was written to
+     */
+    public synchronized int append(byte type, byte[] payload) {
+        int recordSize = HEADER_BYTES + payload.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("Record of " + payload.length + " bytes does not fit in a segment");
+        }
+        try {
+            if (buffer == null || buffer.remaining() < recordSize) {
+                roll();
+            }
+            buffer.putInt(payload.length).putInt(checksum(type, payload)).put(type).put(payload);
+            if (forceOnAppend) {
+                buffer.force();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to write queue segment " + currentSegment, e);
+        }
+        return currentSegment;
+    }
+
+    /**
+     * Deletes all segments older than the given one. The segment being written is never deleted.
+     *
+     * @param segment the oldest segment to keep
+     * @return the number of segments deleted
+     */
+    public synchronized int deleteSegmentsBefore(int segment) {
+        int deleted = 0;
+        while (!segments.isEmpty() && segments.get(0) < segment && segments.get(0) != currentSegment) {
+            int oldest = segments.remove(0);
+            try {
+                Files.deleteIfExists(segmentPath(oldest));
+                deleted++;
+            } catch (IOException e) {
+                logger.warn("Failed to delete write queue segment {}: {}", oldest, e.getMessage());
+            }
+        }
+        return deleted;
+    }
+
+    public synchronized int getCurrentSegment() {
+        return currentSegment;
+    }
+
+    public synchronized List<Integer> getSegments() {
+        return List.copyOf(segments);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (buffer != null) {
+            buffer.force();
+            buffer = null;
+        }
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void roll() throws IOException {
+        if (buffer != null) {
+            buffer.force();
+            channel.close();
+            currentSegment++;
+        }
+        channel = FileChannel.open(segmentPath(currentSegment),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segments.add(currentSegment);
+    }
+
+    private Path segmentPath(int segment) {
+        return directory.resolve(String.format("segment-%010d.log", segment));
+    }
+
+    private static int checksum(byte type, byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,404 @@
+package com.naiomi.employee.api.queue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naiomi.employee.api.client.EmployeeDataClient;
+import com.naiomi.employee.api.dto.EmployeeApiRequestDto;
+import com.naiomi.employee.api.exception.WriteJobNotFoundException;
+import com.naiomi.employee.api.mapper.EmployeeMapper;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Store-and-forward queue for writes to employee-data.
+ * <p>
+ * When {@code writequeue.enabled=true}, creates, updates and deletes are appended to a local
+ * {@link WriteQueueLog} and acknowledged with a job ID instead of being sent synchronously.
+ * A background drainer forwards them through the {@link EmployeeDataClient} in batches: each
+ * batch holds the oldest pending write of up to {@code writequeue.batch-size} different
+ * employees, sent concurrently, so writes to the same employee are applied strictly in the
+ * order they were accepted.
+ * </p>
+ * <p>
+ * If employee-data is unreachable or answers with 5xx the drainer stops and tries again on the
+ * next tick; the write stays queued. A 4xx response fails the job permanently, and so does the
+ * {@code writequeue.max-server-errors}th server error other than 502, 503 and 504, so that one
+ * write employee-data cannot process does not hold up the queue forever. Delivery is
+ * at-least-once: a write forwarded just before a crash is forwarded again after restart.
+ * </p>
+ * <p>
+ * Jobs are only modified while holding the service's lock, and callers get copies taken under
+ * it, never a job that is still being forwarded.
+ * </p>
+ */
+@Service
+@ConditionalOnProperty(name = "writequeue.enabled", havingValue = "true")
+public class WriteQueueService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteQueueService.class);
+
+    static final byte RECORD_ENQUEUED = 1;
+    static final byte RECORD_COMPLETED = 2;
+
+    private final EmployeeMapper employeeMapper;
+    private final EmployeeDataClient employeeDataClient;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean forceOnAppend;
+    private final int batchSize;
+    private final long drainIntervalMs;
+    private final int maxServerErrors;
+
+    private final Map<String, WriteJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Pending jobs per ordering key, iterated in the order the keys first became pending.
+     * Guarded by {@code this}.
+     */
+    private final LinkedHashMap<String, ArrayDeque<WriteJob>> pending = new LinkedHashMap<>();
+
+    /**
+     * Number of non-terminal jobs per segment, used to find segments that can be deleted.
+     * Guarded by {@code this}.
+     */
+    private final TreeMap<Integer, Integer> openJobsBySegment = new TreeMap<>();
+
+    private WriteQueueLog log;
+    private ScheduledExecutorService drainer;
+    private ExecutorService forwarder;
+
+    public WriteQueueService(EmployeeMapper employeeMapper,
+                             EmployeeDataClient employeeDataClient,
+                             ObjectMapper objectMapper,
+                             @Value("${writequeue.directory:./data/write-queue}") String directory,
+                             @Value("${writequeue.segment-size-bytes:16777216}") int segmentSize,
+                             @Value("${writequeue.force-on-append:true}") boolean forceOnAppend,
+                             @Value("${writequeue.batch-size:64}") int batchSize,
+                             @Value("${writequeue.drain-interval-ms:200}") long drainIntervalMs,
+                             @Value("${writequeue.max-server-errors:5}") int maxServerErrors) {
+        this.employeeMapper = employeeMapper;
+        this.employeeDataClient = employeeDataClient;
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(directory);
+        this.segmentSize = segmentSize;
+        this.forceOnAppend = forceOnAppend;
+        this.batchSize = batchSize;
+        this.drainIntervalMs = drainIntervalMs;
+        this.maxServerErrors = maxServerErrors;
+    }
+
+    /**
+     * Opens the log, restores the jobs that were still pending and starts the drainer.
+     */
+    @PostConstruct
+    public void start() {
+        log = new WriteQueueLog(directory, segmentSize, forceOnAppend);
+        recover();
+        forwarder = Executors.newFixedThreadPool(batchSize);
+        drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "write-queue-drainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        drainer.scheduleWithFixedDelay(this::drainSafely, drainIntervalMs, drainIntervalMs, TimeUnit.MILLISECONDS);
+        logger.info("Write queue started in {} with {} pending writes", directory.toAbsolutePath(), getPendingCount());
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        drainer.shutdownNow();
+        forwarder.shutdownNow();
+        try {
+            drainer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            log.close();
+        }
+    }
+
+    public WriteJob enqueueCreate(EmployeeApiRequestDto employeeRequest) {
+        return enqueue(WriteOperation.CREATE, null, employeeMapper.toEmployeeDataRequest(employeeRequest));
+    }
+
+    public WriteJob enqueueUpdate(Long id, EmployeeApiRequestDto employeeRequest) {
+        return enqueue(WriteOperation.UPDATE, id, employeeMapper.toEmployeeDataRequest(employeeRequest));
+    }
+
+    public WriteJob enqueueDelete(Long id) {
+        return enqueue(WriteOperation.DELETE, id, null);
+    }
+
+    /**
+     * Returns the state of a job accepted since the oldest retained segment.
+     *
+     * @param jobId the job ID returned when the write was accepted
+     * @return the job
+     * @throws WriteJobNotFoundException if the job is unknown
+     */
+    public synchronized WriteJob getJob(String jobId) {
+        WriteJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new WriteJobNotFoundException("Write job not found with ID: " + jobId);
+        }
+        return job.copy();
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.values().stream().mapToInt(ArrayDeque::size).sum();
+    }
+
+    /**
+     * Forwards pending writes until the queue is empty or employee-data becomes unavailable.
+     *
+     * @return the number of jobs that reached a terminal state
+     */
+    int drain() {
+        int finished = 0;
+        while (true) {
+            List<WriteJob> batch = nextBatch();
+            if (batch.isEmpty()) {
+                return finished;
+            }
+
+            List<Future<Boolean>> results = new ArrayList<>(batch.size());
+            for (WriteJob job : batch) {
+                results.add(forwarder.submit(() -> forward(job)));
+            }
+
+            boolean unavailable = false;
+            for (int i = 0; i < batch.size(); i++) {
+                try {
+                    if (results.get(i).get()) {
+                        complete(batch.get(i));
+                        finished++;
+                    } else {
+                        unavailable = true;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return finished;
+                } catch (ExecutionException e) {
+                    unavailable = true;
+                }
+            }
+            if (unavailable) {
+                logger.warn("employee-data unavailable, {} writes queued", getPendingCount());
+                return finished;
+            }
+        }
+    }
+
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            logger.error("Write queue drain failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private synchronized WriteJob enqueue(WriteOperation operation, Long employeeId, EmployeeRequest request) {
+        WriteJob job = new WriteJob(UUID.randomUUID().toString(), operation, employeeId, request, System.currentTimeMillis());
+        job.setSegment(log.append(RECORD_ENQUEUED, toBytes(job)));
+        track(job);
+        logger.info("Queued {} write {} for employee {}", operation, job.getJobId(), employeeId);
+        return job.copy();
+    }
+
+    private synchronized List<WriteJob> nextBatch() {
+        List<WriteJob> batch = new ArrayList<>(batchSize);
+        for (ArrayDeque<WriteJob> queue : pending.values()) {
+            if (batch.size() == batchSize) {
+                break;
+            }
+            batch.add(queue.peekFirst());
+        }
+        return batch;
+    }
+
+    /**
+     * Sends a job to employee-data and records the outcome on the job.
+     *
+     * @return {@code false} if employee-data could not process it and it must be retried
+     */
+    private boolean forward(WriteJob job) {
+        synchronized (this) {
+            job.setAttempts(job.getAttempts() + 1);
+        }
+        // Only immutable fields of the job are read outside the lock
+        try {
+            Long resultEmployeeId = null;
+            switch (job.getOperation()) {
+                case CREATE -> {
+                    EmployeeResponse response = employeeDataClient.createEmployee(job.getRequest());
+                    resultEmployeeId = response != null ? response.id() : null;
+                }
+                case UPDATE -> employeeDataClient.updateEmployee(job.getEmployeeId(), job.getRequest());
+                case DELETE -> employeeDataClient.deleteEmployee(job.getEmployeeId());
+            }
+            finish(job, WriteJobStatus.COMPLETED, resultEmployeeId, null);
+            return true;
+        } catch (HttpClientErrorException e) {
+            logger.error("employee-data rejected {} write {}: {}", job.getOperation(), job.getJobId(), e.getStatusCode());
+            finish(job, WriteJobStatus.FAILED, null, e.getStatusCode() + " " + e.getResponseBodyAsString());
+            return true;
+        } catch (HttpServerErrorException e) {
+            return serverError(job, e);
+        } catch (RestClientException e) {
+            logger.debug("Forwarding write {} failed: {}", job.getJobId(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Counts a server error against the job. 502, 503 and 504 say that employee-data is not
+     * available rather than that it cannot process this write, so they are not counted.
+     *
+     * @return {@code true} if the job has now failed
+     */
+    private boolean serverError(WriteJob job, HttpServerErrorException e) {
+        int status = e.getStatusCode().value();
+        if (status == 502 || status == 503 || status == 504) {
+            logger.debug("Forwarding write {} failed: {}", job.getJobId(), e.getMessage());
+            return false;
+        }
+        synchronized (this) {
+            job.setServerErrors(job.getServerErrors() + 1);
+            if (job.getServerErrors() < maxServerErrors) {
+                logger.warn("employee-data answered {} write {} with {} ({} of {})", job.getOperation(),
+                        job.getJobId(), e.getStatusCode(), job.getServerErrors(), maxServerErrors);
+                return false;
+            }
+        }
+        logger.error("employee-data answered {} write {} with {} {} times, giving up", job.getOperation(),
+                job.getJobId(), e.getStatusCode(), maxServerErrors);
+        finish(job, WriteJobStatus.FAILED, null, e.getStatusCode() + " " + e.getResponseBodyAsString());
+        return true;
+    }
+
+    private synchronized void finish(WriteJob job, WriteJobStatus status, Long resultEmployeeId, String error) {
+        job.setStatus(status);
+        job.setResultEmployeeId(resultEmployeeId);
+        job.setError(error);
+    }
+
+    private synchronized void complete(WriteJob job) {
+        job.setCompletedAt(System.currentTimeMillis());
+
+        WriteJob outcome = new WriteJob();
+        outcome.setJobId(job.getJobId());
+        outcome.setStatus(job.getStatus());
+        outcome.setResultEmployeeId(job.getResultEmployeeId());
+        outcome.setError(job.getError());
+        outcome.setCompletedAt(job.getCompletedAt());
+        outcome.setAttempts(job.getAttempts());
+        log.append(RECORD_COMPLETED, toBytes(outcome));
+
+        untrack(job);
+        compact();
+    }
+
+    /**
+     * Rebuilds the in-memory state from the log: every enqueued job without a completion
+     * record is pending again, in its original order.
+     */
+    private synchronized void recover() {
+        log.replay((segment, type, payload) -> {
+            WriteJob record = fromBytes(payload);
+            if (type == RECORD_ENQUEUED) {
+                record.setSegment(segment);
+                track(record);
+            } else if (type == RECORD_COMPLETED) {
+                WriteJob job = jobs.get(record.getJobId());
+                if (job != null && !job.getStatus().isTerminal()) {
+                    job.setStatus(record.getStatus());
+                    job.setResultEmployeeId(record.getResultEmployeeId());
+                    job.setError(record.getError());
+                    job.setCompletedAt(record.getCompletedAt());
+                    job.setAttempts(record.getAttempts());
+                    untrack(job);
+                }
+            }
+        });
+        compact();
+    }
+
+    private void track(WriteJob job) {
+        jobs.put(job.getJobId(), job);
+        pending.computeIfAbsent(job.getOrderingKey(), key -> new ArrayDeque<>()).addLast(job);
+        openJobsBySegment.merge(job.getSegment(), 1, Integer::sum);
+    }
+
+    private void untrack(WriteJob job) {
+        ArrayDeque<WriteJob> queue = pending.get(job.getOrderingKey());
+        if (queue != null) {
+            queue.remove(job);
+            if (queue.isEmpty()) {
+                pending.remove(job.getOrderingKey());
+            }
+        }
+        openJobsBySegment.computeIfPresent(job.getSegment(), (segment, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Deletes the oldest segments once every job they contain is terminal. Only a prefix of
+     * the log is removed, so a completion record never outlives the job it refers to.
+     */
+    private void compact() {
+        int keepFrom = openJobsBySegment.isEmpty() ? log.getCurrentSegment() : openJobsBySegment.firstKey();
+        if (log.deleteSegmentsBefore(keepFrom) > 0) {
+            Iterator<WriteJob> iterator = jobs.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().getSegment() < keepFrom) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    private byte[] toBytes(WriteJob job) {
+        try {
+            return objectMapper.writeValueAsBytes(job);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private WriteJob fromBytes(byte[] payload) {
+        try {
+            return objectMapper.readValue(payload, WriteJob.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.naiomi.employee.api.replica;
+
+import com.naiomi.employee.api.dto.ChangeDto;
+import com.naiomi.employee.api.dto.ChangeFeedDto;
+import com.naiomi.employee.api.dto.EmployeeSnapshotDto;
+import com.naiomi.employee.contract.EmployeeResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local copy of the employee directory, kept up to date from the change feed of employee-data.
+ * <p>
+ * With {@code employee.replica.enabled=true} the replica loads a snapshot from
+ * {@code /changes/snapshot} and then tails {@code /changes}. Reads are only served from
+ * memory while the replica is within bounds: it was fully caught up no more than
+ * {@code max-staleness-ms} ago and trails the feed by no more than {@code max-lag} changes.
+ * Otherwise callers fall back to employee-data. If the feed was pruned past the replica's
+ * position, a new snapshot is loaded.
+ * </p>
+ */
+@Component
+public class EmployeeReadModel {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeReadModel.class);
+
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private final RestTemplate restTemplate;
+    private final String changesUrl;
+    private final boolean enabled;
+    private final long pollIntervalMs;
+    private final int pageSize;
+    private final long maxLag;
+    private final long maxStalenessNanos;
+
+    private final Map<Long, EmployeeResponse> employees = new ConcurrentHashMap<>();
+
+    private volatile boolean bootstrapped;
+    private volatile long appliedSequence;
+    private volatile long headSequence;
+    private volatile long caughtUpAt;
+    private volatile boolean running;
+    private Thread thread;
+
+    public EmployeeReadModel(RestTemplate restTemplate,
+                             @Value("${employee.data.changes-url:http://employee-data:9091/changes}") String changesUrl,
+                             @Value("${employee.replica.enabled:false}") boolean enabled,
+                             @Value("${employee.replica.poll-interval-ms:100}") long pollIntervalMs,
+                             @Value("${employee.replica.page-size:500}") int pageSize,
+                             @Value("${employee.replica.max-lag:1000}") long maxLag,
+                             @Value("${employee.replica.max-staleness-ms:2000}") long maxStalenessMs) {
+        this.restTemplate = restTemplate;
+        this.changesUrl = changesUrl;
+        this.enabled = enabled;
+        this.pollIntervalMs = pollIntervalMs;
+        this.pageSize = pageSize;
+        this.maxLag = maxLag;
+        this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(maxStalenessMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "employee-replica");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * @return whether reads may be served from the replica right now
+     */
+    public boolean isServing() {
+        return enabled && bootstrapped
+                && headSequence - appliedSequence <= maxLag
+                && System.nanoTime() - caughtUpAt <= maxStalenessNanos;
+    }
+
+    /**
+     * @param id the employee ID
+     * @return the employee, or {@code null} if it does not exist
+     */
+    public EmployeeResponse get(Long id) {
+        return employees.get(id);
+    }
+
+    public long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    public int size() {
+        return employees.size();
+    }
+
+    /**
+     * Replaces the replica with a fresh snapshot.
+     */
+    void bootstrap() {
+        long requestedAt = System.nanoTime();
+        EmployeeSnapshotDto snapshot = restTemplate.getForObject(changesUrl + "/snapshot", EmployeeSnapshotDto.class);
+        if (snapshot == null) {
+            throw new IllegalStateException("Empty snapshot from " + changesUrl);
+        }
+
+        employees.clear();
+        for (EmployeeResponse employee : snapshot.getEmployees()) {
+            employees.put(employee.id(), employee);
+        }
+        appliedSequence = snapshot.getSequence();
+        headSequence = snapshot.getSequence();
+        caughtUpAt = requestedAt;
+        bootstrapped = true;
+        logger.info("Employee replica loaded {} employees at sequence {}", employees.size(), appliedSequence);
+    }
+
+    /**
+     * Applies the next page of changes.
+     *
+     * @return {@code true} if more changes are available right away
+     */
+    boolean poll() {
+        long requestedAt = System.nanoTime();
+        ChangeFeedDto feed;
+        try {
+            feed = restTemplate.getForObject(changesUrl + "?since={since}&limit={limit}", ChangeFeedDto.class,
+                    appliedSequence, pageSize);
+        } catch (HttpClientErrorException.Gone e) {
+            logger.warn("Change feed pruned past sequence {}, reloading the replica", appliedSequence);
+            bootstrapped = false;
+            return true;
+        }
+        if (feed == null) {
+            throw new IllegalStateException("Empty change feed page from " + changesUrl);
+        }
+
+        for (ChangeDto change : feed.getChanges()) {
+            if (!"EMPLOYEE".equals(change.getEntity())) {
+                continue;
+            }
+            // Changes carry the current state, so a missing employee means it was deleted
+            if (change.getEmployee() != null) {
+                employees.put(change.getEntityId(), change.getEmployee());
+            } else {
+                employees.remove(change.getEntityId());
+            }
+        }
+        appliedSequence = feed.getLastSequence();
+        headSequence = feed.getHeadSequence();
+        if (!feed.isHasMore()) {
+            caughtUpAt = requestedAt;
+        }
+        return feed.isHasMore();
+    }
+
+    private void run() {
+        long backoffMs = pollIntervalMs;
+        while (running) {
+            boolean more;
+            try {
+                if (!bootstrapped) {
+                    bootstrap();
+                }
+                more = poll();
+                backoffMs = pollIntervalMs;
+            } catch (Exception e) {
+                logger.warn("Employee replica sync failed, serving reads remotely: {}", e.getMessage());
+                more = false;
+                backoffMs = Math.min(Math.max(backoffMs * 2, 1), MAX_BACKOFF_MS);
+            }
+            if (!more) {
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+}
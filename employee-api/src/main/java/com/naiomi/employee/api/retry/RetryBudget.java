@@ -0,0 +1,49 @@
+package com.naiomi.employee.api.retry;
+
+/**
+ * Token bucket that caps retries at a share of the calls made.
+ * <p>
+ * Every call deposits {@code ratio} of a token and every retry withdraws a whole one, so over
+ * time at most {@code ratio} retries are made per call. The bucket holds at most
+ * {@code capacity} tokens and starts full, which lets a quiet service retry a few isolated
+ * failures. During an outage it drains after {@code capacity} retries and the calls that follow
+ * fail on their first error, instead of multiplying the load on employee-data.
+ * </p>
+ */
+public class RetryBudget {
+
+    private final double ratio;
+    private final double capacity;
+    private double tokens;
+
+    public RetryBudget(double ratio, double capacity) {
+        if (ratio < 0 || capacity < 1) {
+            throw new IllegalArgumentException("Retry budget needs a ratio >= 0 and a capacity >= 1");
+        }
+        this.ratio = ratio;
+        this.capacity = capacity;
+        this.tokens = capacity;
+    }
+
+    /**
+     * Records a call, which earns a share of a retry.
+     */
+    public synchronized void deposit() {
+        tokens = Math.min(capacity, tokens + ratio);
+    }
+
+    /**
+     * @return whether a retry is allowed, in which case its token has been taken
+     */
+    public synchronized boolean tryWithdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    public synchronized double tokens() {
+        return tokens;
+    }
+}
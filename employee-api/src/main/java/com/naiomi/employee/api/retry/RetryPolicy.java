@@ -0,0 +1,219 @@
+package com.naiomi.employee.api.retry;
+
+import com.naiomi.employee.api.scheduling.RequestShedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * The one retry policy for calls to employee-data.
+ * <p>
+ * Only failures that a second attempt can fix are retried:
+ * </p>
+ * <ul>
+ *     <li>for every call: a refused connection (nothing was sent), {@code 429} and {@code 503}
+ *     (employee-data turned the call away)</li>
+ *     <li>for idempotent calls only: {@code 500}, {@code 502}, {@code 504} and I/O errors such as
+ *     read timeouts, after which the call may or may not have been applied</li>
+ * </ul>
+ * <p>
+ * Other {@code 4xx} answers, invalid responses and calls shed by the
+ * {@link com.naiomi.employee.api.scheduling.PriorityScheduler} fail at once. Before a retry the
+ * caller sleeps for a random time between zero and {@code base-delay-ms * 2^(retry - 1)}, capped at
+ * {@code max-delay-ms} (full jitter), or for the {@code Retry-After} of the answer if it has one.
+ * A {@code Retry-After} longer than {@code max-delay-ms} is not waited for: the call fails.
+ * </p>
+ * <p>
+ * Retries are also limited by a {@link RetryBudget}, so that during an outage they add at most
+ * {@code budget.ratio} of the traffic. Retries are reported as {@code employee.retry.retries} by
+ * {@code reason}, retries refused by the budget as {@code employee.retry.budget.exhausted}.
+ * </p>
+ */
+@Component
+public class RetryPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryPolicy.class);
+
+    private final int maxAttempts;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final RetryBudget budget;
+    private final MeterRegistry meterRegistry;
+    private final Counter exhausted;
+
+    public RetryPolicy(MeterRegistry meterRegistry,
+                       @Value("${employee.retry.max-attempts:3}") int maxAttempts,
+                       @Value("${employee.retry.base-delay-ms:100}") long baseDelayMs,
+                       @Value("${employee.retry.max-delay-ms:2000}") long maxDelayMs,
+                       @Value("${employee.retry.budget.ratio:0.1}") double budgetRatio,
+                       @Value("${employee.retry.budget.capacity:10}") double budgetCapacity) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.budget = new RetryBudget(budgetRatio, budgetCapacity);
+        this.exhausted = Counter.builder("employee.retry.budget.exhausted")
+                .description("Retries not made because the retry budget was empty")
+                .register(meterRegistry);
+        Gauge.builder("employee.retry.budget.tokens", budget, RetryBudget::tokens)
+                .description("Retries currently allowed by the retry budget")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Makes a call to employee-data, retrying it as described above.
+     *
+     * @param idempotent whether the call may safely be applied twice
+     * @return the result of the first successful attempt
+     */
+    public <T> T call(boolean idempotent, Supplier<T> call) {
+        budget.deposit();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                String reason = classify(e, idempotent);
+                if (reason == null || attempt >= maxAttempts) {
+                    throw e;
+                }
+                long delayMs = delayMs(attempt, e);
+                if (delayMs < 0) {
+                    throw e;
+                }
+                if (!budget.tryWithdraw()) {
+                    exhausted.increment();
+                    throw e;
+                }
+                Counter.builder("employee.retry.retries")
+                        .description("Calls to employee-data retried")
+                        .tag("reason", reason)
+                        .register(meterRegistry)
+                        .increment();
+                logger.warn("Retrying call to employee-data in {} ms ({}, attempt {} of {}): {}",
+                        delayMs, reason, attempt + 1, maxAttempts, e.getMessage());
+                try {
+                    Thread.sleep(delayMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs a call to employee-data that returns nothing, see {@link #call}.
+     */
+    public void run(boolean idempotent, Runnable call) {
+        call(idempotent, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * @return whether employee-data may have applied a call that failed with {@code e}, i.e. one
+     * that is only retried if it is idempotent
+     */
+    public static boolean mayHaveBeenApplied(RuntimeException e) {
+        return classify(e, true) != null && classify(e, false) == null;
+    }
+
+    /**
+     * @return the reason to retry after {@code e}, or {@code null} if it is not worth retrying
+     */
+    static String classify(RuntimeException e, boolean idempotent) {
+        if (e instanceof RequestShedException) {
+            // Shed before it was sent: employee-data is busy enough already
+            return null;
+        }
+        if (e instanceof HttpStatusCodeException status) {
+            int code = status.getStatusCode().value();
+            if (code == HttpStatus.TOO_MANY_REQUESTS.value() || code == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+                return "unavailable";
+            }
+            if (idempotent && (code == HttpStatus.INTERNAL_SERVER_ERROR.value()
+                    || code == HttpStatus.BAD_GATEWAY.value()
+                    || code == HttpStatus.GATEWAY_TIMEOUT.value())) {
+                return "server-error";
+            }
+            return null;
+        }
+        if (e instanceof ResourceAccessException) {
+            if (hasCause(e, ConnectException.class)) {
+                return "connect";
+            }
+            return idempotent ? "io" : null;
+        }
+        return null;
+    }
+
+    /**
+     * @return how long to wait before the retry following {@code attempt}, or {@code -1} if the
+     * answer asks for a longer wait than {@code max-delay-ms}
+     */
+    long delayMs(int attempt, RuntimeException e) {
+        Long retryAfterMs = retryAfterMs(e);
+        if (retryAfterMs != null) {
+            return retryAfterMs <= maxDelayMs ? retryAfterMs : -1;
+        }
+        long ceiling = baseDelayMs << Math.min(attempt - 1, 30);
+        if (ceiling <= 0 || ceiling > maxDelayMs) {
+            ceiling = maxDelayMs;
+        }
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * @return the {@code Retry-After} of the answer in milliseconds, given as seconds or as an
+     * HTTP date, or {@code null} if it has none or it cannot be read
+     */
+    static Long retryAfterMs(RuntimeException e) {
+        if (!(e instanceof HttpStatusCodeException status) || status.getResponseHeaders() == null) {
+            return null;
+        }
+        String retryAfter = status.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return null;
+        }
+        try {
+            return Math.max(0, Long.parseLong(retryAfter.trim()) * 1000);
+        } catch (NumberFormatException notSeconds) {
+            try {
+                ZonedDateTime at = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(at.getZone()), at).toMillis());
+            } catch (DateTimeParseException notDate) {
+                return null;
+            }
+        }
+    }
+
+    double budgetTokens() {
+        return budget.tokens();
+    }
+
+    private static boolean hasCause(Throwable e, Class<? extends Throwable> type) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
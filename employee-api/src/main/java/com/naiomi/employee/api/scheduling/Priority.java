@@ -0,0 +1,22 @@
+package com.naiomi.employee.api.scheduling;
+
+/**
+ * Priority classes of calls to employee-data, from most to least important.
+ */
+public enum Priority {
+
+    /**
+     * Interactive writes.
+     */
+    HIGH,
+
+    /**
+     * Interactive reads.
+     */
+    NORMAL,
+
+    /**
+     * Bulk reads and background work that is not tied to a request.
+     */
+    LOW
+}
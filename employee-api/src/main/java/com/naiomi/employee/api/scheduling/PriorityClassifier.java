@@ -0,0 +1,129 @@
+package com.naiomi.employee.api.scheduling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Assigns each request a {@link Priority} from its HTTP method, the path pattern of the
+ * controller method that handles it and its {@code Role} header, and makes it the
+ * {@link PriorityContext} of the request thread while the request is handled.
+ * <p>
+ * A rule for the role of the request takes precedence over a rule for any role. Requests that
+ * match no rule get the default priority.
+ * </p>
+ */
+public class PriorityClassifier implements HandlerInterceptor {
+
+    private static final String ROLE_HEADER = "Role";
+
+    private final Map<String, Priority> rules;
+    private final Priority defaultPriority;
+
+    private PriorityClassifier(Map<String, Priority> rules, Priority defaultPriority) {
+        this.rules = Collections.unmodifiableMap(rules);
+        this.defaultPriority = defaultPriority;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        PriorityContext.set(classify(request.getMethod(), pattern != null ? pattern.toString() : null,
+                request.getHeader(ROLE_HEADER)));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        PriorityContext.set(null);
+    }
+
+    /**
+     * @param method  the HTTP method
+     * @param pattern the path pattern of the handler, e.g. {@code /employees/{id}}, or {@code null}
+     * @param role    the {@code Role} header, or {@code null}
+     * @return the priority of the request
+     */
+    public Priority classify(String method, String pattern, String role) {
+        if (pattern == null) {
+            return defaultPriority;
+        }
+        if (role != null) {
+            Priority priority = rules.get(key(method, pattern, role.trim().toUpperCase(Locale.ROOT)));
+            if (priority != null) {
+                return priority;
+            }
+        }
+        Priority priority = rules.get(key(method, pattern, null));
+        return priority != null ? priority : defaultPriority;
+    }
+
+    /**
+     * @return the rules keyed by {@code "METHOD /pattern"} or {@code "METHOD /pattern ROLE"}, in declaration order
+     */
+    public Map<String, Priority> getRules() {
+        return rules;
+    }
+
+    private static String key(String method, String pattern, String role) {
+        return role == null ? method + " " + pattern : method + " " + pattern + " " + role;
+    }
+
+    public static final class Builder {
+
+        private final Map<String, Priority> rules = new LinkedHashMap<>();
+        private Priority defaultPriority = Priority.NORMAL;
+
+        private Builder() {
+        }
+
+        /**
+         * Assigns a priority to an endpoint, for any role.
+         *
+         * @param method   the HTTP method
+         * @param pattern  the path pattern as declared on the controller, e.g. {@code /employees/{id}}
+         * @param priority the priority of its calls to employee-data
+         */
+        public Builder rule(HttpMethod method, String pattern, Priority priority) {
+            return add(key(method.name(), pattern, null), priority);
+        }
+
+        /**
+         * Assigns a priority to an endpoint when called with the given {@code Role} header.
+         */
+        public Builder rule(HttpMethod method, String pattern, String role, Priority priority) {
+            return add(key(method.name(), pattern, role.toUpperCase(Locale.ROOT)), priority);
+        }
+
+        /**
+         * Sets the priority of requests that match no rule, {@link Priority#NORMAL} by default.
+         */
+        public Builder defaultPriority(Priority priority) {
+            this.defaultPriority = priority;
+            return this;
+        }
+
+        public PriorityClassifier build() {
+            return new PriorityClassifier(new LinkedHashMap<>(rules), defaultPriority);
+        }
+
+        private Builder add(String key, Priority priority) {
+            if (rules.putIfAbsent(key, priority) != null) {
+                throw new IllegalArgumentException("Duplicate rule for " + key);
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.naiomi.employee.api.scheduling;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Holds the priority of the request being served by the current thread, so calls to
+ * employee-data can be scheduled by it.
+ * <p>
+ * Threads that serve no request, like the warm-up, the ID filter rebuild or the write queue
+ * worker, run at {@link Priority#LOW}. Work handed to another thread keeps the priority of the
+ * request when it is wrapped with {@link #propagate}.
+ * </p>
+ */
+public final class PriorityContext {
+
+    private static final ThreadLocal<Priority> CURRENT = new ThreadLocal<>();
+
+    private PriorityContext() {
+    }
+
+    /**
+     * @return the priority of the current request, or {@link Priority#LOW} outside of requests
+     */
+    public static Priority current() {
+        Priority priority = CURRENT.get();
+        return priority != null ? priority : Priority.LOW;
+    }
+
+    /**
+     * Wraps a task so it runs with the priority of the calling thread.
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        Priority priority = CURRENT.get();
+        return () -> {
+            Priority previous = CURRENT.get();
+            set(priority);
+            try {
+                return task.call();
+            } finally {
+                set(previous);
+            }
+        };
+    }
+
+    static void set(Priority priority) {
+        if (priority == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(priority);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.naiomi.employee.api.scheduling;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Sends every call to employee-data through the {@link PriorityScheduler}, at the priority of the
+ * request that makes it.
+ */
+@Component
+public class PriorityInterceptor implements ClientHttpRequestInterceptor {
+
+    private final PriorityScheduler scheduler;
+
+    public PriorityInterceptor(PriorityScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        scheduler.acquire(PriorityContext.current());
+        try {
+            return execution.execute(request, body);
+        } finally {
+            scheduler.release();
+        }
+    }
+}
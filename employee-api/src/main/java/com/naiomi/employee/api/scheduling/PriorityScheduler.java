@@ -0,0 +1,251 @@
+package com.naiomi.employee.api.scheduling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of calls to employee-data in flight and decides, by {@link Priority}, which
+ * waiting call goes next.
+ * <p>
+ * Each priority class has its own bounded queue. When a call completes, the next one is taken
+ * from the non-empty queues by smooth weighted round robin, so with weights 8, 4 and 1 a busy
+ * {@link Priority#HIGH} queue gets 8 of every 13 slots but {@link Priority#LOW} work still
+ * moves. Calls are shed, that is failed with {@link RequestShedException} without being sent,
+ * when
+ * </p>
+ * <ul>
+ *     <li>the queue of their class is full ({@code queue-full}),</li>
+ *     <li>all queues together hold {@code max-queued} calls and a more important call arrives:
+ *     the most recently queued call of the least important class is dropped ({@code displaced}),
+ *     or the arriving call if nothing is less important ({@code overloaded}),</li>
+ *     <li>they waited longer than {@code max-wait-ms} ({@code timeout}).</li>
+ * </ul>
+ */
+@Component
+public class PriorityScheduler {
+
+    private final boolean enabled;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long maxWaitMs;
+    private final Map<Priority, ClassQueue> queues = new EnumMap<>(Priority.class);
+    private final MeterRegistry meterRegistry;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private int inFlight;
+    private int queued;
+
+    public PriorityScheduler(MeterRegistry meterRegistry,
+                             @Value("${scheduling.enabled:true}") boolean enabled,
+                             @Value("${scheduling.max-concurrent:32}") int maxConcurrent,
+                             @Value("${scheduling.max-queued:1024}") int maxQueued,
+                             @Value("${scheduling.max-wait-ms:2000}") long maxWaitMs,
+                             @Value("${scheduling.high.weight:8}") int highWeight,
+                             @Value("${scheduling.high.queue-capacity:256}") int highCapacity,
+                             @Value("${scheduling.normal.weight:4}") int normalWeight,
+                             @Value("${scheduling.normal.queue-capacity:1024}") int normalCapacity,
+                             @Value("${scheduling.low.weight:1}") int lowWeight,
+                             @Value("${scheduling.low.queue-capacity:512}") int lowCapacity) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("scheduling.max-concurrent must be at least 1");
+        }
+        this.enabled = enabled;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxWaitMs = maxWaitMs;
+        this.meterRegistry = meterRegistry;
+        queues.put(Priority.HIGH, new ClassQueue(Priority.HIGH, highWeight, highCapacity));
+        queues.put(Priority.NORMAL, new ClassQueue(Priority.NORMAL, normalWeight, normalCapacity));
+        queues.put(Priority.LOW, new ClassQueue(Priority.LOW, lowWeight, lowCapacity));
+
+        Gauge.builder("scheduling.in-flight", this, PriorityScheduler::inFlight)
+                .description("Calls to employee-data in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Waits until a call of the given priority may be sent. Every successful call must be
+     * followed by {@link #release()} once the call completes.
+     *
+     * @throws RequestShedException if the call is shed
+     */
+    public void acquire(Priority priority) {
+        if (!enabled) {
+            return;
+        }
+        ClassQueue queue = queues.get(priority);
+        long start = System.nanoTime();
+        CompletableFuture<Boolean> waiter;
+
+        lock.lock();
+        try {
+            if (inFlight < maxConcurrent && queued == 0) {
+                inFlight++;
+                queue.waitTime.record(0, TimeUnit.NANOSECONDS);
+                return;
+            }
+            if (queue.waiters.size() >= queue.capacity) {
+                throw shed(queue, "queue-full");
+            }
+            if (queued >= maxQueued && !displaceLessImportantThan(priority)) {
+                throw shed(queue, "overloaded");
+            }
+            waiter = new CompletableFuture<>();
+            queue.waiters.addLast(waiter);
+            queued++;
+        } finally {
+            lock.unlock();
+        }
+
+        boolean granted;
+        try {
+            granted = waiter.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            lock.lock();
+            try {
+                if (queue.waiters.remove(waiter)) {
+                    queued--;
+                    throw shed(queue, "timeout");
+                }
+            } finally {
+                lock.unlock();
+            }
+            // Granted or displaced while giving up
+            granted = waiter.join();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+        queue.waitTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!granted) {
+            throw new RequestShedException(priority, "displaced");
+        }
+    }
+
+    /**
+     * Ends a call and hands its slot to the next waiting call, if any.
+     */
+    public void release() {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            inFlight--;
+            while (inFlight < maxConcurrent && queued > 0) {
+                CompletableFuture<Boolean> next = next().waiters.pollFirst();
+                queued--;
+                inFlight++;
+                next.complete(true);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        return inFlight;
+    }
+
+    int queued(Priority priority) {
+        return queues.get(priority).waiters.size();
+    }
+
+    /**
+     * Smooth weighted round robin over the non-empty queues.
+     */
+    private ClassQueue next() {
+        int totalWeight = 0;
+        ClassQueue best = null;
+        for (ClassQueue queue : queues.values()) {
+            if (queue.waiters.isEmpty()) {
+                continue;
+            }
+            queue.currentWeight += queue.weight;
+            totalWeight += queue.weight;
+            if (best == null || queue.currentWeight > best.currentWeight) {
+                best = queue;
+            }
+        }
+        best.currentWeight -= totalWeight;
+        return best;
+    }
+
+    /**
+     * Drops the most recently queued call of the least important class below {@code priority}.
+     *
+     * @return {@code false} if no less important call is waiting
+     */
+    private boolean displaceLessImportantThan(Priority priority) {
+        Priority[] priorities = Priority.values();
+        for (int i = priorities.length - 1; i > priority.ordinal(); i--) {
+            ClassQueue queue = queues.get(priorities[i]);
+            CompletableFuture<Boolean> victim = queue.waiters.pollLast();
+            if (victim != null) {
+                queued--;
+                queue.shed("displaced").increment();
+                victim.complete(false);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private RequestShedException shed(ClassQueue queue, String reason) {
+        queue.shed(reason).increment();
+        return new RequestShedException(queue.priority, reason);
+    }
+
+    private final class ClassQueue {
+
+        private final Priority priority;
+        private final int weight;
+        private final int capacity;
+        private final Deque<CompletableFuture<Boolean>> waiters = new ArrayDeque<>();
+        private final Timer waitTime;
+        private int currentWeight;
+
+        private ClassQueue(Priority priority, int weight, int capacity) {
+            if (weight < 1) {
+                throw new IllegalArgumentException("Weight of " + priority + " must be at least 1");
+            }
+            this.priority = priority;
+            this.weight = weight;
+            this.capacity = capacity;
+            String tag = priority.name().toLowerCase(Locale.ROOT);
+            this.waitTime = Timer.builder("scheduling.queue.wait")
+                    .description("Time calls to employee-data waited for a slot")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            Gauge.builder("scheduling.queue.depth", waiters, Deque::size)
+                    .description("Calls to employee-data waiting for a slot")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+        }
+
+        private Counter shed(String reason) {
+            return Counter.builder("scheduling.shed")
+                    .description("Calls to employee-data dropped before being sent")
+                    .tag("class", priority.name().toLowerCase(Locale.ROOT))
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.naiomi.employee.api.scheduling;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Thrown when a call to employee-data is dropped by {@link PriorityScheduler} before it was sent,
+ * because its queue was full, it was displaced by more important work or it waited too long.
+ * It is a {@link RestClientException}, so callers that retry or fall back on failed calls do the
+ * same for shed ones.
+ */
+public class RequestShedException extends RestClientException {
+
+    private final Priority priority;
+
+    public RequestShedException(Priority priority, String reason) {
+        super("Call to employee-data shed (" + priority + " priority, " + reason + ")");
+        this.priority = priority;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+}
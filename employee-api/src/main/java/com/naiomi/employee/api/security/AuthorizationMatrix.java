@@ -0,0 +1,175 @@
+package com.naiomi.employee.api.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The single authorization table of employee-api: for every endpoint, identified by HTTP method
+ * and path pattern, the authorities that may call it.
+ * <p>
+ * The patterns are compiled at startup into a tree of path segments, so a request is matched by
+ * walking its own segments instead of trying every rule, and the authority check is a set lookup.
+ * Requests that match no rule are not restricted; {@link AuthorizationMatrixVerifier} makes sure
+ * every controller method of the application has a rule that agrees with its
+ * {@code @PreAuthorize} annotation.
+ * </p>
+ */
+public class AuthorizationMatrix implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final Map<String, Set<String>> rules;
+    private final Node root = new Node();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    private AuthorizationMatrix(Map<String, Set<String>> rules) {
+        this.rules = Collections.unmodifiableMap(rules);
+        rules.forEach((key, authorities) -> {
+            int separator = key.indexOf(' ');
+            Node node = root;
+            for (String segment : segments(key.substring(separator + 1))) {
+                node = node.child(segment);
+            }
+            node.authorities.put(key.substring(0, separator), authorities);
+        });
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        HttpServletRequest request = context.getRequest();
+        Set<String> required = find(request.getMethod(), urlPathHelper.getPathWithinApplication(request));
+        if (required == null || required.isEmpty()) {
+            return GRANTED;
+        }
+        Authentication current = authentication.get();
+        if (current != null && current.isAuthenticated()) {
+            for (GrantedAuthority authority : current.getAuthorities()) {
+                if (required.contains(authority.getAuthority())) {
+                    return GRANTED;
+                }
+            }
+        }
+        return DENIED;
+    }
+
+    /**
+     * Finds the authorities required for a request.
+     *
+     * @param method the HTTP method; HEAD is treated as GET, as Spring MVC does
+     * @param path   the decoded path within the application
+     * @return the required authorities, an empty set if the endpoint is public, or {@code null} if no rule matches
+     */
+    public Set<String> find(String method, String path) {
+        String resolvedMethod = HttpMethod.HEAD.matches(method) ? HttpMethod.GET.name() : method;
+        return find(root, segments(path), 0, resolvedMethod);
+    }
+
+    /**
+     * @return the rules keyed by {@code "METHOD /pattern"}, in declaration order
+     */
+    public Map<String, Set<String>> getRules() {
+        return rules;
+    }
+
+    /**
+     * Literal segments take precedence over variables, like the pattern ordering of Spring MVC.
+     * The variable branch is only tried when the literal branch has no rule for the method.
+     */
+    private static Set<String> find(Node node, String[] segments, int index, String method) {
+        if (index == segments.length) {
+            return node.authorities.get(method);
+        }
+        Node literal = node.literals.get(segments[index]);
+        if (literal != null) {
+            Set<String> authorities = find(literal, segments, index + 1, method);
+            if (authorities != null) {
+                return authorities;
+            }
+        }
+        return node.variable != null ? find(node.variable, segments, index + 1, method) : null;
+    }
+
+    private static String[] segments(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.endsWith("/") && path.length() > start ? path.length() - 1 : path.length();
+        return start >= end ? new String[0] : path.substring(start, end).split("/");
+    }
+
+    static String key(String method, String pattern) {
+        return method + " " + pattern;
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private final Map<String, Set<String>> authorities = new HashMap<>();
+        private Node variable;
+
+        private Node child(String segment) {
+            if (!segment.startsWith("{") || !segment.endsWith("}")) {
+                return literals.computeIfAbsent(segment, s -> new Node());
+            }
+            if (variable == null) {
+                variable = new Node();
+            }
+            return variable;
+        }
+    }
+
+    public static final class Builder {
+
+        private final Map<String, Set<String>> rules = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Restricts an endpoint to the given authorities.
+         *
+         * @param method      the HTTP method
+         * @param pattern     the path pattern as declared on the controller, e.g. {@code /employees/{id}}
+         * @param authorities the authorities that may call it
+         */
+        public Builder rule(HttpMethod method, String pattern, String... authorities) {
+            if (authorities.length == 0) {
+                throw new IllegalArgumentException("No authorities for " + key(method.name(), pattern));
+            }
+            return add(method, pattern, Set.of(authorities));
+        }
+
+        /**
+         * Declares an endpoint that the application chain does not restrict.
+         */
+        public Builder permitAll(HttpMethod method, String pattern) {
+            return add(method, pattern, Set.of());
+        }
+
+        public AuthorizationMatrix build() {
+            return new AuthorizationMatrix(new LinkedHashMap<>(rules));
+        }
+
+        private Builder add(HttpMethod method, String pattern, Set<String> authorities) {
+            if (rules.putIfAbsent(key(method.name(), pattern), authorities) != null) {
+                throw new IllegalArgumentException("Duplicate rule for " + key(method.name(), pattern));
+            }
+            return this;
+        }
+    }
+}
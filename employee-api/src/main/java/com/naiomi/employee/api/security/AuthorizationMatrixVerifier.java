@@ -0,0 +1,132 @@
+package com.naiomi.employee.api.security;
+
+import com.naiomi.employee.api.EmployeeApiApplication;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Fails startup when the {@link AuthorizationMatrix} and the {@code @PreAuthorize} annotations
+ * on the controllers of the application disagree.
+ * <p>
+ * The annotations are no longer evaluated at runtime, but they stay on the controllers as the
+ * documented access rule of each method. Every controller method of the application needs a
+ * matrix rule: one with the same authorities as its annotation, or a {@code permitAll} rule if
+ * it has none. Matrix rules that match no controller method are reported as well.
+ * </p>
+ */
+@Component
+public class AuthorizationMatrixVerifier implements SmartInitializingSingleton {
+
+    private static final Pattern AUTHORITY_EXPRESSION =
+            Pattern.compile("has(?:Any)?Authority\\(\\s*'[^']+'(?:\\s*,\\s*'[^']+')*\\s*\\)");
+    private static final Pattern QUOTED = Pattern.compile("'([^']+)'");
+
+    private final AuthorizationMatrix authorizationMatrix;
+    private final RequestMappingHandlerMapping handlerMapping;
+
+    public AuthorizationMatrixVerifier(AuthorizationMatrix authorizationMatrix,
+                                       @Qualifier("requestMappingHandlerMapping")
+                                       RequestMappingHandlerMapping handlerMapping) {
+        this.authorizationMatrix = authorizationMatrix;
+        this.handlerMapping = handlerMapping;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<String> problems = verify(authorizationMatrix, handlerMapping.getHandlerMethods());
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Authorization matrix and @PreAuthorize annotations diverge:\n - "
+                    + String.join("\n - ", problems));
+        }
+    }
+
+    /**
+     * @return one message per divergence, empty if the matrix and the annotations agree
+     */
+    static List<String> verify(AuthorizationMatrix matrix, Map<RequestMappingInfo, HandlerMethod> handlerMethods) {
+        List<String> problems = new ArrayList<>();
+        Set<String> mappedKeys = new HashSet<>();
+
+        handlerMethods.forEach((info, handlerMethod) -> {
+            if (!handlerMethod.getBeanType().getPackageName().startsWith(EmployeeApiApplication.class.getPackageName())) {
+                return;
+            }
+            String handler = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+            Set<String> declared;
+            try {
+                declared = declaredAuthorities(handlerMethod);
+            } catch (IllegalArgumentException e) {
+                problems.add(handler + ": " + e.getMessage());
+                return;
+            }
+
+            if (info.getMethodsCondition().getMethods().isEmpty()) {
+                problems.add(handler + " must declare its HTTP method to be matched by the authorization matrix");
+                return;
+            }
+            for (RequestMethod method : info.getMethodsCondition().getMethods()) {
+                for (String pattern : info.getPatternValues()) {
+                    String key = AuthorizationMatrix.key(method.name(), pattern);
+                    mappedKeys.add(key);
+                    Set<String> configured = matrix.getRules().get(key);
+                    if (configured == null) {
+                        problems.add(key + " (" + handler + ") has no rule in the authorization matrix");
+                    } else if (!configured.equals(declared)) {
+                        problems.add(key + " (" + handler + ") allows " + describe(configured)
+                                + " in the authorization matrix but " + describe(declared) + " in @PreAuthorize");
+                    }
+                }
+            }
+        });
+
+        for (String key : matrix.getRules().keySet()) {
+            if (!mappedKeys.contains(key)) {
+                problems.add(key + " is in the authorization matrix but matches no controller method");
+            }
+        }
+        return problems;
+    }
+
+    /**
+     * Reads the authorities from a method or class level {@code hasAuthority}/{@code hasAnyAuthority}
+     * expression. Other expressions cannot be expressed in the matrix and are rejected.
+     */
+    private static Set<String> declaredAuthorities(HandlerMethod handlerMethod) {
+        PreAuthorize preAuthorize = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), PreAuthorize.class);
+        if (preAuthorize == null) {
+            preAuthorize = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), PreAuthorize.class);
+        }
+        if (preAuthorize == null) {
+            return Set.of();
+        }
+        String expression = preAuthorize.value().trim();
+        if (!AUTHORITY_EXPRESSION.matcher(expression).matches()) {
+            throw new IllegalArgumentException("unsupported @PreAuthorize expression: " + expression);
+        }
+        Set<String> authorities = new HashSet<>();
+        Matcher matcher = QUOTED.matcher(expression);
+        while (matcher.find()) {
+            authorities.add(matcher.group(1));
+        }
+        return authorities;
+    }
+
+    private static String describe(Set<String> authorities) {
+        return authorities.isEmpty() ? "everyone" : authorities.stream().sorted().toList().toString();
+    }
+}
@@ -21,6 +21,14 @@ public class RoleValidationFilter extends OncePerRequestFilter {
     private static final String INVALID_ROLE_MSG =
             "Invalid role: %s. Allowed roles are: [ADMIN, USER, MANAGER]";
 
+    /**
+     * Health probes are polled by the platform, which does not send a Role header.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator/health");
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
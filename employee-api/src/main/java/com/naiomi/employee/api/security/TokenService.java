@@ -0,0 +1,202 @@
+package com.naiomi.employee.api.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Issues and verifies HS256 bearer tokens signed with keys held in the application configuration.
+ * <p>
+ * Tokens use the compact JWT layout ({@code header.payload.signature}) with a {@code kid} header,
+ * so a new signing key can be rolled out while tokens signed with the previous one stay valid
+ * until they expire. Verification is comparatively expensive, so requests go through
+ * {@link VerifiedTokenCache} rather than calling {@link #verify} directly.
+ * </p>
+ * <p>
+ * Without configured keys a random key is generated on every start: tokens then only work on
+ * the node that issued them, and not across restarts.
+ * </p>
+ */
+@Component
+public class TokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenService.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_KEY_BYTES = 32;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, SecretKeySpec> keys;
+    private final Map<String, String> encodedHeaders = new HashMap<>();
+    private final String signingKeyId;
+    private final Duration ttl;
+
+    /**
+     * @param keys         comma-separated {@code keyId:base64Secret} pairs, each secret at least 32 bytes,
+     *                     or blank for a random key generated on start
+     * @param signingKeyId the key used for new tokens; ignored if no keys are configured
+     * @param ttlSeconds   lifetime of new tokens
+     */
+    public TokenService(ObjectMapper objectMapper,
+                        @Value("${security.token.keys:}") String keys,
+                        @Value("${security.token.signing-key-id:}") String signingKeyId,
+                        @Value("${security.token.ttl-seconds:3600}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        if (keys.isBlank()) {
+            signingKeyId = "generated";
+            this.keys = Map.of(signingKeyId, generateKey());
+            logger.warn("No security.token.keys configured: signing tokens with a random key, "
+                    + "which other nodes and restarts do not accept");
+        } else {
+            this.keys = parseKeys(keys);
+        }
+        this.signingKeyId = signingKeyId;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+
+        if (!this.keys.containsKey(signingKeyId)) {
+            throw new IllegalStateException("Unknown signing key: " + signingKeyId);
+        }
+        for (String keyId : this.keys.keySet()) {
+            ObjectNode header = objectMapper.createObjectNode()
+                    .put("alg", "HS256")
+                    .put("typ", "JWT")
+                    .put("kid", keyId);
+            encodedHeaders.put(keyId, encode(header));
+        }
+    }
+
+    /**
+     * Issues a token for the given subject that expires after {@code security.token.ttl-seconds}.
+     *
+     * @param subject     the authenticated user name
+     * @param authorities the authorities granted to the subject
+     * @return the signed token
+     */
+    public String issue(String subject, List<String> authorities) {
+        return issue(subject, authorities, Instant.now().plus(ttl));
+    }
+
+    String issue(String subject, List<String> authorities, Instant expiresAt) {
+        Instant issuedAt = Instant.now();
+        ObjectNode claims = objectMapper.createObjectNode()
+                .put("sub", subject)
+                .put("iat", issuedAt.getEpochSecond())
+                .put("exp", expiresAt.getEpochSecond());
+        authorities.forEach(claims.putArray("roles")::add);
+
+        String signingInput = encodedHeaders.get(signingKeyId) + "." + encode(claims);
+        return signingInput + "." + ENCODER.encodeToString(sign(keys.get(signingKeyId), signingInput));
+    }
+
+    /**
+     * @return the lifetime of new tokens
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * Checks the signature and expiry of a token and reads its claims.
+     *
+     * @param token the compact token from the {@code Authorization} header
+     * @return the verified claims
+     * @throws BadCredentialsException if the token is malformed, not signed by a known key or expired
+     */
+    public VerifiedToken verify(String token) {
+        int firstDot = token.indexOf('.');
+        int lastDot = token.lastIndexOf('.');
+        if (firstDot <= 0 || lastDot == firstDot || lastDot == token.length() - 1) {
+            throw new BadCredentialsException("Malformed token");
+        }
+
+        try {
+            JsonNode header = objectMapper.readTree(DECODER.decode(token.substring(0, firstDot)));
+            SecretKeySpec key = keys.get(header.path("kid").asText());
+            if (!"HS256".equals(header.path("alg").asText()) || key == null) {
+                throw new BadCredentialsException("Token is not signed by a known key");
+            }
+
+            byte[] expected = sign(key, token.substring(0, lastDot));
+            byte[] actual = DECODER.decode(token.substring(lastDot + 1));
+            if (!MessageDigest.isEqual(expected, actual)) {
+                throw new BadCredentialsException("Invalid token signature");
+            }
+
+            JsonNode claims = objectMapper.readTree(DECODER.decode(token.substring(firstDot + 1, lastDot)));
+            Instant expiresAt = Instant.ofEpochSecond(claims.path("exp").asLong());
+            if (!expiresAt.isAfter(Instant.now())) {
+                throw new BadCredentialsException("Token has expired");
+            }
+
+            List<String> authorities = new ArrayList<>();
+            claims.path("roles").forEach(role -> authorities.add(role.asText()));
+            return new VerifiedToken(claims.path("sub").asText(), List.copyOf(authorities), expiresAt);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new BadCredentialsException("Malformed token", e);
+        }
+    }
+
+    private String encode(JsonNode node) {
+        try {
+            return ENCODER.encodeToString(objectMapper.writeValueAsBytes(node));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode token", e);
+        }
+    }
+
+    private static byte[] sign(SecretKeySpec key, String signingInput) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign token", e);
+        }
+    }
+
+    private static SecretKeySpec generateKey() {
+        byte[] secret = new byte[MIN_KEY_BYTES];
+        new SecureRandom().nextBytes(secret);
+        return new SecretKeySpec(secret, ALGORITHM);
+    }
+
+    private static Map<String, SecretKeySpec> parseKeys(String keys) {
+        Map<String, SecretKeySpec> parsed = new HashMap<>();
+        for (String entry : keys.split(",")) {
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalStateException("Token keys must be keyId:base64Secret pairs");
+            }
+            byte[] secret = Base64.getDecoder().decode(entry.substring(separator + 1).trim());
+            if (secret.length < MIN_KEY_BYTES) {
+                throw new IllegalStateException("Token key " + entry.substring(0, separator).trim()
+                        + " must be at least " + MIN_KEY_BYTES + " bytes");
+            }
+            parsed.put(entry.substring(0, separator).trim(), new SecretKeySpec(secret, ALGORITHM));
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,33 @@
+package com.naiomi.employee.api.security;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The claims of a bearer token whose signature has been checked. The token itself is not kept,
+ * so cached entries do not hold usable credentials.
+ */
+public class VerifiedToken {
+
+    private final String subject;
+    private final List<String> authorities;
+    private final Instant expiresAt;
+
+    public VerifiedToken(String subject, List<String> authorities, Instant expiresAt) {
+        this.subject = subject;
+        this.authorities = authorities;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public List<String> getAuthorities() {
+        return authorities;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,93 @@
+package com.naiomi.employee.api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of verified bearer tokens, so the signature of a token is checked once rather
+ * than on every request that carries it.
+ * <p>
+ * Entries are keyed by the SHA-256 digest of the token, so the cache never holds the token
+ * itself, and each entry expires at the token's own expiry. Tokens that fail verification are
+ * not cached.
+ * </p>
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final TokenService tokenService;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(TokenService tokenService,
+                              MeterRegistry meterRegistry,
+                              @Value("${security.token.cache.max-size:100000}") long maxSize) {
+        this.tokenService = tokenService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        long remainingMs = token.getExpiresAt().toEpochMilli() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "security.tokens");
+    }
+
+    /**
+     * Returns the claims of a token, verifying it with {@link TokenService} only on a cache miss.
+     *
+     * @param token the compact token from the {@code Authorization} header
+     * @return the verified claims
+     * @throws BadCredentialsException if the token is invalid or expired
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken verified = cache.get(digest(token), key -> tokenService.verify(token));
+        // Expiry is checked again because the cache evicts lazily
+        if (!verified.getExpiresAt().isAfter(Instant.now())) {
+            throw new BadCredentialsException("Token has expired");
+        }
+        return verified;
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
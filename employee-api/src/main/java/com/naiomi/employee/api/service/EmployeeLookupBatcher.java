@@ -0,0 +1,171 @@
+package com.naiomi.employee.api.service;
+
+import com.naiomi.employee.api.client.EmployeeDataClient;
+import com.naiomi.employee.contract.EmployeeResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects concurrent lookups of single employees and sends them to employee-data as one batch.
+ * <p>
+ * The first lookup opens a batch and waits for the batching window, or until the batch holds the
+ * maximum number of distinct IDs. Lookups arriving in the meantime join the batch; lookups of an
+ * ID already in the batch share its result. The batch is then sent by the thread of the first
+ * lookup, as one {@link EmployeeDataClient#getEmployees} call backed by one query in
+ * employee-data, and every lookup returns its own employee. A batch of one ID uses the plain
+ * single lookup.
+ * </p>
+ * <p>
+ * An ID that employee-data does not return fails with the {@code 404} the single lookup would
+ * answer, and a failed batch fails all of its lookups. The number of lookups, of calls to
+ * employee-data and the batch sizes are reported as {@code employee.batch.*}.
+ * </p>
+ */
+@Component
+public class EmployeeLookupBatcher {
+
+    private final EmployeeDataClient employeeDataClient;
+    private final boolean enabled;
+    private final long windowMs;
+    private final int maxSize;
+    private final Counter lookups;
+    private final Counter calls;
+    private final DistributionSummary batchSize;
+
+    private Batch open;
+
+    public EmployeeLookupBatcher(EmployeeDataClient employeeDataClient, MeterRegistry meterRegistry,
+                                 @Value("${employee.batch.enabled:true}") boolean enabled,
+                                 @Value("${employee.batch.window-ms:1}") long windowMs,
+                                 @Value("${employee.batch.max-size:64}") int maxSize) {
+        this.employeeDataClient = employeeDataClient;
+        this.enabled = enabled;
+        this.windowMs = windowMs;
+        this.maxSize = maxSize;
+        this.lookups = Counter.builder("employee.batch.lookups")
+                .description("Employee lookups received by the batcher")
+                .register(meterRegistry);
+        this.calls = Counter.builder("employee.batch.calls")
+                .description("Calls to employee-data made for batched lookups")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("employee.batch.size")
+                .description("Distinct employee IDs per call to employee-data")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Looks up an employee, possibly in one call with other lookups.
+     *
+     * @throws HttpClientErrorException.NotFound if employee-data has no employee with this ID
+     */
+    public EmployeeResponse get(Long id) {
+        if (!enabled) {
+            return employeeDataClient.getEmployee(id, null);
+        }
+
+        Batch batch;
+        boolean first;
+        CompletableFuture<EmployeeResponse> result;
+        synchronized (this) {
+            first = open == null;
+            if (first) {
+                open = new Batch();
+            }
+            batch = open;
+            result = batch.results.computeIfAbsent(id, key -> new CompletableFuture<>());
+            if (batch.results.size() >= maxSize) {
+                // Later lookups start the next batch, this one is sent right away
+                open = null;
+                batch.full.countDown();
+            }
+        }
+        lookups.increment();
+
+        if (first) {
+            send(batch);
+        }
+        return await(result, id);
+    }
+
+    private void send(Batch batch) {
+        boolean interrupted = false;
+        try {
+            batch.full.await(windowMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            // The lookups waiting in the batch are still sent, just earlier
+            interrupted = true;
+        }
+        synchronized (this) {
+            if (open == batch) {
+                open = null;
+            }
+        }
+
+        // Closed: the results map is no longer modified
+        Map<Long, CompletableFuture<EmployeeResponse>> results = batch.results;
+        calls.increment();
+        batchSize.record(results.size());
+        try {
+            if (results.size() == 1) {
+                Map.Entry<Long, CompletableFuture<EmployeeResponse>> single = results.entrySet().iterator().next();
+                single.getValue().complete(employeeDataClient.getEmployee(single.getKey(), null));
+            } else {
+                for (EmployeeResponse employee : employeeDataClient.getEmployees(results.keySet())) {
+                    CompletableFuture<EmployeeResponse> result = results.get(employee.id());
+                    if (result != null) {
+                        result.complete(employee);
+                    }
+                }
+                results.forEach((id, result) -> {
+                    if (!result.isDone()) {
+                        result.completeExceptionally(notFound(id));
+                    }
+                });
+            }
+        } catch (RuntimeException | Error e) {
+            results.values().forEach(result -> result.completeExceptionally(e));
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static EmployeeResponse await(CompletableFuture<EmployeeResponse> result, Long id) {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while looking up employee " + id, e);
+        }
+    }
+
+    private static HttpClientErrorException notFound(Long id) {
+        return HttpClientErrorException.create("404 Not Found: employee " + id, HttpStatus.NOT_FOUND,
+                HttpStatus.NOT_FOUND.getReasonPhrase(), null, null, null);
+    }
+
+    private static final class Batch {
+
+        private final Map<Long, CompletableFuture<EmployeeResponse>> results = new LinkedHashMap<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+    }
+}
@@ -0,0 +1,127 @@
+package com.naiomi.employee.api.service;
+
+import com.naiomi.employee.api.client.EmployeeDataClient;
+import com.naiomi.employee.api.dto.EmployeeApiResponseDto;
+import com.naiomi.employee.api.dto.EmployeeProfileDto;
+import com.naiomi.employee.api.dto.ProfilePartDto;
+import com.naiomi.employee.api.dto.ProjectDto;
+import com.naiomi.employee.api.dto.RoleDto;
+import com.naiomi.employee.api.exception.EmployeeNotFoundException;
+import com.naiomi.employee.api.model.ProfilePartStatus;
+import com.naiomi.employee.api.scheduling.PriorityContext;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds an employee profile from the employee, their role and their projects.
+ * <p>
+ * The three parts are fetched from employee-data concurrently under one deadline
+ * ({@code profile.timeout-ms}). A part that fails or misses the deadline is cancelled and
+ * reported in {@code parts} while the others are still returned. No part outlives the
+ * request: when the employee does not exist, the remaining parts are cancelled as well.
+ * </p>
+ */
+@Service
+public class EmployeeProfileService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeProfileService.class);
+
+    static final String EMPLOYEE = "employee";
+    static final String ROLE = "role";
+    static final String PROJECTS = "projects";
+
+    private final EmployeeService employeeService;
+    private final EmployeeDataClient employeeDataClient;
+    private final long timeoutMs;
+    private final ExecutorService executor;
+
+    public EmployeeProfileService(EmployeeService employeeService,
+                                  EmployeeDataClient employeeDataClient,
+                                  @Value("${profile.timeout-ms:1000}") long timeoutMs,
+                                  @Value("${profile.threads:64}") int threads) {
+        this.employeeService = employeeService;
+        this.employeeDataClient = employeeDataClient;
+        this.timeoutMs = timeoutMs;
+
+        AtomicInteger count = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "employee-profile-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public EmployeeProfileDto getProfile(Long id) {
+        logger.info("Fetching profile of employee with ID: {}", id);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+        Future<EmployeeApiResponseDto> employee = executor.submit(PriorityContext.propagate(() ->
+                employeeService.getEmployeeById(id)));
+        Future<RoleDto> role = executor.submit(PriorityContext.propagate(() ->
+                employeeDataClient.getRole(id)));
+        Future<List<ProjectDto>> projects = executor.submit(PriorityContext.propagate(() ->
+                employeeDataClient.getProjects(id)));
+
+        EmployeeProfileDto profile = new EmployeeProfileDto();
+        profile.setEmployee(await(EMPLOYEE, employee, deadline, profile));
+        if (profile.getParts().get(EMPLOYEE).getStatus() == ProfilePartStatus.NOT_FOUND) {
+            role.cancel(true);
+            projects.cancel(true);
+            throw new EmployeeNotFoundException("Employee not found with ID: " + id);
+        }
+        profile.setRole(await(ROLE, role, deadline, profile));
+        profile.setProjects(await(PROJECTS, projects, deadline, profile));
+        return profile;
+    }
+
+    /**
+     * Waits for a part until the shared deadline and records its status.
+     *
+     * @return the part, or {@code null} if it could not be fetched in time
+     */
+    private <T> T await(String part, Future<T> future, long deadline, EmployeeProfileDto profile) {
+        ProfilePartStatus status;
+        String message;
+        try {
+            T value = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            profile.getParts().put(part, new ProfilePartDto(ProfilePartStatus.OK, null));
+            return value;
+        } catch (TimeoutException e) {
+            status = ProfilePartStatus.TIMEOUT;
+            message = "No response within " + timeoutMs + " ms";
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            // Only a missing employee is NOT_FOUND; other rejections, such as 400 or 429, are errors
+            status = cause instanceof EmployeeNotFoundException || cause instanceof HttpClientErrorException.NotFound
+                    ? ProfilePartStatus.NOT_FOUND
+                    : ProfilePartStatus.ERROR;
+            message = cause.getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = ProfilePartStatus.ERROR;
+            message = "Interrupted";
+        }
+        future.cancel(true);
+        logger.warn("Profile part {} unavailable ({}): {}", part, status, message);
+        profile.getParts().put(part, new ProfilePartDto(status, message));
+        return null;
+    }
+}
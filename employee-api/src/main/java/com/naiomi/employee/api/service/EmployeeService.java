@@ -1,88 +1,185 @@
 package com.naiomi.employee.api.service;
 
+import com.naiomi.employee.api.cache.EmployeeCache;
+import com.naiomi.employee.api.cache.EmployeeIdFilter;
+import com.naiomi.employee.api.cache.LastKnownGoodStore;
+import com.naiomi.employee.api.cache.ReadResult;
+import com.naiomi.employee.api.client.EmployeeDataClient;
 import com.naiomi.employee.api.dto.EmployeeApiRequestDto;
 import com.naiomi.employee.api.dto.EmployeeApiResponseDto;
-import com.naiomi.employee.api.dto.EmployeeDataRequestDto;
-import com.naiomi.employee.api.dto.EmployeeDataResponseDto;
 import com.naiomi.employee.api.exception.EmployeeNotFoundException;
 import com.naiomi.employee.api.mapper.EmployeeMapper;
+import com.naiomi.employee.api.model.EmployeeField;
 import com.naiomi.employee.api.model.Role;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
+import com.naiomi.employee.api.replica.EmployeeReadModel;
+import com.naiomi.employee.api.scheduling.RequestShedException;
+import com.naiomi.employee.contract.EmployeeNames;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 @Service
 public class EmployeeService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
 
     private final EmployeeMapper employeeMapper;
-    private final RestTemplate restTemplate;
-
-    @Value("${employee.data.url}")
-    private String employeeDataUrl;
-
-    public EmployeeService(EmployeeMapper employeeMapper, RestTemplate restTemplate, @Value("${employee.data.url}") String employeeDataUrl) {
+    private final EmployeeDataClient employeeDataClient;
+    private final EmployeeCache employeeCache;
+    private final EmployeeReadModel employeeReadModel;
+    private final EmployeeIdFilter employeeIdFilter;
+    private final LastKnownGoodStore lastKnownGoodStore;
+    private final UpdateCoalescer updateCoalescer;
+    private final EmployeeLookupBatcher employeeLookupBatcher;
+
+    public EmployeeService(EmployeeMapper employeeMapper, EmployeeDataClient employeeDataClient,
+                           EmployeeCache employeeCache, EmployeeReadModel employeeReadModel,
+                           EmployeeIdFilter employeeIdFilter, LastKnownGoodStore lastKnownGoodStore,
+                           UpdateCoalescer updateCoalescer, EmployeeLookupBatcher employeeLookupBatcher) {
         this.employeeMapper = employeeMapper;
-        this.restTemplate = restTemplate;
-        this.employeeDataUrl = employeeDataUrl;
+        this.employeeDataClient = employeeDataClient;
+        this.employeeCache = employeeCache;
+        this.employeeReadModel = employeeReadModel;
+        this.employeeIdFilter = employeeIdFilter;
+        this.lastKnownGoodStore = lastKnownGoodStore;
+        this.updateCoalescer = updateCoalescer;
+        this.employeeLookupBatcher = employeeLookupBatcher;
     }
 
-    @Retryable(
-            value = {RestClientException.class, RuntimeException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000)
-    )
     public EmployeeApiResponseDto createEmployee(EmployeeApiRequestDto employeeRequest) {
         logger.info("Creating employee with role: {}", employeeRequest.getRole());
 
         employeeRequest.getValidatedRole();
 
-        EmployeeDataRequestDto app2Request = employeeMapper.toEmployeeDataRequest(employeeRequest);
+        EmployeeRequest app2Request = employeeMapper.toEmployeeDataRequest(employeeRequest);
 
-        EmployeeDataResponseDto app2Response = restTemplate.postForObject(employeeDataUrl, app2Request, EmployeeDataResponseDto.class);
+        EmployeeResponse app2Response = employeeDataClient.createEmployee(app2Request);
 
         validateApp2Response(app2Response);
 
+        // Don't wait for the change event before this node can look the employee up
+        employeeIdFilter.add(app2Response.id());
+
         return mapApp2ResponseToApiResponse(app2Response);
     }
 
     public EmployeeApiResponseDto getEmployeeById(Long id) {
+        return readEmployeeById(id).getValue();
+    }
+
+    /**
+     * Like {@link #getEmployeeById}, but tells whether the employee is a stale copy served
+     * while employee-data failed or was too slow.
+     */
+    public ReadResult<EmployeeApiResponseDto> readEmployeeById(Long id) {
+        return findEmployee(id, null).map(this::mapApp2ResponseToApiResponse);
+    }
+
+    /**
+     * Returns only the requested fields of an employee. Cached or replicated employees are
+     * projected locally; otherwise only the underlying fields are requested from employee-data,
+     * and the partial response is not cached.
+     */
+    public Map<String, Object> getEmployeeFieldsById(Long id, Set<EmployeeField> fields) {
+        return readEmployeeFieldsById(id, fields).getValue();
+    }
+
+    /**
+     * Like {@link #getEmployeeFieldsById}, but tells whether the fields come from a stale copy.
+     */
+    public ReadResult<Map<String, Object>> readEmployeeFieldsById(Long id, Set<EmployeeField> fields) {
+        return findEmployee(id, fields).map(employee -> project(employee, fields));
+    }
+
+    private Map<String, Object> project(EmployeeResponse employee, Set<EmployeeField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (EmployeeField field : fields) {
+            values.put(field.getFieldName(), switch (field) {
+                case ID -> employee.id();
+                case FIRST_NAME -> EmployeeNames.firstName(employee.name());
+                case SURNAME -> EmployeeNames.surname(employee.name());
+                case ROLE -> employee.roleId() == null ? null : employeeMapper.mapRoleIdToRole(employee.roleId());
+            });
+        }
+        return values;
+    }
+
+    /**
+     * Looks an employee up in the replica, the cache or employee-data, in that order. If
+     * employee-data fails or is too slow, the last copy read from it may be returned instead.
+     *
+     * @param fields the fields needed, or {@code null} for the full employee
+     */
+    private ReadResult<EmployeeResponse> findEmployee(Long id, Set<EmployeeField> fields) {
         logger.info("Fetching employee by ID: {}", id);
-        String url = String.format("%s/%d", employeeDataUrl, id);
+
+        if (employeeReadModel.isServing()) {
+            EmployeeResponse replicated = employeeReadModel.get(id);
+            if (replicated == null) {
+                throw new EmployeeNotFoundException("Employee not found with ID: " + id);
+            }
+            return ReadResult.fresh(replicated);
+        }
+
+        if (!employeeIdFilter.mightExist(id)) {
+            throw new EmployeeNotFoundException("Employee not found with ID: " + id);
+        }
+
+        EmployeeResponse cached = employeeCache.get(id);
+        if (cached != null) {
+            return ReadResult.fresh(cached);
+        }
+
+        return lastKnownGoodStore.read(id, fields, () -> fetchEmployee(id, fields));
+    }
+
+    private EmployeeResponse fetchEmployee(Long id, Set<EmployeeField> fields) {
+        long cacheGeneration = employeeCache.generation();
+        long storeGeneration = lastKnownGoodStore.generation();
 
         try {
-            // Fetch employee data from App2
-            EmployeeDataResponseDto app2Response = restTemplate.getForObject(url, EmployeeDataResponseDto.class);
+            // Fetch employee data from App2; full reads are batched with concurrent lookups
+            EmployeeResponse app2Response = fields == null
+                    ? employeeLookupBatcher.get(id)
+                    : employeeDataClient.getEmployee(id, fields);
 
             // Log the raw response for debugging purposes
             logger.info("Received response from App2: {}", app2Response);
 
+            if (fields != null) {
+                if (app2Response == null) {
+                    throw new RuntimeException("Invalid response from App2: Response is null.");
+                }
+                return app2Response;
+            }
+
             // Ensure the response from App2 is valid
             validateApp2Response(app2Response);
 
             // Log the mapped response
             logger.info("Mapped response: {}", app2Response);
 
-            // Transform App2 response to App1 response
-            return mapApp2ResponseToApiResponse(app2Response);
+            employeeCache.put(id, app2Response, cacheGeneration);
+            lastKnownGoodStore.remember(id, app2Response, storeGeneration);
+
+            return app2Response;
 
         } catch (HttpClientErrorException.NotFound e) {
             logger.error("Employee with ID {} not found", id);
+            lastKnownGoodStore.forget(id);
             throw new EmployeeNotFoundException("Employee not found with ID: " + id);
+        } catch (RequestShedException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error occurred while fetching employee with ID {}: {}", id, e.getMessage());
-            throw new RuntimeException("Unexpected error while fetching employee: " + e.getMessage());
+            throw new RuntimeException("Unexpected error while fetching employee: " + e.getMessage(), e);
         }
     }
 
@@ -97,25 +194,27 @@ public class EmployeeService {
         employeeRequest.setRole(validatedRole.name());
 
         // Map the request using EmployeeMapper
-        EmployeeDataRequestDto app2Request = employeeMapper.toEmployeeDataRequest(employeeRequest);
-
-        // Create the URL for the PUT request
-        String url = String.format("%s/%d", employeeDataUrl, id);
+        EmployeeRequest app2Request = employeeMapper.toEmployeeDataRequest(employeeRequest);
 
-        // Perform the PUT request to App2
-        ResponseEntity<EmployeeDataResponseDto> responseEntity = restTemplate.exchange(
-                url,
-                HttpMethod.PUT,
-                new HttpEntity<>(app2Request),
-                EmployeeDataResponseDto.class
-        );
-
-        // Extract the response body
-        EmployeeDataResponseDto app2Response = responseEntity.getBody();
+        // Perform the update in App2, merged with other updates of the employee if coalescing is on
+        long storeGeneration = lastKnownGoodStore.generation();
+        EmployeeResponse app2Response;
+        try {
+            app2Response = updateCoalescer.update(id, app2Request,
+                    request -> employeeDataClient.updateEmployee(id, request));
+        } catch (HttpClientErrorException.NotFound e) {
+            logger.error("Employee with ID {} not found", id);
+            lastKnownGoodStore.forget(id);
+            throw new EmployeeNotFoundException("Employee not found with ID: " + id);
+        }
 
         // Validate the response
         validateApp2Response(app2Response);
 
+        // Don't wait for the change event to reach this node
+        employeeCache.invalidate(id);
+        lastKnownGoodStore.remember(id, app2Response, storeGeneration);
+
         // Map App2 response to App1 response and return
         return mapApp2ResponseToApiResponse(app2Response);
     }
@@ -124,10 +223,11 @@ public class EmployeeService {
 
     public void deleteEmployee(Long id) {
         logger.info("Deleting employee with ID: {}", id);
-        String url = String.format("%s/%d", employeeDataUrl, id);
 
         try {
-            restTemplate.delete(url);
+            employeeDataClient.deleteEmployee(id);
+            employeeCache.invalidate(id);
+            lastKnownGoodStore.forget(id);
             logger.info("Employee with ID {} deleted successfully", id);
         } catch (HttpClientErrorException.NotFound e) {
             logger.error("Employee with ID {} not found", id);
@@ -135,26 +235,22 @@ public class EmployeeService {
         } catch (HttpClientErrorException e) {
             logger.error("HTTP error while deleting employee with ID {}: {}", id, e.getStatusCode());
             throw new RuntimeException("Unexpected HTTP error while deleting employee: " + e.getStatusCode());
+        } catch (RequestShedException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Unexpected error while deleting employee with ID {}: {}", id, e.getMessage());
             throw new RuntimeException("Unexpected error while deleting employee: " + e.getMessage());
         }
     }
 
-    @Recover
-    public EmployeeApiResponseDto recover(RuntimeException e, EmployeeApiRequestDto employeeRequest) {
-        logger.error("All retries failed for creating employee: {}", employeeRequest, e);
-        throw new RuntimeException("Failed to create employee after retries: " + employeeRequest.getFirstName());
-    }
-
-    private EmployeeApiResponseDto mapApp2ResponseToApiResponse(EmployeeDataResponseDto app2Response) {
+    private EmployeeApiResponseDto mapApp2ResponseToApiResponse(EmployeeResponse app2Response) {
         return employeeMapper.toApp1Response(app2Response);
     }
-    private void validateApp2Response(EmployeeDataResponseDto app2Response) {
+    private void validateApp2Response(EmployeeResponse app2Response) {
         if (app2Response == null) {
             throw new RuntimeException("Invalid response from App2: Response is null.");
         }
-        if (app2Response.getId() == null || app2Response.getName() == null || app2Response.getRoleId() == null) {
+        if (app2Response.id() == null || app2Response.name() == null || app2Response.roleId() == null) {
             throw new RuntimeException("Invalid response from App2: Required fields are missing.");
         }
     }
@@ -0,0 +1,212 @@
+package com.naiomi.employee.api.service;
+
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Merges bursts of updates to the same employee into one call to employee-data, last write wins.
+ * <p>
+ * The first update of an employee opens a batch and waits for the coalescing window. Updates of
+ * the same employee arriving in the meantime replace the request of the batch and wait with it.
+ * When the window closes, only the last request is sent, on the thread of the first update, and
+ * every update of the batch returns its result or fails with its error. Batches of the same
+ * employee are sent one after the other, so an older batch never overwrites a newer one.
+ * </p>
+ * <p>
+ * Every coalesced update pays the window, which only makes sense for routes whose callers send
+ * bursts, so each route opts in: {@code employee.coalesce.updates.routes} lists them as
+ * {@code METHOD /pattern}, with the path pattern as declared on the controller, e.g.
+ * {@code PUT /employees/{id}}. Updates made on other routes, or outside a request, are sent
+ * directly. No route is listed by default. {@code employee.coalesce.ratio} reports how many
+ * updates each call to employee-data carried.
+ * </p>
+ */
+@Component
+public class UpdateCoalescer {
+
+    private final Set<String> routes;
+    private final long windowMs;
+    private final ConcurrentMap<Long, Batch> batches = new ConcurrentHashMap<>();
+    private final Counter updates;
+    private final Counter calls;
+    private final DistributionSummary batchSize;
+
+    public UpdateCoalescer(MeterRegistry meterRegistry,
+                           @Value("${employee.coalesce.updates.routes:}") List<String> routes,
+                           @Value("${employee.coalesce.updates.window-ms:20}") long windowMs) {
+        this.routes = parseRoutes(routes);
+        this.windowMs = windowMs;
+        this.updates = Counter.builder("employee.coalesce.updates")
+                .description("Employee updates received on routes that coalesce them")
+                .register(meterRegistry);
+        this.calls = Counter.builder("employee.coalesce.calls")
+                .description("Employee updates sent to employee-data after coalescing")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("employee.coalesce.batch.size")
+                .description("Updates merged into one call to employee-data")
+                .register(meterRegistry);
+        Gauge.builder("employee.coalesce.ratio", this, UpdateCoalescer::ratio)
+                .description("Updates received per call to employee-data")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Updates an employee, together with other updates of the same employee if the route of the
+     * current request coalesces updates.
+     *
+     * @param send the call to employee-data, made with the last request of the batch
+     * @return the employee as written by the last request of the batch
+     */
+    public EmployeeResponse update(Long id, EmployeeRequest request, Function<EmployeeRequest, EmployeeResponse> send) {
+        return update(currentRoute(), id, request, send);
+    }
+
+    /**
+     * @param route the route of the update as {@code METHOD /pattern}, or {@code null} outside a request
+     */
+    EmployeeResponse update(String route, Long id, EmployeeRequest request,
+                            Function<EmployeeRequest, EmployeeResponse> send) {
+        if (route == null || !routes.contains(route)) {
+            return send.apply(request);
+        }
+        Batch[] opened = new Batch[1];
+        Batch batch = batches.compute(id, (key, latest) -> {
+            if (latest != null && latest.open) {
+                latest.request = request;
+                latest.size++;
+                return latest;
+            }
+            opened[0] = new Batch(request, latest);
+            return opened[0];
+        });
+        updates.increment();
+        return opened[0] != null ? send(id, batch, send) : batch.await(id);
+    }
+
+    /**
+     * @return the route of the request handled by the current thread as {@code METHOD /pattern},
+     *         or {@code null} if there is none
+     */
+    static String currentRoute() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? request.getMethod() + " " + pattern : null;
+    }
+
+    private static Set<String> parseRoutes(List<String> routes) {
+        Set<String> parsed = new HashSet<>();
+        for (String route : routes) {
+            if (route.isBlank()) {
+                continue;
+            }
+            String[] parts = route.trim().split("\\s+");
+            if (parts.length != 2 || !parts[1].startsWith("/")) {
+                throw new IllegalArgumentException("Invalid coalescing route '" + route + "', expected METHOD /pattern");
+            }
+            parsed.add(parts[0].toUpperCase(Locale.ROOT) + " " + parts[1]);
+        }
+        return Set.copyOf(parsed);
+    }
+
+    double ratio() {
+        double sent = calls.count();
+        return sent == 0 ? Double.NaN : updates.count() / sent;
+    }
+
+    /**
+     * Waits for the window, closes the batch and sends its last request once the previous batch of
+     * the employee has been sent.
+     */
+    private EmployeeResponse send(Long id, Batch batch, Function<EmployeeRequest, EmployeeResponse> send) {
+        boolean interrupted = false;
+        try {
+            Thread.sleep(windowMs);
+        } catch (InterruptedException e) {
+            // The updates waiting in the batch are still sent, just earlier
+            interrupted = true;
+        }
+
+        // Merges happen inside compute too, so nothing is added once the batch is closed
+        Merged[] merged = new Merged[1];
+        batches.computeIfPresent(id, (key, latest) -> {
+            batch.open = false;
+            merged[0] = new Merged(batch.request, batch.size);
+            return latest;
+        });
+
+        if (batch.previous != null) {
+            batch.previous.result.handle((response, failure) -> null).join();
+            batch.previous = null;
+        }
+
+        calls.increment();
+        batchSize.record(merged[0].size());
+        try {
+            EmployeeResponse response = send.apply(merged[0].request());
+            batch.result.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            batch.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            batches.remove(id, batch);
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private record Merged(EmployeeRequest request, int size) {
+    }
+
+    private static final class Batch {
+
+        private final CompletableFuture<EmployeeResponse> result = new CompletableFuture<>();
+        private EmployeeRequest request;
+        private int size = 1;
+        private boolean open = true;
+        private Batch previous;
+
+        Batch(EmployeeRequest request, Batch previous) {
+            this.request = request;
+            this.previous = previous;
+        }
+
+        EmployeeResponse await(Long id) {
+            try {
+                return result.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the update of employee " + id, e);
+            }
+        }
+    }
+}
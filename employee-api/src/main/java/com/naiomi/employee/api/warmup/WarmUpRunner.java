@@ -0,0 +1,194 @@
+package com.naiomi.employee.api.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naiomi.employee.api.dto.EmployeeApiRequestDto;
+import com.naiomi.employee.api.dto.EmployeeApiResponseDto;
+import com.naiomi.employee.api.mapper.EmployeeMapper;
+import com.naiomi.employee.api.model.Role;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import com.naiomi.employee.contract.json.JsonCodecs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a time-boxed warm-up phase before the application reports itself ready.
+ * <p>
+ * Spring Boot only publishes {@link ReadinessState#ACCEPTING_TRAFFIC} after every
+ * {@link ApplicationRunner} has returned, so the readiness probe stays down until the
+ * mapper, the JSON codecs, Jackson and the downstream connections to employee-data have been exercised.
+ * </p>
+ */
+@Component
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmUpRunner.class);
+
+    private static final byte[] SAMPLE_DATA_RESPONSE =
+            "{\"id\":1,\"name\":\"Warm Up\",\"roleId\":1}".getBytes();
+
+    private final EmployeeMapper employeeMapper;
+    private final ObjectMapper objectMapper;
+    private final RestTemplate restTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApplicationStartup applicationStartup;
+    private final String employeeDataUrl;
+    private final boolean enabled;
+    private final long budgetMs;
+    private final int iterations;
+    private final int connections;
+
+    public WarmUpRunner(EmployeeMapper employeeMapper,
+                        ObjectMapper objectMapper,
+                        RestTemplate restTemplate,
+                        ApplicationEventPublisher eventPublisher,
+                        ApplicationStartup applicationStartup,
+                        @Value("${employee.data.url}") String employeeDataUrl,
+                        @Value("${warmup.enabled:true}") boolean enabled,
+                        @Value("${warmup.budget-ms:10000}") long budgetMs,
+                        @Value("${warmup.iterations:2000}") int iterations,
+                        @Value("${warmup.connections:4}") int connections) {
+        this.employeeMapper = employeeMapper;
+        this.objectMapper = objectMapper;
+        this.restTemplate = restTemplate;
+        this.eventPublisher = eventPublisher;
+        this.applicationStartup = applicationStartup;
+        this.employeeDataUrl = employeeDataUrl;
+        this.enabled = enabled;
+        this.budgetMs = budgetMs;
+        this.iterations = iterations;
+        this.connections = connections;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            logger.info("Warm-up disabled");
+            return;
+        }
+
+        // Make the state explicit for anyone polling the readiness probe while we run
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+
+        StartupStep step = applicationStartup.start("employee.warmup");
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+
+        int completed = warmUpInProcess(deadline);
+        int opened = warmUpConnections(deadline);
+
+        step.tag("iterations", String.valueOf(completed)).tag("connections", String.valueOf(opened)).end();
+
+        logger.info("Warm-up finished in {} ms: {}/{} in-process iterations, {}/{} downstream connections opened",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), completed, iterations, opened, connections);
+    }
+
+    /**
+     * Pushes synthetic requests through {@link EmployeeMapper}, the contract codecs (employee-data
+     * side) and Jackson (client side) in both directions.
+     *
+     * @param deadline the {@link System#nanoTime()} value at which to stop
+     * @return the number of iterations completed
+     */
+    int warmUpInProcess(long deadline) {
+        Role[] roles = Role.values();
+        int completed = 0;
+        try {
+            while (completed < iterations && System.nanoTime() < deadline) {
+                EmployeeApiRequestDto request = new EmployeeApiRequestDto();
+                request.setFirstName("Warm");
+                request.setSurname("Up");
+                request.setRole(roles[completed % roles.length].name());
+
+                EmployeeRequest dataRequest = employeeMapper.toEmployeeDataRequest(request);
+                JsonCodecs.writeValueAsBytes(dataRequest);
+
+                EmployeeResponse dataResponse =
+                        JsonCodecs.readValue(SAMPLE_DATA_RESPONSE, EmployeeResponse.class);
+                EmployeeApiResponseDto response = employeeMapper.toApp1Response(dataResponse);
+                objectMapper.writeValueAsBytes(response);
+
+                completed++;
+            }
+        } catch (IOException e) {
+            logger.warn("In-process warm-up stopped after {} iterations: {}", completed, e.getMessage());
+        }
+        return completed;
+    }
+
+    /**
+     * Opens {@code warmup.connections} concurrent connections to employee-data so that the
+     * client keeps them alive for the first real requests. Any HTTP status counts as success,
+     * since the connection was established either way.
+     *
+     * @param deadline the {@link System#nanoTime()} value at which to stop waiting
+     * @return the number of connections that reached employee-data
+     */
+    int warmUpConnections(long deadline) {
+        if (connections <= 0) {
+            return 0;
+        }
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            logger.warn("Warm-up budget exhausted before opening downstream connections");
+            return 0;
+        }
+
+        String url = String.format("%s/%d", employeeDataUrl, 0);
+        List<Callable<Boolean>> calls = new ArrayList<>();
+        for (int i = 0; i < connections; i++) {
+            calls.add(() -> {
+                try {
+                    restTemplate.getForObject(url, EmployeeResponse.class);
+                    return true;
+                } catch (HttpStatusCodeException e) {
+                    return true;
+                } catch (Exception e) {
+                    logger.debug("Warm-up call to {} failed: {}", url, e.getMessage());
+                    return false;
+                }
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(connections);
+        int opened = 0;
+        try {
+            for (Future<Boolean> result : executor.invokeAll(calls, remaining, TimeUnit.NANOSECONDS)) {
+                if (!result.isCancelled() && result.get()) {
+                    opened++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.warn("Downstream warm-up failed: {}", e.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (opened == 0) {
+            logger.warn("Warm-up could not reach employee-data at {}", employeeDataUrl);
+        }
+        return opened;
+    }
+}
@@ -0,0 +1,50 @@
+package com.naiomi.employee.api.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Inserted values are always found")
+    void testNoFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (long id = 1; id <= 10_000; id++) {
+            filter.put(id);
+        }
+        for (long id = 1; id <= 10_000; id++) {
+            assertTrue(filter.mightContain(id), "missing " + id);
+        }
+    }
+
+    @Test
+    @DisplayName("False-positive rate stays close to the target at capacity")
+    void testFalsePositiveRate() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (long id = 1; id <= 10_000; id++) {
+            filter.put(id);
+        }
+
+        int falsePositives = 0;
+        for (long id = 1_000_000; id < 1_100_000; id++) {
+            if (filter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 1_500, "false positives: " + falsePositives);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.002);
+        assertEquals(7, filter.hashCount());
+        // About 9.6 bits per value
+        assertTrue(filter.sizeInBytes() < 12_500, "bytes: " + filter.sizeInBytes());
+    }
+
+    @Test
+    @DisplayName("Invalid sizing is rejected")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(1000, 1.0));
+    }
+}
@@ -0,0 +1,76 @@
+package com.naiomi.employee.api.cache;
+
+import com.naiomi.employee.contract.EmployeeResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeCacheTest {
+
+    private EmployeeCache employeeCache;
+
+    @BeforeEach
+    void setUp() {
+        employeeCache = new EmployeeCache(true, 3600, 1000);
+        employeeCache.setConsistent(true);
+    }
+
+    @Test
+    @DisplayName("Cached lookup is returned until invalidated")
+    void testPutAndInvalidate() {
+        employeeCache.put(1L, employee(1L, 1L), employeeCache.generation());
+        assertNotNull(employeeCache.get(1L));
+
+        employeeCache.invalidate(1L);
+        assertNull(employeeCache.get(1L));
+    }
+
+    @Test
+    @DisplayName("Lookup overlapping an invalidation is not cached")
+    void testStaleLookupNotCached() {
+        long generation = employeeCache.generation();
+        employeeCache.invalidate(1L);
+
+        employeeCache.put(1L, employee(1L, 1L), generation);
+        assertNull(employeeCache.get(1L));
+    }
+
+    @Test
+    @DisplayName("Role invalidation only drops employees with that role")
+    void testInvalidateRole() {
+        employeeCache.put(1L, employee(1L, 1L), employeeCache.generation());
+        employeeCache.put(2L, employee(2L, 2L), employeeCache.generation());
+
+        employeeCache.invalidateRole(2L);
+
+        assertNotNull(employeeCache.get(1L));
+        assertNull(employeeCache.get(2L));
+    }
+
+    @Test
+    @DisplayName("Cache is bypassed while not consistent")
+    void testBypassedWhileInconsistent() {
+        employeeCache.put(1L, employee(1L, 1L), employeeCache.generation());
+        employeeCache.setConsistent(false);
+
+        assertNull(employeeCache.get(1L));
+        employeeCache.put(1L, employee(1L, 1L), employeeCache.generation());
+        employeeCache.setConsistent(true);
+        assertNull(employeeCache.get(1L));
+    }
+
+    @Test
+    @DisplayName("Disabled cache never stores anything")
+    void testDisabled() {
+        EmployeeCache disabled = new EmployeeCache(false, 3600, 1000);
+        disabled.setConsistent(true);
+        disabled.put(1L, employee(1L, 1L), disabled.generation());
+        assertNull(disabled.get(1L));
+    }
+
+    private static EmployeeResponse employee(Long id, Long roleId) {
+        return new EmployeeResponse(id, "John Doe", roleId);
+    }
+}
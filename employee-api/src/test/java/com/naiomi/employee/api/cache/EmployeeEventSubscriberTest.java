@@ -0,0 +1,99 @@
+package com.naiomi.employee.api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naiomi.employee.contract.EmployeeResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.jetty.client.HttpClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeEventSubscriberTest {
+
+    private EmployeeCache employeeCache;
+    private EmployeeIdFilter employeeIdFilter;
+    private LastKnownGoodStore lastKnownGoodStore;
+    private EmployeeEventSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        employeeCache = new EmployeeCache(true, 3600, 1000);
+        employeeIdFilter = new EmployeeIdFilter(new RestTemplate(), new SimpleMeterRegistry(),
+                "http://localhost/api/employees", true, 0.01, 1000, 600000);
+        lastKnownGoodStore = new LastKnownGoodStore(new SimpleMeterRegistry(), true, 1000, 3600, 500, 1, 16);
+        subscriber = new EmployeeEventSubscriber(employeeCache, employeeIdFilter, lastKnownGoodStore, new HttpClient(),
+                new ObjectMapper(), "http://localhost/api/employees/events", 45000, 1000);
+    }
+
+    @Test
+    @DisplayName("Ready event makes the cache consistent and records the position")
+    void testReady() {
+        stream("id:abc:3", "event:ready", "data:", "");
+
+        assertTrue(employeeCache.isActive());
+        assertEquals("abc:3", subscriber.getLastEventId());
+    }
+
+    @Test
+    @DisplayName("Change event invalidates only the affected employee")
+    void testChange() {
+        stream("event:ready", "data:", "");
+        cache(1L, 1L);
+        cache(2L, 1L);
+
+        stream(": heartbeat", "", "id:abc:4", "event:change", "data:{\"type\":\"UPDATED\",\"employeeId\":2,\"roleId\":1,\"sequence\":4}", "");
+
+        assertNotNull(employeeCache.get(1L));
+        assertNull(employeeCache.get(2L));
+        assertEquals("abc:4", subscriber.getLastEventId());
+    }
+
+    @Test
+    @DisplayName("Role-deleted event invalidates employees with that role")
+    void testRoleDeleted() {
+        stream("event:ready", "data:", "");
+        cache(1L, 1L);
+        cache(2L, 3L);
+
+        stream("event:change", "data:{\"type\":\"ROLE_DELETED\",\"employeeId\":null,\"roleId\":3}", "");
+
+        assertNotNull(employeeCache.get(1L));
+        assertNull(employeeCache.get(2L));
+    }
+
+    @Test
+    @DisplayName("Deleted event drops the stale copy of the employee")
+    void testDeletedForgetsStaleCopy() {
+        stream("event:ready", "data:", "");
+        lastKnownGoodStore.remember(1L, new EmployeeResponse(1L, "John Doe", 1L), lastKnownGoodStore.generation());
+        lastKnownGoodStore.remember(2L, new EmployeeResponse(2L, "Jane Doe", 1L), lastKnownGoodStore.generation());
+
+        stream("event:change", "data:{\"type\":\"DELETED\",\"employeeId\":2,\"roleId\":null}", "");
+
+        assertEquals(1, lastKnownGoodStore.size());
+    }
+
+    @Test
+    @DisplayName("Reset event drops the whole cache")
+    void testReset() {
+        stream("event:ready", "data:", "");
+        cache(1L, 1L);
+
+        stream("event:reset", "data:", "");
+
+        assertNull(employeeCache.get(1L));
+    }
+
+    private void stream(String... lines) {
+        for (String line : lines) {
+            subscriber.onLine(line);
+        }
+    }
+
+    private void cache(Long id, Long roleId) {
+        employeeCache.put(id, new EmployeeResponse(id, "John Doe", roleId), employeeCache.generation());
+    }
+}
@@ -0,0 +1,139 @@
+package com.naiomi.employee.api.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class EmployeeIdFilterTest {
+
+    private static final String EMPLOYEE_DATA_URL = "http://localhost:9091/api/employees";
+
+    private MockRestServiceServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeIdFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new EmployeeIdFilter(restTemplate, meterRegistry, EMPLOYEE_DATA_URL, true, 0.01, 1000, 600000);
+    }
+
+    @Test
+    @DisplayName("Unknown IDs are rejected once the filter is built")
+    void testRejectsUnknownIds() {
+        expectIds("[1,2,3,10]");
+        filter.resume();
+        filter.rebuild();
+
+        assertTrue(filter.isActive());
+        assertTrue(filter.mightExist(2));
+        assertFalse(filter.mightExist(5));
+        assertEquals(0.5, filter.getRejectRate());
+        assertEquals(1.0, meterRegistry.get("employee.idfilter.lookups").tag("result", "rejected").counter().count());
+        assertTrue(meterRegistry.get("employee.idfilter.memory").gauge().value() > 0);
+    }
+
+    @Test
+    @DisplayName("IDs above the highest known ID are passed through")
+    void testNewerIdsPassed() {
+        expectIds("[1,2,3]");
+        filter.resume();
+        filter.rebuild();
+
+        assertTrue(filter.mightExist(4));
+        assertEquals(1.0, meterRegistry.get("employee.idfilter.lookups").tag("result", "bypassed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Created employees are added")
+    void testAdd() {
+        expectIds("[1,2,3,10]");
+        filter.resume();
+        filter.rebuild();
+
+        filter.add(5);
+
+        assertTrue(filter.mightExist(5));
+        assertEquals(5, filter.size());
+    }
+
+    @Test
+    @DisplayName("IDs below an out-of-order creation are passed through until they are seen")
+    void testOutOfOrderCreation() {
+        expectIds("[1,2,3]");
+        filter.resume();
+        filter.rebuild();
+
+        // 6 is committed before 4 and 5
+        filter.add(6);
+        assertTrue(filter.mightExist(4));
+        assertTrue(filter.mightExist(5));
+        assertEquals(2.0, lookups("bypassed"));
+
+        filter.add(4);
+        filter.add(5);
+        assertTrue(filter.mightExist(6));
+        assertEquals(1.0, lookups("passed"));
+        assertTrue(filter.mightExist(7));
+        assertEquals(3.0, lookups("bypassed"));
+    }
+
+    @Test
+    @DisplayName("A rebuild covers IDs up to the highest one in employee-data")
+    void testRebuildRaisesHighestKnownId() {
+        expectIds("[1,2,3]");
+        expectIds("[1,2,3,6]");
+        filter.resume();
+        filter.rebuild();
+        filter.add(6);
+
+        filter.rebuild();
+
+        assertFalse(filter.mightExist(4));
+        assertTrue(filter.mightExist(6));
+        assertEquals(0.0, lookups("bypassed"));
+    }
+
+    @Test
+    @DisplayName("Filter is bypassed before it is built and after the event stream is lost")
+    void testBypassedWhenNotSubscribed() {
+        assertTrue(filter.mightExist(5));
+
+        expectIds("[1,2,3,10]");
+        filter.resume();
+        filter.rebuild();
+        filter.suspend();
+
+        assertFalse(filter.isActive());
+        assertTrue(filter.mightExist(5));
+    }
+
+    @Test
+    @DisplayName("Disabled filter never rejects")
+    void testDisabled() {
+        EmployeeIdFilter disabled = new EmployeeIdFilter(new RestTemplate(), meterRegistry, EMPLOYEE_DATA_URL,
+                false, 0.01, 1000, 600000);
+        disabled.resume();
+        disabled.rebuild();
+
+        assertTrue(disabled.mightExist(5));
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("employee.idfilter.lookups").tag("result", result).counter().count();
+    }
+
+    private void expectIds(String ids) {
+        server.expect(requestTo(EMPLOYEE_DATA_URL + "/ids")).andRespond(withSuccess(ids, MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,155 @@
+package com.naiomi.employee.api.cache;
+
+import com.naiomi.employee.contract.EmployeeResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LastKnownGoodStoreTest {
+
+    private LastKnownGoodStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new LastKnownGoodStore(new SimpleMeterRegistry(), true, 1000, 3600, 200, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.stop();
+    }
+
+    @Test
+    @DisplayName("Without a stored copy the read is not masked")
+    void testNoCopy() {
+        assertThrows(IllegalStateException.class, () -> store.read(1L, () -> {
+            throw new IllegalStateException("down");
+        }));
+    }
+
+    @Test
+    @DisplayName("Rejected requests are not masked, rate limiting is")
+    void testClientErrors() {
+        store.remember(1L, employee(1L, 1L), store.generation());
+
+        assertThrows(HttpClientErrorException.class, () -> store.read(1L, () -> {
+            throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null);
+        }));
+        ReadResult<EmployeeResponse> result = store.read(1L, () -> {
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null);
+        });
+        assertTrue(result.isStale());
+    }
+
+    @Test
+    @DisplayName("Concurrent reads of the same employee share one call")
+    void testConcurrentReadsShareCall() throws Exception {
+        store.remember(1L, employee(1L, 1L), store.generation());
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        List<ReadResult<EmployeeResponse>> results = readConcurrently(List.of(1L, 1L, 1L, 1L), id -> {
+            calls.incrementAndGet();
+            await(release);
+            return employee(id, 2L);
+        });
+        release.countDown();
+
+        assertEquals(1, calls.get());
+        assertTrue(results.stream().allMatch(result -> LastKnownGoodStore.REASON_TIMEOUT.equals(result.getStaleReason())));
+    }
+
+    @Test
+    @DisplayName("Reads beyond the threads and queue are answered stale straight away")
+    void testOverload() throws Exception {
+        for (long id = 1; id <= 4; id++) {
+            store.remember(id, employee(id, 1L), store.generation());
+        }
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        // One thread and one queued call, so two of the four reads are rejected
+        List<ReadResult<EmployeeResponse>> results = readConcurrently(List.of(1L, 2L, 3L, 4L), id -> {
+            calls.incrementAndGet();
+            await(release);
+            return employee(id, 2L);
+        });
+        release.countDown();
+
+        assertTrue(results.stream().allMatch(ReadResult::isStale));
+        assertEquals(2, results.stream()
+                .filter(result -> LastKnownGoodStore.REASON_OVERLOAD.equals(result.getStaleReason()))
+                .count());
+        assertTrue(calls.get() <= 2);
+    }
+
+    @Test
+    @DisplayName("Deleting a role forgets the employees with that role")
+    void testForgetRole() {
+        store.remember(1L, employee(1L, 1L), store.generation());
+        store.remember(2L, employee(2L, 3L), store.generation());
+
+        store.forgetRole(3L);
+
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("Disabled store never serves stale")
+    void testDisabled() {
+        store.stop();
+        store = new LastKnownGoodStore(new SimpleMeterRegistry(), false, 1000, 3600, 200, 1, 1);
+        store.remember(1L, employee(1L, 1L), store.generation());
+
+        assertEquals(0, store.size());
+        assertThrows(IllegalStateException.class, () -> store.read(1L, () -> {
+            throw new IllegalStateException("down");
+        }));
+    }
+
+    private List<ReadResult<EmployeeResponse>> readConcurrently(List<Long> ids, Function<Long, EmployeeResponse> fetch)
+            throws Exception {
+        ExecutorService readers = Executors.newFixedThreadPool(ids.size());
+        try {
+            List<Future<ReadResult<EmployeeResponse>>> futures = new ArrayList<>();
+            for (Long id : ids) {
+                futures.add(readers.submit(() -> store.read(id, () -> fetch.apply(id))));
+            }
+            List<ReadResult<EmployeeResponse>> results = new ArrayList<>();
+            for (Future<ReadResult<EmployeeResponse>> future : futures) {
+                results.add(future.get(5, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            readers.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static EmployeeResponse employee(Long id, Long roleId) {
+        return new EmployeeResponse(id, "John Doe", roleId);
+    }
+}
@@ -0,0 +1,92 @@
+package com.naiomi.employee.api.client;
+
+import com.naiomi.employee.api.retry.RetryPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.ResponseActions;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class RestEmployeeDataClientTest {
+
+    private static final String EMPLOYEE_DATA_URL = "http://localhost:9091/api/employees";
+
+    private MockRestServiceServer server;
+    private RestEmployeeDataClient client;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        client = new RestEmployeeDataClient(restTemplate,
+                new RetryPolicy(new SimpleMeterRegistry(), 3, 1, 1, 0.1, 10), EMPLOYEE_DATA_URL);
+    }
+
+    @Test
+    @DisplayName("A delete whose answer was lost succeeds when the retry finds the employee gone")
+    void testDeleteAppliedBeforeFailure() {
+        expectDelete().andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+        expectDelete().andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        assertDoesNotThrow(() -> client.deleteEmployee(5L));
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("A delete that timed out succeeds when the retry finds the employee gone")
+    void testDeleteTimedOut() {
+        expectDelete().andRespond(withException(new SocketTimeoutException("Read timed out")));
+        expectDelete().andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        assertDoesNotThrow(() -> client.deleteEmployee(5L));
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("A delete that never reached employee-data still reports a missing employee")
+    void testDeleteNotSent() {
+        expectDelete().andRespond(withException(new ConnectException("Connection refused")));
+        expectDelete().andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        assertThrows(HttpClientErrorException.NotFound.class, () -> client.deleteEmployee(5L));
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("A delete of a missing employee is not retried")
+    void testDeleteMissing() {
+        expectDelete().andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        assertThrows(HttpClientErrorException.NotFound.class, () -> client.deleteEmployee(5L));
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("A delete is retried after a server error")
+    void testDeleteRetried() {
+        expectDelete().andRespond(withStatus(HttpStatus.GATEWAY_TIMEOUT));
+        expectDelete().andRespond(withSuccess());
+
+        assertDoesNotThrow(() -> client.deleteEmployee(5L));
+        server.verify();
+    }
+
+    private ResponseActions expectDelete() {
+        return server.expect(requestTo(EMPLOYEE_DATA_URL + "/5")).andExpect(method(HttpMethod.DELETE));
+    }
+}
@@ -0,0 +1,136 @@
+package com.naiomi.employee.api.config;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.http2.Http2Protocol;
+import org.eclipse.jetty.client.HttpClient;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the HTTP/1.1 and h2c transports of {@link RestTemplateConfig} under high concurrency.
+ * <p>
+ * An embedded Tomcat with the same HTTP/2 settings as employee-data simulates a downstream call
+ * that takes {@code latencyMs}. Both clients are limited to the same number of connections, so
+ * HTTP/1.1 has to queue requests while h2c multiplexes them as streams.
+ * </p>
+ * Run with: {@code java ... Http2TransportBenchmark [concurrency] [requests] [latencyMs] [maxConnections]}
+ */
+public class Http2TransportBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        long latencyMs = args.length > 2 ? Long.parseLong(args[2]) : 5;
+        int maxConnections = args.length > 3 ? Integer.parseInt(args[3]) : 4;
+
+        Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+        Tomcat tomcat = startServer(latencyMs, clientPorts);
+        String url = "http://localhost:" + tomcat.getConnector().getLocalPort() + "/api/employees/1";
+
+        System.out.printf("concurrency=%d requests=%d latency=%dms max-connections=%d%n%n",
+                concurrency, requests, latencyMs, maxConnections);
+        try {
+            for (String protocol : new String[]{"http1", "h2c"}) {
+                RestTemplateConfig config = new RestTemplateConfig();
+                HttpClient httpClient = config.employeeDataHttpClient(protocol, maxConnections, requests,
+                        2000, 16 * 1024 * 1024, 1024 * 1024, "");
+                try {
+                    RestTemplate restTemplate = config.restTemplate(httpClient, 60_000, List.of());
+                    run(restTemplate, url, concurrency, Math.min(requests, 500));
+                    clientPorts.clear();
+                    run(protocol, restTemplate, url, concurrency, requests, clientPorts);
+                } finally {
+                    httpClient.stop();
+                }
+            }
+        } finally {
+            tomcat.stop();
+            tomcat.destroy();
+        }
+    }
+
+    private static void run(String protocol, RestTemplate restTemplate, String url, int concurrency,
+                            int requests, Set<Integer> clientPorts) throws InterruptedException {
+        long start = System.nanoTime();
+        long[] latencies = run(restTemplate, url, concurrency, requests);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Arrays.sort(latencies);
+        System.out.printf("%-6s throughput=%8.0f req/s  p50=%7.2f ms  p99=%7.2f ms  connections=%d%n",
+                protocol, requests / seconds, percentile(latencies, 50), percentile(latencies, 99), clientPorts.size());
+    }
+
+    private static long[] run(RestTemplate restTemplate, String url, int concurrency, int requests)
+            throws InterruptedException {
+        long[] latencies = new long[requests];
+        CountDownLatch done = new CountDownLatch(requests);
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            executor.execute(() -> {
+                long start = System.nanoTime();
+                try {
+                    restTemplate.getForObject(url, String.class);
+                } finally {
+                    latencies[index] = System.nanoTime() - start;
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        return latencies;
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static Tomcat startServer(long latencyMs, Set<Integer> clientPorts) throws Exception {
+        Tomcat tomcat = new Tomcat();
+        tomcat.setBaseDir(Files.createTempDirectory("tomcat").toString());
+        Connector connector = new Connector();
+        connector.setPort(0);
+        Http2Protocol http2Protocol = new Http2Protocol();
+        http2Protocol.setMaxConcurrentStreams(256);
+        http2Protocol.setMaxConcurrentStreamExecution(256);
+        http2Protocol.setInitialWindowSize(1024 * 1024);
+        connector.addUpgradeProtocol(http2Protocol);
+        tomcat.setConnector(connector);
+
+        Context context = tomcat.addContext("", null);
+        Tomcat.addServlet(context, "employee", new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                clientPorts.add(request.getRemotePort());
+                try {
+                    Thread.sleep(latencyMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                response.setContentType("application/json");
+                response.getWriter().write("{\"id\":1,\"name\":\"Jane Doe\",\"roleId\":1}");
+            }
+        });
+        context.addServletMappingDecoded("/*", "employee");
+        tomcat.start();
+        return tomcat;
+    }
+}
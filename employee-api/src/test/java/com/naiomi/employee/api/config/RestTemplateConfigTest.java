@@ -0,0 +1,114 @@
+package com.naiomi.employee.api.config;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.http2.Http2Protocol;
+import org.eclipse.jetty.client.HttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RestTemplateConfigTest {
+
+    private final RestTemplateConfig restTemplateConfig = new RestTemplateConfig();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private Tomcat tomcat;
+    private HttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(Files.createTempDirectory("tomcat").toString());
+        Connector connector = new Connector();
+        connector.setPort(0);
+        connector.addUpgradeProtocol(new Http2Protocol());
+        tomcat.setConnector(connector);
+
+        Context context = tomcat.addContext("", null);
+        Tomcat.addServlet(context, "protocol", new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                clientPorts.add(request.getRemotePort());
+                response.setContentType("text/plain");
+                response.getWriter().write(request.getProtocol());
+            }
+        });
+        context.addServletMappingDecoded("/*", "protocol");
+        tomcat.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (httpClient != null) {
+            httpClient.stop();
+        }
+        tomcat.stop();
+        tomcat.destroy();
+    }
+
+    @Test
+    @DisplayName("h2c client multiplexes requests over a single HTTP/2 connection")
+    void testH2cUsesHttp2() throws Exception {
+        httpClient = restTemplateConfig.employeeDataHttpClient("h2c", 1, 128, 2000, 16 * 1024 * 1024, 1024 * 1024, "");
+        RestTemplate restTemplate = restTemplateConfig.restTemplate(httpClient, 5000, List.of());
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("HTTP/2.0", restTemplate.getForObject(url(), String.class));
+        }
+        assertEquals(1, clientPorts.size());
+    }
+
+    @Test
+    @DisplayName("http1 client keeps using HTTP/1.1")
+    void testHttp1UsesHttp11() throws Exception {
+        httpClient = restTemplateConfig.employeeDataHttpClient("http1", 4, 128, 2000, 16 * 1024 * 1024, 1024 * 1024, "");
+        RestTemplate restTemplate = restTemplateConfig.restTemplate(httpClient, 5000, List.of());
+
+        assertEquals("HTTP/1.1", restTemplate.getForObject(url(), String.class));
+    }
+
+    @Test
+    @DisplayName("Client connects over the Unix domain socket when one is configured")
+    void testUnixSocket() throws Exception {
+        Path socket = Files.createTempDirectory("employee-data").resolve("http.sock");
+        Connector connector = new Connector();
+        connector.setProperty("unixDomainSocketPath", socket.toString());
+        connector.addUpgradeProtocol(new Http2Protocol());
+        tomcat.getService().addConnector(connector);
+
+        httpClient = restTemplateConfig.employeeDataHttpClient("h2c", 1, 128, 2000, 16 * 1024 * 1024, 1024 * 1024,
+                socket.toString());
+        RestTemplate restTemplate = restTemplateConfig.restTemplate(httpClient, 5000, List.of());
+
+        // Nothing listens on port 1: the request can only have gone through the socket
+        assertEquals("HTTP/2.0", restTemplate.getForObject("http://localhost:1/", String.class));
+    }
+
+    @Test
+    @DisplayName("Unknown protocol is rejected")
+    void testInvalidProtocol() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> restTemplateConfig.employeeDataHttpClient("spdy", 4, 128, 2000, 1024, 1024, ""));
+        assertTrue(exception.getMessage().contains("spdy"));
+    }
+
+    private String url() {
+        return "http://localhost:" + tomcat.getConnector().getLocalPort() + "/";
+    }
+}
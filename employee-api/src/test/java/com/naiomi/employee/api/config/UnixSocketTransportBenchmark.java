@@ -0,0 +1,147 @@
+package com.naiomi.employee.api.config;
+
+import com.sun.management.OperatingSystemMXBean;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.http2.Http2Protocol;
+import org.eclipse.jetty.client.HttpClient;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares calls from {@link RestTemplateConfig} to a co-located server over loopback TCP and over
+ * a Unix domain socket.
+ * <p>
+ * An embedded Tomcat, set up like employee-data with {@code unix-socket.path}, listens on both and
+ * answers immediately with an employee, so the difference is the cost of the transport. CPU per
+ * request is the CPU time of the whole JVM, client and server together, divided by the number of
+ * requests.
+ * </p>
+ * Run with: {@code java ... UnixSocketTransportBenchmark [requests] [concurrency] [protocol]}
+ */
+public class UnixSocketTransportBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        String protocol = args.length > 2 ? args[2] : "h2c";
+
+        Path socket = Files.createTempDirectory("employee-data").resolve("http.sock");
+        Tomcat tomcat = startServer(socket);
+        String url = "http://localhost:" + tomcat.getConnector().getLocalPort() + "/api/employees/1";
+
+        System.out.printf("requests=%d concurrency=%d protocol=%s%n%n", requests, concurrency, protocol);
+        try {
+            for (int round = 0; round < 2; round++) {
+                for (String transport : new String[]{"tcp", "uds"}) {
+                    RestTemplateConfig config = new RestTemplateConfig();
+                    HttpClient httpClient = config.employeeDataHttpClient(protocol, 4, requests, 2000,
+                            16 * 1024 * 1024, 1024 * 1024, "uds".equals(transport) ? socket.toString() : "");
+                    try {
+                        RestTemplate restTemplate = config.restTemplate(httpClient, 60_000, List.of());
+                        run(restTemplate, url, concurrency, Math.min(requests, 5000));
+                        // The first round only warms up both transports
+                        if (round == 1) {
+                            run(transport, restTemplate, url, concurrency, requests);
+                        }
+                    } finally {
+                        httpClient.stop();
+                    }
+                }
+            }
+        } finally {
+            tomcat.stop();
+            tomcat.destroy();
+        }
+    }
+
+    private static void run(String transport, RestTemplate restTemplate, String url, int concurrency, int requests)
+            throws InterruptedException {
+        OperatingSystemMXBean os = ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class);
+        long cpuStart = os.getProcessCpuTime();
+        long start = System.nanoTime();
+        long[] latencies = run(restTemplate, url, concurrency, requests);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double cpuPerRequestUs = (os.getProcessCpuTime() - cpuStart) / 1e3 / requests;
+
+        Arrays.sort(latencies);
+        System.out.printf("%-4s throughput=%8.0f req/s  p50=%6.1f us  p99=%7.1f us  cpu/request=%6.1f us%n",
+                transport, requests / seconds, percentile(latencies, 50), percentile(latencies, 99), cpuPerRequestUs);
+    }
+
+    private static long[] run(RestTemplate restTemplate, String url, int concurrency, int requests)
+            throws InterruptedException {
+        long[] latencies = new long[requests];
+        CountDownLatch done = new CountDownLatch(requests);
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            executor.execute(() -> {
+                long start = System.nanoTime();
+                try {
+                    restTemplate.getForObject(url, String.class);
+                } finally {
+                    latencies[index] = System.nanoTime() - start;
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        return latencies;
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e3;
+    }
+
+    private static Tomcat startServer(Path socket) throws Exception {
+        Tomcat tomcat = new Tomcat();
+        tomcat.setBaseDir(Files.createTempDirectory("tomcat").toString());
+        Connector tcp = new Connector();
+        tcp.setPort(0);
+        tcp.addUpgradeProtocol(http2Protocol());
+        tomcat.setConnector(tcp);
+
+        Connector uds = new Connector();
+        uds.setProperty("unixDomainSocketPath", socket.toString());
+        uds.addUpgradeProtocol(http2Protocol());
+        tomcat.getService().addConnector(uds);
+
+        Context context = tomcat.addContext("", null);
+        Tomcat.addServlet(context, "employee", new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                response.setContentType("application/json");
+                response.getWriter().write("{\"id\":1,\"name\":\"Jane Doe\",\"roleId\":1}");
+            }
+        });
+        context.addServletMappingDecoded("/*", "employee");
+        tomcat.start();
+        return tomcat;
+    }
+
+    private static Http2Protocol http2Protocol() {
+        Http2Protocol http2Protocol = new Http2Protocol();
+        http2Protocol.setMaxConcurrentStreams(256);
+        http2Protocol.setMaxConcurrentStreamExecution(256);
+        http2Protocol.setInitialWindowSize(1024 * 1024);
+        return http2Protocol;
+    }
+}
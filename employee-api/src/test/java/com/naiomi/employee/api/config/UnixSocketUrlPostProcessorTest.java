@@ -0,0 +1,47 @@
+package com.naiomi.employee.api.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnixSocketUrlPostProcessorTest {
+
+    private final UnixSocketUrlPostProcessor postProcessor = new UnixSocketUrlPostProcessor();
+
+    @Test
+    @DisplayName("unix: URL is split into an HTTP URL and the socket path")
+    void testUnixUrl() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("employee.data.url", "unix:/run/employee-data/http.sock:/api/employees");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertEquals("http://localhost/api/employees", environment.getProperty("employee.data.url"));
+        assertEquals("/run/employee-data/http.sock", environment.getProperty("employee.data.client.unix-socket"));
+    }
+
+    @Test
+    @DisplayName("HTTP URL is left alone")
+    void testHttpUrl() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("employee.data.url", "http://employee-data:9091/api/employees");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertEquals("http://employee-data:9091/api/employees", environment.getProperty("employee.data.url"));
+        assertNull(environment.getProperty("employee.data.client.unix-socket"));
+    }
+
+    @Test
+    @DisplayName("Socket without an API path and a missing socket path")
+    void testResolve() {
+        assertEquals(Map.of("employee.data.url", "http://localhost", "employee.data.client.unix-socket", "/tmp/data.sock"),
+                UnixSocketUrlPostProcessor.resolve("unix:/tmp/data.sock"));
+        assertThrows(IllegalArgumentException.class, () -> UnixSocketUrlPostProcessor.resolve("unix::/api/employees"));
+    }
+}
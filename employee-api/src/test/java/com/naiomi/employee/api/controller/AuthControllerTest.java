@@ -0,0 +1,95 @@
+package com.naiomi.employee.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naiomi.employee.api.cache.ReadResult;
+import com.naiomi.employee.api.dto.EmployeeApiResponseDto;
+import com.naiomi.employee.api.model.Role;
+import com.naiomi.employee.api.service.EmployeeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthControllerTest {
+
+    private static final String PASSWORD = "d1b82d02-3868-4575-8ca6-41abc3e9edd2";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @Test
+    @DisplayName("Issue Token - Valid Basic Credentials")
+    void issueToken_ValidCredentials() throws Exception {
+        mockMvc.perform(post("/auth/token").with(httpBasic("user", PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andExpect(jsonPath("$.expiresIn").value(3600))
+                .andExpect(jsonPath("$.accessToken").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("Issue Token - Role Header Is Not Enough")
+    void issueToken_RoleHeaderOnly() throws Exception {
+        mockMvc.perform(post("/auth/token").header("Role", "ADMIN"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/auth/token").with(httpBasic("user", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Bearer Token - Grants The Authorities Of The Token")
+    void bearerToken_Authorizes() throws Exception {
+        String token = issueToken();
+        Mockito.when(employeeService.readEmployeeById(1L))
+                .thenReturn(ReadResult.fresh(new EmployeeApiResponseDto(1L, "John", "Doe", Role.ADMIN)));
+
+        mockMvc.perform(get("/employees/{id}", 1L)
+                        .header("Role", "USER")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName").value("John"));
+
+        // The token carries ADMIN, so it overrides the USER role from the header
+        mockMvc.perform(delete("/employees/{id}", 1L)
+                        .header("Role", "USER")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Bearer Token - Invalid Token")
+    void bearerToken_Invalid() throws Exception {
+        String token = issueToken();
+
+        mockMvc.perform(get("/employees/{id}", 1L)
+                        .header("Role", "ADMIN")
+                        .header("Authorization", "Bearer " + token.substring(0, token.length() - 2) + "xx"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string("WWW-Authenticate", "Bearer error=\"invalid_token\""))
+                .andExpect(jsonPath("$.message").value("Invalid token signature"));
+    }
+
+    private String issueToken() throws Exception {
+        String body = mockMvc.perform(post("/auth/token").with(httpBasic("user", PASSWORD)))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("accessToken").asText();
+    }
+}
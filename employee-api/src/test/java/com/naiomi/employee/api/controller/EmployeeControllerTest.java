@@ -1,8 +1,10 @@
 package com.naiomi.employee.api.controller;
 
+import com.naiomi.employee.api.cache.ReadResult;
 import com.naiomi.employee.api.dto.EmployeeApiRequestDto;
 import com.naiomi.employee.api.dto.EmployeeApiResponseDto;
 import com.naiomi.employee.api.exception.GlobalExceptionHandler;
+import com.naiomi.employee.api.model.EmployeeField;
 import com.naiomi.employee.api.model.Role;
 import com.naiomi.employee.api.service.EmployeeService;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +21,10 @@ import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfig
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Map;
+
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -95,13 +101,13 @@ class EmployeeControllerTest {
     @DisplayName("Delete Employee - Unauthorized Role")
     void deleteEmployee_UnauthorizedRole() throws Exception {
         // "USER" is a valid role, but not authorized for DELETE (needs ADMIN).
-        // With @PreAuthorize("hasAuthority('ADMIN')"), this yields 403
+        // The authorization matrix only allows ADMIN, so this yields 403
         Long employeeId = 1L;
         mockMvc.perform(delete("/employees/{id}", employeeId)
                         .header("Role", "USER"))
                 .andExpect(status().isForbidden()) // 403
-                // Spring Security's default JSON might differ, so you may need a custom AccessDeniedHandler
-                .andExpect(jsonPath("$.error").value("Access Denied"));
+                .andExpect(jsonPath("$.error").value("Forbidden"))
+                .andExpect(jsonPath("$.message").value("Access Denied"));
     }
 
     @Test
@@ -152,7 +158,7 @@ class EmployeeControllerTest {
     @Test
     @DisplayName("Update Employee - Unauthorized Role")
     void updateEmployee_UnauthorizedRole() throws Exception {
-        // "ADMIN" is valid but not authorized for updates (method-level security requires USER)
+        // "ADMIN" is valid but not authorized for updates (the authorization matrix requires USER)
         Long employeeId = 1L;
         String updateRequestBody = """
                 {
@@ -174,14 +180,54 @@ class EmployeeControllerTest {
     void getEmployeeById_ValidRequest() throws Exception {
         // "USER" is valid for GET
         Long employeeId = 1L;
-        Mockito.when(employeeService.getEmployeeById(employeeId))
-                .thenReturn(validResponse);
+        Mockito.when(employeeService.readEmployeeById(employeeId))
+                .thenReturn(ReadResult.fresh(validResponse));
 
         mockMvc.perform(get("/employees/{id}", employeeId)
                         .header("Role", "USER"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id", is(1)))
                 .andExpect(jsonPath("$.firstName", is("John")))
-                .andExpect(jsonPath("$.surname", is("Doe")));
+                .andExpect(jsonPath("$.surname", is("Doe")))
+                .andExpect(header().doesNotExist("Age"));
+    }
+
+    @Test
+    @DisplayName("Get Employee by ID - Stale copy is marked")
+    void getEmployeeById_Stale() throws Exception {
+        Long employeeId = 1L;
+        Mockito.when(employeeService.readEmployeeById(employeeId))
+                .thenReturn(ReadResult.stale(validResponse, Duration.ofSeconds(42), "timeout"));
+
+        mockMvc.perform(get("/employees/{id}", employeeId)
+                        .header("Role", "USER"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName", is("John")))
+                .andExpect(header().string("Age", "42"))
+                .andExpect(header().string("X-Stale-Reason", "timeout"));
+    }
+
+    @Test
+    @DisplayName("Get Employee by ID - Sparse fieldset")
+    void getEmployeeById_Fields() throws Exception {
+        Long employeeId = 1L;
+        Mockito.when(employeeService.readEmployeeFieldsById(employeeId, EnumSet.of(EmployeeField.FIRST_NAME)))
+                .thenReturn(ReadResult.fresh(Map.of("firstName", "John")));
+
+        mockMvc.perform(get("/employees/{id}", employeeId)
+                        .param("fields", "firstName")
+                        .header("Role", "USER"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName", is("John")))
+                .andExpect(jsonPath("$.surname").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Get Employee by ID - Unknown field")
+    void getEmployeeById_UnknownField() throws Exception {
+        mockMvc.perform(get("/employees/{id}", 1L)
+                        .param("fields", "salary")
+                        .header("Role", "USER"))
+                .andExpect(status().isBadRequest());
     }
 }
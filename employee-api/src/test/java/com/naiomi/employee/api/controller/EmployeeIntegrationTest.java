@@ -56,14 +56,14 @@ class EmployeeIntegrationTest {
     @Test
     @DisplayName("Create Employee: Retry and Successful After Failure")
     void createEmployee_RetryAndSuccess() throws Exception {
-        // Simulate two failures followed by a success
+        // Simulate two rejections followed by a success
         mockServer.expect(requestTo(employeeDataUrl))
                 .andExpect(method(HttpMethod.POST))
-                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR)); // 1st failure
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE)); // 1st failure
 
         mockServer.expect(requestTo(employeeDataUrl))
                 .andExpect(method(HttpMethod.POST))
-                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR)); // 2nd failure
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE)); // 2nd failure
 
         mockServer.expect(requestTo(employeeDataUrl))
                 .andExpect(method(HttpMethod.POST))
@@ -96,8 +96,8 @@ class EmployeeIntegrationTest {
     @Test
     @DisplayName("Create Employee: Invalid Response from App2")
     void createEmployee_InvalidResponseFromApp2() throws Exception {
-        // All 3 attempts return invalid response => final internal server error
-        mockServer.expect(ExpectedCount.times(3), requestTo(employeeDataUrl))
+        // An invalid response is not retried => internal server error
+        mockServer.expect(ExpectedCount.once(), requestTo(employeeDataUrl))
                 .andExpect(method(HttpMethod.POST))
                 .andRespond(withSuccess("""
             {
@@ -117,7 +117,7 @@ class EmployeeIntegrationTest {
                     }
                     """))
                 .andExpect(status().isInternalServerError())
-                .andExpect(jsonPath("$.message", is("Failed to create employee after retries: John")));
+                .andExpect(jsonPath("$.message", is("Invalid response from App2: Required fields are missing.")));
 
         mockServer.verify();
     }
@@ -138,7 +138,7 @@ class EmployeeIntegrationTest {
                         }
                         """))
                 .andExpect(status().isForbidden())  // 403
-                .andExpect(jsonPath("$.error", is("Access Denied")));
+                .andExpect(jsonPath("$.message", is("Access Denied")));
     }
 
     // --- GET EMPLOYEE TESTS ---
@@ -252,7 +252,7 @@ class EmployeeIntegrationTest {
         mockMvc.perform(delete("/employees/{id}", employeeId)
                         .header("Role", "USER"))
                 .andExpect(status().isForbidden())   // 403
-                .andExpect(jsonPath("$.error", is("Access Denied")));
+                .andExpect(jsonPath("$.message", is("Access Denied")));
 
         mockServer.verify();
     }
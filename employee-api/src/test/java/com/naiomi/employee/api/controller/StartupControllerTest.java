@@ -0,0 +1,38 @@
+package com.naiomi.employee.api.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class StartupControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Startup timeline - ADMIN Role")
+    void getStartupTimeline_Admin() throws Exception {
+        mockMvc.perform(get("/admin/startup")
+                        .header("Role", "ADMIN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.budgetMs").value(60000))
+                .andExpect(jsonPath("$.steps").isArray());
+    }
+
+    @Test
+    @DisplayName("Startup timeline - USER Role is forbidden")
+    void getStartupTimeline_User() throws Exception {
+        mockMvc.perform(get("/admin/startup")
+                        .header("Role", "USER"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -2,9 +2,9 @@ package com.naiomi.employee.api.mapper;
 
 import com.naiomi.employee.api.dto.EmployeeApiRequestDto;
 import com.naiomi.employee.api.dto.EmployeeApiResponseDto;
-import com.naiomi.employee.api.dto.EmployeeDataRequestDto;
-import com.naiomi.employee.api.dto.EmployeeDataResponseDto;
 import com.naiomi.employee.api.model.Role;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
@@ -16,7 +16,7 @@ class EmployeeMapperTest {
     private final EmployeeMapper mapper = Mappers.getMapper(EmployeeMapper.class);
 
     @Test
-    @DisplayName("Map EmployeeApiRequestDto to EmployeeDataRequestDto")
+    @DisplayName("Map EmployeeApiRequestDto to EmployeeRequest")
     void testToEmployeeDataRequest() {
         // Arrange
         EmployeeApiRequestDto apiRequest = new EmployeeApiRequestDto();
@@ -25,21 +25,19 @@ class EmployeeMapperTest {
         apiRequest.setRole("ADMIN");
 
         // Act
-        EmployeeDataRequestDto dataRequest = mapper.toEmployeeDataRequest(apiRequest);
+        EmployeeRequest dataRequest = mapper.toEmployeeDataRequest(apiRequest);
 
         // Assert
         assertNotNull(dataRequest, "Data request should not be null");
-        assertEquals("John Doe", dataRequest.getName(), "Name should be a concatenation of first and last name");
-        assertEquals(1L, dataRequest.getRoleId(), "Role ID should match ADMIN's ID");
+        assertEquals("John Doe", dataRequest.name(), "Name should be a concatenation of first and last name");
+        assertEquals(1L, dataRequest.roleId(), "Role ID should match ADMIN's ID");
     }
 
     @Test
-    @DisplayName("Map EmployeeDataResponseDto to EmployeeApiResponseDto")
+    @DisplayName("Map EmployeeResponse to EmployeeApiResponseDto")
     void testToApp1Response() {
         // Arrange
-        EmployeeDataResponseDto dataResponse = new EmployeeDataResponseDto();
-        dataResponse.setName("John Doe");
-        dataResponse.setRoleId(1L);
+        EmployeeResponse dataResponse = new EmployeeResponse(null, "John Doe", 1L);
 
         // Act
         EmployeeApiResponseDto apiResponse = mapper.toApp1Response(dataResponse);
@@ -52,12 +50,10 @@ class EmployeeMapperTest {
     }
 
     @Test
-    @DisplayName("Map EmployeeDataResponseDto to EmployeeApiResponseDto - Single Name Handling")
+    @DisplayName("Map EmployeeResponse to EmployeeApiResponseDto - Single Name Handling")
     void testToApp1Response_SingleName() {
         // Arrange
-        EmployeeDataResponseDto dataResponse = new EmployeeDataResponseDto();
-        dataResponse.setName("John");
-        dataResponse.setRoleId(2L);
+        EmployeeResponse dataResponse = new EmployeeResponse(null, "John", 2L);
 
         // Act
         EmployeeApiResponseDto apiResponse = mapper.toApp1Response(dataResponse);
@@ -70,12 +66,10 @@ class EmployeeMapperTest {
     }
 
     @Test
-    @DisplayName("Map EmployeeDataResponseDto to EmployeeApiResponseDto - Null Name Handling")
+    @DisplayName("Map EmployeeResponse to EmployeeApiResponseDto - Null Name Handling")
     void testToApp1Response_NullName() {
         // Arrange
-        EmployeeDataResponseDto dataResponse = new EmployeeDataResponseDto();
-        dataResponse.setName(null);
-        dataResponse.setRoleId(3L);
+        EmployeeResponse dataResponse = new EmployeeResponse(null, null, 3L);
 
         // Act
         EmployeeApiResponseDto apiResponse = mapper.toApp1Response(dataResponse);
@@ -0,0 +1,82 @@
+package com.naiomi.employee.api.queue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteQueueLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Records survive a reopen and are replayed in order")
+    void testReplayAfterReopen() throws Exception {
+        try (WriteQueueLog log = new WriteQueueLog(directory, 1024, true)) {
+            log.append((byte) 1, bytes("first"));
+            log.append((byte) 2, bytes("second"));
+        }
+
+        List<String> replayed = new ArrayList<>();
+        try (WriteQueueLog log = new WriteQueueLog(directory, 1024, true)) {
+            log.replay((segment, type, payload) -> replayed.add(type + ":" + new String(payload, StandardCharsets.UTF_8)));
+            assertEquals(1, log.getCurrentSegment(), "A reopened log writes to a new segment");
+        }
+        assertEquals(List.of("1:first", "2:second"), replayed);
+    }
+
+    @Test
+    @DisplayName("Full segments roll over and old segments can be deleted")
+    void testRollAndDelete() throws Exception {
+        try (WriteQueueLog log = new WriteQueueLog(directory, 64, false)) {
+            int first = log.append((byte) 1, new byte[40]);
+            int second = log.append((byte) 1, new byte[40]);
+            assertEquals(first + 1, second);
+
+            assertEquals(1, log.deleteSegmentsBefore(second));
+            assertEquals(List.of(second), log.getSegments());
+            assertEquals(0, log.deleteSegmentsBefore(second + 1), "The segment being written is never deleted");
+        }
+    }
+
+    @Test
+    @DisplayName("Replay stops at a corrupt record")
+    void testCorruptRecord() throws Exception {
+        try (WriteQueueLog log = new WriteQueueLog(directory, 1024, true)) {
+            log.append((byte) 1, bytes("intact"));
+            log.append((byte) 1, bytes("torn"));
+        }
+        Path segment = directory.resolve("segment-0000000000.log");
+        byte[] content = Files.readAllBytes(segment);
+        int tornPayload = 9 + "intact".length() + 9;
+        content[tornPayload] ^= 0x7f;
+        Files.write(segment, content, StandardOpenOption.TRUNCATE_EXISTING);
+
+        List<String> replayed = new ArrayList<>();
+        try (WriteQueueLog log = new WriteQueueLog(directory, 1024, true)) {
+            log.replay((s, type, payload) -> replayed.add(new String(payload, StandardCharsets.UTF_8)));
+        }
+        assertEquals(List.of("intact"), replayed);
+    }
+
+    @Test
+    @DisplayName("Records larger than a segment are rejected")
+    void testRecordTooLarge() throws Exception {
+        try (WriteQueueLog log = new WriteQueueLog(directory, 64, false)) {
+            assertThrows(IllegalArgumentException.class, () -> log.append((byte) 1, new byte[100]));
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,195 @@
+package com.naiomi.employee.api.queue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naiomi.employee.api.client.EmployeeDataClient;
+import com.naiomi.employee.api.dto.EmployeeApiRequestDto;
+import com.naiomi.employee.api.exception.WriteJobNotFoundException;
+import com.naiomi.employee.api.mapper.EmployeeMapper;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InOrder;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class WriteQueueServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private final EmployeeMapper employeeMapper = Mappers.getMapper(EmployeeMapper.class);
+    private final EmployeeDataClient employeeDataClient = mock(EmployeeDataClient.class);
+
+    private WriteQueueService writeQueueService;
+
+    @BeforeEach
+    void setUp() {
+        writeQueueService = newService();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        writeQueueService.stop();
+    }
+
+    @Test
+    @DisplayName("Queued create is forwarded and completed")
+    void testCreateForwarded() {
+        when(employeeDataClient.createEmployee(any(EmployeeRequest.class)))
+                .thenReturn(new EmployeeResponse(7L, "John Doe", 1L));
+
+        WriteJob job = writeQueueService.enqueueCreate(request("ADMIN"));
+        assertEquals(WriteJobStatus.QUEUED, job.getStatus());
+
+        assertEquals(1, writeQueueService.drain());
+        WriteJob completed = writeQueueService.getJob(job.getJobId());
+        assertEquals(WriteJobStatus.COMPLETED, completed.getStatus());
+        assertEquals(7L, completed.getResultEmployeeId());
+        assertEquals(0, writeQueueService.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("Writes to the same employee are forwarded in order")
+    void testOrderPerEmployee() {
+        writeQueueService.enqueueUpdate(5L, request("USER"));
+        writeQueueService.enqueueDelete(5L);
+
+        assertEquals(2, writeQueueService.drain());
+
+        InOrder inOrder = inOrder(employeeDataClient);
+        inOrder.verify(employeeDataClient).updateEmployee(eq(5L), any(EmployeeRequest.class));
+        inOrder.verify(employeeDataClient).deleteEmployee(5L);
+    }
+
+    @Test
+    @DisplayName("Writes stay queued while employee-data is unavailable")
+    void testUnavailable() {
+        doThrow(new ResourceAccessException("Connection refused")).when(employeeDataClient).deleteEmployee(5L);
+
+        WriteJob job = writeQueueService.enqueueDelete(5L);
+
+        assertEquals(0, writeQueueService.drain());
+        assertEquals(WriteJobStatus.QUEUED, writeQueueService.getJob(job.getJobId()).getStatus());
+        assertEquals(1, writeQueueService.getPendingCount());
+
+        doNothing().when(employeeDataClient).deleteEmployee(5L);
+        assertEquals(1, writeQueueService.drain());
+        assertEquals(WriteJobStatus.COMPLETED, writeQueueService.getJob(job.getJobId()).getStatus());
+        assertEquals(2, writeQueueService.getJob(job.getJobId()).getAttempts());
+    }
+
+    @Test
+    @DisplayName("Rejected writes fail without blocking the next write")
+    void testRejected() {
+        doThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST)).when(employeeDataClient).deleteEmployee(5L);
+
+        WriteJob rejected = writeQueueService.enqueueDelete(5L);
+        WriteJob next = writeQueueService.enqueueUpdate(5L, request("USER"));
+
+        assertEquals(2, writeQueueService.drain());
+        assertEquals(WriteJobStatus.FAILED, writeQueueService.getJob(rejected.getJobId()).getStatus());
+        assertNotNull(writeQueueService.getJob(rejected.getJobId()).getError());
+        assertEquals(WriteJobStatus.COMPLETED, writeQueueService.getJob(next.getJobId()).getStatus());
+    }
+
+    @Test
+    @DisplayName("A write that keeps failing with 500 fails without blocking the next write")
+    void testRepeatedServerError() {
+        doThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR)).when(employeeDataClient).deleteEmployee(5L);
+
+        WriteJob poison = writeQueueService.enqueueDelete(5L);
+        WriteJob next = writeQueueService.enqueueUpdate(5L, request("USER"));
+
+        assertEquals(0, writeQueueService.drain());
+        assertEquals(0, writeQueueService.drain());
+        assertEquals(WriteJobStatus.QUEUED, writeQueueService.getJob(poison.getJobId()).getStatus());
+
+        assertEquals(2, writeQueueService.drain());
+        WriteJob failed = writeQueueService.getJob(poison.getJobId());
+        assertEquals(WriteJobStatus.FAILED, failed.getStatus());
+        assertEquals(3, failed.getAttempts());
+        assertNotNull(failed.getError());
+        assertEquals(WriteJobStatus.COMPLETED, writeQueueService.getJob(next.getJobId()).getStatus());
+    }
+
+    @Test
+    @DisplayName("Writes stay queued while employee-data answers 503")
+    void testServiceUnavailable() {
+        doThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)).when(employeeDataClient).deleteEmployee(5L);
+
+        WriteJob job = writeQueueService.enqueueDelete(5L);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, writeQueueService.drain());
+        }
+
+        assertEquals(WriteJobStatus.QUEUED, writeQueueService.getJob(job.getJobId()).getStatus());
+        assertEquals(5, writeQueueService.getJob(job.getJobId()).getAttempts());
+        assertEquals(1, writeQueueService.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("Jobs handed out are snapshots")
+    void testJobSnapshot() {
+        WriteJob job = writeQueueService.enqueueDelete(5L);
+        job.setStatus(WriteJobStatus.FAILED);
+        WriteJob snapshot = writeQueueService.getJob(job.getJobId());
+        assertEquals(WriteJobStatus.QUEUED, snapshot.getStatus());
+
+        assertEquals(1, writeQueueService.drain());
+        assertEquals(WriteJobStatus.QUEUED, snapshot.getStatus());
+        assertEquals(0, snapshot.getAttempts());
+        assertEquals(WriteJobStatus.COMPLETED, writeQueueService.getJob(job.getJobId()).getStatus());
+    }
+
+    @Test
+    @DisplayName("Pending writes are recovered after a restart")
+    void testRecovery() throws Exception {
+        doThrow(new ResourceAccessException("Connection refused")).when(employeeDataClient).deleteEmployee(2L);
+
+        WriteJob completed = writeQueueService.enqueueUpdate(1L, request("USER"));
+        assertEquals(1, writeQueueService.drain());
+        WriteJob pending = writeQueueService.enqueueDelete(2L);
+        writeQueueService.stop();
+
+        writeQueueService = newService();
+        assertEquals(1, writeQueueService.getPendingCount());
+        assertEquals(WriteJobStatus.COMPLETED, writeQueueService.getJob(completed.getJobId()).getStatus());
+        assertEquals(WriteJobStatus.QUEUED, writeQueueService.getJob(pending.getJobId()).getStatus());
+        assertEquals(WriteOperation.DELETE, writeQueueService.getJob(pending.getJobId()).getOperation());
+    }
+
+    @Test
+    @DisplayName("Unknown job ID")
+    void testUnknownJob() {
+        assertThrows(WriteJobNotFoundException.class, () -> writeQueueService.getJob("missing"));
+    }
+
+    private WriteQueueService newService() {
+        WriteQueueService service = new WriteQueueService(employeeMapper, employeeDataClient, new ObjectMapper(),
+                directory.toString(), 4096, false, 8, 3_600_000, 3);
+        service.start();
+        return service;
+    }
+
+    private static EmployeeApiRequestDto request(String role) {
+        EmployeeApiRequestDto request = new EmployeeApiRequestDto();
+        request.setFirstName("John");
+        request.setSurname("Doe");
+        request.setRole(role);
+        return request;
+    }
+}
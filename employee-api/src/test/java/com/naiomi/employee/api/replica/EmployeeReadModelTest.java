@@ -0,0 +1,103 @@
+package com.naiomi.employee.api.replica;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class EmployeeReadModelTest {
+
+    private static final String CHANGES_URL = "http://localhost:9091/changes";
+
+    private MockRestServiceServer server;
+    private EmployeeReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        readModel = new EmployeeReadModel(restTemplate, CHANGES_URL, true, 100, 2, 1000, 60000);
+    }
+
+    @Test
+    @DisplayName("Snapshot is loaded and changes are applied in order")
+    void testBootstrapAndTail() {
+        expectSnapshot(5, "{\"id\":1,\"name\":\"John Doe\",\"roleId\":1},{\"id\":2,\"name\":\"Jane Doe\",\"roleId\":2}");
+        server.expect(requestTo(CHANGES_URL + "?since=5&limit=2")).andRespond(withSuccess("""
+                {"changes":[
+                  {"seq":6,"entity":"EMPLOYEE","entityId":1,"operation":"UPDATE","employee":{"id":1,"name":"John Smith","roleId":1}},
+                  {"seq":7,"entity":"EMPLOYEE","entityId":2,"operation":"DELETE","employee":null}],
+                 "lastSequence":7,"headSequence":8,"hasMore":true}""", MediaType.APPLICATION_JSON));
+        server.expect(requestTo(CHANGES_URL + "?since=7&limit=2")).andRespond(withSuccess("""
+                {"changes":[{"seq":8,"entity":"ROLE","entityId":3,"operation":"DELETE","employee":null}],
+                 "lastSequence":8,"headSequence":8,"hasMore":false}""", MediaType.APPLICATION_JSON));
+
+        readModel.bootstrap();
+        assertEquals(2, readModel.size());
+
+        assertTrue(readModel.poll());
+        assertFalse(readModel.poll());
+
+        assertEquals(8, readModel.getAppliedSequence());
+        assertEquals("John Smith", readModel.get(1L).name());
+        assertNull(readModel.get(2L));
+        assertTrue(readModel.isServing());
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("Replica stops serving when it lags too far behind")
+    void testNotServingWhenLagging() {
+        readModel = new EmployeeReadModel(bind(), CHANGES_URL, true, 100, 2, 1, 60000);
+        expectSnapshot(0, "");
+        server.expect(requestTo(CHANGES_URL + "?since=0&limit=2")).andRespond(withSuccess("""
+                {"changes":[
+                  {"seq":1,"entity":"EMPLOYEE","entityId":1,"operation":"INSERT","employee":{"id":1,"name":"John Doe","roleId":1}},
+                  {"seq":2,"entity":"EMPLOYEE","entityId":2,"operation":"INSERT","employee":{"id":2,"name":"Jane Doe","roleId":1}}],
+                 "lastSequence":2,"headSequence":10,"hasMore":true}""", MediaType.APPLICATION_JSON));
+
+        readModel.bootstrap();
+        assertTrue(readModel.isServing());
+
+        readModel.poll();
+        assertFalse(readModel.isServing());
+    }
+
+    @Test
+    @DisplayName("Pruned change feed forces a new snapshot")
+    void testExpiredFeedReloads() {
+        expectSnapshot(5, "{\"id\":1,\"name\":\"John Doe\",\"roleId\":1}");
+        server.expect(requestTo(CHANGES_URL + "?since=5&limit=2")).andRespond(withStatus(HttpStatus.GONE));
+
+        readModel.bootstrap();
+        readModel.poll();
+
+        assertFalse(readModel.isServing());
+    }
+
+    @Test
+    @DisplayName("Disabled replica never serves reads")
+    void testDisabled() {
+        EmployeeReadModel disabled = new EmployeeReadModel(new RestTemplate(), CHANGES_URL, false, 100, 2, 1000, 60000);
+        assertFalse(disabled.isServing());
+    }
+
+    private RestTemplate bind() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        return restTemplate;
+    }
+
+    private void expectSnapshot(long sequence, String employees) {
+        server.expect(requestTo(CHANGES_URL + "/snapshot")).andRespond(withSuccess(
+                "{\"sequence\":" + sequence + ",\"employees\":[" + employees + "]}", MediaType.APPLICATION_JSON));
+    }
+}
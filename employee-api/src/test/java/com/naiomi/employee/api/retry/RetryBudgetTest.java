@@ -0,0 +1,46 @@
+package com.naiomi.employee.api.retry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryBudgetTest {
+
+    @Test
+    @DisplayName("A full budget allows as many retries as its capacity")
+    void testCapacity() {
+        RetryBudget budget = new RetryBudget(0.1, 3);
+
+        assertTrue(budget.tryWithdraw());
+        assertTrue(budget.tryWithdraw());
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+    }
+
+    @Test
+    @DisplayName("Calls earn retries at the configured ratio")
+    void testRatio() {
+        RetryBudget budget = new RetryBudget(0.25, 1);
+        assertTrue(budget.tryWithdraw());
+
+        for (int i = 0; i < 3; i++) {
+            budget.deposit();
+            assertFalse(budget.tryWithdraw());
+        }
+        budget.deposit();
+        assertTrue(budget.tryWithdraw());
+    }
+
+    @Test
+    @DisplayName("Tokens never exceed the capacity")
+    void testCapped() {
+        RetryBudget budget = new RetryBudget(0.5, 2);
+
+        for (int i = 0; i < 100; i++) {
+            budget.deposit();
+        }
+
+        assertEquals(2.0, budget.tokens());
+    }
+}
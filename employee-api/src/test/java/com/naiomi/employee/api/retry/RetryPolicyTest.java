@@ -0,0 +1,150 @@
+package com.naiomi.employee.api.retry;
+
+import com.naiomi.employee.api.scheduling.Priority;
+import com.naiomi.employee.api.scheduling.RequestShedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryPolicyTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Retriable failures are retried until a call succeeds")
+    void testRetryUntilSuccess() {
+        RetryPolicy policy = new RetryPolicy(meterRegistry, 3, 1, 10, 0.1, 10);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = policy.call(true, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw status(HttpStatus.BAD_GATEWAY, null);
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+        assertEquals(2.0, meterRegistry.get("employee.retry.retries").tag("reason", "server-error").counter().count());
+    }
+
+    @Test
+    @DisplayName("The last failure is thrown once the attempts are used up")
+    void testMaxAttempts() {
+        RetryPolicy policy = new RetryPolicy(meterRegistry, 3, 1, 10, 0.1, 10);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(HttpServerErrorException.class, () -> policy.call(true, () -> {
+            attempts.incrementAndGet();
+            throw status(HttpStatus.SERVICE_UNAVAILABLE, null);
+        }));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Client errors and shed calls are not retried")
+    void testNotRetried() {
+        RetryPolicy policy = new RetryPolicy(meterRegistry, 3, 1, 10, 0.1, 10);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(HttpClientErrorException.class, () -> policy.call(true, () -> {
+            attempts.incrementAndGet();
+            throw status(HttpStatus.BAD_REQUEST, null);
+        }));
+        assertThrows(RequestShedException.class, () -> policy.call(true, () -> {
+            attempts.incrementAndGet();
+            throw new RequestShedException(Priority.LOW, "queue full");
+        }));
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Failures after which a call may have been applied are only retried for idempotent calls")
+    void testClassify() {
+        ResourceAccessException refused = new ResourceAccessException("refused", new ConnectException("refused"));
+        ResourceAccessException timedOut = new ResourceAccessException("timeout", new SocketTimeoutException("timeout"));
+
+        assertEquals("connect", RetryPolicy.classify(refused, false));
+        assertEquals("unavailable", RetryPolicy.classify(status(HttpStatus.TOO_MANY_REQUESTS, null), false));
+        assertEquals("unavailable", RetryPolicy.classify(status(HttpStatus.SERVICE_UNAVAILABLE, null), false));
+        assertNull(RetryPolicy.classify(status(HttpStatus.INTERNAL_SERVER_ERROR, null), false));
+        assertNull(RetryPolicy.classify(timedOut, false));
+
+        assertEquals("server-error", RetryPolicy.classify(status(HttpStatus.INTERNAL_SERVER_ERROR, null), true));
+        assertEquals("server-error", RetryPolicy.classify(status(HttpStatus.GATEWAY_TIMEOUT, null), true));
+        assertEquals("io", RetryPolicy.classify(timedOut, true));
+        assertNull(RetryPolicy.classify(status(HttpStatus.NOT_FOUND, null), true));
+        assertNull(RetryPolicy.classify(new IllegalStateException("invalid response"), true));
+    }
+
+    @Test
+    @DisplayName("Backoff is jittered between zero and an exponentially growing, capped ceiling")
+    void testBackoff() {
+        RetryPolicy policy = new RetryPolicy(meterRegistry, 10, 100, 1000, 0.1, 10);
+        RuntimeException failure = new ResourceAccessException("io", new IOException("io"));
+
+        for (int i = 0; i < 200; i++) {
+            assertTrue(policy.delayMs(1, failure) <= 100);
+            assertTrue(policy.delayMs(3, failure) <= 400);
+            long capped = policy.delayMs(40, failure);
+            assertTrue(capped >= 0 && capped <= 1000);
+        }
+    }
+
+    @Test
+    @DisplayName("Retry-After is honoured as seconds or as an HTTP date, unless it is too long")
+    void testRetryAfter() {
+        RetryPolicy policy = new RetryPolicy(meterRegistry, 3, 100, 2000, 0.1, 10);
+        String inOneSecond = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().plusSeconds(1));
+
+        assertEquals(1000, policy.delayMs(1, status(HttpStatus.SERVICE_UNAVAILABLE, "1")));
+        long untilDate = policy.delayMs(1, status(HttpStatus.TOO_MANY_REQUESTS, inOneSecond));
+        assertTrue(untilDate >= 0 && untilDate <= 1000);
+        assertEquals(-1, policy.delayMs(1, status(HttpStatus.SERVICE_UNAVAILABLE, "60")));
+        assertTrue(policy.delayMs(1, status(HttpStatus.SERVICE_UNAVAILABLE, "soon")) <= 100);
+    }
+
+    @Test
+    @DisplayName("Retries stop when the budget is exhausted")
+    void testBudgetExhausted() {
+        RetryPolicy policy = new RetryPolicy(meterRegistry, 3, 1, 10, 0.0, 2);
+        AtomicInteger attempts = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(HttpServerErrorException.class, () -> policy.call(true, () -> {
+                attempts.incrementAndGet();
+                throw status(HttpStatus.SERVICE_UNAVAILABLE, null);
+            }));
+        }
+
+        // The two tokens allow two retries, then every call fails on its first error
+        assertEquals(5, attempts.get());
+        assertEquals(2.0, meterRegistry.get("employee.retry.budget.exhausted").counter().count());
+        assertEquals(0.0, policy.budgetTokens());
+    }
+
+    private static HttpStatusCodeException status(HttpStatus status, String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return status.is4xxClientError()
+                ? HttpClientErrorException.create(status, status.getReasonPhrase(), headers, null, null)
+                : HttpServerErrorException.create(status, status.getReasonPhrase(), headers, null, null);
+    }
+}
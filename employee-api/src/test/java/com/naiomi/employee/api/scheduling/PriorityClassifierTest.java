@@ -0,0 +1,65 @@
+package com.naiomi.employee.api.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriorityClassifierTest {
+
+    private final PriorityClassifier classifier = PriorityClassifier.builder()
+            .rule(HttpMethod.PUT, "/employees/{id}", Priority.HIGH)
+            .rule(HttpMethod.GET, "/employees/{id}", "ADMIN", Priority.HIGH)
+            .rule(HttpMethod.GET, "/employees/{id}/profile", Priority.LOW)
+            .build();
+
+    @Test
+    @DisplayName("Requests are classified by method, route and role")
+    void testClassify() {
+        assertEquals(Priority.HIGH, classifier.classify("PUT", "/employees/{id}", "USER"));
+        assertEquals(Priority.HIGH, classifier.classify("GET", "/employees/{id}", "admin"));
+        assertEquals(Priority.NORMAL, classifier.classify("GET", "/employees/{id}", "USER"));
+        assertEquals(Priority.LOW, classifier.classify("GET", "/employees/{id}/profile", "ADMIN"));
+        assertEquals(Priority.NORMAL, classifier.classify("GET", null, null));
+    }
+
+    @Test
+    @DisplayName("Priority is held for the duration of the request and propagated to other threads")
+    void testRequestContext() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/employees/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/employees/{id}");
+        request.addHeader("Role", "USER");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        classifier.preHandle(request, response, new Object());
+        assertEquals(Priority.HIGH, PriorityContext.current());
+        Callable<Priority> task = PriorityContext.propagate(PriorityContext::current);
+
+        classifier.afterCompletion(request, response, new Object(), null);
+        assertEquals(Priority.LOW, PriorityContext.current());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals(Priority.HIGH, executor.submit(task).get());
+            assertEquals(Priority.LOW, executor.submit(PriorityContext::current).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Duplicate rules are rejected")
+    void testDuplicateRule() {
+        assertThrows(IllegalArgumentException.class, () -> PriorityClassifier.builder()
+                .rule(HttpMethod.GET, "/employees/{id}", Priority.HIGH)
+                .rule(HttpMethod.GET, "/employees/{id}", Priority.LOW));
+    }
+}
@@ -0,0 +1,129 @@
+package com.naiomi.employee.api.scheduling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrioritySchedulerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PriorityScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // One call in flight, at most 4 queued; HIGH weighs 2, LOW 1, 3 waiters per class
+        scheduler = new PriorityScheduler(meterRegistry, true, 1, 4, 2000, 2, 3, 1, 3, 1, 3);
+    }
+
+    @Test
+    @DisplayName("Waiting calls are dispatched by weighted round robin")
+    void testWeightedDispatch() throws Exception {
+        scheduler = new PriorityScheduler(meterRegistry, true, 1, 6, 2000, 2, 3, 1, 3, 1, 3);
+        scheduler.acquire(Priority.NORMAL);
+
+        List<Priority> order = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> calls = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            calls.add(call(Priority.LOW, order));
+            awaitQueued(Priority.LOW, i + 1);
+        }
+        for (int i = 0; i < 3; i++) {
+            calls.add(call(Priority.HIGH, order));
+            awaitQueued(Priority.HIGH, i + 1);
+        }
+
+        scheduler.release();
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+
+        assertEquals(List.of(Priority.HIGH, Priority.LOW, Priority.HIGH, Priority.HIGH, Priority.LOW, Priority.LOW), order);
+        assertEquals(0, scheduler.inFlight());
+    }
+
+    @Test
+    @DisplayName("Full class queue sheds the arriving call")
+    void testQueueFull() throws Exception {
+        scheduler.acquire(Priority.HIGH);
+        for (int i = 0; i < 3; i++) {
+            call(Priority.LOW, new ArrayList<>());
+            awaitQueued(Priority.LOW, i + 1);
+        }
+
+        RequestShedException exception = assertThrows(RequestShedException.class, () -> scheduler.acquire(Priority.LOW));
+        assertEquals(Priority.LOW, exception.getPriority());
+        assertEquals(1.0, meterRegistry.get("scheduling.shed").tag("class", "low").tag("reason", "queue-full").counter().count());
+    }
+
+    @Test
+    @DisplayName("Under pressure low-priority calls are shed first")
+    void testDisplacement() throws Exception {
+        scheduler.acquire(Priority.HIGH);
+        List<CompletableFuture<Void>> low = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            low.add(call(Priority.LOW, new ArrayList<>()));
+            awaitQueued(Priority.LOW, i + 1);
+        }
+        call(Priority.NORMAL, new ArrayList<>());
+        awaitQueued(Priority.NORMAL, 1);
+
+        // The queues hold 4 calls: a HIGH arrival displaces the newest LOW call
+        call(Priority.HIGH, new ArrayList<>());
+        awaitQueued(Priority.HIGH, 1);
+
+        CompletableFuture<Void> displaced = low.get(2);
+        Throwable failure = assertThrows(Exception.class, displaced::join).getCause();
+        assertInstanceOf(RequestShedException.class, failure);
+        assertEquals(2, scheduler.queued(Priority.LOW));
+        assertEquals(1.0, meterRegistry.get("scheduling.shed").tag("class", "low").tag("reason", "displaced").counter().count());
+
+        // The queues are full again and nothing is less important than LOW
+        assertThrows(RequestShedException.class, () -> scheduler.acquire(Priority.LOW));
+        assertEquals(1.0, meterRegistry.get("scheduling.shed").tag("class", "low").tag("reason", "overloaded").counter().count());
+    }
+
+    @Test
+    @DisplayName("Calls that wait too long are shed")
+    void testTimeout() {
+        scheduler = new PriorityScheduler(meterRegistry, true, 1, 4, 50, 2, 3, 1, 3, 1, 3);
+        scheduler.acquire(Priority.HIGH);
+
+        assertThrows(RequestShedException.class, () -> scheduler.acquire(Priority.NORMAL));
+        assertEquals(0, scheduler.queued(Priority.NORMAL));
+        assertEquals(1.0, meterRegistry.get("scheduling.shed").tag("class", "normal").tag("reason", "timeout").counter().count());
+    }
+
+    @Test
+    @DisplayName("Disabled scheduler never waits")
+    void testDisabled() {
+        scheduler = new PriorityScheduler(meterRegistry, false, 1, 4, 50, 2, 3, 1, 3, 1, 3);
+
+        for (int i = 0; i < 10; i++) {
+            scheduler.acquire(Priority.LOW);
+        }
+        assertEquals(0, scheduler.inFlight());
+    }
+
+    private CompletableFuture<Void> call(Priority priority, List<Priority> order) {
+        return CompletableFuture.runAsync(() -> {
+            scheduler.acquire(priority);
+            order.add(priority);
+            scheduler.release();
+        }, runnable -> new Thread(runnable).start());
+    }
+
+    private void awaitQueued(Priority priority, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (scheduler.queued(priority) < count) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for queued calls");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.naiomi.employee.api.security;
+
+import com.naiomi.employee.api.config.SecurityConfig;
+import com.naiomi.employee.api.controller.EmployeeController;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.util.SimpleMethodInvocation;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.access.intercept.RequestMatcherDelegatingAuthorizationManager;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.AnyRequestMatcher;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Measures the authorization overhead per request before and after the {@link AuthorizationMatrix}.
+ * <p>
+ * {@code url-rules+spel} is the previous setup: the {@code authorizeHttpRequests} URL rules followed by
+ * the {@code @PreAuthorize} expression of the controller method. The URL rules use ant matchers here,
+ * which are cheaper than the MVC matchers the application used, so this is a lower bound for the old
+ * cost. {@code matrix} is the single lookup that replaced both. Both run over the same mix of requests.
+ * </p>
+ * Run with: {@code java ... AuthorizationMatrixBenchmark [iterations]}
+ */
+public class AuthorizationMatrixBenchmark {
+
+    private static final Supplier<Authentication> USER = authentication("USER");
+    private static final Supplier<Authentication> ADMIN = authentication("ADMIN");
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+
+        Request[] requests = {
+                new Request("GET", "/employees/1", USER, "getEmployeeById"),
+                new Request("GET", "/employees/1/profile", USER, "getEmployeeProfile"),
+                new Request("PUT", "/employees/1", USER, "updateEmployee"),
+                new Request("DELETE", "/employees/1", ADMIN, "deleteEmployee"),
+                new Request("POST", "/employees", ADMIN, "createEmployee"),
+        };
+
+        AuthorizationManager<RequestAuthorizationContext> matrix = new SecurityConfig().authorizationMatrix();
+        AuthorizationManager<jakarta.servlet.http.HttpServletRequest> urlRules = urlRules();
+        PreAuthorizeAuthorizationManager preAuthorize = new PreAuthorizeAuthorizationManager();
+
+        System.out.printf("iterations=%d requests=%d%n%n", iterations, requests.length);
+        for (int round = 0; round < 3; round++) {
+            run("url-rules+spel", iterations, requests, request -> {
+                AuthorizationDecision decision = urlRules.check(request.authentication, request.servletRequest);
+                return decision.isGranted()
+                        && preAuthorize.check(request.authentication, request.invocation).isGranted();
+            });
+            run("matrix", iterations, requests,
+                    request -> matrix.check(request.authentication, request.context).isGranted());
+            System.out.println();
+        }
+    }
+
+    private static void run(String name, int iterations, Request[] requests, Check check) {
+        long granted = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            if (check.granted(requests[i % requests.length])) {
+                granted++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-15s %8.1f ns/request  granted=%d%n", name, elapsed / (double) iterations, granted);
+    }
+
+    /**
+     * The URL rules of the former {@code SecurityConfig.filterChain}.
+     */
+    private static AuthorizationManager<jakarta.servlet.http.HttpServletRequest> urlRules() {
+        return RequestMatcherDelegatingAuthorizationManager.builder()
+                .add(new AntPathRequestMatcher("/employees", "POST"), AuthorityAuthorizationManager.hasAuthority("ADMIN"))
+                .add(new AntPathRequestMatcher("/employees/**", "DELETE"), AuthorityAuthorizationManager.hasAuthority("ADMIN"))
+                .add(new AntPathRequestMatcher("/employees/**", "GET"), AuthorityAuthorizationManager.hasAnyAuthority("ADMIN", "USER"))
+                .add(new AntPathRequestMatcher("/employees/**", "PUT"), AuthorityAuthorizationManager.hasAnyAuthority("ADMIN", "USER"))
+                .add(new AntPathRequestMatcher("/admin/**"), AuthorityAuthorizationManager.hasAuthority("ADMIN"))
+                .add(AnyRequestMatcher.INSTANCE, (authentication, request) -> new AuthorizationDecision(true))
+                .build();
+    }
+
+    private static Supplier<Authentication> authentication(String authority) {
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(
+                "anonymousUser", null, AuthorityUtils.createAuthorityList(authority));
+        return () -> authentication;
+    }
+
+    private interface Check {
+        boolean granted(Request request);
+    }
+
+    private static final class Request {
+        private final MockHttpServletRequest servletRequest;
+        private final RequestAuthorizationContext context;
+        private final Supplier<Authentication> authentication;
+        private final SimpleMethodInvocation invocation;
+
+        private Request(String method, String uri, Supplier<Authentication> authentication, String handler) {
+            this.servletRequest = new MockHttpServletRequest(method, uri);
+            this.context = new RequestAuthorizationContext(servletRequest);
+            this.authentication = authentication;
+            EmployeeController controller = new EmployeeController(null, Optional.empty(), null);
+            Method target = Arrays.stream(EmployeeController.class.getDeclaredMethods())
+                    .filter(candidate -> candidate.getName().equals(handler))
+                    .findFirst()
+                    .orElseThrow();
+            this.invocation = new SimpleMethodInvocation(controller, target);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.naiomi.employee.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthorizationMatrixTest {
+
+    private final AuthorizationMatrix matrix = AuthorizationMatrix.builder()
+            .rule(HttpMethod.POST, "/employees", "ADMIN")
+            .rule(HttpMethod.GET, "/employees/{id}", "ADMIN", "USER")
+            .rule(HttpMethod.PUT, "/employees/{id}", "USER")
+            .rule(HttpMethod.GET, "/employees/jobs/{jobId}", "ADMIN")
+            .permitAll(HttpMethod.POST, "/auth/token")
+            .build();
+
+    @Test
+    @DisplayName("Requests are matched against literal and variable segments")
+    void testFind() {
+        assertEquals(Set.of("ADMIN"), matrix.find("POST", "/employees"));
+        assertEquals(Set.of("ADMIN", "USER"), matrix.find("GET", "/employees/42"));
+        assertEquals(Set.of("USER"), matrix.find("PUT", "/employees/42/"));
+        assertEquals(Set.of(), matrix.find("POST", "/auth/token"));
+        assertNull(matrix.find("DELETE", "/employees/42"));
+        assertNull(matrix.find("GET", "/swagger-ui.html"));
+    }
+
+    @Test
+    @DisplayName("Literal segments win, and variables are used when the literal has no rule for the method")
+    void testLiteralPrecedence() {
+        assertEquals(Set.of("ADMIN"), matrix.find("GET", "/employees/jobs/7"));
+        assertEquals(Set.of("ADMIN", "USER"), matrix.find("GET", "/employees/jobs"));
+        assertEquals(Set.of("USER"), matrix.find("PUT", "/employees/jobs"));
+    }
+
+    @Test
+    @DisplayName("HEAD requests need the same authorities as GET")
+    void testHead() {
+        assertEquals(Set.of("ADMIN", "USER"), matrix.find("HEAD", "/employees/42"));
+    }
+
+    @Test
+    @DisplayName("Access is granted when the authentication holds one of the required authorities")
+    void testCheck() {
+        assertTrue(check("GET", "/employees/1", "USER"));
+        assertFalse(check("POST", "/employees", "USER"));
+        assertFalse(check("PUT", "/employees/1", "ADMIN"));
+        assertTrue(check("GET", "/actuator/health", null));
+        // Percent-encoded segments are decoded before matching, as Spring MVC does
+        assertFalse(check("POST", "/%65mployees", "USER"));
+    }
+
+    @Test
+    @DisplayName("Duplicate rules are rejected")
+    void testDuplicateRule() {
+        AuthorizationMatrix.Builder builder = AuthorizationMatrix.builder().rule(HttpMethod.GET, "/employees/{id}", "USER");
+
+        assertThrows(IllegalArgumentException.class, () -> builder.rule(HttpMethod.GET, "/employees/{id}", "ADMIN"));
+    }
+
+    private boolean check(String method, String uri, String authority) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        Authentication authentication = authority == null ? null
+                : UsernamePasswordAuthenticationToken.authenticated("user", null, AuthorityUtils.createAuthorityList(authority));
+        return matrix.check(() -> authentication, new RequestAuthorizationContext(request)).isGranted();
+    }
+}
@@ -0,0 +1,81 @@
+package com.naiomi.employee.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthorizationMatrixVerifierTest {
+
+    @Test
+    @DisplayName("A matrix that matches the annotations passes")
+    void testMatching() {
+        AuthorizationMatrix matrix = AuthorizationMatrix.builder()
+                .rule(HttpMethod.GET, "/things/{id}", "ADMIN", "USER")
+                .rule(HttpMethod.PUT, "/things/{id}", "USER")
+                .permitAll(HttpMethod.GET, "/things/public")
+                .build();
+
+        assertEquals(List.of(), verify(matrix));
+    }
+
+    @Test
+    @DisplayName("Divergent, missing and stale rules are all reported")
+    void testDivergent() {
+        AuthorizationMatrix matrix = AuthorizationMatrix.builder()
+                .rule(HttpMethod.GET, "/things/{id}", "ADMIN", "USER")
+                .rule(HttpMethod.PUT, "/things/{id}", "ADMIN", "USER")
+                .rule(HttpMethod.DELETE, "/things/{id}", "ADMIN")
+                .build();
+
+        List<String> problems = verify(matrix);
+
+        assertEquals(3, problems.size(), problems::toString);
+        assertTrue(problems.contains("PUT /things/{id} (ThingController.update) allows [ADMIN, USER] in the "
+                + "authorization matrix but [USER] in @PreAuthorize"));
+        assertTrue(problems.contains("GET /things/public (ThingController.open) has no rule in the authorization matrix"));
+        assertTrue(problems.contains("DELETE /things/{id} is in the authorization matrix but matches no controller method"));
+    }
+
+    private static List<String> verify(AuthorizationMatrix matrix) {
+        StaticWebApplicationContext context = new StaticWebApplicationContext();
+        context.registerSingleton("thingController", ThingController.class);
+        RequestMappingHandlerMapping handlerMapping = new RequestMappingHandlerMapping();
+        handlerMapping.setApplicationContext(context);
+        handlerMapping.afterPropertiesSet();
+        return AuthorizationMatrixVerifier.verify(matrix, handlerMapping.getHandlerMethods());
+    }
+
+    @RestController
+    @RequestMapping("/things")
+    static class ThingController {
+
+        @GetMapping("/{id}")
+        @PreAuthorize("hasAnyAuthority('ADMIN', 'USER')")
+        public String get(@PathVariable Long id) {
+            return "thing";
+        }
+
+        @PutMapping("/{id}")
+        @PreAuthorize("hasAuthority('USER')")
+        public String update(@PathVariable Long id) {
+            return "thing";
+        }
+
+        @GetMapping("/public")
+        public String open() {
+            return "thing";
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.naiomi.employee.api.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares the authentication cost per request of Basic auth against bearer tokens.
+ * <p>
+ * {@code basic-noop} and {@code basic-bcrypt} authenticate the demo user through the same
+ * {@link DaoAuthenticationProvider} that backs {@code httpBasic}, with the password stored in plain
+ * text and as a BCrypt hash. {@code token-verify} checks the token signature on every call, while
+ * {@code token-cached} goes through {@link VerifiedTokenCache} as the request filter does.
+ * </p>
+ * Run with: {@code java ... TokenAuthenticationBenchmark [threads] [seconds] [bcryptStrength]}
+ */
+public class TokenAuthenticationBenchmark {
+
+    private static final String PASSWORD = "d1b82d02-3868-4575-8ca6-41abc3e9edd2";
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int bcryptStrength = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        TokenService tokenService = new TokenService(new ObjectMapper(),
+                "demo:ZGVmZ2hpamtsbW5vcHFyc3R1dnd4eXp7fH1+f4CBgoM=", "demo", 3600);
+        VerifiedTokenCache tokenCache = new VerifiedTokenCache(tokenService, new SimpleMeterRegistry(), 100_000);
+        String token = tokenService.issue("user", List.of("ADMIN"));
+
+        DaoAuthenticationProvider noop = provider("{noop}" + PASSWORD);
+        DaoAuthenticationProvider bcrypt = provider("{bcrypt}" + new BCryptPasswordEncoder(bcryptStrength).encode(PASSWORD));
+
+        System.out.printf("threads=%d seconds=%d bcrypt-strength=%d%n%n", threads, seconds, bcryptStrength);
+
+        run("basic-noop", threads, seconds,
+                () -> noop.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("user", PASSWORD)));
+        run("basic-bcrypt", threads, seconds,
+                () -> bcrypt.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("user", PASSWORD)));
+        run("token-verify", threads, seconds, () -> tokenService.verify(token));
+        run("token-cached", threads, seconds, () -> tokenCache.verify(token));
+    }
+
+    private static DaoAuthenticationProvider provider(String storedPassword) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(
+                PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        provider.setUserDetailsService(new InMemoryUserDetailsManager(
+                User.withUsername("user").password(storedPassword).authorities("ADMIN").build()));
+        return provider;
+    }
+
+    private static void run(String name, int threads, int seconds, Runnable authentication)
+            throws InterruptedException {
+        // Short warm-up so the JIT has compiled the path before it is measured
+        measure(threads, 1, authentication);
+        long operations = measure(threads, seconds, authentication);
+        System.out.printf("%-13s throughput=%12.0f auth/s  mean=%10.2f us%n",
+                name, operations / (double) seconds, seconds * 1e6 * threads / operations);
+    }
+
+    private static long measure(int threads, int seconds, Runnable authentication) throws InterruptedException {
+        LongAdder operations = new LongAdder();
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            Thread thread = new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    authentication.run();
+                    operations.increment();
+                }
+                done.countDown();
+            });
+            thread.start();
+        }
+        done.await();
+        return operations.sum();
+    }
+}
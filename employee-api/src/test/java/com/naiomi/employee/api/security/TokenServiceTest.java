@@ -0,0 +1,83 @@
+package com.naiomi.employee.api.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenServiceTest {
+
+    private static final String OLD_KEY = "old:3q2+796tvu/erb7v3q2+796tvu/erb7v3q2+796tvu8=";
+    private static final String NEW_KEY = "new:ZGVmZ2hpamtsbW5vcHFyc3R1dnd4eXp7fH1+f4CBgoM=";
+
+    private final TokenService tokenService = new TokenService(new ObjectMapper(), OLD_KEY + "," + NEW_KEY, "new", 3600);
+
+    @Test
+    @DisplayName("An issued token verifies with its subject, authorities and expiry")
+    void testIssueAndVerify() {
+        String token = tokenService.issue("user", List.of("ADMIN"));
+
+        VerifiedToken verified = tokenService.verify(token);
+
+        assertEquals("user", verified.getSubject());
+        assertEquals(List.of("ADMIN"), verified.getAuthorities());
+        assertTrue(verified.getExpiresAt().isAfter(Instant.now().plusSeconds(3500)));
+    }
+
+    @Test
+    @DisplayName("Tokens signed with a key that is still configured stay valid after rotation")
+    void testKeyRotation() {
+        String token = new TokenService(new ObjectMapper(), OLD_KEY, "old", 3600).issue("user", List.of("ADMIN"));
+
+        assertEquals("user", tokenService.verify(token).getSubject());
+        assertThrows(BadCredentialsException.class,
+                () -> new TokenService(new ObjectMapper(), NEW_KEY, "new", 3600).verify(token));
+    }
+
+    @Test
+    @DisplayName("A token with altered claims is rejected")
+    void testTamperedToken() {
+        String token = tokenService.issue("user", List.of("USER"));
+        String forged = tokenService.issue("user", List.of("ADMIN"));
+        String[] parts = token.split("\\.");
+        String[] forgedParts = forged.split("\\.");
+
+        BadCredentialsException e = assertThrows(BadCredentialsException.class,
+                () -> tokenService.verify(parts[0] + "." + forgedParts[1] + "." + parts[2]));
+        assertEquals("Invalid token signature", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("Expired and malformed tokens are rejected")
+    void testExpiredAndMalformed() {
+        String expired = tokenService.issue("user", List.of("ADMIN"), Instant.now().minusSeconds(1));
+
+        assertEquals("Token has expired", assertThrows(BadCredentialsException.class,
+                () -> tokenService.verify(expired)).getMessage());
+        assertThrows(BadCredentialsException.class, () -> tokenService.verify("not-a-token"));
+        assertThrows(BadCredentialsException.class, () -> tokenService.verify("a.b.c"));
+    }
+
+    @Test
+    @DisplayName("Without configured keys each instance signs with its own random key")
+    void testGeneratedKey() {
+        TokenService first = new TokenService(new ObjectMapper(), "", "", 3600);
+        TokenService second = new TokenService(new ObjectMapper(), "", "", 3600);
+        String token = first.issue("user", List.of("ADMIN"));
+
+        assertEquals("user", first.verify(token).getSubject());
+        assertThrows(BadCredentialsException.class, () -> second.verify(token));
+    }
+
+    @Test
+    @DisplayName("Keys shorter than 256 bits are refused")
+    void testShortKey() {
+        assertThrows(IllegalStateException.class,
+                () -> new TokenService(new ObjectMapper(), "short:c2hvcnQ=", "short", 3600));
+    }
+}
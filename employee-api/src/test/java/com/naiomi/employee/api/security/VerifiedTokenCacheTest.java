@@ -0,0 +1,63 @@
+package com.naiomi.employee.api.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class VerifiedTokenCacheTest {
+
+    private TokenService tokenService;
+    private VerifiedTokenCache tokenCache;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = spy(new TokenService(new ObjectMapper(),
+                "demo:ZGVmZ2hpamtsbW5vcHFyc3R1dnd4eXp7fH1+f4CBgoM=", "demo", 3600));
+        tokenCache = new VerifiedTokenCache(tokenService, new SimpleMeterRegistry(), 100);
+    }
+
+    @Test
+    @DisplayName("A token is verified once and then served from the cache")
+    void testVerifiedOnce() {
+        String token = tokenService.issue("user", List.of("ADMIN"));
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("user", tokenCache.verify(token).getSubject());
+        }
+
+        verify(tokenService, times(1)).verify(token);
+        assertEquals(1, tokenCache.size());
+    }
+
+    @Test
+    @DisplayName("Invalid tokens are not cached")
+    void testInvalidNotCached() {
+        assertThrows(BadCredentialsException.class, () -> tokenCache.verify("a.b.c"));
+        assertThrows(BadCredentialsException.class, () -> tokenCache.verify("a.b.c"));
+
+        verify(tokenService, times(2)).verify(anyString());
+        assertEquals(0, tokenCache.size());
+    }
+
+    @Test
+    @DisplayName("A cached token stops being accepted once it expires")
+    void testExpiresWithToken() throws InterruptedException {
+        String token = tokenService.issue("user", List.of("ADMIN"), Instant.now().plusSeconds(1));
+        tokenCache.verify(token);
+
+        Thread.sleep(1100);
+
+        assertThrows(BadCredentialsException.class, () -> tokenCache.verify(token));
+        assertEquals(0, tokenCache.size());
+    }
+}
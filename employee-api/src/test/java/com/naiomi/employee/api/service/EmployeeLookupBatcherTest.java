@@ -0,0 +1,195 @@
+package com.naiomi.employee.api.service;
+
+import com.naiomi.employee.api.client.EmployeeDataClient;
+import com.naiomi.employee.api.dto.ProjectDto;
+import com.naiomi.employee.api.dto.RoleDto;
+import com.naiomi.employee.api.model.EmployeeField;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeLookupBatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final RecordingClient client = new RecordingClient();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Lookups within the window are sent as one batch of distinct IDs")
+    void testBatch() throws Exception {
+        EmployeeLookupBatcher batcher = new EmployeeLookupBatcher(client, meterRegistry, true, 300, 64);
+
+        List<Future<EmployeeResponse>> results = new ArrayList<>();
+        for (long id : new long[]{1, 2, 3, 2}) {
+            results.add(submit(batcher, id));
+        }
+
+        assertEquals(List.of(1L, 2L, 3L, 2L), ids(results));
+        assertEquals(List.of(List.of(1L, 2L, 3L)), client.batches);
+        assertTrue(client.singles.isEmpty());
+        assertEquals(1.0, meterRegistry.get("employee.batch.calls").counter().count());
+        assertEquals(4.0, meterRegistry.get("employee.batch.lookups").counter().count());
+    }
+
+    @Test
+    @DisplayName("A full batch is sent before the window closes")
+    void testMaxSize() throws Exception {
+        EmployeeLookupBatcher batcher = new EmployeeLookupBatcher(client, meterRegistry, true, 60_000, 2);
+
+        Future<EmployeeResponse> first = submit(batcher, 1L);
+        Future<EmployeeResponse> second = submit(batcher, 2L);
+
+        assertEquals(1L, first.get(5, TimeUnit.SECONDS).id());
+        assertEquals(2L, second.get(5, TimeUnit.SECONDS).id());
+        assertEquals(List.of(List.of(1L, 2L)), client.batches);
+    }
+
+    @Test
+    @DisplayName("IDs missing from the batch fail with 404, the others succeed")
+    void testMissing() throws Exception {
+        EmployeeLookupBatcher batcher = new EmployeeLookupBatcher(client, meterRegistry, true, 300, 64);
+        client.missing.add(2L);
+
+        Future<EmployeeResponse> found = submit(batcher, 1L);
+        Future<EmployeeResponse> missing = submit(batcher, 2L);
+
+        assertEquals(1L, found.get(5, TimeUnit.SECONDS).id());
+        ExecutionException e = assertThrows(ExecutionException.class, () -> missing.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(HttpClientErrorException.NotFound.class, e.getCause());
+    }
+
+    @Test
+    @DisplayName("A failed batch fails every lookup in it")
+    void testFailure() throws Exception {
+        EmployeeLookupBatcher batcher = new EmployeeLookupBatcher(client, meterRegistry, true, 300, 64);
+        client.failing = true;
+
+        List<Future<EmployeeResponse>> results = List.of(submit(batcher, 1L), submit(batcher, 2L));
+
+        for (Future<EmployeeResponse> result : results) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(HttpServerErrorException.class, e.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("A lone lookup uses the single lookup")
+    void testSingle() {
+        EmployeeLookupBatcher batcher = new EmployeeLookupBatcher(client, meterRegistry, true, 1, 64);
+
+        assertEquals(7L, batcher.get(7L).id());
+
+        assertEquals(List.of(7L), client.singles);
+        assertTrue(client.batches.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Disabled batcher looks every employee up on its own")
+    void testDisabled() throws Exception {
+        EmployeeLookupBatcher batcher = new EmployeeLookupBatcher(client, meterRegistry, false, 300, 64);
+
+        assertEquals(1L, batcher.get(1L).id());
+        assertEquals(2L, batcher.get(2L).id());
+
+        assertEquals(List.of(1L, 2L), client.singles);
+        assertEquals(0.0, meterRegistry.get("employee.batch.lookups").counter().count());
+    }
+
+    /**
+     * Submits a lookup and waits until the batcher has seen it, so that lookups join the batch in
+     * submission order.
+     */
+    private Future<EmployeeResponse> submit(EmployeeLookupBatcher batcher, long id) throws InterruptedException {
+        double received = meterRegistry.get("employee.batch.lookups").counter().count();
+        Future<EmployeeResponse> result = executor.submit(() -> batcher.get(id));
+        while (meterRegistry.get("employee.batch.lookups").counter().count() == received && !result.isDone()) {
+            Thread.sleep(1);
+        }
+        return result;
+    }
+
+    private static List<Long> ids(List<Future<EmployeeResponse>> results) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (Future<EmployeeResponse> result : results) {
+            ids.add(result.get(5, TimeUnit.SECONDS).id());
+        }
+        return ids;
+    }
+
+    private static final class RecordingClient implements EmployeeDataClient {
+
+        private final List<List<Long>> batches = new CopyOnWriteArrayList<>();
+        private final List<Long> singles = new CopyOnWriteArrayList<>();
+        private final List<Long> missing = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+
+        @Override
+        public EmployeeResponse getEmployee(Long id, Set<EmployeeField> fields) {
+            singles.add(id);
+            return employee(id);
+        }
+
+        @Override
+        public List<EmployeeResponse> getEmployees(Collection<Long> ids) {
+            batches.add(List.copyOf(ids));
+            if (failing) {
+                throw HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE,
+                        "Service Unavailable", null, null, null);
+            }
+            return ids.stream().filter(id -> !missing.contains(id)).map(RecordingClient::employee).toList();
+        }
+
+        @Override
+        public EmployeeResponse createEmployee(EmployeeRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public EmployeeResponse updateEmployee(Long id, EmployeeRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteEmployee(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public RoleDto getRole(Long employeeId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ProjectDto> getProjects(Long employeeId) {
+            throw new UnsupportedOperationException();
+        }
+
+        private static EmployeeResponse employee(Long id) {
+            return new EmployeeResponse(id, "John Doe", 2L);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.naiomi.employee.api.service;
+
+import com.naiomi.employee.api.cache.EmployeeCache;
+import com.naiomi.employee.api.cache.EmployeeIdFilter;
+import com.naiomi.employee.api.cache.LastKnownGoodStore;
+import com.naiomi.employee.api.client.RestEmployeeDataClient;
+import com.naiomi.employee.api.dto.EmployeeApiResponseDto;
+import com.naiomi.employee.api.dto.EmployeeProfileDto;
+import com.naiomi.employee.api.dto.ProjectDto;
+import com.naiomi.employee.api.dto.RoleDto;
+import com.naiomi.employee.api.exception.EmployeeNotFoundException;
+import com.naiomi.employee.api.mapper.EmployeeMapperImpl;
+import com.naiomi.employee.api.model.ProfilePartStatus;
+import com.naiomi.employee.api.model.Role;
+import com.naiomi.employee.api.replica.EmployeeReadModel;
+import com.naiomi.employee.api.retry.RetryPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class EmployeeProfileServiceTest {
+
+    private static final String EMPLOYEE_DATA_URL = "http://localhost:9091/api/employees";
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private EmployeeProfileService profileService;
+    private EmployeeProfileService realProfileService;
+    private LastKnownGoodStore lastKnownGoodStore;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        profileService = new EmployeeProfileService(employeeService, new RestEmployeeDataClient(restTemplate,
+                new RetryPolicy(new SimpleMeterRegistry(), 1, 1, 1, 0.1, 10), EMPLOYEE_DATA_URL), 500, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        profileService.stop();
+        if (realProfileService != null) {
+            realProfileService.stop();
+            lastKnownGoodStore.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("All parts are fetched concurrently")
+    void testAllParts() throws Exception {
+        // Each part only completes once all three have started
+        CountDownLatch started = new CountDownLatch(3);
+        when(employeeService.getEmployeeById(1L)).thenAnswer(invocation -> {
+            started.countDown();
+            started.await(1, TimeUnit.SECONDS);
+            return new EmployeeApiResponseDto(1L, "John", "Doe", Role.ADMIN);
+        });
+        when(restTemplate.getForObject(EMPLOYEE_DATA_URL + "/1/role", RoleDto.class)).thenAnswer(invocation -> {
+            started.countDown();
+            started.await(1, TimeUnit.SECONDS);
+            return new RoleDto(1L, Role.ADMIN);
+        });
+        when(restTemplate.getForObject(EMPLOYEE_DATA_URL + "/1/projects", ProjectDto[].class)).thenAnswer(invocation -> {
+            started.countDown();
+            started.await(1, TimeUnit.SECONDS);
+            return new ProjectDto[]{new ProjectDto(7L, "Payroll")};
+        });
+
+        EmployeeProfileDto profile = profileService.getProfile(1L);
+
+        assertEquals(0, started.getCount());
+        assertEquals("John", profile.getEmployee().getFirstName());
+        assertEquals(Role.ADMIN, profile.getRole().getName());
+        assertEquals("Payroll", profile.getProjects().get(0).getName());
+        profile.getParts().values().forEach(part -> assertEquals(ProfilePartStatus.OK, part.getStatus()));
+    }
+
+    @Test
+    @DisplayName("A part that misses the deadline is reported while the others are returned")
+    void testPartialOnTimeout() {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(employeeService.getEmployeeById(1L)).thenReturn(new EmployeeApiResponseDto(1L, "John", "Doe", Role.ADMIN));
+        when(restTemplate.getForObject(EMPLOYEE_DATA_URL + "/1/role", RoleDto.class)).thenReturn(new RoleDto(1L, Role.ADMIN));
+        when(restTemplate.getForObject(EMPLOYEE_DATA_URL + "/1/projects", ProjectDto[].class)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return new ProjectDto[0];
+        });
+
+        long start = System.nanoTime();
+        EmployeeProfileDto profile = profileService.getProfile(1L);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMs < 2000, "took " + elapsedMs + " ms");
+        assertNotNull(profile.getEmployee());
+        assertNotNull(profile.getRole());
+        assertNull(profile.getProjects());
+        assertEquals(ProfilePartStatus.TIMEOUT, profile.getParts().get("projects").getStatus());
+        assertEquals(ProfilePartStatus.OK, profile.getParts().get("role").getStatus());
+        assertDoesNotThrow(() -> assertTrue(interrupted.await(1, TimeUnit.SECONDS), "timed-out part not cancelled"));
+    }
+
+    @Test
+    @DisplayName("Failed parts are reported by status")
+    void testFailedParts() {
+        when(employeeService.getEmployeeById(1L)).thenReturn(new EmployeeApiResponseDto(1L, "John", "Doe", Role.ADMIN));
+        when(restTemplate.getForObject(EMPLOYEE_DATA_URL + "/1/role", RoleDto.class))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+        when(restTemplate.getForObject(EMPLOYEE_DATA_URL + "/1/projects", ProjectDto[].class))
+                .thenThrow(new IllegalStateException("connection reset"));
+
+        EmployeeProfileDto profile = profileService.getProfile(1L);
+
+        assertEquals(ProfilePartStatus.NOT_FOUND, profile.getParts().get("role").getStatus());
+        assertEquals(ProfilePartStatus.ERROR, profile.getParts().get("projects").getStatus());
+        assertEquals("connection reset", profile.getParts().get("projects").getMessage());
+    }
+
+    @Test
+    @DisplayName("Rejections other than 404 are errors, not missing parts")
+    void testRejectedParts() {
+        when(employeeService.getEmployeeById(1L)).thenReturn(new EmployeeApiResponseDto(1L, "John", "Doe", Role.ADMIN));
+        when(restTemplate.getForObject(EMPLOYEE_DATA_URL + "/1/role", RoleDto.class))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null));
+        when(restTemplate.getForObject(EMPLOYEE_DATA_URL + "/1/projects", ProjectDto[].class))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null));
+
+        EmployeeProfileDto profile = profileService.getProfile(1L);
+
+        assertEquals(ProfilePartStatus.ERROR, profile.getParts().get("role").getStatus());
+        assertEquals(ProfilePartStatus.ERROR, profile.getParts().get("projects").getStatus());
+    }
+
+    @Test
+    @DisplayName("Missing employee fails the whole profile")
+    void testEmployeeNotFound() {
+        // employee-data answers every part of a missing employee with 404
+        MockRestServiceServer dataTier = dataTier();
+        dataTier.expect(ExpectedCount.between(0, 1), requestTo(EMPLOYEE_DATA_URL + "/1"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"error\":\"Employee not found with ID: 1\"}"));
+        notFound(dataTier, "/1/role");
+        notFound(dataTier, "/1/projects");
+
+        assertThrows(EmployeeNotFoundException.class, () -> realProfileService.getProfile(1L));
+    }
+
+    @Test
+    @DisplayName("A 400 for the employee is an error, not a missing employee")
+    void testEmployeeRejected() {
+        MockRestServiceServer dataTier = dataTier();
+        dataTier.expect(ExpectedCount.between(0, 1), requestTo(EMPLOYEE_DATA_URL + "/1"))
+                .andRespond(withStatus(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"error\":\"Invalid request\"}"));
+        dataTier.expect(ExpectedCount.between(0, 1), requestTo(EMPLOYEE_DATA_URL + "/1/role"))
+                .andRespond(withSuccess("{\"id\":1,\"name\":\"ADMIN\"}", MediaType.APPLICATION_JSON));
+        dataTier.expect(ExpectedCount.between(0, 1), requestTo(EMPLOYEE_DATA_URL + "/1/projects"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        EmployeeProfileDto profile = realProfileService.getProfile(1L);
+
+        assertNull(profile.getEmployee());
+        assertEquals(ProfilePartStatus.ERROR, profile.getParts().get("employee").getStatus());
+        assertEquals(ProfilePartStatus.OK, profile.getParts().get("role").getStatus());
+    }
+
+    /**
+     * Binds a data tier to a profile service built on the real client, employee service and
+     * batcher.
+     */
+    private MockRestServiceServer dataTier() {
+        RestTemplate dataTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(dataTemplate).ignoreExpectOrder(true).build();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RetryPolicy retryPolicy = new RetryPolicy(meterRegistry, 1, 1, 1, 0.1, 10);
+        RestEmployeeDataClient employeeDataClient = new RestEmployeeDataClient(dataTemplate, retryPolicy, EMPLOYEE_DATA_URL);
+        lastKnownGoodStore = new LastKnownGoodStore(meterRegistry, false, 1000, 3600, 200, 2, 16);
+        EmployeeService realEmployeeService = new EmployeeService(new EmployeeMapperImpl(), employeeDataClient,
+                new EmployeeCache(false, 3600, 1000),
+                new EmployeeReadModel(dataTemplate, "http://localhost:9091/changes", false, 100, 500, 1000, 2000),
+                new EmployeeIdFilter(dataTemplate, meterRegistry, EMPLOYEE_DATA_URL, false, 0.01, 10000, 600000),
+                lastKnownGoodStore, new UpdateCoalescer(meterRegistry, List.of(), 20),
+                new EmployeeLookupBatcher(employeeDataClient, meterRegistry, true, 1, 64));
+        realProfileService = new EmployeeProfileService(realEmployeeService, employeeDataClient, 500, 8);
+        return server;
+    }
+
+    private static void notFound(MockRestServiceServer dataTier, String path) {
+        dataTier.expect(ExpectedCount.between(0, 1), requestTo(EMPLOYEE_DATA_URL + path))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"error\":\"Employee not found with ID: 1\"}"));
+    }
+}
@@ -1,13 +1,24 @@
 package com.naiomi.employee.api.service;
 
+import com.naiomi.employee.api.cache.EmployeeCache;
+import com.naiomi.employee.api.cache.EmployeeIdFilter;
+import com.naiomi.employee.api.cache.LastKnownGoodStore;
+import com.naiomi.employee.api.cache.ReadResult;
+import com.naiomi.employee.api.client.RestEmployeeDataClient;
 import com.naiomi.employee.api.dto.EmployeeApiRequestDto;
 import com.naiomi.employee.api.dto.EmployeeApiResponseDto;
-import com.naiomi.employee.api.dto.EmployeeDataRequestDto;
-import com.naiomi.employee.api.dto.EmployeeDataResponseDto;
 import com.naiomi.employee.api.exception.EmployeeNotFoundException;
 import com.naiomi.employee.api.exception.GlobalExceptionHandler;
 import com.naiomi.employee.api.mapper.EmployeeMapper;
+import com.naiomi.employee.api.model.EmployeeField;
 import com.naiomi.employee.api.model.Role;
+import com.naiomi.employee.api.replica.EmployeeReadModel;
+import com.naiomi.employee.api.retry.RetryPolicy;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,15 +28,29 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 class EmployeeServiceTest {
 
@@ -40,10 +65,26 @@ class EmployeeServiceTest {
 
     private final String employeeDataUrl = "http://localhost:9091/api/employees";
 
+    private SimpleMeterRegistry meterRegistry;
+    private LastKnownGoodStore lastKnownGoodStore;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        employeeService = new EmployeeService(employeeMapper, restTemplate, employeeDataUrl);
+        meterRegistry = new SimpleMeterRegistry();
+        lastKnownGoodStore = new LastKnownGoodStore(meterRegistry, true, 1000, 3600, 200, 2, 16);
+        RestEmployeeDataClient employeeDataClient = new RestEmployeeDataClient(restTemplate,
+                new RetryPolicy(meterRegistry, 1, 1, 1, 0.1, 10), employeeDataUrl);
+        employeeService = new EmployeeService(employeeMapper, employeeDataClient, new EmployeeCache(false, 3600, 1000),
+                new EmployeeReadModel(restTemplate, "http://localhost:9091/changes", false, 100, 500, 1000, 2000),
+                new EmployeeIdFilter(restTemplate, new SimpleMeterRegistry(), employeeDataUrl, false, 0.01, 10000, 600000),
+                lastKnownGoodStore, new UpdateCoalescer(meterRegistry, List.of(), 20),
+                new EmployeeLookupBatcher(employeeDataClient, meterRegistry, false, 1, 64));
+    }
+
+    @AfterEach
+    void tearDown() {
+        lastKnownGoodStore.stop();
     }
 
     @Test
@@ -54,11 +95,11 @@ class EmployeeServiceTest {
         apiRequest.setSurname("Doe");
         apiRequest.setRole("ADMIN");
 
-        EmployeeDataRequestDto app2Request = new EmployeeDataRequestDto("John Doe", 1L);
-        EmployeeDataResponseDto app2Response = new EmployeeDataResponseDto(1L, "John Doe", 1L);
+        EmployeeRequest app2Request = new EmployeeRequest("John Doe", 1L);
+        EmployeeResponse app2Response = new EmployeeResponse(1L, "John Doe", 1L);
 
         when(employeeMapper.toEmployeeDataRequest(apiRequest)).thenReturn(app2Request);
-        when(restTemplate.postForObject(employeeDataUrl, app2Request, EmployeeDataResponseDto.class)).thenReturn(app2Response);
+        when(restTemplate.postForObject(employeeDataUrl, app2Request, EmployeeResponse.class)).thenReturn(app2Response);
         when(employeeMapper.toApp1Response(app2Response)).thenReturn(new EmployeeApiResponseDto(1L, "John", "Doe", Role.ADMIN));
 
         EmployeeApiResponseDto response = employeeService.createEmployee(apiRequest);
@@ -69,7 +110,7 @@ class EmployeeServiceTest {
         assertEquals("Doe", response.getSurname());
         assertEquals(Role.ADMIN, response.getRole());
 
-        verify(restTemplate).postForObject(employeeDataUrl, app2Request, EmployeeDataResponseDto.class);
+        verify(restTemplate).postForObject(employeeDataUrl, app2Request, EmployeeResponse.class);
         verify(employeeMapper).toApp1Response(app2Response);
     }
 
@@ -97,10 +138,10 @@ class EmployeeServiceTest {
         apiRequest.setSurname("Doe");
         apiRequest.setRole("ADMIN");
 
-        EmployeeDataRequestDto app2Request = new EmployeeDataRequestDto("John Doe", 1L);
+        EmployeeRequest app2Request = new EmployeeRequest("John Doe", 1L);
 
         when(employeeMapper.toEmployeeDataRequest(apiRequest)).thenReturn(app2Request);
-        when(restTemplate.postForObject(employeeDataUrl, app2Request, EmployeeDataResponseDto.class)).thenReturn(null);
+        when(restTemplate.postForObject(employeeDataUrl, app2Request, EmployeeResponse.class)).thenReturn(null);
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> employeeService.createEmployee(apiRequest));
@@ -108,7 +149,7 @@ class EmployeeServiceTest {
 
         // Verify interactions
         verify(employeeMapper).toEmployeeDataRequest(apiRequest);
-        verify(restTemplate).postForObject(employeeDataUrl, app2Request, EmployeeDataResponseDto.class);
+        verify(restTemplate).postForObject(employeeDataUrl, app2Request, EmployeeResponse.class);
     }
 
 
@@ -117,9 +158,9 @@ class EmployeeServiceTest {
     @DisplayName("Get Employee by ID: Valid ID")
     void getEmployeeById_ValidId() {
         Long id = 1L;
-        EmployeeDataResponseDto app2Response = new EmployeeDataResponseDto(1L, "John Doe", 1L);
+        EmployeeResponse app2Response = new EmployeeResponse(1L, "John Doe", 1L);
 
-        when(restTemplate.getForObject(employeeDataUrl + "/" + id, EmployeeDataResponseDto.class)).thenReturn(app2Response);
+        when(restTemplate.getForObject(employeeDataUrl + "/" + id, EmployeeResponse.class)).thenReturn(app2Response);
         when(employeeMapper.toApp1Response(app2Response)).thenReturn(new EmployeeApiResponseDto(1L, "John", "Doe", Role.ADMIN));
 
         EmployeeApiResponseDto response = employeeService.getEmployeeById(id);
@@ -130,17 +171,46 @@ class EmployeeServiceTest {
         assertEquals("Doe", response.getSurname());
         assertEquals(Role.ADMIN, response.getRole());
 
-        verify(restTemplate).getForObject(employeeDataUrl + "/" + id, EmployeeDataResponseDto.class);
+        verify(restTemplate).getForObject(employeeDataUrl + "/" + id, EmployeeResponse.class);
         verify(employeeMapper).toApp1Response(app2Response);
     }
 
+    @Test
+    @DisplayName("Get Employee by ID: Sparse fieldset requests only the underlying fields")
+    void getEmployeeFieldsById_ValidId() {
+        Long id = 1L;
+        EmployeeResponse app2Response = new EmployeeResponse(null, "John Doe", 3L);
+        String url = employeeDataUrl + "/" + id + "?fields=name,roleId";
+
+        when(restTemplate.getForObject(url, EmployeeResponse.class)).thenReturn(app2Response);
+        when(employeeMapper.mapRoleIdToRole(anyLong())).thenCallRealMethod();
+
+        Map<String, Object> response = employeeService.getEmployeeFieldsById(id,
+                EmployeeField.parse("surname,role,firstName"));
+
+        assertEquals(List.of("firstName", "surname", "role"), List.copyOf(response.keySet()));
+        assertEquals("John", response.get("firstName"));
+        assertEquals("Doe", response.get("surname"));
+        assertEquals(Role.MANAGER, response.get("role"));
+        verify(restTemplate).getForObject(url, EmployeeResponse.class);
+    }
+
+    @Test
+    @DisplayName("Get Employee by ID: Unknown field is rejected")
+    void getEmployeeFieldsById_UnknownField() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> EmployeeField.parse("firstName,salary"));
+        assertEquals("Unknown field: salary. Allowed fields are: [id, firstName, surname, role]", exception.getMessage());
+        verifyNoInteractions(restTemplate);
+    }
+
     @Test
     @DisplayName("Get Employee by ID: Employee Not Found")
     void getEmployeeById_NotFound() {
         Long id = 1L;
 
         // Mock the exception
-        when(restTemplate.getForObject(employeeDataUrl + "/" + id, EmployeeDataResponseDto.class))
+        when(restTemplate.getForObject(employeeDataUrl + "/" + id, EmployeeResponse.class))
                 .thenThrow(HttpClientErrorException.create(
                         HttpStatus.NOT_FOUND,
                         "Not Found",
@@ -155,10 +225,92 @@ class EmployeeServiceTest {
         assertEquals("Employee not found with ID: " + id, thrownException.getMessage());
 
         // Verify interactions
-        verify(restTemplate).getForObject(employeeDataUrl + "/" + id, EmployeeDataResponseDto.class);
+        verify(restTemplate).getForObject(employeeDataUrl + "/" + id, EmployeeResponse.class);
         verifyNoInteractions(employeeMapper);
     }
 
+    @Test
+    @DisplayName("Get Employee by ID: Last known copy is served when employee-data fails")
+    void readEmployeeById_StaleOnError() {
+        String url = employeeDataUrl + "/1";
+        EmployeeResponse app2Response = new EmployeeResponse(1L, "John Doe", 1L);
+        when(restTemplate.getForObject(url, EmployeeResponse.class))
+                .thenReturn(app2Response)
+                .thenThrow(HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "Unavailable", null, null, null));
+        when(employeeMapper.toApp1Response(app2Response)).thenReturn(new EmployeeApiResponseDto(1L, "John", "Doe", Role.ADMIN));
+
+        assertFalse(employeeService.readEmployeeById(1L).isStale());
+        ReadResult<EmployeeApiResponseDto> stale = employeeService.readEmployeeById(1L);
+
+        assertTrue(stale.isStale());
+        assertEquals("error", stale.getStaleReason());
+        assertEquals("John", stale.getValue().getFirstName());
+        assertEquals(1.0, meterRegistry.get("employee.stale.served").tag("reason", "error").counter().count());
+    }
+
+    @Test
+    @DisplayName("Get Employee by ID: Last known copy is served when employee-data is over the latency budget")
+    void readEmployeeById_StaleOnTimeout() {
+        EmployeeResponse app2Response = new EmployeeResponse(1L, "John Doe", 1L);
+        when(restTemplate.getForObject(employeeDataUrl + "/1", EmployeeResponse.class)).thenReturn(app2Response);
+        when(restTemplate.getForObject(employeeDataUrl + "/1?fields=name", EmployeeResponse.class))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(1000);
+                    return new EmployeeResponse(null, "Johnny Doe", null);
+                });
+
+        employeeService.getEmployeeById(1L);
+        ReadResult<Map<String, Object>> stale = employeeService.readEmployeeFieldsById(1L, EnumSet.of(EmployeeField.FIRST_NAME));
+
+        assertTrue(stale.isStale());
+        assertEquals("timeout", stale.getStaleReason());
+        assertEquals("John", stale.getValue().get("firstName"));
+        assertEquals(1.0, meterRegistry.get("employee.stale.served").tag("reason", "timeout").counter().count());
+    }
+
+    @Test
+    @DisplayName("Get Employee by ID: A read still running when the employee is deleted does not bring it back")
+    void readEmployeeById_DeletedDuringLateRead() throws Exception {
+        String url = employeeDataUrl + "/1";
+        EmployeeResponse app2Response = new EmployeeResponse(1L, "John Doe", 1L);
+        CountDownLatch release = new CountDownLatch(1);
+        when(restTemplate.getForObject(url, EmployeeResponse.class))
+                .thenReturn(app2Response)
+                .thenAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return app2Response;
+                })
+                .thenThrow(HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "Unavailable", null, null, null));
+        when(employeeMapper.toApp1Response(app2Response)).thenReturn(new EmployeeApiResponseDto(1L, "John", "Doe", Role.ADMIN));
+
+        employeeService.readEmployeeById(1L);
+        assertEquals("timeout", employeeService.readEmployeeById(1L).getStaleReason());
+
+        employeeService.deleteEmployee(1L);
+        // The late read completes after the delete and tries to store its copy
+        release.countDown();
+        Thread.sleep(200);
+
+        assertThrows(RuntimeException.class, () -> employeeService.readEmployeeById(1L));
+    }
+
+    @Test
+    @DisplayName("Get Employee by ID: Deleted employee is not served stale")
+    void readEmployeeById_NotFoundIsNotMasked() {
+        String url = employeeDataUrl + "/1";
+        EmployeeResponse app2Response = new EmployeeResponse(1L, "John Doe", 1L);
+        when(restTemplate.getForObject(url, EmployeeResponse.class))
+                .thenReturn(app2Response)
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null))
+                .thenThrow(HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "Unavailable", null, null, null));
+
+        employeeService.readEmployeeById(1L);
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.readEmployeeById(1L));
+        // The copy was dropped with the 404, so a later failure is not masked either
+        assertThrows(RuntimeException.class, () -> employeeService.readEmployeeById(1L));
+    }
+
 
 
 
@@ -171,11 +323,11 @@ class EmployeeServiceTest {
         apiRequest.setSurname("Doe");
         apiRequest.setRole("USER");
 
-        EmployeeDataRequestDto app2Request = new EmployeeDataRequestDto("Jane Doe", 2L);
-        EmployeeDataResponseDto app2Response = new EmployeeDataResponseDto(1L, "Jane Doe", 2L);
+        EmployeeRequest app2Request = new EmployeeRequest("Jane Doe", 2L);
+        EmployeeResponse app2Response = new EmployeeResponse(1L, "Jane Doe", 2L);
 
         when(employeeMapper.toEmployeeDataRequest(apiRequest)).thenReturn(app2Request);
-        when(restTemplate.exchange(eq(employeeDataUrl + "/" + id), eq(HttpMethod.PUT), any(HttpEntity.class), eq(EmployeeDataResponseDto.class)))
+        when(restTemplate.exchange(eq(employeeDataUrl + "/" + id), eq(HttpMethod.PUT), any(HttpEntity.class), eq(EmployeeResponse.class)))
                 .thenReturn(ResponseEntity.ok(app2Response));
         when(employeeMapper.toApp1Response(app2Response)).thenReturn(new EmployeeApiResponseDto(1L, "Jane", "Doe", Role.USER));
 
@@ -187,10 +339,26 @@ class EmployeeServiceTest {
         assertEquals("Doe", response.getSurname());
         assertEquals(Role.USER, response.getRole());
 
-        verify(restTemplate).exchange(eq(employeeDataUrl + "/" + id), eq(HttpMethod.PUT), any(HttpEntity.class), eq(EmployeeDataResponseDto.class));
+        verify(restTemplate).exchange(eq(employeeDataUrl + "/" + id), eq(HttpMethod.PUT), any(HttpEntity.class), eq(EmployeeResponse.class));
         verify(employeeMapper).toApp1Response(app2Response);
     }
 
+    @Test
+    @DisplayName("Update Employee: Employee Not Found")
+    void updateEmployee_NotFound() {
+        EmployeeApiRequestDto apiRequest = new EmployeeApiRequestDto();
+        apiRequest.setFirstName("Jane");
+        apiRequest.setSurname("Doe");
+
+        when(employeeMapper.toEmployeeDataRequest(apiRequest)).thenReturn(new EmployeeRequest("Jane Doe", 2L));
+        when(restTemplate.exchange(eq(employeeDataUrl + "/1"), eq(HttpMethod.PUT), any(HttpEntity.class), eq(EmployeeResponse.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        EmployeeNotFoundException thrownException = assertThrows(EmployeeNotFoundException.class,
+                () -> employeeService.updateEmployee(1L, apiRequest, "USER"));
+        assertEquals("Employee not found with ID: 1", thrownException.getMessage());
+    }
+
     @Test
     @DisplayName("Delete Employee: Valid ID")
     void deleteEmployee_ValidId() {
@@ -235,11 +403,11 @@ class EmployeeServiceTest {
         apiRequest.setSurname("Doe");
         apiRequest.setRole("ADMIN");
 
-        EmployeeDataRequestDto expectedApp2Request = new EmployeeDataRequestDto("John Doe", 1L);
-        EmployeeDataResponseDto app2Response = new EmployeeDataResponseDto(1L, "John Doe", 1L);
+        EmployeeRequest expectedApp2Request = new EmployeeRequest("John Doe", 1L);
+        EmployeeResponse app2Response = new EmployeeResponse(1L, "John Doe", 1L);
 
         when(employeeMapper.toEmployeeDataRequest(apiRequest)).thenReturn(expectedApp2Request);
-        when(restTemplate.postForObject(anyString(), eq(expectedApp2Request), eq(EmployeeDataResponseDto.class)))
+        when(restTemplate.postForObject(anyString(), eq(expectedApp2Request), eq(EmployeeResponse.class)))
                 .thenReturn(app2Response);
         when(employeeMapper.toApp1Response(app2Response))
                 .thenReturn(new EmployeeApiResponseDto(1L, "John", "Doe", Role.ADMIN));
@@ -251,7 +419,49 @@ class EmployeeServiceTest {
         assertEquals(Role.ADMIN, response.getRole());
 
         verify(employeeMapper).toEmployeeDataRequest(apiRequest);
-        verify(restTemplate).postForObject(anyString(), eq(expectedApp2Request), eq(EmployeeDataResponseDto.class));
+        verify(restTemplate).postForObject(anyString(), eq(expectedApp2Request), eq(EmployeeResponse.class));
+    }
+
+    @Test
+    @DisplayName("Get Employee by ID: A Missing ID Gets The Same Answer Alone And In A Batch")
+    void getEmployeeById_MissingAloneAndBatched() throws Exception {
+        // employee-data answers a missing ID with 404 and leaves it out of a batch
+        RestTemplate dataTier = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(dataTier).build();
+        server.expect(requestTo(employeeDataUrl + "/7"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"error\":\"Employee not found with ID: 7\"}"));
+        server.expect(requestTo(Matchers.startsWith(employeeDataUrl + "/batch?ids=")))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        RestEmployeeDataClient employeeDataClient = new RestEmployeeDataClient(dataTier,
+                new RetryPolicy(meterRegistry, 1, 1, 1, 0.1, 10), employeeDataUrl);
+        EmployeeLookupBatcher batcher = new EmployeeLookupBatcher(employeeDataClient, meterRegistry, true, 300, 64);
+        EmployeeService service = new EmployeeService(employeeMapper, employeeDataClient,
+                new EmployeeCache(false, 3600, 1000),
+                new EmployeeReadModel(restTemplate, "http://localhost:9091/changes", false, 100, 500, 1000, 2000),
+                new EmployeeIdFilter(restTemplate, new SimpleMeterRegistry(), employeeDataUrl, false, 0.01, 10000, 600000),
+                lastKnownGoodStore, new UpdateCoalescer(meterRegistry, List.of(), 20), batcher);
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+        EmployeeNotFoundException alone = assertThrows(EmployeeNotFoundException.class,
+                () -> service.getEmployeeById(7L));
+        assertNotFoundResponse(handler, alone, 7L);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> service.getEmployeeById(8L));
+            Future<?> second = executor.submit(() -> service.getEmployeeById(9L));
+            Map<Long, Future<?>> batched = Map.of(8L, first, 9L, second);
+            for (Map.Entry<Long, Future<?>> call : batched.entrySet()) {
+                ExecutionException e = assertThrows(ExecutionException.class,
+                        () -> call.getValue().get(5, TimeUnit.SECONDS));
+                EmployeeNotFoundException notFound = assertInstanceOf(EmployeeNotFoundException.class, e.getCause());
+                // Each caller is told about its own ID, not the other one of the batch
+                assertNotFoundResponse(handler, notFound, call.getKey());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        server.verify();
     }
 
     @Test
@@ -273,4 +483,10 @@ class EmployeeServiceTest {
         assertEquals(404, response.getBody().get("status"));
     }
 
+    private static void assertNotFoundResponse(GlobalExceptionHandler handler, EmployeeNotFoundException exception, Long id) {
+        assertEquals("Employee not found with ID: " + id, exception.getMessage());
+        ResponseEntity<Map<String, Object>> response = handler.handleEmployeeNotFoundException(exception);
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("Employee not found with ID: " + id, response.getBody().get("message"));
+    }
 }
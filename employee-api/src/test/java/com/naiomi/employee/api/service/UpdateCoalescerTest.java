@@ -0,0 +1,150 @@
+package com.naiomi.employee.api.service;
+
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpdateCoalescerTest {
+
+    private static final String ROUTE = "PUT /employees/{id}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<EmployeeRequest> sent = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Updates within the window are sent once, with the last request")
+    void testLastWriteWins() throws Exception {
+        UpdateCoalescer coalescer = new UpdateCoalescer(meterRegistry, List.of(ROUTE), 300);
+
+        List<Future<EmployeeResponse>> results = List.of(
+                submit(coalescer, 1L, "Jane Doe"),
+                submit(coalescer, 1L, "Jane Smith"),
+                submit(coalescer, 1L, "Janet Smith"));
+
+        for (Future<EmployeeResponse> result : results) {
+            assertEquals("Janet Smith", result.get(5, TimeUnit.SECONDS).name());
+        }
+        assertEquals(List.of(new EmployeeRequest("Janet Smith", 2L)), sent);
+        assertEquals(3.0, coalescer.ratio());
+        assertEquals(3.0, meterRegistry.get("employee.coalesce.batch.size").summary().max());
+    }
+
+    @Test
+    @DisplayName("Updates of different employees are not merged")
+    void testDifferentEmployees() throws Exception {
+        UpdateCoalescer coalescer = new UpdateCoalescer(meterRegistry, List.of(ROUTE), 50);
+
+        Future<EmployeeResponse> first = submit(coalescer, 1L, "Jane Doe");
+        Future<EmployeeResponse> second = submit(coalescer, 2L, "John Doe");
+
+        assertEquals(1L, first.get(5, TimeUnit.SECONDS).id());
+        assertEquals(2L, second.get(5, TimeUnit.SECONDS).id());
+        assertEquals(2, sent.size());
+        assertEquals(1.0, coalescer.ratio());
+    }
+
+    @Test
+    @DisplayName("Every update of the batch gets the failure")
+    void testFailure() throws Exception {
+        UpdateCoalescer coalescer = new UpdateCoalescer(meterRegistry, List.of(ROUTE), 300);
+        Function<EmployeeRequest, EmployeeResponse> failing = request -> {
+            throw new IllegalStateException("down");
+        };
+
+        Future<EmployeeResponse> first = submit(coalescer, 1L, new EmployeeRequest("Jane Doe", 2L), failing);
+        Future<EmployeeResponse> second = submit(coalescer, 1L, new EmployeeRequest("Jane Smith", 2L), failing);
+
+        for (Future<EmployeeResponse> result : List.of(first, second)) {
+            Exception e = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertEquals("down", e.getCause().getMessage());
+        }
+        assertEquals(1.0, meterRegistry.get("employee.coalesce.calls").counter().count());
+    }
+
+    @Test
+    @DisplayName("Updates on routes that are not listed, or outside a request, are sent directly")
+    void testRouteNotListed() {
+        UpdateCoalescer coalescer = new UpdateCoalescer(meterRegistry, List.of(ROUTE), 300);
+
+        coalescer.update("PATCH /employees/{id}", 1L, new EmployeeRequest("Jane Doe", 2L), this::send);
+        coalescer.update(null, 1L, new EmployeeRequest("Jane Smith", 2L), this::send);
+        coalescer.update(1L, new EmployeeRequest("Janet Smith", 2L), this::send);
+
+        assertEquals(3, sent.size());
+        assertTrue(Double.isNaN(coalescer.ratio()));
+    }
+
+    @Test
+    @DisplayName("The route is the method and handler pattern of the current request")
+    void testCurrentRoute() {
+        assertNull(UpdateCoalescer.currentRoute());
+
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/employees/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/employees/{id}");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            assertEquals(ROUTE, UpdateCoalescer.currentRoute());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    @DisplayName("Routes are listed as METHOD /pattern")
+    void testInvalidRoute() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new UpdateCoalescer(meterRegistry, List.of("/employees/{id}"), 300));
+        assertDoesNotThrow(() -> new UpdateCoalescer(new SimpleMeterRegistry(), List.of(" put  /employees/{id} ", ""), 300));
+    }
+
+    private Future<EmployeeResponse> submit(UpdateCoalescer coalescer, Long id, String name) throws InterruptedException {
+        return submit(coalescer, id, new EmployeeRequest(name, 2L), request -> send(id, request));
+    }
+
+    /**
+     * Submits an update and waits until the coalescer has seen it, so that updates join the batch
+     * in submission order.
+     */
+    private Future<EmployeeResponse> submit(UpdateCoalescer coalescer, Long id, EmployeeRequest request,
+                                            Function<EmployeeRequest, EmployeeResponse> send)
+            throws InterruptedException {
+        double received = meterRegistry.get("employee.coalesce.updates").counter().count();
+        Future<EmployeeResponse> result = executor.submit(() -> coalescer.update(ROUTE, id, request, send));
+        while (meterRegistry.get("employee.coalesce.updates").counter().count() == received) {
+            Thread.sleep(1);
+        }
+        return result;
+    }
+
+    private EmployeeResponse send(EmployeeRequest request) {
+        return send(1L, request);
+    }
+
+    private EmployeeResponse send(Long id, EmployeeRequest request) {
+        sent.add(request);
+        return new EmployeeResponse(id, request.name(), request.roleId());
+    }
+}
@@ -0,0 +1,91 @@
+package com.naiomi.employee.api.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naiomi.employee.api.mapper.EmployeeMapper;
+import com.naiomi.employee.contract.EmployeeResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class WarmUpRunnerTest {
+
+    private static final String EMPLOYEE_DATA_URL = "http://localhost:9091/api/employees";
+
+    private RestTemplate restTemplate;
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = mock(RestTemplate.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+    }
+
+    private WarmUpRunner runner(boolean enabled, long budgetMs) {
+        return new WarmUpRunner(Mappers.getMapper(EmployeeMapper.class), new ObjectMapper(), restTemplate,
+                eventPublisher, ApplicationStartup.DEFAULT, EMPLOYEE_DATA_URL, enabled, budgetMs, 50, 3);
+    }
+
+    @Test
+    @DisplayName("Warm-up runs every iteration and opens each downstream connection")
+    void run_CompletesWithinBudget() {
+        // A 400 from employee-data still means the connection was opened
+        when(restTemplate.getForObject(EMPLOYEE_DATA_URL + "/0", EmployeeResponse.class))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null));
+
+        WarmUpRunner warmUpRunner = runner(true, 10_000);
+        long deadline = System.nanoTime() + 10_000_000_000L;
+
+        assertEquals(50, warmUpRunner.warmUpInProcess(deadline));
+        assertEquals(3, warmUpRunner.warmUpConnections(deadline));
+        verify(restTemplate, times(3)).getForObject(EMPLOYEE_DATA_URL + "/0", EmployeeResponse.class);
+    }
+
+    @Test
+    @DisplayName("Warm-up marks the application as refusing traffic and tolerates an unreachable employee-data")
+    void run_UnreachableDownstream() {
+        when(restTemplate.getForObject(anyString(), eq(EmployeeResponse.class)))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+
+        runner(true, 10_000).run(new DefaultApplicationArguments());
+
+        ArgumentCaptor<ApplicationEvent> event = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, ((AvailabilityChangeEvent<?>) event.getValue()).getState());
+    }
+
+    @Test
+    @DisplayName("Warm-up does nothing once the budget is exhausted")
+    void warmUp_BudgetExhausted() {
+        WarmUpRunner warmUpRunner = runner(true, 0);
+        long deadline = System.nanoTime();
+
+        assertEquals(0, warmUpRunner.warmUpInProcess(deadline));
+        assertEquals(0, warmUpRunner.warmUpConnections(deadline));
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    @DisplayName("Disabled warm-up leaves readiness to Spring Boot")
+    void run_Disabled() {
+        runner(false, 10_000).run(new DefaultApplicationArguments());
+
+        verifyNoInteractions(restTemplate, eventPublisher);
+    }
+}
@@ -0,0 +1,37 @@
+package com.naiomi.employee.contract;
+
+/**
+ * The single {@code name} of the wire schema is the first name and the surname separated by one
+ * space. The surname may itself contain spaces, the first name may not.
+ */
+public final class EmployeeNames {
+
+    private EmployeeNames() {
+    }
+
+    public static String join(String firstName, String surname) {
+        return firstName + " " + surname;
+    }
+
+    /**
+     * @return the part before the first space, or {@code ""} for a {@code null} name
+     */
+    public static String firstName(String name) {
+        if (name == null) {
+            return "";
+        }
+        int space = name.indexOf(' ');
+        return space < 0 ? name : name.substring(0, space);
+    }
+
+    /**
+     * @return the part after the first space, or {@code ""} if there is none
+     */
+    public static String surname(String name) {
+        if (name == null) {
+            return "";
+        }
+        int space = name.indexOf(' ');
+        return space < 0 ? "" : name.substring(space + 1);
+    }
+}
@@ -0,0 +1,18 @@
+package com.naiomi.employee.contract;
+
+import com.naiomi.employee.contract.json.GenerateCodec;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Body of a create or update call to employee-data ({@code POST /api/employees},
+ * {@code PUT /api/employees/{id}}).
+ *
+ * @param name   first name and surname separated by a space, see {@link EmployeeNames}
+ * @param roleId the ID of the employee's role, see {@link RoleCode}
+ */
+@GenerateCodec
+public record EmployeeRequest(
+        @NotBlank(message = "Name must not be blank") String name,
+        @NotNull(message = "Role ID must not be null") Long roleId) {
+}
@@ -0,0 +1,15 @@
+package com.naiomi.employee.contract;
+
+import com.naiomi.employee.contract.json.GenerateCodec;
+
+/**
+ * An employee as returned by employee-data ({@code GET /api/employees/{id}} and the responses
+ * of its writes). A sparse read leaves the fields that were not requested {@code null}.
+ *
+ * @param id     the employee ID
+ * @param name   first name and surname separated by a space, see {@link EmployeeNames}
+ * @param roleId the ID of the employee's role, see {@link RoleCode}
+ */
+@GenerateCodec
+public record EmployeeResponse(Long id, String name, Long roleId) {
+}
@@ -0,0 +1,34 @@
+package com.naiomi.employee.contract;
+
+/**
+ * The roles of the wire schema with their IDs, as seeded by employee-data on startup.
+ */
+public enum RoleCode {
+    ADMIN(1),
+    USER(2),
+    MANAGER(3);
+
+    private final long id;
+
+    RoleCode(long id) {
+        this.id = id;
+    }
+
+    public long id() {
+        return id;
+    }
+
+    /**
+     * @throws IllegalArgumentException if no role has this ID
+     */
+    public static RoleCode fromId(Long id) {
+        if (id != null) {
+            for (RoleCode role : values()) {
+                if (role.id == id) {
+                    return role;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Invalid role ID: " + id);
+    }
+}
@@ -0,0 +1,236 @@
+package com.naiomi.employee.contract.codegen;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a reflection-free {@code JsonCodec} for every record annotated with
+ * {@code @GenerateCodec}, plus the {@code GeneratedCodecs} registry listing them all.
+ * <p>
+ * A codec for {@code Foo} is written as {@code FooJsonCodec} next to the record. It writes and
+ * reads the record components in declaration order with the Jackson streaming API, calling the
+ * accessors and the canonical constructor directly. The JSON matches what a default Jackson
+ * {@code ObjectMapper} produces for the record: every component is written, {@code null} included,
+ * unknown properties are skipped on read, and scalars are coerced as Jackson does.
+ * </p>
+ * <p>
+ * Supported component types are {@code String}, {@code Long}, {@code Integer}, {@code Boolean}
+ * and their primitives. Anything else fails the build with an error on the component.
+ * </p>
+ */
+@SupportedAnnotationTypes(JsonCodecProcessor.ANNOTATION)
+public class JsonCodecProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "com.naiomi.employee.contract.json.GenerateCodec";
+    private static final String JSON_PACKAGE = "com.naiomi.employee.contract.json";
+    private static final String REGISTRY = "GeneratedCodecs";
+
+    /**
+     * Component type to the {@code JsonCodecs} helpers that write and read it, and the default of
+     * a primitive when the property is missing or {@code null}.
+     */
+    private static final Map<String, Accessors> ACCESSORS = Map.of(
+            "java.lang.String", new Accessors("String", "writeString", "readString", null),
+            "java.lang.Long", new Accessors("Long", "writeLong", "readLong", null),
+            "java.lang.Integer", new Accessors("Integer", "writeInteger", "readInteger", null),
+            "java.lang.Boolean", new Accessors("Boolean", "writeBoolean", "readBoolean", null),
+            "long", new Accessors("Long", "writeLong", "readLong", "0L"),
+            "int", new Accessors("Integer", "writeInteger", "readInteger", "0"),
+            "boolean", new Accessors("Boolean", "writeBoolean", "readBoolean", "false"));
+
+    private final List<String> codecs = new ArrayList<>();
+    private boolean registryWritten;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(ANNOTATION);
+        if (annotation == null) {
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() != ElementKind.RECORD) {
+                error(element, "@GenerateCodec is only supported on records");
+                continue;
+            }
+            TypeElement record = (TypeElement) element;
+            if (writeCodec(record)) {
+                codecs.add(record.getQualifiedName() + "JsonCodec");
+            }
+        }
+        // All contract records are plain sources, so they are all seen in the first round
+        if (!codecs.isEmpty() && !registryWritten) {
+            writeRegistry();
+            registryWritten = true;
+        }
+        return true;
+    }
+
+    private boolean writeCodec(TypeElement record) {
+        List<Component> components = new ArrayList<>();
+        for (RecordComponentElement component : record.getRecordComponents()) {
+            String type = typeName(component.asType());
+            Accessors accessors = ACCESSORS.get(type);
+            if (accessors == null) {
+                error(component, "Unsupported type for a generated JSON codec: " + type);
+                return false;
+            }
+            components.add(new Component(component.getSimpleName().toString(), accessors));
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(record).getQualifiedName().toString();
+        String recordName = record.getSimpleName().toString();
+        String codecName = recordName + "JsonCodec";
+        try (Writer writer = processingEnv.getFiler()
+                .createSourceFile(packageName + "." + codecName, record).openWriter();
+             PrintWriter out = new PrintWriter(writer)) {
+            out.printf("package %s;%n%n", packageName);
+            out.println("import com.fasterxml.jackson.core.JsonGenerator;");
+            out.println("import com.fasterxml.jackson.core.JsonParser;");
+            out.println("import com.fasterxml.jackson.core.JsonToken;");
+            out.println("import com.fasterxml.jackson.core.io.SerializedString;");
+            out.printf("import %s.JsonCodec;%n", JSON_PACKAGE);
+            out.printf("import %s.JsonCodecs;%n%n", JSON_PACKAGE);
+            out.println("import java.io.IOException;");
+            out.println();
+            out.printf("/** Generated by JsonCodecProcessor from {@link %s}, do not edit. */%n", recordName);
+            out.printf("public final class %s implements JsonCodec<%s> {%n%n", codecName, recordName);
+            out.printf("    public static final %s INSTANCE = new %s();%n%n", codecName, codecName);
+            for (Component component : components) {
+                out.printf("    private static final SerializedString %s = new SerializedString(\"%s\");%n",
+                        component.constant(), component.name());
+            }
+            out.println();
+            out.printf("    private %s() {%n    }%n%n", codecName);
+
+            out.println("    @Override");
+            out.printf("    public Class<%s> type() {%n", recordName);
+            out.printf("        return %s.class;%n    }%n%n", recordName);
+
+            out.println("    @Override");
+            out.printf("    public void write(JsonGenerator generator, %s value) throws IOException {%n", recordName);
+            out.println("        if (value == null) {");
+            out.println("            generator.writeNull();");
+            out.println("            return;");
+            out.println("        }");
+            out.println("        generator.writeStartObject(value);");
+            for (Component component : components) {
+                out.printf("        generator.writeFieldName(%s);%n", component.constant());
+                out.printf("        JsonCodecs.%s(generator, value.%s());%n", component.accessors().writer(), component.name());
+            }
+            out.println("        generator.writeEndObject();");
+            out.println("    }");
+            out.println();
+
+            out.println("    @Override");
+            out.printf("    public %s read(JsonParser parser) throws IOException {%n", recordName);
+            out.println("        JsonToken token = parser.currentToken();");
+            out.println("        if (token == JsonToken.VALUE_NULL) {");
+            out.println("            return null;");
+            out.println("        }");
+            out.println("        if (token != JsonToken.START_OBJECT) {");
+            out.printf("            throw JsonCodecs.unexpected(parser, %s.class);%n", recordName);
+            out.println("        }");
+            for (Component component : components) {
+                out.printf("        %s %s = null;%n", component.accessors().localType(), component.name());
+            }
+            out.println("        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {");
+            out.println("            parser.nextToken();");
+            out.println("            switch (field) {");
+            for (Component component : components) {
+                out.printf("                case \"%s\" -> %s = JsonCodecs.%s(parser);%n",
+                        component.name(), component.name(), component.accessors().reader());
+            }
+            out.println("                default -> parser.skipChildren();");
+            out.println("            }");
+            out.println("        }");
+            out.printf("        return new %s(", recordName);
+            for (int i = 0; i < components.size(); i++) {
+                Component component = components.get(i);
+                out.print(i == 0 ? "" : ", ");
+                out.print(component.accessors().primitiveDefault() == null
+                        ? component.name()
+                        : component.name() + " != null ? " + component.name() + " : " + component.accessors().primitiveDefault());
+            }
+            out.println(");");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            error(record, "Could not write " + codecName + ": " + e.getMessage());
+            return false;
+        }
+        return true;
+    }
+
+    private void writeRegistry() {
+        try (Writer writer = processingEnv.getFiler().createSourceFile(JSON_PACKAGE + "." + REGISTRY).openWriter();
+             PrintWriter out = new PrintWriter(writer)) {
+            out.printf("package %s;%n%n", JSON_PACKAGE);
+            out.println("import java.util.List;");
+            out.println();
+            out.println("/** Generated by JsonCodecProcessor: every generated codec, do not edit. */");
+            out.printf("final class %s {%n%n", REGISTRY);
+            out.println("    static final List<JsonCodec<?>> ALL = List.of(");
+            for (int i = 0; i < codecs.size(); i++) {
+                out.printf("            %s.INSTANCE%s%n", codecs.get(i), i < codecs.size() - 1 ? "," : ");");
+            }
+            out.println();
+            out.printf("    private %s() {%n    }%n", REGISTRY);
+            out.println("}");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The qualified name of a declared type or the keyword of a primitive, without the type
+     * annotations that {@link TypeMirror#toString()} includes.
+     */
+    private String typeName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase();
+        }
+        Element element = processingEnv.getTypeUtils().asElement(type);
+        return element instanceof TypeElement typeElement ? typeElement.getQualifiedName().toString() : type.toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * @param localType        the type of the local variable a property is read into, boxed so
+     *                         that a missing property can be told apart
+     * @param primitiveDefault the value of a missing or {@code null} primitive, {@code null} for
+     *                         reference types
+     */
+    private record Accessors(String localType, String writer, String reader, String primitiveDefault) {
+    }
+
+    private record Component(String name, Accessors accessors) {
+
+        String constant() {
+            return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.naiomi.employee.contract.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.naiomi.employee.contract.json.JsonCodecs;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Reads and writes the contract types with their generated {@link com.naiomi.employee.contract.json.JsonCodec}s
+ * instead of Jackson data binding. Other types are left to the next converter, so it has to be
+ * registered ahead of the Jackson converter.
+ */
+public class ContractJsonHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public ContractJsonHttpMessageConverter() {
+        // No default charset: JSON is always UTF-8, and the Jackson converter sends no charset either
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return JsonCodecs.supports(clazz);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return JsonCodecs.readValue(inputMessage.getBody(), clazz);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        JsonCodecs.writeValue(outputMessage.getBody(), value);
+    }
+}
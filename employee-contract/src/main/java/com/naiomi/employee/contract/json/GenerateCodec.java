@@ -0,0 +1,15 @@
+package com.naiomi.employee.contract.json;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a contract record for which a reflection-free {@link JsonCodec} is generated at build
+ * time, as {@code <Record>JsonCodec} in the same package.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateCodec {
+}
@@ -0,0 +1,28 @@
+package com.naiomi.employee.contract.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Writes and reads one contract type with the Jackson streaming API, without reflection.
+ * Implementations are generated for every {@link GenerateCodec} record.
+ *
+ * @param <T> the contract type
+ */
+public interface JsonCodec<T> {
+
+    Class<T> type();
+
+    /**
+     * Writes {@code value} as one JSON value, {@code null} as a JSON null.
+     */
+    void write(JsonGenerator generator, T value) throws IOException;
+
+    /**
+     * Reads one value, starting at the current token of {@code parser}, which must be the start
+     * of an object or a null. The parser is left on the last token of the value.
+     */
+    T read(JsonParser parser) throws IOException;
+}
@@ -0,0 +1,226 @@
+package com.naiomi.employee.contract.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Entry point to the generated codecs: looks up the codec of a contract type and reads or writes
+ * whole JSON documents with it.
+ * <p>
+ * The {@code write*}/{@code read*} helpers for single values are called by the generated code.
+ * They accept the same input as a default Jackson {@code ObjectMapper} for the same types:
+ * numbers in strings, an empty string as {@code null} and scalars as strings.
+ * </p>
+ */
+public final class JsonCodecs {
+
+    private static final JsonFactory FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+            .build();
+
+    private static final Map<Class<?>, JsonCodec<?>> CODECS = GeneratedCodecs.ALL.stream()
+            .collect(Collectors.toUnmodifiableMap(JsonCodec::type, Function.identity()));
+
+    private JsonCodecs() {
+    }
+
+    /**
+     * @return the codec of {@code type}, or {@code null} if it is not a generated contract type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> JsonCodec<T> codecFor(Class<T> type) {
+        return (JsonCodec<T>) CODECS.get(type);
+    }
+
+    public static boolean supports(Class<?> type) {
+        return CODECS.containsKey(type);
+    }
+
+    public static JsonFactory factory() {
+        return FACTORY;
+    }
+
+    public static void writeValue(OutputStream out, Object value) throws IOException {
+        try (JsonGenerator generator = FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            write(generator, value);
+        }
+    }
+
+    public static byte[] writeValueAsBytes(Object value) throws IOException {
+        // Borrows the output buffer from the factory's pool, as ObjectMapper.writeValueAsBytes does
+        BufferRecycler recycler = FACTORY._getBufferRecycler();
+        try (ByteArrayBuilder bytes = new ByteArrayBuilder(recycler)) {
+            try (JsonGenerator generator = FACTORY.createGenerator(bytes, JsonEncoding.UTF8)) {
+                write(generator, value);
+            }
+            byte[] json = bytes.toByteArray();
+            bytes.release();
+            return json;
+        } finally {
+            recycler.releaseToPool();
+        }
+    }
+
+    public static <T> T readValue(InputStream in, Class<T> type) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(in)) {
+            return read(parser, type);
+        }
+    }
+
+    public static <T> T readValue(byte[] json, Class<T> type) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            return read(parser, type);
+        }
+    }
+
+    // Helpers for the generated codecs
+
+    public static void writeString(JsonGenerator generator, String value) throws IOException {
+        generator.writeString(value);
+    }
+
+    public static void writeLong(JsonGenerator generator, Long value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value.longValue());
+        }
+    }
+
+    public static void writeLong(JsonGenerator generator, long value) throws IOException {
+        generator.writeNumber(value);
+    }
+
+    public static void writeInteger(JsonGenerator generator, Integer value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value.intValue());
+        }
+    }
+
+    public static void writeInteger(JsonGenerator generator, int value) throws IOException {
+        generator.writeNumber(value);
+    }
+
+    public static void writeBoolean(JsonGenerator generator, Boolean value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeBoolean(value);
+        }
+    }
+
+    public static void writeBoolean(JsonGenerator generator, boolean value) throws IOException {
+        generator.writeBoolean(value);
+    }
+
+    public static String readString(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw unexpected(parser, String.class);
+        }
+        return parser.getText();
+    }
+
+    public static Long readLong(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getLongValue();
+        }
+        String text = readNumberText(parser, Long.class);
+        try {
+            return text == null ? null : Long.valueOf(text);
+        } catch (NumberFormatException e) {
+            throw new JsonParseException(parser, "Cannot read \"" + text + "\" as a Long");
+        }
+    }
+
+    public static Integer readInteger(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getIntValue();
+        }
+        String text = readNumberText(parser, Integer.class);
+        try {
+            return text == null ? null : Integer.valueOf(text);
+        } catch (NumberFormatException e) {
+            throw new JsonParseException(parser, "Cannot read \"" + text + "\" as an Integer");
+        }
+    }
+
+    public static Boolean readBoolean(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            return token == JsonToken.VALUE_TRUE;
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            if (text.isEmpty()) {
+                return null;
+            }
+            if (text.equalsIgnoreCase("true") || text.equalsIgnoreCase("false")) {
+                return Boolean.parseBoolean(text);
+            }
+        }
+        throw unexpected(parser, Boolean.class);
+    }
+
+    public static JsonParseException unexpected(JsonParser parser, Class<?> type) {
+        return new JsonParseException(parser, "Cannot read " + parser.currentToken() + " as " + type.getSimpleName());
+    }
+
+    private static String readNumberText(JsonParser parser, Class<?> type) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            throw unexpected(parser, type);
+        }
+        String text = parser.getText().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void write(JsonGenerator generator, Object value) throws IOException {
+        JsonCodec<Object> codec = (JsonCodec<Object>) codecFor(value.getClass());
+        if (codec == null) {
+            throw new IllegalArgumentException("No generated JSON codec for " + value.getClass().getName());
+        }
+        codec.write(generator, value);
+    }
+
+    private static <T> T read(JsonParser parser, Class<T> type) throws IOException {
+        JsonCodec<T> codec = codecFor(type);
+        if (codec == null) {
+            throw new IllegalArgumentException("No generated JSON codec for " + type.getName());
+        }
+        if (parser.nextToken() == null) {
+            throw new JsonParseException(parser, "No content to read as " + type.getSimpleName());
+        }
+        return codec.read(parser);
+    }
+}
@@ -0,0 +1,30 @@
+package com.naiomi.employee.contract;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeNamesTest {
+
+    @Test
+    @DisplayName("Should split the name at the first space only")
+    void testSplit() {
+        assertEquals("Jane", EmployeeNames.firstName("Jane van Doe"));
+        assertEquals("van Doe", EmployeeNames.surname("Jane van Doe"));
+        assertEquals("Jane", EmployeeNames.firstName("Jane"));
+        assertEquals("", EmployeeNames.surname("Jane"));
+        assertEquals("", EmployeeNames.firstName(null));
+        assertEquals("", EmployeeNames.surname(null));
+        assertEquals("Jane van Doe", EmployeeNames.join("Jane", "van Doe"));
+    }
+
+    @Test
+    @DisplayName("Should map role IDs to roles and reject unknown IDs")
+    void testRoleCodes() {
+        assertEquals(RoleCode.MANAGER, RoleCode.fromId(3L));
+        assertEquals(1L, RoleCode.ADMIN.id());
+        assertThrows(IllegalArgumentException.class, () -> RoleCode.fromId(4L));
+        assertThrows(IllegalArgumentException.class, () -> RoleCode.fromId(null));
+    }
+}
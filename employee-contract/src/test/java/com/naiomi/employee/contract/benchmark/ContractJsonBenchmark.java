@@ -0,0 +1,93 @@
+package com.naiomi.employee.contract.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import com.naiomi.employee.contract.json.JsonCodecs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of the generated contract codecs with Jackson data binding, configured as
+ * Spring Boot configures the {@code ObjectMapper} of both services.
+ * <p>
+ * Each benchmark serializes or parses one employee as the services do per call: the response
+ * that employee-data writes and employee-api reads, and the request in the other direction.
+ * </p>
+ * Build with {@code mvn -pl employee-contract test-compile} and run with:
+ * {@code java -cp <test classpath> org.openjdk.jmh.Main ContractJsonBenchmark -prof gc}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContractJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private EmployeeResponse response;
+    private EmployeeRequest request;
+    private byte[] responseJson;
+    private byte[] requestJson;
+
+    @Setup
+    public void setup() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        response = new EmployeeResponse(4711L, "Jane van Doe", 2L);
+        request = new EmployeeRequest("Jane van Doe", 2L);
+        responseJson = objectMapper.writeValueAsBytes(response);
+        requestJson = objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] writeResponseJackson() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] writeResponseCodec() throws Exception {
+        return JsonCodecs.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public EmployeeResponse readResponseJackson() throws Exception {
+        return objectMapper.readValue(responseJson, EmployeeResponse.class);
+    }
+
+    @Benchmark
+    public EmployeeResponse readResponseCodec() throws Exception {
+        return JsonCodecs.readValue(responseJson, EmployeeResponse.class);
+    }
+
+    @Benchmark
+    public byte[] writeRequestJackson() throws Exception {
+        return objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] writeRequestCodec() throws Exception {
+        return JsonCodecs.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public EmployeeRequest readRequestJackson() throws Exception {
+        return objectMapper.readValue(requestJson, EmployeeRequest.class);
+    }
+
+    @Benchmark
+    public EmployeeRequest readRequestCodec() throws Exception {
+        return JsonCodecs.readValue(requestJson, EmployeeRequest.class);
+    }
+}
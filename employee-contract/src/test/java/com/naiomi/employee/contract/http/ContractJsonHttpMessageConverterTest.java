@@ -0,0 +1,50 @@
+package com.naiomi.employee.contract.http;
+
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContractJsonHttpMessageConverterTest {
+
+    private final ContractJsonHttpMessageConverter converter = new ContractJsonHttpMessageConverter();
+
+    @Test
+    @DisplayName("Should handle only contract types as JSON")
+    void testSupports() {
+        assertTrue(converter.canRead(EmployeeRequest.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(EmployeeResponse.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(EmployeeResponse.class, null));
+        assertFalse(converter.canWrite(Map.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(EmployeeRequest.class, MediaType.APPLICATION_XML));
+    }
+
+    @Test
+    @DisplayName("Should read and write the body with the generated codec")
+    void testReadWrite() throws Exception {
+        MockHttpInputMessage input = new MockHttpInputMessage(
+                "{\"name\":\"Jane Doe\",\"roleId\":2}".getBytes(StandardCharsets.UTF_8));
+        assertEquals(new EmployeeRequest("Jane Doe", 2L), converter.read(EmployeeRequest.class, input));
+
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(new EmployeeResponse(1L, "Jane Doe", 2L), MediaType.APPLICATION_JSON, output);
+        assertEquals("{\"id\":1,\"name\":\"Jane Doe\",\"roleId\":2}", output.getBodyAsString());
+        assertEquals(MediaType.APPLICATION_JSON, output.getHeaders().getContentType());
+    }
+
+    @Test
+    @DisplayName("Should report malformed bodies as unreadable")
+    void testMalformed() {
+        MockHttpInputMessage input = new MockHttpInputMessage("{\"name\":".getBytes(StandardCharsets.UTF_8));
+        assertThrows(HttpMessageNotReadableException.class, () -> converter.read(EmployeeRequest.class, input));
+    }
+}
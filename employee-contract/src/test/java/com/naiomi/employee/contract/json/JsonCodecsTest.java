@@ -0,0 +1,74 @@
+package com.naiomi.employee.contract.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonCodecsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should write the same JSON as Jackson data binding, nulls included")
+    void testWriteMatchesJackson() throws Exception {
+        EmployeeResponse full = new EmployeeResponse(7L, "Jane van Doe", 2L);
+        EmployeeResponse sparse = new EmployeeResponse(null, "Jane", null);
+
+        assertEquals(objectMapper.writeValueAsString(full), write(full));
+        assertEquals(objectMapper.writeValueAsString(sparse), write(sparse));
+        assertEquals("{\"id\":null,\"name\":\"Jane\",\"roleId\":null}", write(sparse));
+        assertEquals(objectMapper.writeValueAsString(new EmployeeRequest("Quote \" Me", 1L)),
+                write(new EmployeeRequest("Quote \" Me", 1L)));
+    }
+
+    @Test
+    @DisplayName("Should read what Jackson data binding reads, skipping unknown properties")
+    void testReadMatchesJackson() throws Exception {
+        String json = "{\"extra\":{\"nested\":[1,2]},\"roleId\":\"3\",\"id\":7,\"name\":\"Jane Doe\",\"more\":[]}";
+
+        EmployeeResponse response = JsonCodecs.readValue(bytes(json), EmployeeResponse.class);
+
+        assertEquals(new EmployeeResponse(7L, "Jane Doe", 3L), response);
+        assertEquals(new EmployeeRequest(null, null), JsonCodecs.readValue(bytes("{}"), EmployeeRequest.class));
+        assertEquals(new EmployeeRequest("12", null),
+                JsonCodecs.readValue(bytes("{\"name\":12,\"roleId\":\"\"}"), EmployeeRequest.class));
+        assertNull(JsonCodecs.readValue(bytes("null"), EmployeeResponse.class));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed or mistyped JSON with a parse error")
+    void testReadInvalid() {
+        assertThrows(JsonProcessingException.class, () -> JsonCodecs.readValue(bytes(""), EmployeeRequest.class));
+        assertThrows(JsonProcessingException.class, () -> JsonCodecs.readValue(bytes("[]"), EmployeeRequest.class));
+        assertThrows(JsonProcessingException.class,
+                () -> JsonCodecs.readValue(bytes("{\"name\":\"Jane\",\"roleId\":\"two\"}"), EmployeeRequest.class));
+        assertThrows(JsonProcessingException.class,
+                () -> JsonCodecs.readValue(bytes("{\"name\":{\"first\":\"Jane\"}}"), EmployeeRequest.class));
+        assertThrows(JsonProcessingException.class, () -> JsonCodecs.readValue(bytes("{\"name\":"), EmployeeRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should only have codecs for the generated contract types")
+    void testCodecLookup() {
+        assertTrue(JsonCodecs.supports(EmployeeRequest.class));
+        assertTrue(JsonCodecs.supports(EmployeeResponse.class));
+        assertFalse(JsonCodecs.supports(String.class));
+        assertNull(JsonCodecs.codecFor(Object.class));
+        assertThrows(IllegalArgumentException.class, () -> JsonCodecs.writeValueAsBytes("text"));
+    }
+
+    private static String write(Object value) throws Exception {
+        return new String(JsonCodecs.writeValueAsBytes(value), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,395 @@
+package com.naiomi.employee.stub;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.naiomi.employee.contract.EmployeeNames;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import com.naiomi.employee.contract.RoleCode;
+import com.naiomi.employee.contract.json.JsonCodec;
+import com.naiomi.employee.contract.json.JsonCodecs;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.MimeTypes;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.Callback;
+import org.eclipse.jetty.util.Fields;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves {@code /api/employees} and {@code /roles/{roleId}} with the wire contract of employee-data:
+ * the same paths, statuses and bodies, including the {@code 400} and {@code 404} error bodies.
+ * Employees have no projects, so {@code /api/employees/{id}/projects} returns an empty list for
+ * every employee.
+ * <p>
+ * Requests never block a thread: the body is read asynchronously and the answer is sent by the
+ * scheduler once the latency of the {@link ResponseProfile} has passed. Failed calls get the
+ * profile's error status with an {@code error} body, as from a data tier behind a load balancer.
+ * </p>
+ */
+public class EmployeeDataHandler extends Handler.Abstract.NonBlocking {
+
+    static final String EMPLOYEES_PATH = "/api/employees";
+    static final String ROLES_PATH = "/roles/";
+
+    /**
+     * Same limit as {@code EmployeeService.MAX_BATCH_IDS} in employee-data.
+     */
+    static final int MAX_BATCH_IDS = 1000;
+
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+    private static final List<String> FIELDS = List.of("id", "name", "roleId");
+    private static final JsonCodec<EmployeeResponse> EMPLOYEE_CODEC = JsonCodecs.codecFor(EmployeeResponse.class);
+
+    private final EmployeeStore store;
+    private final ResponseProfile profile;
+
+    public EmployeeDataHandler(EmployeeStore store, ResponseProfile profile) {
+        this.store = store;
+        this.profile = profile;
+    }
+
+    @Override
+    public boolean handle(Request request, Response response, Callback callback) {
+        long latencyMs = profile.nextLatencyMs();
+        boolean error = profile.nextIsError();
+        Content.Source.asByteArrayAsync(request, MAX_BODY_BYTES).whenComplete((body, failure) -> {
+            if (failure != null) {
+                callback.failed(failure);
+                return;
+            }
+            Runnable answer = () -> answer(request, response, callback, body, error);
+            if (latencyMs > 0) {
+                request.getComponents().getScheduler().schedule(answer, latencyMs, TimeUnit.MILLISECONDS);
+            } else {
+                answer.run();
+            }
+        });
+        return true;
+    }
+
+    private void answer(Request request, Response response, Callback callback, byte[] body, boolean error) {
+        try {
+            if (error) {
+                send(response, callback, profile.errorStatus(), errorBody("Injected fault"));
+                return;
+            }
+            route(request, response, callback, body);
+        } catch (NumberFormatException e) {
+            // employee-data fails to convert the path variable before its handler for bad arguments
+            send(response, callback, 500, errorBody("Unexpected error occurred"));
+        } catch (EmployeeNotFound e) {
+            send(response, callback, 404, errorBody(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            send(response, callback, 400, errorBody(e.getMessage()));
+        } catch (Exception e) {
+            send(response, callback, 500, errorBody("Unexpected error occurred"));
+        }
+    }
+
+    private void route(Request request, Response response, Callback callback, byte[] body) throws IOException {
+        String path = Request.getPathInContext(request);
+        String method = request.getMethod();
+        Fields query = Request.extractQueryParameters(request);
+
+        if (path.startsWith(ROLES_PATH) && path.indexOf('/', ROLES_PATH.length()) < 0) {
+            if (!HttpMethod.DELETE.is(method)) {
+                send(response, callback, 405, errorBody("Method not allowed"));
+                return;
+            }
+            long roleId = Long.parseLong(path.substring(ROLES_PATH.length()));
+            // Required like in employee-data, where it takes the projects; employees here have none
+            requiredLong(query, "defaultEmployeeId");
+            store.deleteByRole(roleId);
+            sendText(response, callback, "Role and associated employees deleted. Projects reassigned.");
+            return;
+        }
+        if (!path.equals(EMPLOYEES_PATH) && !path.startsWith(EMPLOYEES_PATH + "/")) {
+            send(response, callback, 404, errorBody("Not found"));
+            return;
+        }
+
+        String[] segments = path.substring(EMPLOYEES_PATH.length()).split("/");
+        // segments[0] is the empty string before the first slash
+        String route = segments.length <= 1 ? "" : segments.length == 2 ? segments[1] : "{id}/" + segments[2];
+        if (segments.length > 3 || (segments.length == 3 && !route.equals("{id}/role") && !route.equals("{id}/projects"))) {
+            send(response, callback, 404, errorBody("Not found"));
+            return;
+        }
+
+        switch (route) {
+            case "" -> {
+                if (!HttpMethod.POST.is(method)) {
+                    send(response, callback, 405, errorBody("Method not allowed"));
+                    return;
+                }
+                EmployeeRequest employeeRequest = JsonCodecs.readValue(body, EmployeeRequest.class);
+                Map<String, String> errors = validate(employeeRequest);
+                if (!errors.isEmpty()) {
+                    send(response, callback, 400, stringMap(errors));
+                    return;
+                }
+                checkRole(employeeRequest.roleId());
+                EmployeeResponse created = store.create(normalized(employeeRequest));
+                send(response, callback, 201, generator -> EMPLOYEE_CODEC.write(generator, created));
+            }
+            case "ids" -> {
+                if (!HttpMethod.GET.is(method)) {
+                    send(response, callback, 405, errorBody("Method not allowed"));
+                    return;
+                }
+                List<Long> ids = store.ids();
+                send(response, callback, 200, generator -> {
+                    generator.writeStartArray();
+                    for (Long id : ids) {
+                        generator.writeNumber(id);
+                    }
+                    generator.writeEndArray();
+                });
+            }
+            case "batch" -> {
+                if (!HttpMethod.GET.is(method)) {
+                    send(response, callback, 405, errorBody("Method not allowed"));
+                    return;
+                }
+                List<Long> ids = longs(query, "ids");
+                if (ids.size() > MAX_BATCH_IDS) {
+                    throw new IllegalArgumentException("At most " + MAX_BATCH_IDS + " employee IDs can be looked up at once");
+                }
+                List<EmployeeResponse> found = store.get(ids);
+                send(response, callback, 200, generator -> {
+                    generator.writeStartArray();
+                    for (EmployeeResponse employee : found) {
+                        EMPLOYEE_CODEC.write(generator, employee);
+                    }
+                    generator.writeEndArray();
+                });
+            }
+            case "{id}/role" -> {
+                if (!HttpMethod.GET.is(method)) {
+                    send(response, callback, 405, errorBody("Method not allowed"));
+                    return;
+                }
+                RoleCode role = RoleCode.fromId(existing(Long.parseLong(segments[1])).roleId());
+                send(response, callback, 200, generator -> {
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", role.id());
+                    generator.writeStringField("name", role.name());
+                    generator.writeEndObject();
+                });
+            }
+            case "{id}/projects" -> {
+                if (!HttpMethod.GET.is(method)) {
+                    send(response, callback, 405, errorBody("Method not allowed"));
+                    return;
+                }
+                existing(Long.parseLong(segments[1]));
+                send(response, callback, 200, generator -> {
+                    generator.writeStartArray();
+                    generator.writeEndArray();
+                });
+            }
+            default -> employee(request, response, callback, body, Long.parseLong(route), query);
+        }
+    }
+
+    private void employee(Request request, Response response, Callback callback, byte[] body, long id, Fields query)
+            throws IOException {
+        String method = request.getMethod();
+        if (HttpMethod.GET.is(method)) {
+            String fields = query.getValue("fields");
+            EmployeeResponse employee = existing(id);
+            if (fields == null) {
+                send(response, callback, 200, generator -> EMPLOYEE_CODEC.write(generator, employee));
+                return;
+            }
+            Set<String> requested = fieldNames(fields);
+            send(response, callback, 200, generator -> {
+                generator.writeStartObject();
+                if (requested.contains("id")) {
+                    generator.writeNumberField("id", employee.id());
+                }
+                if (requested.contains("name")) {
+                    generator.writeStringField("name", employee.name());
+                }
+                if (requested.contains("roleId")) {
+                    generator.writeNumberField("roleId", employee.roleId());
+                }
+                generator.writeEndObject();
+            });
+        } else if (HttpMethod.PUT.is(method)) {
+            EmployeeRequest employeeRequest = JsonCodecs.readValue(body, EmployeeRequest.class);
+            Map<String, String> errors = validate(employeeRequest);
+            if (!errors.isEmpty()) {
+                send(response, callback, 400, stringMap(errors));
+                return;
+            }
+            existing(id);
+            checkRole(employeeRequest.roleId());
+            EmployeeResponse updated = store.update(id, normalized(employeeRequest));
+            if (updated == null) {
+                // Deleted since the check above
+                throw new EmployeeNotFound(id);
+            }
+            send(response, callback, 200, generator -> EMPLOYEE_CODEC.write(generator, updated));
+        } else if (HttpMethod.DELETE.is(method)) {
+            if (!store.delete(id)) {
+                throw new EmployeeNotFound(id);
+            }
+            send(response, callback, 200, stringMap(Map.of("message", "Employee deleted successfully")));
+        } else {
+            send(response, callback, 405, errorBody("Method not allowed"));
+        }
+    }
+
+    private EmployeeResponse existing(long id) {
+        EmployeeResponse employee = store.get(id);
+        if (employee == null) {
+            throw new EmployeeNotFound(id);
+        }
+        return employee;
+    }
+
+    /**
+     * The bean validation of {@link EmployeeRequest}, with the same messages.
+     */
+    private static Map<String, String> validate(EmployeeRequest request) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        if (request.name() == null || request.name().isBlank()) {
+            errors.put("name", "Name must not be blank");
+        }
+        if (request.roleId() == null) {
+            errors.put("roleId", "Role ID must not be null");
+        }
+        return errors;
+    }
+
+    private static void checkRole(Long roleId) {
+        try {
+            RoleCode.fromId(roleId);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Role not found with ID: " + roleId);
+        }
+    }
+
+    /**
+     * employee-data stores the first name and surname apart, so a name without a surname comes
+     * back with a trailing space.
+     */
+    private static EmployeeRequest normalized(EmployeeRequest request) {
+        String name = EmployeeNames.join(EmployeeNames.firstName(request.name()), EmployeeNames.surname(request.name()));
+        return new EmployeeRequest(name, request.roleId());
+    }
+
+    private static Set<String> fieldNames(String fields) {
+        Set<String> requested = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!FIELDS.contains(trimmed)) {
+                throw new IllegalArgumentException("Unknown field: " + trimmed + ". Allowed fields are: " + FIELDS);
+            }
+            requested.add(trimmed);
+        }
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be requested");
+        }
+        return requested;
+    }
+
+    private static List<Long> longs(Fields query, String name) {
+        List<String> values = query.getValues(name);
+        if (values == null || values.isEmpty()) {
+            throw new IllegalStateException("Missing parameter: " + name);
+        }
+        List<Long> longs = new ArrayList<>();
+        for (String value : values) {
+            for (String part : value.split(",")) {
+                if (!part.isBlank()) {
+                    longs.add(Long.parseLong(part.trim()));
+                }
+            }
+        }
+        return longs;
+    }
+
+    private static long requiredLong(Fields query, String name) {
+        String value = query.getValue(name);
+        if (value == null) {
+            throw new IllegalStateException("Missing parameter: " + name);
+        }
+        return Long.parseLong(value);
+    }
+
+    private static JsonBody errorBody(String message) {
+        return stringMap(Map.of("error", message));
+    }
+
+    private static JsonBody stringMap(Map<String, String> map) {
+        return generator -> {
+            generator.writeStartObject();
+            for (Map.Entry<String, String> entry : map.entrySet()) {
+                generator.writeStringField(entry.getKey(), entry.getValue());
+            }
+            generator.writeEndObject();
+        };
+    }
+
+    private static void send(Response response, Callback callback, int status, JsonBody body) {
+        byte[] json;
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            try (JsonGenerator generator = JsonCodecs.factory().createGenerator(out, JsonEncoding.UTF8)) {
+                body.write(generator);
+            }
+            json = out.toByteArray();
+        } catch (IOException e) {
+            callback.failed(e);
+            return;
+        }
+        write(response, callback, status, MimeTypes.Type.APPLICATION_JSON.asString(), json);
+    }
+
+    private static void sendText(Response response, Callback callback, String text) {
+        write(response, callback, 200, MimeTypes.Type.TEXT_PLAIN_UTF_8.asString(),
+                text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void write(Response response, Callback callback, int status, String contentType, byte[] body) {
+        response.setStatus(status);
+        response.getHeaders().put(HttpHeader.CONTENT_TYPE, contentType);
+        response.getHeaders().put(HttpHeader.CONTENT_LENGTH, body.length);
+        response.write(true, ByteBuffer.wrap(body), callback);
+    }
+
+    @FunctionalInterface
+    private interface JsonBody {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * A missing employee, answered with {@code 404} like employee-data's EmployeeNotFoundException.
+     */
+    private static final class EmployeeNotFound extends IllegalArgumentException {
+
+        EmployeeNotFound(long id) {
+            super("Employee not found with ID: " + id);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.naiomi.employee.stub;
+
+import com.naiomi.employee.contract.EmployeeNames;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import com.naiomi.employee.contract.RoleCode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The employees of the stand-in, in memory. IDs are assigned from 1 like the identity column of
+ * employee-data, and roles are those of {@link RoleCode}.
+ */
+public class EmployeeStore {
+
+    private static final String[] FIRST_NAMES = {"John", "Jane", "Alex", "Maria", "Sam", "Priya", "Chen", "Amara"};
+    private static final String[] SURNAMES = {"Doe", "Smith", "Naidoo", "Garcia", "Kim", "Okafor", "Müller", "Rossi"};
+
+    private final Map<Long, EmployeeResponse> employees = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    /**
+     * @param seed the number of employees to start with, with IDs 1 to {@code seed}
+     */
+    public EmployeeStore(int seed) {
+        for (int i = 0; i < seed; i++) {
+            long id = nextId.getAndIncrement();
+            String name = EmployeeNames.join(FIRST_NAMES[i % FIRST_NAMES.length],
+                    SURNAMES[(i / FIRST_NAMES.length) % SURNAMES.length]);
+            employees.put(id, new EmployeeResponse(id, name, RoleCode.values()[i % RoleCode.values().length].id()));
+        }
+    }
+
+    public EmployeeResponse create(EmployeeRequest request) {
+        long id = nextId.getAndIncrement();
+        EmployeeResponse employee = new EmployeeResponse(id, request.name(), request.roleId());
+        employees.put(id, employee);
+        return employee;
+    }
+
+    /**
+     * @return the updated employee, or {@code null} if there is none with this ID
+     */
+    public EmployeeResponse update(long id, EmployeeRequest request) {
+        return employees.computeIfPresent(id, (key, current) -> new EmployeeResponse(id, request.name(), request.roleId()));
+    }
+
+    /**
+     * @return the employee, or {@code null} if there is none with this ID
+     */
+    public EmployeeResponse get(long id) {
+        return employees.get(id);
+    }
+
+    /**
+     * @return the employees found, in ascending ID order
+     */
+    public List<EmployeeResponse> get(Collection<Long> ids) {
+        List<EmployeeResponse> found = new ArrayList<>(ids.size());
+        for (Long id : new TreeSet<>(ids)) {
+            EmployeeResponse employee = employees.get(id);
+            if (employee != null) {
+                found.add(employee);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @return whether there was an employee with this ID
+     */
+    public boolean delete(long id) {
+        return employees.remove(id) != null;
+    }
+
+    /**
+     * Deletes all employees with a role, like the role deletion of employee-data.
+     *
+     * @return the number of employees deleted
+     */
+    public int deleteByRole(long roleId) {
+        int before = employees.size();
+        employees.values().removeIf(employee -> employee.roleId() == roleId);
+        return before - employees.size();
+    }
+
+    /**
+     * @return all employee IDs, in ascending order
+     */
+    public List<Long> ids() {
+        return new ArrayList<>(new TreeSet<>(employees.keySet()));
+    }
+
+    public int size() {
+        return employees.size();
+    }
+}
@@ -0,0 +1,135 @@
+package com.naiomi.employee.stub;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * How the stand-in answers: the latency added to every call and the share of calls that fail.
+ * <p>
+ * Latencies are written as {@code fixed:MS}, {@code uniform:MIN-MAX} or {@code exponential:MEAN}
+ * (capped at ten times the mean). Named profiles give common combinations:
+ * </p>
+ * <ul>
+ *     <li>{@code instant}: no latency, no errors (the default)</li>
+ *     <li>{@code lan}: 1 to 3 ms, no errors</li>
+ *     <li>{@code slow}: exponential around 50 ms, no errors</li>
+ *     <li>{@code flaky}: 1 to 5 ms, 5% of calls answered with {@code 503}</li>
+ * </ul>
+ *
+ * @param latency     the latency of every call
+ * @param errorRate   the share of calls that fail, from 0 to 1
+ * @param errorStatus the status of a failed call
+ */
+public record ResponseProfile(Latency latency, double errorRate, int errorStatus) {
+
+    public ResponseProfile {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("Error rate must be between 0 and 1: " + errorRate);
+        }
+        if (errorStatus < 400 || errorStatus > 599) {
+            throw new IllegalArgumentException("Error status must be between 400 and 599: " + errorStatus);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if there is no profile with this name
+     */
+    public static ResponseProfile named(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "instant" -> new ResponseProfile(Latency.parse("fixed:0"), 0, 503);
+            case "lan" -> new ResponseProfile(Latency.parse("uniform:1-3"), 0, 503);
+            case "slow" -> new ResponseProfile(Latency.parse("exponential:50"), 0, 503);
+            case "flaky" -> new ResponseProfile(Latency.parse("uniform:1-5"), 0.05, 503);
+            default -> throw new IllegalArgumentException("Unknown profile: " + name
+                    + ". Allowed profiles are instant, lan, slow, flaky");
+        };
+    }
+
+    public ResponseProfile withLatency(Latency latency) {
+        return new ResponseProfile(latency, errorRate, errorStatus);
+    }
+
+    public ResponseProfile withErrors(double errorRate, int errorStatus) {
+        return new ResponseProfile(latency, errorRate, errorStatus);
+    }
+
+    /**
+     * @return whether this call fails
+     */
+    public boolean nextIsError() {
+        return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+
+    public long nextLatencyMs() {
+        return latency.nextMs();
+    }
+
+    @Override
+    public String toString() {
+        return "latency " + latency + ", " + (errorRate * 100) + "% errors (" + errorStatus + ")";
+    }
+
+    /**
+     * A latency distribution, see {@link ResponseProfile}.
+     *
+     * @param shape the distribution
+     * @param minMs the fixed latency, the minimum of a uniform one or the mean of an exponential one
+     * @param maxMs the maximum latency
+     */
+    public record Latency(Shape shape, long minMs, long maxMs) {
+
+        public enum Shape { FIXED, UNIFORM, EXPONENTIAL }
+
+        /**
+         * @throws IllegalArgumentException if the text is not a latency
+         */
+        public static Latency parse(String text) {
+            String[] parts = text.trim().toLowerCase(Locale.ROOT).split(":", 2);
+            try {
+                return switch (parts[0]) {
+                    case "fixed" -> {
+                        long ms = Long.parseLong(parts[1]);
+                        yield checked(new Latency(Shape.FIXED, ms, ms));
+                    }
+                    case "uniform" -> {
+                        String[] range = parts[1].split("-", 2);
+                        yield checked(new Latency(Shape.UNIFORM, Long.parseLong(range[0]), Long.parseLong(range[1])));
+                    }
+                    case "exponential" -> {
+                        long mean = Long.parseLong(parts[1]);
+                        yield checked(new Latency(Shape.EXPONENTIAL, mean, mean * 10));
+                    }
+                    default -> throw new IllegalArgumentException("Unknown latency: " + text);
+                };
+            } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid latency: " + text
+                        + ". Use fixed:MS, uniform:MIN-MAX or exponential:MEAN", e);
+            }
+        }
+
+        public long nextMs() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            return switch (shape) {
+                case FIXED -> minMs;
+                case UNIFORM -> random.nextLong(minMs, maxMs + 1);
+                case EXPONENTIAL -> Math.min(maxMs, Math.round(minMs * random.nextExponential()));
+            };
+        }
+
+        @Override
+        public String toString() {
+            return switch (shape) {
+                case FIXED -> "fixed:" + minMs;
+                case UNIFORM -> "uniform:" + minMs + "-" + maxMs;
+                case EXPONENTIAL -> "exponential:" + minMs;
+            };
+        }
+
+        private static Latency checked(Latency latency) {
+            if (latency.minMs < 0 || latency.maxMs < latency.minMs) {
+                throw new IllegalArgumentException("Invalid latency range: " + latency.minMs + "-" + latency.maxMs);
+            }
+            return latency;
+        }
+    }
+}
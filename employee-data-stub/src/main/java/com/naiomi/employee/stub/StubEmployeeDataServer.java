@@ -0,0 +1,85 @@
+package com.naiomi.employee.stub;
+
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An in-memory stand-in for employee-data, to load-test employee-api on its own: point
+ * {@code employee.data.url} at it and the API's real HTTP client stack is driven without a
+ * database behind it.
+ * <p>
+ * It is plain Jetty without Spring, so it starts in milliseconds. One port serves both HTTP/1.1
+ * and HTTP/2 over cleartext with prior knowledge, the two protocols of
+ * {@code employee.data.client.protocol}. The event stream and change feed of employee-data are not
+ * served, so leave the employee-api cache and replica disabled when using it.
+ * </p>
+ */
+public class StubEmployeeDataServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(StubEmployeeDataServer.class);
+
+    private final StubOptions options;
+    private final EmployeeStore store;
+    private final Server server;
+    private final ServerConnector connector;
+
+    public StubEmployeeDataServer(StubOptions options) {
+        this.options = options;
+        this.store = new EmployeeStore(options.employees());
+        this.server = new Server();
+
+        HttpConfiguration httpConfig = new HttpConfiguration();
+        httpConfig.setSendServerVersion(false);
+        this.connector = new ServerConnector(server,
+                new HttpConnectionFactory(httpConfig), new HTTP2CServerConnectionFactory(httpConfig));
+        connector.setPort(options.port());
+        server.addConnector(connector);
+        server.setHandler(new EmployeeDataHandler(store, options.profile()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        StubEmployeeDataServer server;
+        try {
+            server = new StubEmployeeDataServer(StubOptions.parse(args));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.stop();
+            } catch (Exception e) {
+                logger.warn("Failed to stop the stand-in cleanly", e);
+            }
+        }));
+    }
+
+    public void start() throws Exception {
+        long start = System.nanoTime();
+        server.start();
+        logger.info("Stand-in employee-data listening on port {} with {} employees, {}, started in {} ms",
+                port(), store.size(), options.profile(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public void stop() throws Exception {
+        server.stop();
+    }
+
+    /**
+     * @return the port listened on, useful with {@code --port=0}
+     */
+    public int port() {
+        return connector.getLocalPort();
+    }
+
+    EmployeeStore store() {
+        return store;
+    }
+}
@@ -0,0 +1,73 @@
+package com.naiomi.employee.stub;
+
+/**
+ * Command line options of the stand-in, each written as {@code --name=value}:
+ * <ul>
+ *     <li>{@code --port}: the port to listen on, {@code 0} for any free port (default {@code 9091})</li>
+ *     <li>{@code --employees}: the number of employees to start with (default {@code 1000})</li>
+ *     <li>{@code --profile}: a named {@link ResponseProfile} (default {@code instant})</li>
+ *     <li>{@code --latency}: the latency of every call, overriding the profile's</li>
+ *     <li>{@code --error-rate}: the share of failed calls from 0 to 1, overriding the profile's</li>
+ *     <li>{@code --error-status}: the status of a failed call, overriding the profile's</li>
+ * </ul>
+ *
+ * @param port      the port to listen on
+ * @param employees the number of employees to start with
+ * @param profile   how calls are answered
+ */
+public record StubOptions(int port, int employees, ResponseProfile profile) {
+
+    public static final int DEFAULT_PORT = 9091;
+    public static final int DEFAULT_EMPLOYEES = 1000;
+
+    /**
+     * @throws IllegalArgumentException if an option is unknown or its value is invalid
+     */
+    public static StubOptions parse(String... args) {
+        int port = DEFAULT_PORT;
+        int employees = DEFAULT_EMPLOYEES;
+        String profileName = "instant";
+        String latency = null;
+        Double errorRate = null;
+        Integer errorStatus = null;
+
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Invalid option: " + arg + ". Use --name=value");
+            }
+            String name = arg.substring(2, equals);
+            String value = arg.substring(equals + 1);
+            try {
+                switch (name) {
+                    case "port" -> port = Integer.parseInt(value);
+                    case "employees" -> employees = Integer.parseInt(value);
+                    case "profile" -> profileName = value;
+                    case "latency" -> latency = value;
+                    case "error-rate" -> errorRate = Double.parseDouble(value);
+                    case "error-status" -> errorStatus = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option: --" + name
+                            + ". Allowed options are --port, --employees, --profile, --latency, --error-rate, --error-status");
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value for --" + name + ": " + value, e);
+            }
+        }
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("Port must be between 0 and 65535: " + port);
+        }
+        if (employees < 0) {
+            throw new IllegalArgumentException("Employees must not be negative: " + employees);
+        }
+
+        ResponseProfile profile = ResponseProfile.named(profileName);
+        if (latency != null) {
+            profile = profile.withLatency(ResponseProfile.Latency.parse(latency));
+        }
+        if (errorRate != null || errorStatus != null) {
+            profile = profile.withErrors(errorRate != null ? errorRate : profile.errorRate(),
+                    errorStatus != null ? errorStatus : profile.errorStatus());
+        }
+        return new StubOptions(port, employees, profile);
+    }
+}
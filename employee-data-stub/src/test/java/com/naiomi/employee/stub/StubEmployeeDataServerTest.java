@@ -0,0 +1,147 @@
+package com.naiomi.employee.stub;
+
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import com.naiomi.employee.contract.json.JsonCodecs;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StubEmployeeDataServerTest {
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private StubEmployeeDataServer server;
+
+    @AfterEach
+    void stop() throws Exception {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Employees can be created, read, updated and deleted")
+    void crud() throws Exception {
+        start("--employees=0");
+
+        HttpResponse<String> created = send("POST", "/api/employees", new EmployeeRequest("John Doe", 1L));
+        assertEquals(201, created.statusCode());
+        EmployeeResponse employee = JsonCodecs.readValue(created.body().getBytes(), EmployeeResponse.class);
+        assertEquals(new EmployeeResponse(1L, "John Doe", 1L), employee);
+
+        assertEquals(created.body(), send("GET", "/api/employees/1", null).body());
+
+        HttpResponse<String> updated = send("PUT", "/api/employees/1", new EmployeeRequest("Jane", 3L));
+        assertEquals(200, updated.statusCode());
+        assertEquals("{\"id\":1,\"name\":\"Jane \",\"roleId\":3}", updated.body());
+        assertEquals("{\"id\":3,\"name\":\"MANAGER\"}", send("GET", "/api/employees/1/role", null).body());
+        assertEquals("[]", send("GET", "/api/employees/1/projects", null).body());
+
+        HttpResponse<String> deleted = send("DELETE", "/api/employees/1", null);
+        assertEquals(200, deleted.statusCode());
+        assertEquals("{\"message\":\"Employee deleted successfully\"}", deleted.body());
+        HttpResponse<String> again = send("DELETE", "/api/employees/1", null);
+        assertEquals(404, again.statusCode());
+        assertEquals("{\"error\":\"Employee not found with ID: 1\"}", again.body());
+    }
+
+    @Test
+    @DisplayName("Errors have the statuses and bodies of employee-data")
+    void errors() throws Exception {
+        start("--employees=3");
+
+        HttpResponse<String> invalid = send("POST", "/api/employees", new EmployeeRequest(" ", null));
+        assertEquals(400, invalid.statusCode());
+        assertEquals("{\"name\":\"Name must not be blank\",\"roleId\":\"Role ID must not be null\"}", invalid.body());
+
+        assertEquals("{\"error\":\"Role not found with ID: 9\"}",
+                send("POST", "/api/employees", new EmployeeRequest("John Doe", 9L)).body());
+
+        HttpResponse<String> missing = send("GET", "/api/employees/42", null);
+        assertEquals(404, missing.statusCode());
+        assertEquals("{\"error\":\"Employee not found with ID: 42\"}", missing.body());
+
+        assertEquals(500, send("GET", "/api/employees/abc", null).statusCode());
+        assertEquals(404, send("GET", "/api/other", null).statusCode());
+    }
+
+    @Test
+    @DisplayName("IDs, batches, sparse fields and role deletions are served")
+    void queries() throws Exception {
+        start("--employees=4");
+
+        assertEquals("[1,2,3,4]", send("GET", "/api/employees/ids", null).body());
+        assertEquals("[2,4]", ids(send("GET", "/api/employees/batch?ids=4,2,99", null).body()));
+        assertEquals("{\"id\":2,\"roleId\":2}", send("GET", "/api/employees/2?fields=roleId,id", null).body());
+        assertEquals("{\"error\":\"Unknown field: salary. Allowed fields are: [id, name, roleId]\"}",
+                send("GET", "/api/employees/2?fields=salary", null).body());
+
+        // Employees 1 and 4 have role 1
+        HttpResponse<String> roleDeleted = send("DELETE", "/roles/1?defaultEmployeeId=2", null);
+        assertEquals(200, roleDeleted.statusCode());
+        assertEquals("[2,3]", send("GET", "/api/employees/ids", null).body());
+    }
+
+    @Test
+    @DisplayName("The error rate and latency of the profile are applied")
+    void profile() throws Exception {
+        start("--error-rate=1", "--error-status=503", "--latency=fixed:50");
+
+        long start = System.nanoTime();
+        HttpResponse<String> response = send("GET", "/api/employees/1", null);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(503, response.statusCode());
+        assertEquals("{\"error\":\"Injected fault\"}", response.body());
+        assertTrue(elapsedMs >= 50, "elapsed " + elapsedMs + " ms");
+    }
+
+    @Test
+    @DisplayName("HTTP/2 over cleartext is served on the same port")
+    void http2() throws Exception {
+        start("--employees=1");
+        HttpClient h2c = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+
+        HttpResponse<String> response = h2c.send(HttpRequest.newBuilder(uri("/api/employees/1")).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals(HttpClient.Version.HTTP_2, response.version());
+    }
+
+    private void start(String... args) throws Exception {
+        String[] withPort = new String[args.length + 1];
+        withPort[0] = "--port=0";
+        System.arraycopy(args, 0, withPort, 1, args.length);
+        server = new StubEmployeeDataServer(StubOptions.parse(withPort));
+        server.start();
+    }
+
+    private HttpResponse<String> send(String method, String path, EmployeeRequest body)
+            throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(JsonCodecs.writeValueAsBytes(body));
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .method(method, publisher)
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.port() + path);
+    }
+
+    private static String ids(String employees) {
+        return employees.replaceAll("\\{\"id\":(\\d+)[^}]*}", "$1");
+    }
+}
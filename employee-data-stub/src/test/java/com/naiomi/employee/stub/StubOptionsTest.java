@@ -0,0 +1,57 @@
+package com.naiomi.employee.stub;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StubOptionsTest {
+
+    @Test
+    @DisplayName("Without options the stand-in answers instantly on port 9091")
+    void parse_Defaults() {
+        StubOptions options = StubOptions.parse();
+
+        assertEquals(9091, options.port());
+        assertEquals(1000, options.employees());
+        assertEquals(ResponseProfile.named("instant"), options.profile());
+        assertEquals(0, options.profile().nextLatencyMs());
+        assertFalse(options.profile().nextIsError());
+    }
+
+    @Test
+    @DisplayName("Explicit latency and errors override the named profile")
+    void parse_OverridesProfile() {
+        StubOptions options = StubOptions.parse("--profile=flaky", "--latency=uniform:10-20", "--error-status=500");
+
+        assertEquals("uniform:10-20", options.profile().latency().toString());
+        assertEquals(0.05, options.profile().errorRate());
+        assertEquals(500, options.profile().errorStatus());
+        for (int i = 0; i < 100; i++) {
+            long latency = options.profile().nextLatencyMs();
+            assertTrue(latency >= 10 && latency <= 20, "latency " + latency);
+        }
+    }
+
+    @Test
+    @DisplayName("Exponential latencies are capped at ten times the mean")
+    void latency_ExponentialCapped() {
+        ResponseProfile.Latency latency = ResponseProfile.Latency.parse("exponential:5");
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(latency.nextMs() <= 50);
+        }
+    }
+
+    @Test
+    @DisplayName("Unknown options and invalid values are rejected")
+    void parse_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> StubOptions.parse("--colour=red"));
+        assertThrows(IllegalArgumentException.class, () -> StubOptions.parse("-port=1"));
+        assertThrows(IllegalArgumentException.class, () -> StubOptions.parse("--port=http"));
+        assertThrows(IllegalArgumentException.class, () -> StubOptions.parse("--profile=chaos"));
+        assertThrows(IllegalArgumentException.class, () -> StubOptions.parse("--latency=uniform:9-1"));
+        assertThrows(IllegalArgumentException.class, () -> StubOptions.parse("--error-rate=1.5"));
+        assertThrows(IllegalArgumentException.class, () -> StubOptions.parse("--error-status=200"));
+    }
+}
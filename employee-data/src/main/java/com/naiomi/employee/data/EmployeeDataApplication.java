@@ -2,12 +2,22 @@ package com.naiomi.employee.data;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class EmployeeDataApplication {
 
+    /**
+     * Number of startup steps kept for the {@code /admin/startup} report.
+     */
+    private static final int STARTUP_STEP_CAPACITY = 10_000;
+
     public static void main(String[] args) {
-        SpringApplication.run(EmployeeDataApplication.class, args);
+        SpringApplication application = new SpringApplication(EmployeeDataApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 
 }
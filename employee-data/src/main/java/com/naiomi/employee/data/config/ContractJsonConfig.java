@@ -0,0 +1,24 @@
+package com.naiomi.employee.data.config;
+
+import com.naiomi.employee.contract.http.ContractJsonHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Serves the employee request and response bodies with the codecs generated in employee-contract.
+ * <p>
+ * The converter goes first and only handles the contract types; every other body, such as the
+ * error maps, the change feed and the role and project DTOs, still goes through Jackson.
+ * </p>
+ */
+@Configuration
+public class ContractJsonConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new ContractJsonHttpMessageConverter());
+    }
+}
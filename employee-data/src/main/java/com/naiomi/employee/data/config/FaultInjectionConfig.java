@@ -0,0 +1,26 @@
+package com.naiomi.employee.data.config;
+
+import com.naiomi.employee.data.fault.ConnectionDropValve;
+import com.naiomi.employee.data.fault.FaultInjectionFilter;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Installs the {@link ConnectionDropValve} that completes the dropped connections of the
+ * {@link FaultInjectionFilter}. Only active with the {@code faults} profile.
+ */
+@Configuration
+@Profile("faults")
+public class FaultInjectionConfig {
+
+    /**
+     * @return the factory customizer adding the valve to the application context
+     */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> connectionDropValveCustomizer() {
+        return factory -> factory.addContextValves(new ConnectionDropValve());
+    }
+}
@@ -0,0 +1,47 @@
+package com.naiomi.employee.data.config;
+
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatConnectorCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of cleartext HTTP/2 (h2c) on the embedded Tomcat.
+ * <p>
+ * With {@code server.http2.enabled=true} Tomcat accepts both the h2c upgrade and prior-knowledge
+ * connections, which is what employee-api uses to multiplex its calls over a few connections.
+ * This customizer exposes the stream concurrency and flow-control settings.
+ * </p>
+ */
+@Configuration
+public class Http2Config {
+
+    /**
+     * Applies the HTTP/2 settings to the upgrade protocol registered by Spring Boot.
+     *
+     * @param maxConcurrentStreams         maximum concurrent streams a client may open per connection
+     * @param maxConcurrentStreamExecution maximum streams of one connection processed in parallel
+     * @param initialWindowSize            initial flow-control window of each stream, in bytes
+     * @param keepAliveTimeoutMs           how long an idle HTTP/2 connection is kept open
+     * @return the connector customizer
+     */
+    @Bean
+    public TomcatConnectorCustomizer http2ConnectorCustomizer(
+            @Value("${http2.max-concurrent-streams:256}") long maxConcurrentStreams,
+            @Value("${http2.max-concurrent-stream-execution:256}") int maxConcurrentStreamExecution,
+            @Value("${http2.initial-window-size:1048576}") int initialWindowSize,
+            @Value("${http2.keep-alive-timeout-ms:60000}") long keepAliveTimeoutMs) {
+        return connector -> {
+            for (UpgradeProtocol upgradeProtocol : connector.findUpgradeProtocols()) {
+                if (upgradeProtocol instanceof Http2Protocol http2Protocol) {
+                    http2Protocol.setMaxConcurrentStreams(maxConcurrentStreams);
+                    http2Protocol.setMaxConcurrentStreamExecution(maxConcurrentStreamExecution);
+                    http2Protocol.setInitialWindowSize(initialWindowSize);
+                    http2Protocol.setKeepAliveTimeout(keepAliveTimeoutMs);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.naiomi.employee.data.config;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatConnectorCustomizer;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Opt-in Unix domain socket listener, for employee-api instances running on the same host or in
+ * the same pod.
+ * <p>
+ * With {@code unix-socket.path} set, Tomcat listens on that socket in addition to the TCP port,
+ * with the same HTTP/2 settings, so co-located callers skip the TCP loopback stack. The TCP port
+ * stays open for health probes and remote callers. A socket file left behind by a previous run
+ * is removed before binding.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "unix-socket.path")
+public class UnixSocketConfig {
+
+    /**
+     * @param socketPath               the path of the socket file
+     * @param http2ConnectorCustomizer the HTTP/2 settings of the TCP connector, applied to the socket too
+     * @return the factory customizer adding the socket connector
+     */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> unixSocketConnectorCustomizer(
+            @Value("${unix-socket.path}") String socketPath,
+            TomcatConnectorCustomizer http2ConnectorCustomizer) {
+        return factory -> {
+            deleteStaleSocket(Path.of(socketPath));
+            Connector connector = new Connector(TomcatServletWebServerFactory.DEFAULT_PROTOCOL);
+            connector.setProperty("unixDomainSocketPath", socketPath);
+            connector.addUpgradeProtocol(new Http2Protocol());
+            http2ConnectorCustomizer.customize(connector);
+            factory.addAdditionalTomcatConnectors(connector);
+        };
+    }
+
+    private static void deleteStaleSocket(Path socket) {
+        try {
+            Files.deleteIfExists(socket);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot remove stale socket " + socket, e);
+        }
+    }
+}
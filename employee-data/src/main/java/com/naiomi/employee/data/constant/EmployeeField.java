@@ -0,0 +1,54 @@
+package com.naiomi.employee.data.constant;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Fields of an employee that can be requested with the {@code fields} parameter of a read,
+ * named as in {@link com.naiomi.employee.contract.EmployeeResponse}.
+ */
+public enum EmployeeField {
+    ID("id"),
+    NAME("name"),
+    ROLE_ID("roleId");
+
+    private final String fieldName;
+
+    EmployeeField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Parses a comma-separated field list such as {@code "id,name"}.
+     *
+     * @param fields the requested fields
+     * @return the matching fields in declaration order
+     * @throws IllegalArgumentException if the list is empty or contains an unknown field
+     */
+    public static Set<EmployeeField> parse(String fields) {
+        Set<EmployeeField> parsed = EnumSet.noneOf(EmployeeField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            parsed.add(Arrays.stream(values())
+                    .filter(field -> field.fieldName.equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown field: " + trimmed
+                            + ". Allowed fields are: " + Arrays.stream(values())
+                            .map(EmployeeField::getFieldName)
+                            .collect(Collectors.joining(", ", "[", "]")))));
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be requested");
+        }
+        return parsed;
+    }
+}
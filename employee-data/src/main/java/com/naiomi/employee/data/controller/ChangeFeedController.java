@@ -0,0 +1,70 @@
+package com.naiomi.employee.data.controller;
+
+import com.naiomi.employee.data.dto.ChangeFeedDto;
+import com.naiomi.employee.data.dto.EmployeeSnapshotDto;
+import com.naiomi.employee.data.service.ChangeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for the change feed.
+ * Lets readers keep a replica of the employee directory by loading a snapshot and tailing the changes.
+ */
+@RestController
+@RequestMapping("/changes")
+@Tag(name = "Change Feed", description = "Sequenced changes of roles, employees and projects")
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+
+    /**
+     * Constructor for ChangeFeedController.
+     *
+     * @param changeFeedService the service reading the change feed
+     */
+    public ChangeFeedController(ChangeFeedService changeFeedService) {
+        this.changeFeedService = changeFeedService;
+    }
+
+    /**
+     * Returns the changes after the given sequence.
+     *
+     * @param since the last sequence already applied
+     * @param limit the maximum number of changes
+     * @return the page of changes
+     */
+    @GetMapping
+    @Operation(summary = "Get changes", description = "Returns the changes committed after the given sequence, oldest first.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters"),
+            @ApiResponse(responseCode = "410", description = "Changes were pruned, take a new snapshot")
+    })
+    public ResponseEntity<ChangeFeedDto> getChanges(
+            @Parameter(description = "Last sequence already applied") @RequestParam(defaultValue = "0") long since,
+            @Parameter(description = "Maximum number of changes") @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(changeFeedService.getChanges(since, limit));
+    }
+
+    /**
+     * Returns all employees and the sequence to tail from.
+     *
+     * @return the snapshot
+     */
+    @GetMapping("/snapshot")
+    @Operation(summary = "Get an employee snapshot", description = "Returns all employees and the change feed position they reflect.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Snapshot retrieved successfully")
+    })
+    public ResponseEntity<EmployeeSnapshotDto> getSnapshot() {
+        return ResponseEntity.ok(changeFeedService.getSnapshot());
+    }
+}
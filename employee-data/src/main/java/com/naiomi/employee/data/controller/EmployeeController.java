@@ -1,7 +1,9 @@
 package com.naiomi.employee.data.controller;
 
-import com.naiomi.employee.data.dto.EmployeeApiRequestDto;
-import com.naiomi.employee.data.dto.EmployeeApiResponseDto;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import com.naiomi.employee.data.constant.EmployeeField;
+import com.naiomi.employee.data.dto.RoleDto;
 import com.naiomi.employee.data.service.EmployeeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -41,13 +44,13 @@ public class EmployeeController {
     @Operation(summary = "Create a new employee", description = "Creates a new employee with the given details.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Employee created successfully",
-                    content = @Content(schema = @Schema(implementation = EmployeeApiResponseDto.class))),
+                    content = @Content(schema = @Schema(implementation = EmployeeResponse.class))),
             @ApiResponse(responseCode = "400", description = "Validation errors",
                     content = @Content(schema = @Schema(example = "{ 'field': 'error message' }"))),
             @ApiResponse(responseCode = "500", description = "Unexpected error occurred")
     })
     public ResponseEntity<?> createEmployee(
-            @Valid @RequestBody EmployeeApiRequestDto requestDto,
+            @Valid @RequestBody EmployeeRequest requestDto,
             BindingResult bindingResult) {
         if (bindingResult.hasErrors()) {
             Map<String, String> errors = new HashMap<>();
@@ -55,7 +58,7 @@ public class EmployeeController {
                     errors.put(error.getField(), error.getDefaultMessage()));
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
         }
-        EmployeeApiResponseDto responseDto = employeeService.createEmployee(requestDto);
+        EmployeeResponse responseDto = employeeService.createEmployee(requestDto);
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
 
@@ -63,13 +66,13 @@ public class EmployeeController {
     @Operation(summary = "Update an employee", description = "Updates the details of an existing employee.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employee updated successfully",
-                    content = @Content(schema = @Schema(implementation = EmployeeApiResponseDto.class))),
+                    content = @Content(schema = @Schema(implementation = EmployeeResponse.class))),
             @ApiResponse(responseCode = "400", description = "Validation errors"),
             @ApiResponse(responseCode = "404", description = "Employee not found")
     })
     public ResponseEntity<?> updateEmployee(
             @Parameter(description = "ID of the employee to update", required = true) @PathVariable Long id,
-            @Valid @RequestBody EmployeeApiRequestDto requestDto,
+            @Valid @RequestBody EmployeeRequest requestDto,
             BindingResult bindingResult) {
         if (bindingResult.hasErrors()) {
             Map<String, String> errors = new HashMap<>();
@@ -77,23 +80,61 @@ public class EmployeeController {
                     errors.put(error.getField(), error.getDefaultMessage()));
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
         }
-        EmployeeApiResponseDto responseDto = employeeService.updateEmployee(id, requestDto);
+        EmployeeResponse responseDto = employeeService.updateEmployee(id, requestDto);
         return ResponseEntity.ok(responseDto);
     }
 
+    @GetMapping("/ids")
+    @Operation(summary = "List employee IDs", description = "Retrieves the IDs of all employees, e.g. to build an existence filter.")
+    @ApiResponse(responseCode = "200", description = "Employee IDs retrieved successfully")
+    public List<Long> getEmployeeIds() {
+        return employeeService.getEmployeeIds();
+    }
+
+    @GetMapping("/batch")
+    @Operation(summary = "Get employees by ID", description = "Retrieves up to "
+            + EmployeeService.MAX_BATCH_IDS + " employees in one query. IDs without an employee are left out.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employees retrieved successfully, in ID order"),
+            @ApiResponse(responseCode = "400", description = "Too many IDs")
+    })
+    public List<EmployeeResponse> getEmployeesByIds(
+            @Parameter(description = "Comma-separated IDs of the employees to retrieve", required = true)
+            @RequestParam List<Long> ids) {
+        return employeeService.getEmployeesByIds(ids);
+    }
+
     @GetMapping("/{id}")
-    @Operation(summary = "Get an employee by ID", description = "Retrieves the details of an employee by their ID.")
+    @Operation(summary = "Get an employee by ID", description = "Retrieves the details of an employee by their ID. "
+            + "With fields, only the listed fields are read and returned.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employee retrieved successfully",
-                    content = @Content(schema = @Schema(implementation = EmployeeApiResponseDto.class))),
+                    content = @Content(schema = @Schema(implementation = EmployeeResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown field requested"),
             @ApiResponse(responseCode = "404", description = "Employee not found")
     })
-    public ResponseEntity<EmployeeApiResponseDto> getEmployeeById(
-            @Parameter(description = "ID of the employee to retrieve", required = true) @PathVariable Long id) {
-        EmployeeApiResponseDto responseDto = employeeService.getEmployeeById(id);
+    public ResponseEntity<?> getEmployeeById(
+            @Parameter(description = "ID of the employee to retrieve", required = true) @PathVariable Long id,
+            @Parameter(description = "Comma-separated fields to return, e.g. name,roleId") @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(employeeService.getEmployeeFieldsById(id, EmployeeField.parse(fields)));
+        }
+        EmployeeResponse responseDto = employeeService.getEmployeeById(id);
         return ResponseEntity.ok(responseDto);
     }
 
+    @GetMapping("/{id}/role")
+    @Operation(summary = "Get an employee's role", description = "Resolves the role of an employee by their ID.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Role retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = RoleDto.class))),
+            @ApiResponse(responseCode = "404", description = "Employee not found")
+    })
+    public RoleDto getEmployeeRole(
+            @Parameter(description = "ID of the employee", required = true) @PathVariable Long id) {
+        return employeeService.getRoleByEmployeeId(id);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete an employee", description = "Deletes an employee by their ID.")
     @ApiResponses(value = {
@@ -0,0 +1,52 @@
+package com.naiomi.employee.data.controller;
+
+import com.naiomi.employee.data.service.EmployeeEventStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller streaming employee change events.
+ * Used by employee-api to invalidate its caches when employees change.
+ */
+@RestController
+@RequestMapping("/api/employees/events")
+@Tag(name = "Employee Events", description = "Server-Sent Events stream of employee changes")
+public class EmployeeEventController {
+
+    private final EmployeeEventStreamService eventStreamService;
+
+    /**
+     * Constructor for EmployeeEventController.
+     *
+     * @param eventStreamService the service streaming the events
+     */
+    public EmployeeEventController(EmployeeEventStreamService eventStreamService) {
+        this.eventStreamService = eventStreamService;
+    }
+
+    /**
+     * Subscribes to employee change events.
+     *
+     * @param lastEventId the ID of the last event received before a reconnect
+     * @return the event stream
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to employee changes",
+            description = "Streams created, updated, deleted and role-deleted events. Send Last-Event-ID to resume.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened")
+    })
+    public SseEmitter subscribe(
+            @Parameter(description = "ID of the last event received") @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return eventStreamService.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,98 @@
+package com.naiomi.employee.data.controller;
+
+import com.naiomi.employee.data.dto.FaultRuleDto;
+import com.naiomi.employee.data.fault.FaultInjector;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for the fault injection rules, so that performance experiments can make
+ * employee-data slow or flaky from a script. Only available with the {@code faults} profile.
+ */
+@RestController
+@RequestMapping("/admin/faults")
+@Profile("faults")
+@Tag(name = "Administration", description = "Operational endpoints")
+public class FaultController {
+
+    private final FaultInjector faultInjector;
+
+    /**
+     * Constructor for FaultController.
+     *
+     * @param faultInjector the holder of the fault rules
+     */
+    public FaultController(FaultInjector faultInjector) {
+        this.faultInjector = faultInjector;
+    }
+
+    /**
+     * Returns the active rules.
+     *
+     * @return the rules, in the order they are applied
+     */
+    @GetMapping
+    @Operation(summary = "List fault rules", description = "Returns the active fault injection rules.")
+    public ResponseEntity<List<FaultRuleDto>> getRules() {
+        return ResponseEntity.ok(faultInjector.getRules());
+    }
+
+    /**
+     * Adds a rule, applied to requests from now on.
+     *
+     * @param rule the rule
+     * @return the rule with its ID
+     */
+    @PostMapping
+    @Operation(summary = "Add a fault rule", description = "Injects latency, errors, dropped connections or slow bodies into matching requests.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Rule added"),
+            @ApiResponse(responseCode = "400", description = "Invalid rule")
+    })
+    public ResponseEntity<FaultRuleDto> addRule(@RequestBody FaultRuleDto rule) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(faultInjector.add(rule));
+    }
+
+    /**
+     * Removes a rule.
+     *
+     * @param id the ID of the rule
+     * @return no content, or not found if there is no such rule
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Remove a fault rule")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Rule removed"),
+            @ApiResponse(responseCode = "404", description = "Rule not found")
+    })
+    public ResponseEntity<Void> removeRule(@Parameter(description = "ID of the rule") @PathVariable String id) {
+        return faultInjector.remove(id) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Removes all rules.
+     *
+     * @return no content
+     */
+    @DeleteMapping
+    @Operation(summary = "Remove all fault rules")
+    public ResponseEntity<Void> clearRules() {
+        faultInjector.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.naiomi.employee.data.controller;
+
+import com.naiomi.employee.data.dto.ProjectDto;
+import com.naiomi.employee.data.service.ProjectService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for reading the projects assigned to employees.
+ */
+@RestController
+@RequestMapping("/api/employees/{employeeId}/projects")
+@Tag(name = "Project Controller", description = "Endpoints for reading employee projects")
+public class ProjectController {
+
+    private final ProjectService projectService;
+
+    public ProjectController(ProjectService projectService) {
+        this.projectService = projectService;
+    }
+
+    @GetMapping
+    @Operation(summary = "List an employee's projects", description = "Retrieves the projects assigned to an employee.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Projects retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Employee not found")
+    })
+    public List<ProjectDto> getProjects(
+            @Parameter(description = "ID of the employee", required = true) @PathVariable Long employeeId) {
+        return projectService.getProjectsByEmployeeId(employeeId);
+    }
+}
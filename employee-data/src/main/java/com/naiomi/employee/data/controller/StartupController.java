@@ -0,0 +1,67 @@
+package com.naiomi.employee.data.controller;
+
+import com.naiomi.employee.data.dto.StartupReportDto;
+import com.naiomi.employee.data.dto.StartupStepDto;
+import com.naiomi.employee.startup.StartupReport;
+import com.naiomi.employee.startup.StartupTimelineService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller exposing the startup timeline.
+ * Helps identify which beans and initialization steps make startup slow.
+ */
+@RestController
+@RequestMapping("/admin/startup")
+@Tag(name = "Administration", description = "Operational endpoints")
+public class StartupController {
+
+    private final StartupTimelineService startupTimelineService;
+
+    /**
+     * Constructor for StartupController.
+     *
+     * @param startupTimelineService the service building the startup report
+     */
+    public StartupController(StartupTimelineService startupTimelineService) {
+        this.startupTimelineService = startupTimelineService;
+    }
+
+    /**
+     * Returns the recorded startup steps, slowest first by default.
+     *
+     * @param limit the maximum number of steps to return
+     * @param sort  the sort order: duration, self or start
+     * @return the startup report
+     */
+    @GetMapping
+    @Operation(summary = "Get the startup timeline", description = "Returns the recorded startup steps with durations and bean names.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Startup timeline retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = StartupReportDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid sort order")
+    })
+    public ResponseEntity<StartupReportDto> getStartupTimeline(
+            @Parameter(description = "Maximum number of steps to return") @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Sort order: duration, self or start") @RequestParam(defaultValue = "duration") String sort) {
+        return ResponseEntity.ok(toDto(startupTimelineService.getReport(limit, sort)));
+    }
+
+    private static StartupReportDto toDto(StartupReport report) {
+        return new StartupReportDto(report.recorded(), report.timeToReadyMs(), report.budgetMs(), report.totalSteps(),
+                report.steps().stream()
+                        .map(step -> new StartupStepDto(step.id(), step.parentId(), step.name(), step.beanName(),
+                                step.startOffsetMs(), step.durationMs(), step.selfMs()))
+                        .toList());
+    }
+}
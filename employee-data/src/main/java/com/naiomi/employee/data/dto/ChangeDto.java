@@ -0,0 +1,112 @@
+package com.naiomi.employee.data.dto;
+
+import com.naiomi.employee.contract.EmployeeResponse;
+
+/**
+ * Data Transfer Object (DTO) for one entry of the change feed.
+ */
+public class ChangeDto {
+
+    /**
+     * Position of the change in the feed.
+     */
+    private long seq;
+
+    /**
+     * The changed entity: EMPLOYEE, PROJECT or ROLE.
+     */
+    private String entity;
+
+    /**
+     * The ID of the changed row.
+     */
+    private Long entityId;
+
+    /**
+     * INSERT, UPDATE or DELETE.
+     */
+    private String operation;
+
+    /**
+     * Time of the change in epoch milliseconds.
+     */
+    private long changedAt;
+
+    /**
+     * For EMPLOYEE changes, the current state of the employee, or {@code null} if it no longer exists.
+     */
+    private EmployeeResponse employee;
+
+    /**
+     * Constructs a fully populated change.
+     *
+     * @param seq       the sequence
+     * @param entity    the changed entity
+     * @param entityId  the ID of the changed row
+     * @param operation the operation
+     * @param changedAt the time of the change in epoch milliseconds
+     * @param employee  the current employee state, may be {@code null}
+     */
+    public ChangeDto(long seq, String entity, Long entityId, String operation, long changedAt, EmployeeResponse employee) {
+        this.seq = seq;
+        this.entity = entity;
+        this.entityId = entityId;
+        this.operation = operation;
+        this.changedAt = changedAt;
+        this.employee = employee;
+    }
+
+    /**
+     * Default constructor for deserialization.
+     */
+    public ChangeDto() {
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(long seq) {
+        this.seq = seq;
+    }
+
+    public String getEntity() {
+        return entity;
+    }
+
+    public void setEntity(String entity) {
+        this.entity = entity;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public long getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(long changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    public EmployeeResponse getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(EmployeeResponse employee) {
+        this.employee = employee;
+    }
+}
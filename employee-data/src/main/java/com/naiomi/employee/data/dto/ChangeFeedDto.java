@@ -0,0 +1,82 @@
+package com.naiomi.employee.data.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for a page of the change feed.
+ */
+public class ChangeFeedDto {
+
+    /**
+     * The changes, oldest first.
+     */
+    private List<ChangeDto> changes;
+
+    /**
+     * The sequence to pass as {@code since} for the next page.
+     */
+    private long lastSequence;
+
+    /**
+     * The sequence of the latest committed change when the page was read.
+     */
+    private long headSequence;
+
+    /**
+     * Whether more changes are available right away.
+     */
+    private boolean hasMore;
+
+    /**
+     * Constructs a fully populated page.
+     *
+     * @param changes      the changes
+     * @param lastSequence the sequence to continue from
+     * @param headSequence the latest committed sequence
+     * @param hasMore      whether more changes are available
+     */
+    public ChangeFeedDto(List<ChangeDto> changes, long lastSequence, long headSequence, boolean hasMore) {
+        this.changes = changes;
+        this.lastSequence = lastSequence;
+        this.headSequence = headSequence;
+        this.hasMore = hasMore;
+    }
+
+    /**
+     * Default constructor for deserialization.
+     */
+    public ChangeFeedDto() {
+    }
+
+    public List<ChangeDto> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<ChangeDto> changes) {
+        this.changes = changes;
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    public void setLastSequence(long lastSequence) {
+        this.lastSequence = lastSequence;
+    }
+
+    public long getHeadSequence() {
+        return headSequence;
+    }
+
+    public void setHeadSequence(long headSequence) {
+        this.headSequence = headSequence;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,54 @@
+package com.naiomi.employee.data.dto;
+
+import com.naiomi.employee.contract.EmployeeResponse;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for a full copy of the employee directory.
+ */
+public class EmployeeSnapshotDto {
+
+    /**
+     * The change feed position to tail from after loading the snapshot.
+     */
+    private long sequence;
+
+    /**
+     * All employees.
+     */
+    private List<EmployeeResponse> employees;
+
+    /**
+     * Constructs a fully populated snapshot.
+     *
+     * @param sequence  the change feed position
+     * @param employees all employees
+     */
+    public EmployeeSnapshotDto(long sequence, List<EmployeeResponse> employees) {
+        this.sequence = sequence;
+        this.employees = employees;
+    }
+
+    /**
+     * Default constructor for deserialization.
+     */
+    public EmployeeSnapshotDto() {
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public List<EmployeeResponse> getEmployees() {
+        return employees;
+    }
+
+    public void setEmployees(List<EmployeeResponse> employees) {
+        this.employees = employees;
+    }
+}
@@ -0,0 +1,188 @@
+package com.naiomi.employee.data.dto;
+
+import com.naiomi.employee.data.fault.FaultType;
+import com.naiomi.employee.data.fault.LatencyDistribution;
+
+/**
+ * Data Transfer Object (DTO) for a fault injection rule.
+ * <p>
+ * Only the fields of the rule's {@link FaultType} are used; the others may be left out.
+ * </p>
+ */
+public class FaultRuleDto {
+
+    /**
+     * The identifier assigned when the rule is added.
+     */
+    private String id;
+
+    /**
+     * The Ant-style pattern of the request paths the rule applies to, e.g. {@code /api/employees/**}.
+     */
+    private String path = "/**";
+
+    /**
+     * The HTTP method the rule applies to, or {@code null} for all methods.
+     */
+    private String method;
+
+    /**
+     * The share of matching requests that get the fault, from 0 to 100.
+     */
+    private double percentage = 100;
+
+    /**
+     * The kind of fault.
+     */
+    private FaultType type;
+
+    /**
+     * The shape of an injected latency.
+     */
+    private LatencyDistribution distribution = LatencyDistribution.FIXED;
+
+    /**
+     * The fixed latency, or the mean or minimum of the distribution, in milliseconds.
+     */
+    private long latencyMs;
+
+    /**
+     * The maximum of a uniform latency, and the cap of every other distribution, in milliseconds.
+     */
+    private Long latencyMaxMs;
+
+    /**
+     * The standard deviation of a normal latency, in milliseconds.
+     */
+    private long latencyStdDevMs;
+
+    /**
+     * The status of an injected error.
+     */
+    private int status = 503;
+
+    /**
+     * The {@code Retry-After} of an injected error in seconds, or {@code null} for none.
+     */
+    private Integer retryAfterSeconds;
+
+    /**
+     * The size of each chunk of a slow body, in bytes.
+     */
+    private int chunkBytes = 64;
+
+    /**
+     * The pause after each chunk of a slow body, in milliseconds.
+     */
+    private long chunkDelayMs = 50;
+
+    /**
+     * Default constructor for deserialization.
+     */
+    public FaultRuleDto() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public double getPercentage() {
+        return percentage;
+    }
+
+    public void setPercentage(double percentage) {
+        this.percentage = percentage;
+    }
+
+    public FaultType getType() {
+        return type;
+    }
+
+    public void setType(FaultType type) {
+        this.type = type;
+    }
+
+    public LatencyDistribution getDistribution() {
+        return distribution;
+    }
+
+    public void setDistribution(LatencyDistribution distribution) {
+        this.distribution = distribution;
+    }
+
+    public long getLatencyMs() {
+        return latencyMs;
+    }
+
+    public void setLatencyMs(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    public Long getLatencyMaxMs() {
+        return latencyMaxMs;
+    }
+
+    public void setLatencyMaxMs(Long latencyMaxMs) {
+        this.latencyMaxMs = latencyMaxMs;
+    }
+
+    public long getLatencyStdDevMs() {
+        return latencyStdDevMs;
+    }
+
+    public void setLatencyStdDevMs(long latencyStdDevMs) {
+        this.latencyStdDevMs = latencyStdDevMs;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public Integer getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(Integer retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getChunkBytes() {
+        return chunkBytes;
+    }
+
+    public void setChunkBytes(int chunkBytes) {
+        this.chunkBytes = chunkBytes;
+    }
+
+    public long getChunkDelayMs() {
+        return chunkDelayMs;
+    }
+
+    public void setChunkDelayMs(long chunkDelayMs) {
+        this.chunkDelayMs = chunkDelayMs;
+    }
+}
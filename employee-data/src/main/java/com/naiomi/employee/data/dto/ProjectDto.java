@@ -0,0 +1,50 @@
+package com.naiomi.employee.data.dto;
+
+/**
+ * Data Transfer Object (DTO) for a project assigned to an employee.
+ */
+public class ProjectDto {
+
+    /**
+     * The unique identifier for the project.
+     */
+    private Long id;
+
+    /**
+     * The name of the project.
+     */
+    private String name;
+
+    /**
+     * Constructs a fully populated project, used by the repository projection.
+     *
+     * @param id   the project ID
+     * @param name the project name
+     */
+    public ProjectDto(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    /**
+     * Default constructor for deserialization.
+     */
+    public ProjectDto() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
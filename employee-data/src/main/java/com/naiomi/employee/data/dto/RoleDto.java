@@ -0,0 +1,52 @@
+package com.naiomi.employee.data.dto;
+
+import com.naiomi.employee.data.constant.RoleType;
+
+/**
+ * Data Transfer Object (DTO) for a resolved role.
+ */
+public class RoleDto {
+
+    /**
+     * The unique identifier for the role.
+     */
+    private Long id;
+
+    /**
+     * The name of the role.
+     */
+    private RoleType name;
+
+    /**
+     * Constructs a fully populated role, used by the repository projection.
+     *
+     * @param id   the role ID
+     * @param name the role name
+     */
+    public RoleDto(Long id, RoleType name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    /**
+     * Default constructor for deserialization.
+     */
+    public RoleDto() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public RoleType getName() {
+        return name;
+    }
+
+    public void setName(RoleType name) {
+        this.name = name;
+    }
+}
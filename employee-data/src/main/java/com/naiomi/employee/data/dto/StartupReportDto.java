@@ -0,0 +1,147 @@
+package com.naiomi.employee.data.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for the startup timeline report.
+ */
+public class StartupReportDto {
+
+    /**
+     * Whether the application was launched with a buffering startup recorder.
+     */
+    private boolean recorded;
+
+    /**
+     * The time from launch to readiness, or {@code null} if the application is not ready yet.
+     */
+    private Long timeToReadyMs;
+
+    /**
+     * The configured startup budget.
+     */
+    private long budgetMs;
+
+    /**
+     * The number of steps recorded, before the limit is applied.
+     */
+    private int totalSteps;
+
+    /**
+     * The sorted steps.
+     */
+    private List<StartupStepDto> steps;
+
+    /**
+     * Constructs a fully populated report.
+     *
+     * @param recorded      whether steps were recorded
+     * @param timeToReadyMs the time to readiness in milliseconds
+     * @param budgetMs      the startup budget in milliseconds
+     * @param totalSteps    the number of recorded steps
+     * @param steps         the sorted steps
+     */
+    public StartupReportDto(boolean recorded, Long timeToReadyMs, long budgetMs, int totalSteps, List<StartupStepDto> steps) {
+        this.recorded = recorded;
+        this.timeToReadyMs = timeToReadyMs;
+        this.budgetMs = budgetMs;
+        this.totalSteps = totalSteps;
+        this.steps = steps;
+    }
+
+    /**
+     * Default constructor for deserialization.
+     */
+    public StartupReportDto() {
+    }
+
+    /**
+     * Gets whether steps were recorded.
+     *
+     * @return {@code true} if the timeline was recorded
+     */
+    public boolean isRecorded() {
+        return recorded;
+    }
+
+    /**
+     * Sets whether steps were recorded.
+     *
+     * @param recorded the flag to set
+     */
+    public void setRecorded(boolean recorded) {
+        this.recorded = recorded;
+    }
+
+    /**
+     * Gets the time to readiness.
+     *
+     * @return the time to readiness in milliseconds, or {@code null}
+     */
+    public Long getTimeToReadyMs() {
+        return timeToReadyMs;
+    }
+
+    /**
+     * Sets the time to readiness.
+     *
+     * @param timeToReadyMs the time to readiness in milliseconds
+     */
+    public void setTimeToReadyMs(Long timeToReadyMs) {
+        this.timeToReadyMs = timeToReadyMs;
+    }
+
+    /**
+     * Gets the startup budget.
+     *
+     * @return the budget in milliseconds
+     */
+    public long getBudgetMs() {
+        return budgetMs;
+    }
+
+    /**
+     * Sets the startup budget.
+     *
+     * @param budgetMs the budget in milliseconds
+     */
+    public void setBudgetMs(long budgetMs) {
+        this.budgetMs = budgetMs;
+    }
+
+    /**
+     * Gets the number of recorded steps.
+     *
+     * @return the number of recorded steps
+     */
+    public int getTotalSteps() {
+        return totalSteps;
+    }
+
+    /**
+     * Sets the number of recorded steps.
+     *
+     * @param totalSteps the number of recorded steps
+     */
+    public void setTotalSteps(int totalSteps) {
+        this.totalSteps = totalSteps;
+    }
+
+    /**
+     * Gets the sorted steps.
+     *
+     * @return the steps
+     */
+    public List<StartupStepDto> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Sets the sorted steps.
+     *
+     * @param steps the steps to set
+     */
+    public void setSteps(List<StartupStepDto> steps) {
+        this.steps = steps;
+    }
+}
@@ -0,0 +1,196 @@
+package com.naiomi.employee.data.dto;
+
+/**
+ * Data Transfer Object (DTO) describing a single recorded startup step.
+ */
+public class StartupStepDto {
+
+    /**
+     * The identifier of the step, unique within the timeline.
+     */
+    private long id;
+
+    /**
+     * The identifier of the enclosing step, or {@code null} for top-level steps.
+     */
+    private Long parentId;
+
+    /**
+     * The name of the step, for example {@code spring.beans.instantiate}.
+     */
+    private String name;
+
+    /**
+     * The bean the step belongs to, if any.
+     */
+    private String beanName;
+
+    /**
+     * When the step started, relative to the start of the timeline.
+     */
+    private double startOffsetMs;
+
+    /**
+     * The time spent in the step, including nested steps.
+     */
+    private double durationMs;
+
+    /**
+     * The time spent in the step itself, excluding nested steps.
+     */
+    private double selfMs;
+
+    /**
+     * Constructs a fully populated step.
+     *
+     * @param id            the step ID
+     * @param parentId      the parent step ID
+     * @param name          the step name
+     * @param beanName      the bean name
+     * @param startOffsetMs the start offset in milliseconds
+     * @param durationMs    the inclusive duration in milliseconds
+     * @param selfMs        the exclusive duration in milliseconds
+     */
+    public StartupStepDto(long id, Long parentId, String name, String beanName,
+                          double startOffsetMs, double durationMs, double selfMs) {
+        this.id = id;
+        this.parentId = parentId;
+        this.name = name;
+        this.beanName = beanName;
+        this.startOffsetMs = startOffsetMs;
+        this.durationMs = durationMs;
+        this.selfMs = selfMs;
+    }
+
+    /**
+     * Default constructor for deserialization.
+     */
+    public StartupStepDto() {
+    }
+
+    /**
+     * Gets the step ID.
+     *
+     * @return the step ID
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the step ID.
+     *
+     * @param id the step ID to set
+     */
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the parent step ID.
+     *
+     * @return the parent step ID, or {@code null}
+     */
+    public Long getParentId() {
+        return parentId;
+    }
+
+    /**
+     * Sets the parent step ID.
+     *
+     * @param parentId the parent step ID to set
+     */
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    /**
+     * Gets the step name.
+     *
+     * @return the step name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the step name.
+     *
+     * @param name the step name to set
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the bean name.
+     *
+     * @return the bean name, or {@code null}
+     */
+    public String getBeanName() {
+        return beanName;
+    }
+
+    /**
+     * Sets the bean name.
+     *
+     * @param beanName the bean name to set
+     */
+    public void setBeanName(String beanName) {
+        this.beanName = beanName;
+    }
+
+    /**
+     * Gets the start offset.
+     *
+     * @return the start offset in milliseconds
+     */
+    public double getStartOffsetMs() {
+        return startOffsetMs;
+    }
+
+    /**
+     * Sets the start offset.
+     *
+     * @param startOffsetMs the start offset in milliseconds
+     */
+    public void setStartOffsetMs(double startOffsetMs) {
+        this.startOffsetMs = startOffsetMs;
+    }
+
+    /**
+     * Gets the inclusive duration.
+     *
+     * @return the duration in milliseconds
+     */
+    public double getDurationMs() {
+        return durationMs;
+    }
+
+    /**
+     * Sets the inclusive duration.
+     *
+     * @param durationMs the duration in milliseconds
+     */
+    public void setDurationMs(double durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    /**
+     * Gets the exclusive duration.
+     *
+     * @return the self time in milliseconds
+     */
+    public double getSelfMs() {
+        return selfMs;
+    }
+
+    /**
+     * Sets the exclusive duration.
+     *
+     * @param selfMs the self time in milliseconds
+     */
+    public void setSelfMs(double selfMs) {
+        this.selfMs = selfMs;
+    }
+}
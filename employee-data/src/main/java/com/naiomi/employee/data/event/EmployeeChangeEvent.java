@@ -0,0 +1,94 @@
+package com.naiomi.employee.data.event;
+
+/**
+ * Application event published after an employee mutation and streamed to subscribers.
+ * The sequence is assigned by {@link com.naiomi.employee.data.service.EmployeeEventStreamService}
+ * when the event is streamed.
+ */
+public class EmployeeChangeEvent {
+
+    /**
+     * The kind of change.
+     */
+    private EmployeeChangeType type;
+
+    /**
+     * The affected employee, or {@code null} for {@link EmployeeChangeType#ROLE_DELETED}.
+     */
+    private Long employeeId;
+
+    /**
+     * The role of the employee after the change, or the deleted role.
+     */
+    private Long roleId;
+
+    /**
+     * Position of the event in the stream.
+     */
+    private long sequence;
+
+    /**
+     * Time of the change in epoch milliseconds.
+     */
+    private long timestamp;
+
+    /**
+     * Default constructor for deserialization.
+     */
+    public EmployeeChangeEvent() {
+    }
+
+    /**
+     * Creates an event for a change happening now.
+     *
+     * @param type       the kind of change
+     * @param employeeId the affected employee, may be {@code null}
+     * @param roleId     the affected role, may be {@code null}
+     */
+    public EmployeeChangeEvent(EmployeeChangeType type, Long employeeId, Long roleId) {
+        this.type = type;
+        this.employeeId = employeeId;
+        this.roleId = roleId;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    public EmployeeChangeType getType() {
+        return type;
+    }
+
+    public void setType(EmployeeChangeType type) {
+        this.type = type;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public Long getRoleId() {
+        return roleId;
+    }
+
+    public void setRoleId(Long roleId) {
+        this.roleId = roleId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+}
@@ -0,0 +1,14 @@
+package com.naiomi.employee.data.event;
+
+/**
+ * Kinds of employee changes published on the event stream.
+ */
+public enum EmployeeChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    /**
+     * A role was deleted together with all employees holding it.
+     */
+    ROLE_DELETED
+}
@@ -0,0 +1,17 @@
+package com.naiomi.employee.data.exception;
+
+/**
+ * Thrown when a change feed reader asks for changes that have already been pruned.
+ * The reader has to take a new snapshot.
+ */
+public class ChangeFeedExpiredException extends RuntimeException {
+
+    /**
+     * Constructs a new ChangeFeedExpiredException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public ChangeFeedExpiredException(String message) {
+        super(message);
+    }
+}
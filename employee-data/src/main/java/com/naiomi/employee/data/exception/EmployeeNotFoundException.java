@@ -0,0 +1,21 @@
+package com.naiomi.employee.data.exception;
+
+/**
+ * Thrown when an employee looked up by ID does not exist.
+ * <p>
+ * It is an {@link IllegalArgumentException}, so callers that reject bad arguments as a whole,
+ * such as the per-item errors of batched upserts, keep treating it as one. The REST endpoints
+ * answer it with {@code 404} rather than {@code 400}.
+ * </p>
+ */
+public class EmployeeNotFoundException extends IllegalArgumentException {
+
+    /**
+     * Constructs a new EmployeeNotFoundException for the given employee ID.
+     *
+     * @param id the ID without an employee
+     */
+    public EmployeeNotFoundException(Long id) {
+        super("Employee not found with ID: " + id);
+    }
+}
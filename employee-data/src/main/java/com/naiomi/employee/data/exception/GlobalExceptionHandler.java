@@ -31,6 +31,18 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles EmployeeNotFoundException, which takes precedence over the handler of its
+     * superclass {@link IllegalArgumentException}.
+     *
+     * @param ex the {@link EmployeeNotFoundException} instance
+     * @return a {@link ResponseEntity} with the error message
+     */
+    @ExceptionHandler(EmployeeNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleEmployeeNotFoundException(EmployeeNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", ex.getMessage()));
+    }
+
     /**
      * Handles IllegalArgumentException thrown from controllers or services.
      *
@@ -42,6 +54,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", ex.getMessage()));
     }
 
+    /**
+     * Handles ChangeFeedExpiredException, telling the reader to take a new snapshot.
+     *
+     * @param ex the {@link ChangeFeedExpiredException} instance
+     * @return a {@link ResponseEntity} with the error message
+     */
+    @ExceptionHandler(ChangeFeedExpiredException.class)
+    public ResponseEntity<Map<String, String>> handleChangeFeedExpiredException(ChangeFeedExpiredException ex) {
+        return ResponseEntity.status(HttpStatus.GONE).body(Map.of("error", ex.getMessage()));
+    }
+
     /**
      * Handles generic exceptions that do not fall into other categories.
      *
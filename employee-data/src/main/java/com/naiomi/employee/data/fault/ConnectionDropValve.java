@@ -0,0 +1,41 @@
+package com.naiomi.employee.data.fault;
+
+import jakarta.servlet.ServletException;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+import org.apache.coyote.ActionCode;
+
+import java.io.IOException;
+
+/**
+ * Drops the requests marked by the {@link FaultInjectionFilter}: sends their headers, then closes
+ * the HTTP/1.1 connection or resets the HTTP/2 stream before any of the promised body.
+ * <p>
+ * A servlet filter can only do this by throwing, which Tomcat logs and answers with an error page;
+ * as a valve it is a plain close, like an employee-data that died mid-response.
+ * </p>
+ */
+public class ConnectionDropValve extends ValveBase {
+
+    /**
+     * Request attribute set by the filter on requests to drop.
+     */
+    static final String DROP_ATTRIBUTE = ConnectionDropValve.class.getName() + ".DROP";
+
+    /**
+     * Constructor for ConnectionDropValve.
+     */
+    public ConnectionDropValve() {
+        super(true);
+    }
+
+    @Override
+    public void invoke(Request request, Response response) throws IOException, ServletException {
+        getNext().invoke(request, response);
+        if (request.getAttribute(DROP_ATTRIBUTE) != null) {
+            response.flushBuffer();
+            response.getCoyoteResponse().action(ActionCode.CLOSE_NOW, null);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.naiomi.employee.data.fault;
+
+import com.naiomi.employee.data.dto.FaultRuleDto;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Injects the faults picked by the {@link FaultInjector} into HTTP requests, to reproduce a slow
+ * or flaky data tier when tuning the timeouts and retries of employee-api.
+ * <p>
+ * The faults of a request are applied in rule order: latencies add up, the first error or drop
+ * ends the request, and a slow body streams the response once it has been handled. A dropped
+ * request is closed by the {@link ConnectionDropValve} after its headers are sent. The
+ * {@code /admin/faults} endpoint is never affected, nor are the Server-Sent Events of
+ * {@code /api/employees/events} slowed down, as they never complete. The gRPC port is not served
+ * by this filter.
+ * </p>
+ * <p>
+ * Only active with the {@code faults} profile.
+ * </p>
+ */
+@Component
+@Profile("faults")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private static final String ADMIN_PATH = "/admin/faults";
+
+    private final FaultInjector faultInjector;
+
+    /**
+     * Constructor for FaultInjectionFilter.
+     *
+     * @param faultInjector the holder of the fault rules
+     */
+    public FaultInjectionFilter(FaultInjector faultInjector) {
+        this.faultInjector = faultInjector;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return path(request).startsWith(ADMIN_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        List<FaultRuleDto> faults = faultInjector.select(request.getMethod(), path(request));
+        if (faults.isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        FaultRuleDto slowBody = null;
+        for (FaultRuleDto fault : faults) {
+            switch (fault.getType()) {
+                case LATENCY -> sleep(faultInjector.nextLatencyMs(fault));
+                case ERROR -> {
+                    sendError(response, fault);
+                    return;
+                }
+                case DROP -> {
+                    drop(request, response);
+                    return;
+                }
+                case SLOW_BODY -> slowBody = fault;
+            }
+        }
+
+        if (slowBody == null || isEventStream(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, buffered);
+        streamSlowly(buffered.getContentAsByteArray(), response, slowBody);
+    }
+
+    private static void sendError(HttpServletResponse response, FaultRuleDto fault) throws IOException {
+        response.setStatus(fault.getStatus());
+        if (fault.getRetryAfterSeconds() != null) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(fault.getRetryAfterSeconds()));
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write("{\"error\":\"Injected fault\"}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Promises a body that never comes: the {@link ConnectionDropValve} sends the headers and then
+     * closes the connection.
+     */
+    private static void drop(HttpServletRequest request, HttpServletResponse response) {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(1024);
+        request.setAttribute(ConnectionDropValve.DROP_ATTRIBUTE, Boolean.TRUE);
+    }
+
+    private static void streamSlowly(byte[] body, HttpServletResponse response, FaultRuleDto fault)
+            throws IOException {
+        response.setContentLength(body.length);
+        ServletOutputStream out = response.getOutputStream();
+        for (int offset = 0; offset < body.length; offset += fault.getChunkBytes()) {
+            out.write(body, offset, Math.min(fault.getChunkBytes(), body.length - offset));
+            out.flush();
+            sleep(fault.getChunkDelayMs());
+        }
+    }
+
+    private static boolean isEventStream(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static void sleep(long ms) {
+        if (ms <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
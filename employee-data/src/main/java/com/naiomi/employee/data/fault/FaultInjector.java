@@ -0,0 +1,170 @@
+package com.naiomi.employee.data.fault;
+
+import com.naiomi.employee.data.dto.FaultRuleDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the fault injection rules and picks the faults of each request.
+ * <p>
+ * Rules are added and removed at runtime through {@code /admin/faults} and are kept in memory
+ * only. Every rule matching the path and method of a request gets its own roll of the dice
+ * against its percentage, so rules combine: a request may be delayed by one rule and fail with
+ * another. Only active with the {@code faults} profile.
+ * </p>
+ */
+@Component
+@Profile("faults")
+public class FaultInjector {
+
+    private static final Logger logger = LoggerFactory.getLogger(FaultInjector.class);
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final List<FaultRuleDto> rules = new CopyOnWriteArrayList<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final long maxLatencyMs;
+
+    /**
+     * Constructor for FaultInjector.
+     *
+     * @param maxLatencyMs the longest latency or slow body pause a rule may ask for
+     */
+    public FaultInjector(@Value("${faults.max-latency-ms:60000}") long maxLatencyMs) {
+        this.maxLatencyMs = maxLatencyMs;
+    }
+
+    /**
+     * Validates a rule and starts applying it.
+     *
+     * @param rule the rule to add
+     * @return the rule with its assigned ID
+     * @throws IllegalArgumentException if the rule is incomplete or out of range
+     */
+    public FaultRuleDto add(FaultRuleDto rule) {
+        validate(rule);
+        rule.setId(String.valueOf(nextId.getAndIncrement()));
+        if (rule.getMethod() != null) {
+            rule.setMethod(rule.getMethod().toUpperCase());
+        }
+        rules.add(rule);
+        logger.warn("Fault rule {} added: {} {} {} at {}%", rule.getId(), rule.getType(),
+                rule.getMethod() == null ? "*" : rule.getMethod(), rule.getPath(), rule.getPercentage());
+        return rule;
+    }
+
+    /**
+     * @return the active rules, in the order they are applied
+     */
+    public List<FaultRuleDto> getRules() {
+        return List.copyOf(rules);
+    }
+
+    /**
+     * Stops applying a rule.
+     *
+     * @param id the ID of the rule
+     * @return whether the rule existed
+     */
+    public boolean remove(String id) {
+        boolean removed = rules.removeIf(rule -> rule.getId().equals(id));
+        if (removed) {
+            logger.warn("Fault rule {} removed", id);
+        }
+        return removed;
+    }
+
+    /**
+     * Stops applying all rules.
+     */
+    public void clear() {
+        rules.clear();
+        logger.warn("All fault rules removed");
+    }
+
+    /**
+     * Picks the faults of a request.
+     *
+     * @param method the HTTP method of the request
+     * @param path   the path of the request
+     * @return the rules that apply to this request, in order; empty for most requests
+     */
+    public List<FaultRuleDto> select(String method, String path) {
+        if (rules.isEmpty()) {
+            return List.of();
+        }
+        List<FaultRuleDto> selected = new ArrayList<>(1);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (FaultRuleDto rule : rules) {
+            if ((rule.getMethod() == null || rule.getMethod().equalsIgnoreCase(method))
+                    && pathMatcher.match(rule.getPath(), path)
+                    && random.nextDouble(100) < rule.getPercentage()) {
+                selected.add(rule);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Draws the latency of a {@link FaultType#LATENCY} rule.
+     *
+     * @param rule the rule
+     * @return the latency in milliseconds
+     */
+    public long nextLatencyMs(FaultRuleDto rule) {
+        long latency = rule.getDistribution().nextMs(rule.getLatencyMs(), rule.getLatencyMaxMs(),
+                rule.getLatencyStdDevMs(), ThreadLocalRandom.current());
+        return Math.min(latency, maxLatencyMs);
+    }
+
+    private void validate(FaultRuleDto rule) {
+        if (rule.getType() == null) {
+            throw new IllegalArgumentException("Fault rule needs a type: LATENCY, ERROR, DROP or SLOW_BODY");
+        }
+        if (rule.getPath() == null || !rule.getPath().startsWith("/")) {
+            throw new IllegalArgumentException("Fault rule path must start with /");
+        }
+        if (rule.getPercentage() < 0 || rule.getPercentage() > 100) {
+            throw new IllegalArgumentException("Fault rule percentage must be between 0 and 100");
+        }
+        switch (rule.getType()) {
+            case LATENCY -> {
+                if (rule.getDistribution() == null) {
+                    throw new IllegalArgumentException("Latency rule needs a distribution");
+                }
+                if (rule.getLatencyMs() < 0 || rule.getLatencyStdDevMs() < 0
+                        || (rule.getLatencyMaxMs() != null && rule.getLatencyMaxMs() < 0)
+                        || rule.getLatencyMs() > maxLatencyMs) {
+                    throw new IllegalArgumentException("Latency must be between 0 and " + maxLatencyMs + " ms");
+                }
+            }
+            case ERROR -> {
+                if (rule.getStatus() < 400 || rule.getStatus() > 599) {
+                    throw new IllegalArgumentException("Error rule status must be between 400 and 599");
+                }
+                if (rule.getRetryAfterSeconds() != null && rule.getRetryAfterSeconds() < 0) {
+                    throw new IllegalArgumentException("Retry-After must not be negative");
+                }
+            }
+            case SLOW_BODY -> {
+                if (rule.getChunkBytes() < 1 || rule.getChunkDelayMs() < 0 || rule.getChunkDelayMs() > maxLatencyMs) {
+                    throw new IllegalArgumentException("Slow body rule needs chunkBytes >= 1 and chunkDelayMs between 0 and "
+                            + maxLatencyMs + " ms");
+                }
+            }
+            case DROP -> {
+                // Nothing to configure
+            }
+        }
+    }
+}
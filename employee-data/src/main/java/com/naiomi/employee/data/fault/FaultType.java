@@ -0,0 +1,29 @@
+package com.naiomi.employee.data.fault;
+
+/**
+ * The kinds of fault the {@link FaultInjectionFilter} can inject into a request.
+ */
+public enum FaultType {
+
+    /**
+     * Delays the request before it is handled, then handles it normally.
+     */
+    LATENCY,
+
+    /**
+     * Answers with an error status instead of handling the request.
+     */
+    ERROR,
+
+    /**
+     * Sends the response headers, then closes the connection (HTTP/1.1) or resets the stream
+     * (HTTP/2) without a body.
+     */
+    DROP,
+
+    /**
+     * Handles the request normally, then streams the body in small chunks with a pause between
+     * them.
+     */
+    SLOW_BODY
+}
@@ -0,0 +1,65 @@
+package com.naiomi.employee.data.fault;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Shapes of the latency injected by a {@link FaultType#LATENCY} fault.
+ */
+public enum LatencyDistribution {
+
+    /**
+     * Always {@code latencyMs}.
+     */
+    FIXED {
+        @Override
+        double sample(long latencyMs, Long latencyMaxMs, long latencyStdDevMs, RandomGenerator random) {
+            return latencyMs;
+        }
+    },
+
+    /**
+     * Evenly spread between {@code latencyMs} and {@code latencyMaxMs}.
+     */
+    UNIFORM {
+        @Override
+        double sample(long latencyMs, Long latencyMaxMs, long latencyStdDevMs, RandomGenerator random) {
+            long max = latencyMaxMs == null ? latencyMs : latencyMaxMs;
+            return max <= latencyMs ? latencyMs : random.nextDouble(latencyMs, max);
+        }
+    },
+
+    /**
+     * Normal around a mean of {@code latencyMs} with {@code latencyStdDevMs}, never below zero.
+     */
+    NORMAL {
+        @Override
+        double sample(long latencyMs, Long latencyMaxMs, long latencyStdDevMs, RandomGenerator random) {
+            return random.nextGaussian(latencyMs, latencyStdDevMs);
+        }
+    },
+
+    /**
+     * Exponential with a mean of {@code latencyMs}: mostly short, with a long tail.
+     */
+    EXPONENTIAL {
+        @Override
+        double sample(long latencyMs, Long latencyMaxMs, long latencyStdDevMs, RandomGenerator random) {
+            return latencyMs * random.nextExponential();
+        }
+    };
+
+    /**
+     * Draws a latency, capped at {@code latencyMaxMs} when it is set.
+     *
+     * @return the latency in milliseconds, at least zero
+     */
+    public long nextMs(long latencyMs, Long latencyMaxMs, long latencyStdDevMs, RandomGenerator random) {
+        double sample = sample(latencyMs, latencyMaxMs, latencyStdDevMs, random);
+        if (latencyMaxMs != null) {
+            sample = Math.min(sample, latencyMaxMs);
+        }
+        return Math.max(0, Math.round(sample));
+    }
+
+    abstract double sample(long latencyMs, Long latencyMaxMs, long latencyStdDevMs, RandomGenerator random);
+}
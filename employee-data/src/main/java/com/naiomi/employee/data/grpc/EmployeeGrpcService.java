@@ -0,0 +1,350 @@
+package com.naiomi.employee.data.grpc;
+
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import com.naiomi.employee.data.event.EmployeeChangeType;
+import com.naiomi.employee.data.grpc.proto.Employee;
+import com.naiomi.employee.data.grpc.proto.EmployeesGrpc;
+import com.naiomi.employee.data.grpc.proto.GetEmployeeRequest;
+import com.naiomi.employee.data.grpc.proto.ListEmployeesRequest;
+import com.naiomi.employee.data.grpc.proto.UpsertEmployeeAck;
+import com.naiomi.employee.data.grpc.proto.UpsertEmployeeRequest;
+import com.naiomi.employee.data.service.EmployeeService;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Deadline;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * gRPC counterpart of {@link com.naiomi.employee.data.controller.EmployeeController} for
+ * machine-to-machine consumers, see {@code employee.proto}.
+ * <p>
+ * Every database access runs in a transaction whose timeout is the time left until the deadline
+ * of the call, and none is started once the call is cancelled or past its deadline. Streams
+ * follow gRPC flow control in both directions: {@code ListEmployees} only reads the next page
+ * while the client keeps up, and {@code UpsertEmployees} only asks for more requests once the
+ * acks of the previous batch have been taken.
+ * </p>
+ */
+@Component
+public class EmployeeGrpcService extends EmployeesGrpc.EmployeesImplBase {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeGrpcService.class);
+
+    private final EmployeeService employeeService;
+    private final PlatformTransactionManager transactionManager;
+    private final int pageSize;
+    private final int batchSize;
+    private final long lingerMs;
+    private final ScheduledExecutorService lingerScheduler;
+    private final ExecutorService lingerFlushExecutor;
+
+    public EmployeeGrpcService(EmployeeService employeeService, PlatformTransactionManager transactionManager,
+                               @Value("${grpc.list.page-size:500}") int pageSize,
+                               @Value("${grpc.upsert.batch-size:100}") int batchSize,
+                               @Value("${grpc.upsert.linger-ms:5}") long lingerMs) {
+        if (pageSize < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("grpc.list.page-size and grpc.upsert.batch-size must be at least 1");
+        }
+        this.employeeService = employeeService;
+        this.transactionManager = transactionManager;
+        this.pageSize = pageSize;
+        this.batchSize = batchSize;
+        this.lingerMs = lingerMs;
+        this.lingerScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "grpc-upsert-linger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // The scheduler only hands lingering batches over; their transactions run here, so a slow
+        // stream does not hold up the linger flushes of the others
+        AtomicInteger count = new AtomicInteger();
+        this.lingerFlushExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "grpc-upsert-flush-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        lingerScheduler.shutdownNow();
+        lingerFlushExecutor.shutdownNow();
+    }
+
+    @Override
+    public void getEmployee(GetEmployeeRequest request, StreamObserver<Employee> responseObserver) {
+        try {
+            if (request.getId() <= 0) {
+                throw Status.INVALID_ARGUMENT.withDescription("id must be positive").asRuntimeException();
+            }
+            EmployeeResponse employee = inTransaction(Context.current(), true,
+                    () -> employeeService.getEmployeeById(request.getId()));
+            responseObserver.onNext(toProto(employee));
+            responseObserver.onCompleted();
+        } catch (IllegalArgumentException e) {
+            responseObserver.onError(Status.NOT_FOUND.withDescription(e.getMessage()).asRuntimeException());
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e));
+        }
+    }
+
+    @Override
+    public void listEmployees(ListEmployeesRequest request, StreamObserver<Employee> responseObserver) {
+        if (request.getAfterId() < 0 || request.getLimit() < 0) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("after_id and limit must not be negative").asRuntimeException());
+            return;
+        }
+        new ListCall(request, (ServerCallStreamObserver<Employee>) responseObserver);
+    }
+
+    @Override
+    public StreamObserver<UpsertEmployeeRequest> upsertEmployees(StreamObserver<UpsertEmployeeAck> responseObserver) {
+        return new UpsertCall((ServerCallStreamObserver<UpsertEmployeeAck>) responseObserver);
+    }
+
+    /**
+     * Runs database work within the deadline of a call.
+     */
+    private <T> T inTransaction(Context context, boolean readOnly, Supplier<T> work) {
+        if (context.isCancelled()) {
+            throw Contexts.statusFromCancelled(context).asRuntimeException();
+        }
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        Deadline deadline = context.getDeadline();
+        if (deadline != null) {
+            long remainingMs = deadline.timeRemaining(TimeUnit.MILLISECONDS);
+            if (remainingMs <= 0) {
+                throw Status.DEADLINE_EXCEEDED.asRuntimeException();
+            }
+            // Transaction timeouts have a resolution of seconds
+            template.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(remainingMs)));
+        }
+        return template.execute(status -> work.get());
+    }
+
+    private static StatusRuntimeException toStatus(RuntimeException e) {
+        if (e instanceof StatusRuntimeException statusException) {
+            return statusException;
+        }
+        if (e instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException();
+        }
+        if (e instanceof TransactionTimedOutException || e instanceof QueryTimeoutException) {
+            return Status.DEADLINE_EXCEEDED.withDescription(e.getMessage()).asRuntimeException();
+        }
+        logger.error("Unexpected error in gRPC call", e);
+        return Status.INTERNAL.withDescription("Unexpected error occurred").asRuntimeException();
+    }
+
+    private static Employee toProto(EmployeeResponse employee) {
+        return Employee.newBuilder()
+                .setId(employee.id())
+                .setName(employee.name())
+                .setRoleId(employee.roleId())
+                .build();
+    }
+
+    /**
+     * One {@code ListEmployees} call: sends employees while the client is ready and reads the
+     * next page only when the previous one has been sent.
+     */
+    private final class ListCall {
+
+        private final ServerCallStreamObserver<Employee> responses;
+        private final Context context = Context.current();
+        private final Deque<Employee> page = new ArrayDeque<>();
+        private long afterId;
+        private long remaining;
+        private volatile boolean done;
+
+        private ListCall(ListEmployeesRequest request, ServerCallStreamObserver<Employee> responses) {
+            this.responses = responses;
+            this.afterId = request.getAfterId();
+            this.remaining = request.getLimit() == 0 ? Long.MAX_VALUE : request.getLimit();
+            responses.setOnCancelHandler(() -> done = true);
+            // Also called once the call is ready for the first time
+            responses.setOnReadyHandler(this::send);
+        }
+
+        private void send() {
+            try {
+                while (!done && responses.isReady()) {
+                    if (page.isEmpty()) {
+                        if (remaining == 0 || !fetchPage()) {
+                            done = true;
+                            responses.onCompleted();
+                            return;
+                        }
+                    }
+                    responses.onNext(page.poll());
+                    remaining--;
+                }
+            } catch (RuntimeException e) {
+                if (!done) {
+                    done = true;
+                    responses.onError(toStatus(e));
+                }
+            }
+        }
+
+        private boolean fetchPage() {
+            int size = (int) Math.min(pageSize, remaining);
+            List<EmployeeResponse> employees = inTransaction(context, true,
+                    () -> employeeService.getEmployeesAfter(afterId, size));
+            employees.forEach(employee -> page.add(toProto(employee)));
+            if (!employees.isEmpty()) {
+                afterId = employees.get(employees.size() - 1).id();
+            }
+            return !employees.isEmpty();
+        }
+    }
+
+    /**
+     * One {@code UpsertEmployees} call. Requests are collected until a batch is full, the client
+     * pauses for {@code grpc.upsert.linger-ms} or half-closes, and each batch is written in one
+     * transaction. At most one batch of requests is requested from the client at a time. The
+     * methods lock the call, so its batches are written one at a time whichever thread writes them.
+     */
+    private final class UpsertCall implements StreamObserver<UpsertEmployeeRequest> {
+
+        private final ServerCallStreamObserver<UpsertEmployeeAck> responses;
+        private final Context context = Context.current();
+        private final List<UpsertEmployeeRequest> pending = new ArrayList<>();
+        private ScheduledFuture<?> lingerFlush;
+        private int deferredRequests;
+        private boolean done;
+
+        private UpsertCall(ServerCallStreamObserver<UpsertEmployeeAck> responses) {
+            this.responses = responses;
+            responses.disableAutoRequest();
+            responses.setOnCancelHandler(this::cancel);
+            responses.setOnReadyHandler(this::requestDeferred);
+            responses.request(batchSize);
+        }
+
+        @Override
+        public synchronized void onNext(UpsertEmployeeRequest request) {
+            if (done) {
+                return;
+            }
+            pending.add(request);
+            if (pending.size() >= batchSize) {
+                flush();
+            } else if (lingerFlush == null) {
+                lingerFlush = lingerScheduler.schedule(() -> lingerFlushExecutor.execute(this::flushAfterLinger),
+                        lingerMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        @Override
+        public synchronized void onError(Throwable t) {
+            // The client failed or cancelled the call: requests not yet written are dropped
+            cancel();
+        }
+
+        @Override
+        public synchronized void onCompleted() {
+            if (done) {
+                return;
+            }
+            flush();
+            if (!done) {
+                done = true;
+                responses.onCompleted();
+            }
+        }
+
+        private synchronized void flushAfterLinger() {
+            lingerFlush = null;
+            if (!done) {
+                flush();
+            }
+        }
+
+        private synchronized void cancel() {
+            done = true;
+            if (lingerFlush != null) {
+                lingerFlush.cancel(false);
+            }
+        }
+
+        private synchronized void requestDeferred() {
+            if (!done && deferredRequests > 0 && responses.isReady()) {
+                responses.request(deferredRequests);
+                deferredRequests = 0;
+            }
+        }
+
+        private void flush() {
+            if (lingerFlush != null) {
+                lingerFlush.cancel(false);
+                lingerFlush = null;
+            }
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<UpsertEmployeeRequest> batch = new ArrayList<>(pending);
+            pending.clear();
+
+            List<EmployeeService.UpsertResult> results;
+            try {
+                results = inTransaction(context, false, () -> employeeService.upsertEmployees(
+                        batch.stream().map(EmployeeGrpcService::toUpsert).toList()));
+            } catch (RuntimeException e) {
+                done = true;
+                responses.onError(toStatus(e));
+                return;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                responses.onNext(toAck(batch.get(i).getSequence(), results.get(i)));
+            }
+
+            // Replace the written requests once the client keeps up with the acks
+            deferredRequests += batch.size();
+            requestDeferred();
+        }
+    }
+
+    private static EmployeeService.Upsert toUpsert(UpsertEmployeeRequest request) {
+        EmployeeRequest requestDto = new EmployeeRequest(request.getName(), request.getRoleId() == 0 ? null : request.getRoleId());
+        return new EmployeeService.Upsert(request.getId() == 0 ? null : request.getId(), requestDto);
+    }
+
+    private static UpsertEmployeeAck toAck(long sequence, EmployeeService.UpsertResult result) {
+        UpsertEmployeeAck.Builder ack = UpsertEmployeeAck.newBuilder().setSequence(sequence);
+        if (result.error() != null) {
+            return ack.setStatus(UpsertEmployeeAck.Status.REJECTED).setMessage(result.error()).build();
+        }
+        return ack.setStatus(result.type() == EmployeeChangeType.CREATED
+                        ? UpsertEmployeeAck.Status.CREATED : UpsertEmployeeAck.Status.UPDATED)
+                .setEmployee(toProto(result.employee()))
+                .build();
+    }
+}
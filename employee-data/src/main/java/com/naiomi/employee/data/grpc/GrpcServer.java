@@ -0,0 +1,102 @@
+package com.naiomi.employee.data.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the gRPC services of the application on their own port, next to the HTTP port of Tomcat.
+ * <p>
+ * The server is started with the application context and drained on shutdown: running calls get
+ * {@code grpc.shutdown-grace-ms} to complete before they are cancelled.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcServer implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrpcServer.class);
+
+    private final List<BindableService> services;
+    private final String address;
+    private final int port;
+    private final int maxConcurrentCallsPerConnection;
+    private final long shutdownGraceMs;
+
+    private volatile Server server;
+
+    /**
+     * @param address                         the address to bind, or blank for all interfaces
+     * @param port                            the port, or 0 for any free port
+     * @param maxConcurrentCallsPerConnection the HTTP/2 {@code MAX_CONCURRENT_STREAMS} advertised to clients
+     * @param shutdownGraceMs                 how long running calls may take to complete on shutdown
+     */
+    public GrpcServer(List<BindableService> services,
+                      @Value("${grpc.address:}") String address,
+                      @Value("${grpc.port:9092}") int port,
+                      @Value("${grpc.max-concurrent-calls-per-connection:256}") int maxConcurrentCallsPerConnection,
+                      @Value("${grpc.shutdown-grace-ms:5000}") long shutdownGraceMs) {
+        this.services = services;
+        this.address = address;
+        this.port = port;
+        this.maxConcurrentCallsPerConnection = maxConcurrentCallsPerConnection;
+        this.shutdownGraceMs = shutdownGraceMs;
+    }
+
+    @Override
+    public void start() {
+        NettyServerBuilder builder = address.isBlank()
+                ? NettyServerBuilder.forPort(port)
+                : NettyServerBuilder.forAddress(new InetSocketAddress(address, port));
+        services.forEach(builder::addService);
+        builder.maxConcurrentCallsPerConnection(maxConcurrentCallsPerConnection);
+        try {
+            server = builder.build().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the gRPC server on port " + port, e);
+        }
+        logger.info("gRPC server started on port {} with {} service(s)", server.getPort(), services.size());
+    }
+
+    @Override
+    public void stop() {
+        Server running = server;
+        if (running == null) {
+            return;
+        }
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(shutdownGraceMs, TimeUnit.MILLISECONDS)) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * @return the bound port, e.g. when started with port 0
+     */
+    public int getPort() {
+        return server.getPort();
+    }
+}
@@ -0,0 +1,73 @@
+package com.naiomi.employee.data.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * Read-only entity for the {@code change_log} table.
+ * Rows are written by the {@link com.naiomi.employee.data.service.ChangeLogTrigger} database trigger.
+ */
+@Entity
+@Immutable
+@Table(name = "change_log")
+public class ChangeLogEntry {
+
+    /**
+     * Position of the change in the feed, increasing in the order the changes were made. Rolled
+     * back changes leave gaps.
+     */
+    @Id
+    private Long seq;
+
+    /**
+     * The changed entity: EMPLOYEE, PROJECT or ROLE.
+     */
+    @Column(nullable = false)
+    private String entity;
+
+    /**
+     * The ID of the changed row.
+     */
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    /**
+     * INSERT, UPDATE or DELETE.
+     */
+    @Column(nullable = false)
+    private String operation;
+
+    /**
+     * Time of the change.
+     */
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    /**
+     * Default constructor for JPA.
+     */
+    public ChangeLogEntry() {
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public String getEntity() {
+        return entity;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+}
@@ -0,0 +1,66 @@
+package com.naiomi.employee.data.repository;
+
+import com.naiomi.employee.data.model.ChangeLogEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for reading the change feed.
+ */
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    /**
+     * Finds the changes after the given sequence, oldest first.
+     *
+     * @param seq   the last sequence already seen
+     * @param limit the maximum number of changes
+     * @return the changes
+     */
+    List<ChangeLogEntry> findBySeqGreaterThanOrderBySeqAsc(long seq, Limit limit);
+
+    /**
+     * Finds the changes after {@code since} up to and including {@code upTo}, oldest first.
+     *
+     * @param since the last sequence already seen
+     * @param upTo  the newest sequence to return
+     * @param limit the maximum number of changes
+     * @return the changes
+     */
+    List<ChangeLogEntry> findBySeqGreaterThanAndSeqLessThanEqualOrderBySeqAsc(long since, long upTo, Limit limit);
+
+    /**
+     * Returns the newest sequence removed by pruning, or 0 if nothing was pruned yet.
+     *
+     * @return the pruned sequence
+     */
+    @Query(value = "SELECT seq FROM change_log_pruned WHERE id = 1", nativeQuery = true)
+    long findPrunedSequence();
+
+    /**
+     * Removes all changes up to and including the given sequence.
+     *
+     * @param seq the newest sequence to remove
+     * @return the number of removed changes
+     */
+    @Modifying
+    @Query("delete from ChangeLogEntry c where c.seq <= :seq")
+    int deleteUpTo(@Param("seq") long seq);
+
+    /**
+     * Records that the changes up to and including the given sequence were removed. Readers
+     * behind it are told to take a new snapshot.
+     *
+     * @param seq the newest removed sequence
+     * @return the number of updated rows, 0 if a newer sequence was already recorded
+     */
+    @Modifying
+    @Query(value = "UPDATE change_log_pruned SET seq = :seq WHERE id = 1 AND seq < :seq", nativeQuery = true)
+    int markPrunedUpTo(@Param("seq") long seq);
+}
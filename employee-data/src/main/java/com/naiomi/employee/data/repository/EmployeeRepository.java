@@ -1,16 +1,46 @@
 package com.naiomi.employee.data.repository;
 
 import com.naiomi.employee.data.model.Employee;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Repository interface for managing Employee entities.
  * <p>
  * Provides CRUD operations and query methods for the Employee entity by extending
- * the {@link JpaRepository} interface.
+ * the {@link JpaRepository} interface, and projections through {@link EmployeeRepositoryCustom}.
  * </p>
  */
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeRepositoryCustom {
+
+    /**
+     * Returns the IDs of all employees without loading the entities.
+     *
+     * @return the employee IDs in ascending order
+     */
+    @Query("SELECT e.id FROM Employee e ORDER BY e.id")
+    List<Long> findAllIds();
+
+    /**
+     * Returns the next page of employees in ID order, for keyset paging over the primary key.
+     *
+     * @param id    the last ID of the previous page, or 0 for the first page
+     * @param limit the page size
+     * @return the employees with a greater ID, in ascending order
+     */
+    List<Employee> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Returns the employees with the given IDs in one query, for batched lookups.
+     *
+     * @param ids the IDs to look up
+     * @return the employees found, in ascending ID order; IDs without an employee are left out
+     */
+    List<Employee> findByIdInOrderByIdAsc(Collection<Long> ids);
 }
@@ -0,0 +1,24 @@
+package com.naiomi.employee.data.repository;
+
+import com.naiomi.employee.data.constant.EmployeeField;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Queries of {@link EmployeeRepository} that are built at runtime.
+ */
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * Reads only the columns needed for the requested fields, without loading the entity or
+     * joining the role.
+     *
+     * @param id     the employee ID
+     * @param fields the fields to return
+     * @return the field values keyed by field name in declaration order, or empty if the
+     * employee does not exist
+     */
+    Optional<Map<String, Object>> findFieldsById(Long id, Set<EmployeeField> fields);
+}
@@ -0,0 +1,60 @@
+package com.naiomi.employee.data.repository;
+
+import com.naiomi.employee.contract.EmployeeNames;
+import com.naiomi.employee.data.constant.EmployeeField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Projection queries of {@link EmployeeRepository}, picked up by Spring Data through the
+ * {@code Impl} suffix.
+ * <p>
+ * The select list is built from the requested fields. The role ID is read from the
+ * {@code role_id} foreign key, so no join is needed.
+ * </p>
+ */
+public class EmployeeRepositoryImpl implements EmployeeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsById(Long id, Set<EmployeeField> fields) {
+        StringJoiner select = new StringJoiner(", ", "SELECT ", " FROM Employee e WHERE e.id = :id");
+        for (EmployeeField field : fields) {
+            switch (field) {
+                case ID -> select.add("e.id AS id");
+                case NAME -> select.add("e.firstname AS firstname").add("e.surname AS surname");
+                case ROLE_ID -> select.add("e.role.id AS roleId");
+            }
+        }
+
+        // One query string per field combination, so Hibernate's query plan cache applies
+        List<Tuple> rows = entityManager.createQuery(select.toString(), Tuple.class)
+                .setParameter("id", id)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Tuple row = rows.get(0);
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (EmployeeField field : fields) {
+            switch (field) {
+                case ID -> values.put(field.getFieldName(), row.get("id"));
+                case NAME -> values.put(field.getFieldName(),
+                        EmployeeNames.join(row.get("firstname", String.class), row.get("surname", String.class)));
+                case ROLE_ID -> values.put(field.getFieldName(), row.get("roleId"));
+            }
+        }
+        return Optional.of(values);
+    }
+}
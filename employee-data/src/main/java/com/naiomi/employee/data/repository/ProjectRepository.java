@@ -0,0 +1,28 @@
+package com.naiomi.employee.data.repository;
+
+import com.naiomi.employee.data.dto.ProjectDto;
+import com.naiomi.employee.data.model.Project;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing Project entities.
+ */
+@Repository
+public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    /**
+     * Returns the projects assigned to an employee, read through {@code idx_project_employee_id}
+     * without loading the entities.
+     *
+     * @param employeeId the employee ID
+     * @return the projects in ID order
+     */
+    @Query("SELECT new com.naiomi.employee.data.dto.ProjectDto(p.id, p.name) FROM Project p "
+            + "WHERE p.employee.id = :employeeId ORDER BY p.id")
+    List<ProjectDto> findByEmployeeId(@Param("employeeId") Long employeeId);
+}
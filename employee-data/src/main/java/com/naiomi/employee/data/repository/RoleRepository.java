@@ -1,11 +1,15 @@
 package com.naiomi.employee.data.repository;
 
+import com.naiomi.employee.data.dto.RoleDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.query.Procedure;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.naiomi.employee.data.model.Role;
 
+import java.util.Optional;
+
 /**
  * Repository interface for managing Role entities.
  * <p>
@@ -26,4 +30,13 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
     @Procedure(procedureName = "delete_role_with_employees_and_reassign_projects")
     void deleteRoleWithEmployeesAndReassignProjects(@Param("role_to_delete") Long roleToDelete,
                                                     @Param("default_employee_id") Long defaultEmployeeId);
+
+    /**
+     * Resolves the role of an employee in a single query.
+     *
+     * @param employeeId the employee ID
+     * @return the role, or empty if the employee does not exist
+     */
+    @Query("SELECT new com.naiomi.employee.data.dto.RoleDto(r.id, r.name) FROM Employee e JOIN e.role r WHERE e.id = :employeeId")
+    Optional<RoleDto> findByEmployeeId(@Param("employeeId") Long employeeId);
 }
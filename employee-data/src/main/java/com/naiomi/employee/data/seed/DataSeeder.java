@@ -4,19 +4,32 @@ import com.naiomi.employee.data.constant.RoleType;
 import com.naiomi.employee.data.model.Role;
 import com.naiomi.employee.data.repository.RoleRepository;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.stereotype.Component;
 
 @Component
 public class DataSeeder implements CommandLineRunner {
 
     private final RoleRepository roleRepository;
+    private final ApplicationStartup applicationStartup;
 
-    public DataSeeder(RoleRepository roleRepository) {
+    public DataSeeder(RoleRepository roleRepository, ApplicationStartup applicationStartup) {
         this.roleRepository = roleRepository;
+        this.applicationStartup = applicationStartup;
     }
 
     @Override
     public void run(String... args) {
+        StartupStep step = applicationStartup.start("employee.data.seed");
+        try {
+            seedRoles();
+        } finally {
+            step.end();
+        }
+    }
+
+    private void seedRoles() {
         if (roleRepository.count() == 0) {
             for (RoleType roleType : RoleType.values()) {
                 roleRepository.save(new Role(roleType));
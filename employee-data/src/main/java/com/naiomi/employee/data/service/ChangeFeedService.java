@@ -0,0 +1,186 @@
+package com.naiomi.employee.data.service;
+
+import com.naiomi.employee.contract.EmployeeResponse;
+import com.naiomi.employee.data.dto.ChangeDto;
+import com.naiomi.employee.data.dto.ChangeFeedDto;
+import com.naiomi.employee.data.dto.EmployeeSnapshotDto;
+import com.naiomi.employee.data.exception.ChangeFeedExpiredException;
+import com.naiomi.employee.data.mapper.EmployeeMapper;
+import com.naiomi.employee.data.model.ChangeLogEntry;
+import com.naiomi.employee.data.model.Employee;
+import com.naiomi.employee.data.repository.ChangeLogRepository;
+import com.naiomi.employee.data.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the change feed recorded by {@link ChangeLogTrigger} and full snapshots to bootstrap from.
+ * <p>
+ * EMPLOYEE changes carry the current state of the employee rather than the state at the time of
+ * the change. Applying a page in order therefore always converges on the latest state, which is
+ * also what makes a snapshot taken after reading its sequence safe to tail from.
+ * </p>
+ * <p>
+ * Sequence numbers come from a database sequence, so a change can commit before one with a
+ * smaller number, and a rollback leaves a gap. Readers are only given changes up to the
+ * watermark: the highest sequence below which every change is either committed or rolled back.
+ * A gap is taken as a rollback once the change after it is older than
+ * {@code changes.gap-timeout-ms}, which must therefore be longer than any write transaction;
+ * a change committed after that would never be handed out.
+ * </p>
+ */
+@Service
+public class ChangeFeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeedService.class);
+
+    private final ChangeLogRepository changeLogRepository;
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final int maxPageSize;
+    private final long retention;
+    private final long gapTimeoutMs;
+
+    /**
+     * Highest sequence below which no change can still commit. Guarded by {@code this}.
+     */
+    private long watermark;
+
+    public ChangeFeedService(ChangeLogRepository changeLogRepository,
+                             EmployeeRepository employeeRepository,
+                             EmployeeMapper employeeMapper,
+                             @Value("${changes.max-page-size:1000}") int maxPageSize,
+                             @Value("${changes.retention:100000}") long retention,
+                             @Value("${changes.gap-timeout-ms:30000}") long gapTimeoutMs) {
+        this.changeLogRepository = changeLogRepository;
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+        this.maxPageSize = maxPageSize;
+        this.retention = retention;
+        this.gapTimeoutMs = gapTimeoutMs;
+    }
+
+    /**
+     * Returns the changes committed after {@code since}.
+     *
+     * @param since the last sequence the reader has applied, 0 for the beginning
+     * @param limit the maximum number of changes to return
+     * @return the page of changes
+     * @throws IllegalArgumentException   if the parameters are out of range
+     * @throws ChangeFeedExpiredException if changes after {@code since} were already pruned
+     */
+    @Transactional(readOnly = true)
+    public ChangeFeedDto getChanges(long since, int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("since must not be negative");
+        }
+        if (limit < 1 || limit > maxPageSize) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxPageSize);
+        }
+
+        long head = getHeadSequence();
+        long pruned = changeLogRepository.findPrunedSequence();
+        if (since < pruned) {
+            throw new ChangeFeedExpiredException("Changes after " + since + " are no longer available, oldest is " + (pruned + 1));
+        }
+
+        List<ChangeLogEntry> entries =
+                changeLogRepository.findBySeqGreaterThanAndSeqLessThanEqualOrderBySeqAsc(since, head, Limit.of(limit));
+
+        List<Long> employeeIds = entries.stream()
+                .filter(entry -> "EMPLOYEE".equals(entry.getEntity()))
+                .map(ChangeLogEntry::getEntityId)
+                .distinct()
+                .toList();
+        Map<Long, Employee> employees = employeeRepository.findAllById(employeeIds).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+
+        List<ChangeDto> changes = entries.stream()
+                .map(entry -> {
+                    Employee employee = "EMPLOYEE".equals(entry.getEntity()) ? employees.get(entry.getEntityId()) : null;
+                    return new ChangeDto(entry.getSeq(), entry.getEntity(), entry.getEntityId(), entry.getOperation(),
+                            entry.getChangedAt().toEpochMilli(), employee != null ? employeeMapper.toResponseDto(employee) : null);
+                })
+                .toList();
+
+        long last = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSeq();
+        return new ChangeFeedDto(changes, last, Math.max(head, last), changes.size() == limit);
+    }
+
+    /**
+     * Returns all employees together with the change feed position to tail from.
+     * The position is read first, so every change not reflected in the snapshot comes after it.
+     *
+     * @return the snapshot
+     */
+    @Transactional(readOnly = true)
+    public EmployeeSnapshotDto getSnapshot() {
+        long sequence = getHeadSequence();
+        List<EmployeeResponse> employees = employeeRepository.findAll().stream()
+                .map(employeeMapper::toResponseDto)
+                .toList();
+        return new EmployeeSnapshotDto(sequence, employees);
+    }
+
+    /**
+     * Returns the watermark of the feed, moving it past the changes committed since the last call.
+     * Every change up to it is either committed or rolled back, so readers that stop there never
+     * miss a change that commits later.
+     *
+     * @return the newest sequence readers may be given
+     */
+    @Transactional(readOnly = true)
+    public synchronized long getHeadSequence() {
+        long position = Math.max(watermark, changeLogRepository.findPrunedSequence());
+        Instant settled = Instant.now().minusMillis(gapTimeoutMs);
+        List<ChangeLogEntry> entries;
+        do {
+            entries = changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(position, Limit.of(maxPageSize));
+            for (ChangeLogEntry entry : entries) {
+                if (entry.getSeq() != position + 1) {
+                    if (entry.getChangedAt().isAfter(settled)) {
+                        // The missing changes may still commit
+                        watermark = position;
+                        return position;
+                    }
+                    logger.info("Changes {} to {} did not commit within {} ms, taken as rolled back",
+                            position + 1, entry.getSeq() - 1, gapTimeoutMs);
+                }
+                position = entry.getSeq();
+            }
+        } while (entries.size() == maxPageSize);
+        watermark = position;
+        return position;
+    }
+
+    /**
+     * Deletes all but the most recent {@code changes.retention} changes.
+     *
+     * @return the number of pruned changes
+     */
+    @Scheduled(fixedDelayString = "${changes.prune-interval-ms:60000}")
+    @Transactional
+    public int prune() {
+        long pruneUpTo = getHeadSequence() - retention;
+        if (pruneUpTo <= 0) {
+            return 0;
+        }
+        changeLogRepository.markPrunedUpTo(pruneUpTo);
+        int pruned = changeLogRepository.deleteUpTo(pruneUpTo);
+        if (pruned > 0) {
+            logger.info("Pruned {} changes up to sequence {}", pruned, pruneUpTo);
+        }
+        return pruned;
+    }
+}
@@ -0,0 +1,54 @@
+package com.naiomi.employee.data.service;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * H2 row trigger that appends every insert, update and delete on {@code roles},
+ * {@code employees} and {@code projects} to {@code change_log}.
+ * <p>
+ * The sequence comes from the {@code change_seq} database sequence, which takes no lock, so
+ * writers do not wait for each other. Sequence numbers are therefore not gap-free and do not
+ * become visible in order: a rolled back change leaves a gap, and a change may commit before one
+ * with a smaller number. {@link ChangeFeedService} only hands out changes up to the point where
+ * no such gap can still be filled. The time is taken when the change is made rather than when
+ * its transaction started, as that is what the gap timeout of the feed is measured against.
+ * </p>
+ * Registered in {@code schema.sql}. Being a database trigger, it also records changes made
+ * outside JPA, such as those of {@link StoredProcedureLogic}.
+ */
+public class ChangeLogTrigger implements Trigger {
+
+    private String entity;
+
+    @Override
+    public void init(Connection conn, String schemaName, String triggerName, String tableName,
+                     boolean before, int type) {
+        entity = switch (tableName.toLowerCase()) {
+            case "employees" -> "EMPLOYEE";
+            case "projects" -> "PROJECT";
+            case "roles" -> "ROLE";
+            default -> tableName.toUpperCase();
+        };
+    }
+
+    @Override
+    public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+        String operation = oldRow == null ? "INSERT" : newRow == null ? "DELETE" : "UPDATE";
+        // The id is the first column of every tracked table
+        long entityId = ((Number) (newRow != null ? newRow[0] : oldRow[0])).longValue();
+
+        try (PreparedStatement insert = conn.prepareStatement(
+                "INSERT INTO change_log (seq, entity, entity_id, operation, changed_at) VALUES (NEXT VALUE FOR change_seq, ?, ?, ?, ?)")) {
+            insert.setString(1, entity);
+            insert.setLong(2, entityId);
+            insert.setString(3, operation);
+            insert.setTimestamp(4, new Timestamp(System.currentTimeMillis()));
+            insert.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.naiomi.employee.data.service;
+
+import com.naiomi.employee.data.event.EmployeeChangeEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams employee change events to subscribers (the employee-api nodes) as Server-Sent Events.
+ * <p>
+ * Events are published once the surrounding transaction has committed and get an ID of the
+ * form {@code <epoch>:<sequence>}. The epoch changes on every start, so a subscriber resuming
+ * with a {@code Last-Event-ID} from a previous run, or from further back than the last
+ * {@code events.buffer-size} events, first receives a {@code reset} event telling it to drop
+ * everything it cached. Otherwise the missed events are replayed before live ones. A
+ * {@code ready} event marks the end of the replay.
+ * </p>
+ */
+@Service
+public class EmployeeEventStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeEventStreamService.class);
+
+    public static final String EVENT_CHANGE = "change";
+    public static final String EVENT_RESET = "reset";
+    public static final String EVENT_READY = "ready";
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final int bufferSize;
+    private final long emitterTimeoutMs;
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    /**
+     * Sends events to the subscribers in stream order, off the request threads that
+     * performed the writes.
+     */
+    private final ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-event-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Most recent events, oldest first. Guarded by {@code this}.
+     */
+    private final ArrayDeque<EmployeeChangeEvent> buffer = new ArrayDeque<>();
+    private long sequence;
+
+    public EmployeeEventStreamService(@Value("${events.buffer-size:10000}") int bufferSize,
+                                      @Value("${events.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+                                      @Value("${events.heartbeat-ms:15000}") long heartbeatMs) {
+        this.bufferSize = bufferSize;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        dispatcher.scheduleWithFixedDelay(this::sendHeartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        dispatcher.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+    }
+
+    /**
+     * Assigns the next sequence number to a committed change and sends it to all subscribers.
+     *
+     * @param event the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onEmployeeChange(EmployeeChangeEvent event) {
+        event.setSequence(++sequence);
+        buffer.addLast(event);
+        if (buffer.size() > bufferSize) {
+            buffer.removeFirst();
+        }
+        dispatcher.execute(() -> {
+            for (SseEmitter emitter : emitters) {
+                send(emitter, SseEmitter.event().id(eventId(event.getSequence())).name(EVENT_CHANGE)
+                        .data(event, MediaType.APPLICATION_JSON));
+            }
+        });
+    }
+
+    /**
+     * Registers a subscriber, replaying the events it missed since {@code lastEventId}.
+     *
+     * @param lastEventId the last event the subscriber processed, or {@code null} for a new subscriber
+     * @return the emitter streaming the events
+     */
+    public synchronized SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+
+        List<EmployeeChangeEvent> replay = new ArrayList<>();
+        boolean reset = false;
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            long resumeFrom = resumePosition(lastEventId);
+            if (resumeFrom < 0) {
+                reset = true;
+            } else {
+                buffer.stream().filter(event -> event.getSequence() > resumeFrom).forEach(replay::add);
+            }
+        }
+        boolean sendReset = reset;
+        long position = sequence;
+
+        // Queued before any later live event, and the emitter only receives live events once added
+        dispatcher.execute(() -> {
+            if (sendReset) {
+                send(emitter, SseEmitter.event().name(EVENT_RESET).data(""));
+            }
+            for (EmployeeChangeEvent event : replay) {
+                send(emitter, SseEmitter.event().id(eventId(event.getSequence())).name(EVENT_CHANGE)
+                        .data(event, MediaType.APPLICATION_JSON));
+            }
+            send(emitter, SseEmitter.event().id(eventId(position)).name(EVENT_READY).data(""));
+        });
+        emitters.add(emitter);
+
+        logger.info("Event subscriber connected (last event {}, {} replayed{})",
+                lastEventId, replay.size(), reset ? ", reset" : "");
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return emitters.size();
+    }
+
+    /**
+     * @return the sequence to resume after, or -1 if the subscriber cannot be brought up to date
+     */
+    private long resumePosition(String lastEventId) {
+        int separator = lastEventId.indexOf(':');
+        if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+            return -1;
+        }
+        long last;
+        try {
+            last = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+        long oldest = buffer.isEmpty() ? sequence + 1 : buffer.peekFirst().getSequence();
+        if (last > sequence || last < oldest - 1) {
+            return -1;
+        }
+        return last;
+    }
+
+    private String eventId(long position) {
+        return epoch + ":" + position;
+    }
+
+    private void sendHeartbeat() {
+        for (SseEmitter emitter : emitters) {
+            send(emitter, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Dropping event subscriber: {}", e.getMessage());
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+}
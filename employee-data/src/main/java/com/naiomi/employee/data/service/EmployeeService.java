@@ -1,50 +1,77 @@
 package com.naiomi.employee.data.service;
 
-import com.naiomi.employee.data.dto.EmployeeApiRequestDto;
-import com.naiomi.employee.data.dto.EmployeeApiResponseDto;
+import com.naiomi.employee.contract.EmployeeNames;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import com.naiomi.employee.data.constant.EmployeeField;
+import com.naiomi.employee.data.dto.RoleDto;
+import com.naiomi.employee.data.event.EmployeeChangeEvent;
+import com.naiomi.employee.data.event.EmployeeChangeType;
+import com.naiomi.employee.data.exception.EmployeeNotFoundException;
 import com.naiomi.employee.data.mapper.EmployeeMapper;
 import com.naiomi.employee.data.model.Employee;
 import com.naiomi.employee.data.model.Role;
 import com.naiomi.employee.data.repository.EmployeeRepository;
 import com.naiomi.employee.data.repository.RoleRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 public class EmployeeService {
 
+    /**
+     * Most IDs accepted by {@link #getEmployeesByIds}, so that one lookup stays one bounded query.
+     */
+    public static final int MAX_BATCH_IDS = 1000;
+
     private final EmployeeRepository employeeRepository;
     private final RoleRepository roleRepository;
     private final EmployeeMapper employeeMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public EmployeeService(EmployeeRepository employeeRepository, RoleRepository roleRepository, EmployeeMapper employeeMapper) {
+    public EmployeeService(EmployeeRepository employeeRepository, RoleRepository roleRepository, EmployeeMapper employeeMapper,
+                           ApplicationEventPublisher eventPublisher) {
         this.employeeRepository = employeeRepository;
         this.roleRepository = roleRepository;
         this.employeeMapper = employeeMapper;
+        this.eventPublisher = eventPublisher;
     }
 
-    public EmployeeApiResponseDto createEmployee(EmployeeApiRequestDto requestDto) {
+    public EmployeeResponse createEmployee(EmployeeRequest requestDto) {
         validateRequest(requestDto);
 
         // Check if role exists
-        Role role = getRoleById(requestDto.getRoleId());
+        Role role = getRoleById(requestDto.roleId());
 
         // Map DTO to entity
         Employee employee = mapRequestToEmployee(requestDto, role);
 
         // Save employee and map to response DTO
         Employee savedEmployee = employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeeChangeEvent(EmployeeChangeType.CREATED, savedEmployee.getId(), role.getId()));
         return employeeMapper.toResponseDto(savedEmployee);
     }
 
-    public EmployeeApiResponseDto updateEmployee(Long id, EmployeeApiRequestDto requestDto) {
+    public EmployeeResponse updateEmployee(Long id, EmployeeRequest requestDto) {
         validateRequest(requestDto);
 
         // Fetch the existing employee
         Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Employee not found with ID: " + id));
+                .orElseThrow(() -> new EmployeeNotFoundException(id));
 
         // Fetch the new role
-        Role role = getRoleById(requestDto.getRoleId());
+        Role role = getRoleById(requestDto.roleId());
 
         // Update fields
         employeeMapper.updateEmployeeFromRequestDto(requestDto, employee);
@@ -52,47 +79,178 @@ public class EmployeeService {
 
         // Save the updated employee
         Employee updatedEmployee = employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeeChangeEvent(EmployeeChangeType.UPDATED, id, role.getId()));
 
         // Return the response DTO
         return employeeMapper.toResponseDto(updatedEmployee);
     }
 
-    public EmployeeApiResponseDto getEmployeeById(Long id) {
+    public EmployeeResponse getEmployeeById(Long id) {
         // Fetch the employee by ID
         Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Employee not found with ID: " + id));
+                .orElseThrow(() -> new EmployeeNotFoundException(id));
 
         // Map the entity to the response DTO
         return employeeMapper.toResponseDto(employee);
     }
 
+    /**
+     * Looks up several employees in one query.
+     *
+     * @return the employees found, in ascending ID order; IDs without an employee are left out
+     * @throws IllegalArgumentException if more than {@link #MAX_BATCH_IDS} IDs are requested
+     */
+    public List<EmployeeResponse> getEmployeesByIds(Collection<Long> ids) {
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_IDS + " employee IDs can be looked up at once");
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return employeeRepository.findByIdInOrderByIdAsc(ids).stream()
+                .map(employeeMapper::toResponseDto)
+                .toList();
+    }
+
+    public Map<String, Object> getEmployeeFieldsById(Long id, Set<EmployeeField> fields) {
+        return employeeRepository.findFieldsById(id, fields)
+                .orElseThrow(() -> new EmployeeNotFoundException(id));
+    }
+
+    public RoleDto getRoleByEmployeeId(Long id) {
+        return roleRepository.findByEmployeeId(id)
+                .orElseThrow(() -> new EmployeeNotFoundException(id));
+    }
+
+    public List<Long> getEmployeeIds() {
+        return employeeRepository.findAllIds();
+    }
+
+    /**
+     * Returns employees in ID order, starting after {@code afterId}.
+     */
+    public List<EmployeeResponse> getEmployeesAfter(Long afterId, int limit) {
+        return employeeRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit)).stream()
+                .map(employeeMapper::toResponseDto)
+                .toList();
+    }
+
+    /**
+     * Creates or updates a batch of employees in one transaction. Each upsert is validated like
+     * {@link #createEmployee} or {@link #updateEmployee}; one that fails is rejected on its own and
+     * the others are still written.
+     *
+     * @param upserts the employees to write, in order
+     * @return one result per upsert, in the same order
+     */
+    @Transactional
+    public List<UpsertResult> upsertEmployees(List<Upsert> upserts) {
+        Map<Long, Role> roles = roleRepository.findAllById(upserts.stream()
+                        .map(upsert -> upsert.request().roleId())
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Role::getId, Function.identity()));
+        Map<Long, Employee> existing = employeeRepository.findAllById(upserts.stream()
+                        .map(Upsert::id)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+
+        List<Employee> employees = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (Upsert upsert : upserts) {
+            try {
+                employees.add(prepareUpsert(upsert, roles, existing));
+                errors.add(null);
+            } catch (IllegalArgumentException e) {
+                employees.add(null);
+                errors.add(e.getMessage());
+            }
+        }
+
+        // Updates are flushed together on commit, in JDBC batches
+        employeeRepository.saveAll(employees.stream().filter(Objects::nonNull).toList());
+
+        List<UpsertResult> results = new ArrayList<>(upserts.size());
+        for (int i = 0; i < upserts.size(); i++) {
+            Employee employee = employees.get(i);
+            if (employee == null) {
+                results.add(new UpsertResult(null, null, errors.get(i)));
+                continue;
+            }
+            EmployeeChangeType type = upserts.get(i).id() == null ? EmployeeChangeType.CREATED : EmployeeChangeType.UPDATED;
+            // Delivered to subscribers only after the transaction commits
+            eventPublisher.publishEvent(new EmployeeChangeEvent(type, employee.getId(), employee.getRole().getId()));
+            results.add(new UpsertResult(type, employeeMapper.toResponseDto(employee), null));
+        }
+        return results;
+    }
+
     public void deleteEmployeeById(Long id) {
         if (!employeeRepository.existsById(id)) {
-            throw new IllegalArgumentException("Employee with ID " + id + " does not exist");
+            throw new EmployeeNotFoundException(id);
         }
         employeeRepository.deleteById(id);
+        eventPublisher.publishEvent(new EmployeeChangeEvent(EmployeeChangeType.DELETED, id, null));
+    }
+
+    /**
+     * An employee to create or update.
+     *
+     * @param id      the employee to update, or {@code null} to create one
+     * @param request the new details
+     */
+    public record Upsert(Long id, EmployeeRequest request) {
+    }
+
+    /**
+     * The outcome of an {@link Upsert}.
+     *
+     * @param type     {@link EmployeeChangeType#CREATED} or {@link EmployeeChangeType#UPDATED}, or {@code null} if rejected
+     * @param employee the written employee, or {@code null} if rejected
+     * @param error    why the upsert was rejected, or {@code null}
+     */
+    public record UpsertResult(EmployeeChangeType type, EmployeeResponse employee, String error) {
     }
 
     // Private Helpers
-    private void validateRequest(EmployeeApiRequestDto requestDto) {
-        if (requestDto.getName() == null || requestDto.getName().isBlank()) {
+    private void validateRequest(EmployeeRequest requestDto) {
+        if (requestDto.name() == null || requestDto.name().isBlank()) {
             throw new IllegalArgumentException("Name must not be blank");
         }
-        if (requestDto.getRoleId() == null) {
+        if (requestDto.roleId() == null) {
             throw new IllegalArgumentException("Role ID must not be null");
         }
     }
 
+    private Employee prepareUpsert(Upsert upsert, Map<Long, Role> roles, Map<Long, Employee> existing) {
+        EmployeeRequest requestDto = upsert.request();
+        validateRequest(requestDto);
+        Role role = roles.get(requestDto.roleId());
+        if (role == null) {
+            throw new IllegalArgumentException("Role not found with ID: " + requestDto.roleId());
+        }
+        if (upsert.id() == null) {
+            return mapRequestToEmployee(requestDto, role);
+        }
+        Employee employee = existing.get(upsert.id());
+        if (employee == null) {
+            throw new EmployeeNotFoundException(upsert.id());
+        }
+        employeeMapper.updateEmployeeFromRequestDto(requestDto, employee);
+        employee.setRole(role);
+        return employee;
+    }
+
     private Role getRoleById(Long roleId) {
         return roleRepository.findById(roleId)
                 .orElseThrow(() -> new IllegalArgumentException("Role not found with ID: " + roleId));
     }
 
-    private Employee mapRequestToEmployee(EmployeeApiRequestDto requestDto, Role role) {
+    private Employee mapRequestToEmployee(EmployeeRequest requestDto, Role role) {
         Employee employee = new Employee();
-        String[] nameParts = requestDto.getName().split(" ", 2);
-        employee.setFirstname(nameParts[0]);
-        employee.setSurname(nameParts.length > 1 ? nameParts[1] : "");
+        employee.setFirstname(EmployeeNames.firstName(requestDto.name()));
+        employee.setSurname(EmployeeNames.surname(requestDto.name()));
         employee.setRole(role);
         return employee;
     }
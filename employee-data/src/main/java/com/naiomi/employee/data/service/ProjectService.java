@@ -0,0 +1,30 @@
+package com.naiomi.employee.data.service;
+
+import com.naiomi.employee.data.dto.ProjectDto;
+import com.naiomi.employee.data.exception.EmployeeNotFoundException;
+import com.naiomi.employee.data.repository.EmployeeRepository;
+import com.naiomi.employee.data.repository.ProjectRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class ProjectService {
+
+    private final ProjectRepository projectRepository;
+    private final EmployeeRepository employeeRepository;
+
+    public ProjectService(ProjectRepository projectRepository, EmployeeRepository employeeRepository) {
+        this.projectRepository = projectRepository;
+        this.employeeRepository = employeeRepository;
+    }
+
+    public List<ProjectDto> getProjectsByEmployeeId(Long employeeId) {
+        List<ProjectDto> projects = projectRepository.findByEmployeeId(employeeId);
+        // Only an empty result needs to tell a missing employee from one without projects
+        if (projects.isEmpty() && !employeeRepository.existsById(employeeId)) {
+            throw new EmployeeNotFoundException(employeeId);
+        }
+        return projects;
+    }
+}
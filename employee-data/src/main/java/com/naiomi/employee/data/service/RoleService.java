@@ -1,21 +1,28 @@
 package com.naiomi.employee.data.service;
 
+import com.naiomi.employee.data.event.EmployeeChangeEvent;
+import com.naiomi.employee.data.event.EmployeeChangeType;
 import com.naiomi.employee.data.repository.RoleRepository;
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
 public class RoleService {
 
     private final RoleRepository roleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public RoleService(RoleRepository roleRepository) {
+    public RoleService(RoleRepository roleRepository, ApplicationEventPublisher eventPublisher) {
         this.roleRepository = roleRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public void deleteRole(Long roleToDelete, Long defaultEmployeeId) {
         roleRepository.deleteRoleWithEmployeesAndReassignProjects(roleToDelete, defaultEmployeeId);
+        // Delivered to subscribers only after the transaction commits
+        eventPublisher.publishEvent(new EmployeeChangeEvent(EmployeeChangeType.ROLE_DELETED, null, roleToDelete));
     }
 }
 
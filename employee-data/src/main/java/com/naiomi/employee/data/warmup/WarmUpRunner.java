@@ -0,0 +1,178 @@
+package com.naiomi.employee.data.warmup;
+
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import com.naiomi.employee.contract.json.JsonCodecs;
+import com.naiomi.employee.data.constant.RoleType;
+import com.naiomi.employee.data.mapper.EmployeeMapper;
+import com.naiomi.employee.data.model.Employee;
+import com.naiomi.employee.data.model.Role;
+import com.naiomi.employee.data.repository.EmployeeRepository;
+import com.naiomi.employee.data.repository.RoleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a time-boxed warm-up phase before the application reports itself ready.
+ * <p>
+ * Spring Boot only publishes {@link ReadinessState#ACCEPTING_TRAFFIC} after every
+ * {@link ApplicationRunner} has returned, so the readiness probe stays down while the
+ * connection pool is filled and the repositories, mapper and the JSON codecs are exercised.
+ * Running the repository queries also primes Hibernate's query plan cache.
+ * </p>
+ */
+@Component
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmUpRunner.class);
+
+    /**
+     * Identifier that is never generated by the database, so lookups always miss.
+     */
+    private static final long MISSING_ID = -1L;
+
+    private static final byte[] SAMPLE_REQUEST = "{\"name\":\"Warm Up\",\"roleId\":1}".getBytes();
+
+    private final DataSource dataSource;
+    private final EmployeeRepository employeeRepository;
+    private final RoleRepository roleRepository;
+    private final EmployeeMapper employeeMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApplicationStartup applicationStartup;
+    private final boolean enabled;
+    private final long budgetMs;
+    private final int iterations;
+    private final int connections;
+
+    public WarmUpRunner(DataSource dataSource,
+                        EmployeeRepository employeeRepository,
+                        RoleRepository roleRepository,
+                        EmployeeMapper employeeMapper,
+                        PlatformTransactionManager transactionManager,
+                        ApplicationEventPublisher eventPublisher,
+                        ApplicationStartup applicationStartup,
+                        @Value("${warmup.enabled:true}") boolean enabled,
+                        @Value("${warmup.budget-ms:10000}") long budgetMs,
+                        @Value("${warmup.iterations:500}") int iterations,
+                        @Value("${warmup.connections:10}") int connections) {
+        this.dataSource = dataSource;
+        this.employeeRepository = employeeRepository;
+        this.roleRepository = roleRepository;
+        this.employeeMapper = employeeMapper;
+        this.eventPublisher = eventPublisher;
+        this.applicationStartup = applicationStartup;
+        this.enabled = enabled;
+        this.budgetMs = budgetMs;
+        this.iterations = iterations;
+        this.connections = connections;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            logger.info("Warm-up disabled");
+            return;
+        }
+
+        // Make the state explicit for anyone polling the readiness probe while we run
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+
+        StartupStep step = applicationStartup.start("employee.warmup");
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+
+        int opened = warmUpConnections();
+        int completed = warmUpInProcess(deadline);
+
+        step.tag("connections", String.valueOf(opened)).tag("iterations", String.valueOf(completed)).end();
+
+        logger.info("Warm-up finished in {} ms: {}/{} connections opened, {}/{} iterations",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), opened, connections, completed, iterations);
+    }
+
+    /**
+     * Holds {@code warmup.connections} connections open at the same time so the pool has to
+     * create them now rather than on the first burst of requests.
+     *
+     * @return the number of connections opened
+     */
+    int warmUpConnections() {
+        List<Connection> borrowed = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                Connection connection = dataSource.getConnection();
+                borrowed.add(connection);
+                connection.isValid(1);
+            }
+        } catch (SQLException e) {
+            logger.warn("Connection warm-up stopped after {} connections: {}", borrowed.size(), e.getMessage());
+        } finally {
+            for (Connection connection : borrowed) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    logger.debug("Failed to return warm-up connection: {}", e.getMessage());
+                }
+            }
+        }
+        return borrowed.size();
+    }
+
+    /**
+     * Runs read-only repository queries and synthetic mapper/JSON codec round trips until
+     * either the iteration count or the deadline is reached. Nothing is written.
+     *
+     * @param deadline the {@link System#nanoTime()} value at which to stop
+     * @return the number of iterations completed
+     */
+    int warmUpInProcess(long deadline) {
+        Role role = new Role(RoleType.ADMIN);
+        role.setId(1L);
+
+        int completed = 0;
+        try {
+            while (completed < iterations && System.nanoTime() < deadline) {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    employeeRepository.findById(MISSING_ID);
+                    employeeRepository.existsById(MISSING_ID);
+                    roleRepository.findById(role.getId());
+                });
+
+                EmployeeRequest request = JsonCodecs.readValue(SAMPLE_REQUEST, EmployeeRequest.class);
+                Employee employee = new Employee("Warm", "Up", role);
+                employee.setId(MISSING_ID);
+                employeeMapper.updateEmployeeFromRequestDto(request, employee);
+                EmployeeResponse response = employeeMapper.toResponseDto(employee);
+                JsonCodecs.writeValueAsBytes(response);
+
+                completed++;
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("In-process warm-up stopped after {} iterations: {}", completed, e.getMessage());
+        }
+        return completed;
+    }
+}
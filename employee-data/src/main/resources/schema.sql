@@ -17,6 +17,32 @@ CREATE TABLE employees (
 CREATE TABLE projects (
                           id BIGINT AUTO_INCREMENT PRIMARY KEY,
                           name VARCHAR(100) NOT NULL,
-                          employee_id BIGINT NOT NULL,
-                          FOREIGN KEY (employee_id) REFERENCES employees (id) ON DELETE CASCADE
+                          employee_id BIGINT NOT NULL
 );
+
+-- Serves the projects-by-employee read; created before the foreign key so that H2 uses it
+-- for the constraint instead of adding an unnamed index
+CREATE INDEX idx_project_employee_id ON projects (employee_id);
+ALTER TABLE projects ADD FOREIGN KEY (employee_id) REFERENCES employees (id) ON DELETE CASCADE;
+
+-- Change feed: one row per committed mutation of roles, employees and projects
+CREATE SEQUENCE change_seq;
+
+-- Newest sequence removed from change_log by pruning
+CREATE TABLE change_log_pruned (
+                                   id INT PRIMARY KEY,
+                                   seq BIGINT NOT NULL
+);
+INSERT INTO change_log_pruned (id, seq) VALUES (1, 0);
+
+CREATE TABLE change_log (
+                            seq BIGINT PRIMARY KEY,
+                            entity VARCHAR(20) NOT NULL,
+                            entity_id BIGINT NOT NULL,
+                            operation VARCHAR(10) NOT NULL,
+                            changed_at TIMESTAMP NOT NULL
+);
+
+CREATE TRIGGER roles_change_log AFTER INSERT, UPDATE, DELETE ON roles FOR EACH ROW CALL 'com.naiomi.employee.data.service.ChangeLogTrigger';
+CREATE TRIGGER employees_change_log AFTER INSERT, UPDATE, DELETE ON employees FOR EACH ROW CALL 'com.naiomi.employee.data.service.ChangeLogTrigger';
+CREATE TRIGGER projects_change_log AFTER INSERT, UPDATE, DELETE ON projects FOR EACH ROW CALL 'com.naiomi.employee.data.service.ChangeLogTrigger';
@@ -0,0 +1,68 @@
+package com.naiomi.employee.data.config;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnixSocketConfigTest {
+
+    private WebServer webServer;
+
+    @AfterEach
+    void tearDown() {
+        if (webServer != null) {
+            webServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Requests are served over the Unix domain socket as well as TCP")
+    void testServesOverSocket() throws Exception {
+        Path socket = Files.createTempDirectory("employee-data").resolve("http.sock");
+        // A stale socket file from a previous run must not prevent binding
+        Files.createFile(socket);
+
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        new UnixSocketConfig()
+                .unixSocketConnectorCustomizer(socket.toString(),
+                        new Http2Config().http2ConnectorCustomizer(256, 256, 1048576, 60000))
+                .customize(factory);
+        webServer = factory.getWebServer(servletContext -> servletContext
+                .addServlet("protocol", new HttpServlet() {
+                    @Override
+                    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                        response.setContentType("text/plain");
+                        response.getWriter().write("served " + request.getRequestURI());
+                    }
+                })
+                .addMapping("/*"));
+        webServer.start();
+
+        assertTrue(webServer.getPort() > 0);
+        try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+            channel.write(StandardCharsets.US_ASCII.encode(
+                    "GET /api/employees/1 HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n"));
+            try (InputStream in = Channels.newInputStream(channel)) {
+                String response = new String(in.readAllBytes(), StandardCharsets.US_ASCII);
+                assertTrue(response.startsWith("HTTP/1.1 200"), response);
+                assertTrue(response.endsWith("served /api/employees/1"), response);
+            }
+        }
+    }
+}
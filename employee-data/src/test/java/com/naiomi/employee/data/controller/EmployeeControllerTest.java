@@ -1,8 +1,10 @@
 package com.naiomi.employee.data.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.naiomi.employee.data.dto.EmployeeApiRequestDto;
-import com.naiomi.employee.data.dto.EmployeeApiResponseDto;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import com.naiomi.employee.data.constant.EmployeeField;
+import com.naiomi.employee.data.exception.EmployeeNotFoundException;
 import com.naiomi.employee.data.exception.GlobalExceptionHandler;
 import com.naiomi.employee.data.service.EmployeeService;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +18,10 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -34,8 +40,8 @@ class EmployeeControllerTest {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    private EmployeeApiRequestDto validRequestDto;
-    private EmployeeApiResponseDto validResponseDto;
+    private EmployeeRequest validRequestDto;
+    private EmployeeResponse validResponseDto;
 
     @BeforeEach
     void setup() {
@@ -47,14 +53,9 @@ class EmployeeControllerTest {
                 .build();
 
         // Initialize valid request and response DTOs
-        validRequestDto = new EmployeeApiRequestDto();
-        validRequestDto.setName("John Doe");
-        validRequestDto.setRoleId(1L);
-
-        validResponseDto = new EmployeeApiResponseDto();
-        validResponseDto.setId(1L);
-        validResponseDto.setName("John Doe");
-        validResponseDto.setRoleId(1L);
+        validRequestDto = new EmployeeRequest("John Doe", 1L);
+
+        validResponseDto = new EmployeeResponse(1L, "John Doe", 1L);
     }
 
 
@@ -62,7 +63,7 @@ class EmployeeControllerTest {
     @DisplayName("Create Employee - Success")
     void testCreateEmployee_Success() throws Exception {
         // Mock service behavior
-        when(employeeService.createEmployee(any(EmployeeApiRequestDto.class))).thenReturn(validResponseDto);
+        when(employeeService.createEmployee(any(EmployeeRequest.class))).thenReturn(validResponseDto);
 
         // Perform POST request with JSON data
         mockMvc.perform(post("/api/employees")
@@ -90,7 +91,7 @@ class EmployeeControllerTest {
     @DisplayName("Update Employee - Success")
     void testUpdateEmployee_Success() throws Exception {
         // Mock service behavior
-        when(employeeService.updateEmployee(eq(1L), any(EmployeeApiRequestDto.class))).thenReturn(validResponseDto);
+        when(employeeService.updateEmployee(eq(1L), any(EmployeeRequest.class))).thenReturn(validResponseDto);
 
         // Perform PUT request with JSON data
         mockMvc.perform(put("/api/employees/1")
@@ -134,15 +135,53 @@ class EmployeeControllerTest {
     void testGetEmployeeById_NotFound() throws Exception {
         // Mock service behavior to throw exception
         when(employeeService.getEmployeeById(1L))
-                .thenThrow(new IllegalArgumentException("Employee not found with ID: 1"));
+                .thenThrow(new EmployeeNotFoundException(1L));
 
         // Perform GET request
         mockMvc.perform(get("/api/employees/1")
                         .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isBadRequest())
+                .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.error").value("Employee not found with ID: 1"));
     }
 
+    @Test
+    @DisplayName("Get Employees By IDs - One lookup for all IDs")
+    void testGetEmployeesByIds() throws Exception {
+        when(employeeService.getEmployeesByIds(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(validResponseDto, new EmployeeResponse(3L, "Jane Doe", 2L)));
+
+        mockMvc.perform(get("/api/employees/batch").param("ids", "1,2,3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].id").value(3))
+                .andExpect(jsonPath("$[1].name").value("Jane Doe"));
+
+        verify(employeeService, never()).getEmployeeById(any());
+    }
+
+    @Test
+    @DisplayName("Get Employee By ID - Sparse fieldset")
+    void testGetEmployeeById_Fields() throws Exception {
+        when(employeeService.getEmployeeFieldsById(1L, EnumSet.of(EmployeeField.NAME)))
+                .thenReturn(Map.of("name", "John Doe"));
+
+        mockMvc.perform(get("/api/employees/1").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("John Doe"))
+                .andExpect(jsonPath("$.id").doesNotExist())
+                .andExpect(jsonPath("$.roleId").doesNotExist());
+
+        verify(employeeService, never()).getEmployeeById(any());
+    }
+
+    @Test
+    @DisplayName("Get Employee By ID - Unknown field")
+    void testGetEmployeeById_UnknownField() throws Exception {
+        mockMvc.perform(get("/api/employees/1").param("fields", "name,salary"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unknown field: salary. Allowed fields are: [id, name, roleId]"));
+    }
+
     @Test
     void testDeleteEmployee_Success() throws Exception {
         Long employeeId = 1L;
@@ -164,13 +203,13 @@ class EmployeeControllerTest {
         Long employeeId = 1L;
 
         // Mock service behavior
-        doThrow(new IllegalArgumentException("Employee with ID " + employeeId + " does not exist"))
+        doThrow(new EmployeeNotFoundException(employeeId))
                 .when(employeeService).deleteEmployeeById(employeeId);
 
         // Perform DELETE request
         mockMvc.perform(delete("/api/employees/{id}", employeeId))
-                .andExpect(status().isBadRequest())
-                .andExpect(content().json("{\"error\":\"Employee with ID 1 does not exist\"}"));
+                .andExpect(status().isNotFound())
+                .andExpect(content().json("{\"error\":\"Employee not found with ID: 1\"}"));
 
         // Verify service interaction
         Mockito.verify(employeeService).deleteEmployeeById(employeeId);
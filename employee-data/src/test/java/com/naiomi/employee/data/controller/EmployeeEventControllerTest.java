@@ -0,0 +1,109 @@
+package com.naiomi.employee.data.controller;
+
+import com.naiomi.employee.data.event.EmployeeChangeEvent;
+import com.naiomi.employee.data.event.EmployeeChangeType;
+import com.naiomi.employee.data.service.EmployeeEventStreamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class EmployeeEventControllerTest {
+
+    private static final Pattern READY_ID = Pattern.compile("id:(\\S+)\\nevent:ready");
+
+    private EmployeeEventStreamService eventStreamService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setup() {
+        eventStreamService = new EmployeeEventStreamService(2, 60_000, 60_000);
+        mockMvc = MockMvcBuilders.standaloneSetup(new EmployeeEventController(eventStreamService)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventStreamService.stop();
+    }
+
+    @Test
+    @DisplayName("Should stream changes published after subscribing")
+    void testLiveEvents() throws Exception {
+        MockHttpServletResponse response = subscribe(null);
+        awaitContent(response, "event:ready");
+
+        eventStreamService.onEmployeeChange(new EmployeeChangeEvent(EmployeeChangeType.UPDATED, 5L, 2L));
+
+        String content = awaitContent(response, "event:change");
+        assertTrue(content.indexOf("event:ready") < content.indexOf("event:change"));
+        assertTrue(content.contains("\"employeeId\":5"));
+        assertTrue(content.contains("\"type\":\"UPDATED\""));
+    }
+
+    @Test
+    @DisplayName("Should replay missed events when resuming from a known position")
+    void testResume() throws Exception {
+        String position = readyId(subscribe(null));
+
+        eventStreamService.onEmployeeChange(new EmployeeChangeEvent(EmployeeChangeType.DELETED, 7L, null));
+
+        String content = awaitContent(subscribe(position), "event:ready");
+        assertTrue(content.contains("\"employeeId\":7"));
+        assertFalse(content.contains("event:reset"));
+    }
+
+    @Test
+    @DisplayName("Should send a reset when the resume position is unknown or too old")
+    void testReset() throws Exception {
+        String position = readyId(subscribe(null));
+        for (long id = 1; id <= 3; id++) {
+            eventStreamService.onEmployeeChange(new EmployeeChangeEvent(EmployeeChangeType.UPDATED, id, 1L));
+        }
+
+        assertTrue(awaitContent(subscribe(position), "event:ready").contains("event:reset"));
+        assertTrue(awaitContent(subscribe("previous-run:12"), "event:ready").contains("event:reset"));
+    }
+
+    private MockHttpServletResponse subscribe(String lastEventId) throws Exception {
+        var request = get("/api/employees/events");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        MvcResult result = mockMvc.perform(request).andExpect(request().asyncStarted()).andReturn();
+        return result.getResponse();
+    }
+
+    private String readyId(MockHttpServletResponse response) throws Exception {
+        Matcher matcher = READY_ID.matcher(awaitContent(response, "event:ready"));
+        assertTrue(matcher.find());
+        return matcher.group(1);
+    }
+
+    // Waits for the blank line that ends the event: its data line may be flushed after its event line
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = response.getContentAsString();
+        while (!containsEvent(content, expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            content = response.getContentAsString();
+        }
+        assertTrue(containsEvent(content, expected), "Expected " + expected + " in: " + content);
+        return content;
+    }
+
+    private static boolean containsEvent(String content, String expected) {
+        int start = content.indexOf(expected);
+        return start >= 0 && content.indexOf("\n\n", start) >= 0;
+    }
+}
@@ -0,0 +1,132 @@
+package com.naiomi.employee.data.fault;
+
+import com.naiomi.employee.data.dto.FaultRuleDto;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FaultInjectionFilterTest {
+
+    private static final String BODY = "{\"id\":1,\"name\":\"John Doe\",\"roleId\":2}";
+
+    private final FaultInjector faultInjector = new FaultInjector(60000);
+    private final FaultInjectionFilter filter = new FaultInjectionFilter(faultInjector);
+
+    @Test
+    @DisplayName("Requests without matching rules are handled normally")
+    void noFault() throws Exception {
+        MockHttpServletResponse response = perform("GET", "/api/employees/1");
+
+        assertEquals(200, response.getStatus());
+        assertEquals(BODY, response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Latency rules delay the request before it is handled")
+    void latency() throws Exception {
+        FaultRuleDto rule = rule(FaultType.LATENCY);
+        rule.setLatencyMs(100);
+        faultInjector.add(rule);
+
+        long start = System.nanoTime();
+        MockHttpServletResponse response = perform("GET", "/api/employees/1");
+
+        assertTrue(System.nanoTime() - start >= 100_000_000L);
+        assertEquals(BODY, response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Error rules answer with their status and Retry-After instead of handling the request")
+    void error() throws Exception {
+        FaultRuleDto rule = rule(FaultType.ERROR);
+        rule.setStatus(503);
+        rule.setRetryAfterSeconds(2);
+        faultInjector.add(rule);
+
+        MockFilterChain chain = chain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/api/employees/1"), response, chain);
+
+        assertEquals(503, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertNull(chain.getRequest(), "the request must not reach the controller");
+    }
+
+    @Test
+    @DisplayName("Drop rules promise a body and leave the request to the valve to close")
+    void drop() throws Exception {
+        faultInjector.add(rule(FaultType.DROP));
+
+        MockFilterChain chain = chain();
+        MockHttpServletRequest request = request("GET", "/api/employees/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+
+        assertEquals(Boolean.TRUE, request.getAttribute(ConnectionDropValve.DROP_ATTRIBUTE));
+        assertEquals(1024, response.getContentLength());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertNull(chain.getRequest(), "the request must not reach the controller");
+    }
+
+    @Test
+    @DisplayName("Slow body rules stream the whole body in chunks")
+    void slowBody() throws Exception {
+        FaultRuleDto rule = rule(FaultType.SLOW_BODY);
+        rule.setChunkBytes(10);
+        rule.setChunkDelayMs(20);
+        faultInjector.add(rule);
+
+        long start = System.nanoTime();
+        MockHttpServletResponse response = perform("GET", "/api/employees/1");
+
+        // 36 bytes in 4 chunks
+        assertTrue(System.nanoTime() - start >= 80_000_000L);
+        assertEquals(BODY, response.getContentAsString());
+        assertEquals(BODY.length(), response.getContentLength());
+    }
+
+    @Test
+    @DisplayName("The admin endpoint is never affected")
+    void adminNotAffected() throws Exception {
+        faultInjector.add(rule(FaultType.ERROR));
+
+        assertEquals(200, perform("GET", "/admin/faults").getStatus());
+        assertEquals(503, perform("GET", "/api/employees").getStatus());
+    }
+
+    private MockHttpServletResponse perform(String method, String path) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(method, path), response, chain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        return new MockHttpServletRequest(method, path);
+    }
+
+    private static MockFilterChain chain() {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                response.setContentType("application/json");
+                response.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+    }
+
+    private static FaultRuleDto rule(FaultType type) {
+        FaultRuleDto rule = new FaultRuleDto();
+        rule.setType(type);
+        return rule;
+    }
+}
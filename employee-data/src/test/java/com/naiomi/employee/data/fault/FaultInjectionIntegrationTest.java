@@ -0,0 +1,102 @@
+package com.naiomi.employee.data.fault;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Its own database: the schema script cannot run twice against the one of the other test contexts
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:employee-db-faults;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false")
+@ActiveProfiles("faults")
+class FaultInjectionIntegrationTest {
+
+    private static final String EMPLOYEE_PATH = "/api/employees/ids";
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        send(HttpRequest.newBuilder(uri("/admin/faults")).DELETE());
+    }
+
+    @Test
+    @DisplayName("A drop rule added through /admin/faults closes the connection after the headers")
+    void testDrop() throws Exception {
+        String id = addRule("{\"path\":\"" + EMPLOYEE_PATH + "\",\"type\":\"DROP\"}");
+
+        IOException dropped = assertThrows(IOException.class, () -> send(HttpRequest.newBuilder(uri(EMPLOYEE_PATH)).GET()));
+        assertFalse(dropped instanceof HttpTimeoutException, "Connection was not closed: " + dropped);
+
+        assertEquals(204, send(HttpRequest.newBuilder(uri("/admin/faults/" + id)).DELETE()).statusCode());
+        assertEquals(200, send(HttpRequest.newBuilder(uri(EMPLOYEE_PATH)).GET()).statusCode());
+    }
+
+    @Test
+    @DisplayName("Error rules answer with their status and Retry-After until they are removed")
+    void testError() throws Exception {
+        String id = addRule("{\"path\":\"" + EMPLOYEE_PATH + "\",\"type\":\"ERROR\",\"status\":503,\"retryAfterSeconds\":2}");
+
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri(EMPLOYEE_PATH)).GET());
+        assertEquals(503, response.statusCode());
+        assertEquals("2", response.headers().firstValue("Retry-After").orElse(null));
+        assertTrue(response.body().contains("Injected fault"));
+
+        assertEquals(204, send(HttpRequest.newBuilder(uri("/admin/faults/" + id)).DELETE()).statusCode());
+        assertEquals(200, send(HttpRequest.newBuilder(uri(EMPLOYEE_PATH)).GET()).statusCode());
+        assertEquals(404, send(HttpRequest.newBuilder(uri("/admin/faults/" + id)).DELETE()).statusCode());
+    }
+
+    @Test
+    @DisplayName("Latency rules delay matching requests only")
+    void testLatency() throws Exception {
+        addRule("{\"path\":\"" + EMPLOYEE_PATH + "\",\"type\":\"LATENCY\",\"latencyMs\":300}");
+
+        long start = System.nanoTime();
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri(EMPLOYEE_PATH)).GET());
+        assertEquals(200, response.statusCode());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 300);
+
+        // The admin endpoint is never affected
+        assertTrue(send(HttpRequest.newBuilder(uri("/admin/faults")).GET()).body().contains("LATENCY"));
+    }
+
+    private String addRule(String rule) throws Exception {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/admin/faults"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(rule)));
+        assertEquals(201, response.statusCode());
+        return objectMapper.readTree(response.body()).get("id").asText();
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.timeout(Duration.ofSeconds(10)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,104 @@
+package com.naiomi.employee.data.fault;
+
+import com.naiomi.employee.data.dto.FaultRuleDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FaultInjectorTest {
+
+    private final FaultInjector faultInjector = new FaultInjector(60000);
+
+    @Test
+    @DisplayName("Rules apply by path pattern and method")
+    void select_MatchesPathAndMethod() {
+        FaultRuleDto rule = rule(FaultType.ERROR);
+        rule.setPath("/api/employees/*");
+        rule.setMethod("get");
+        faultInjector.add(rule);
+
+        assertEquals(1, faultInjector.select("GET", "/api/employees/1").size());
+        assertTrue(faultInjector.select("PUT", "/api/employees/1").isEmpty());
+        assertTrue(faultInjector.select("GET", "/roles/1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Rules apply to about their percentage of requests")
+    void select_Percentage() {
+        FaultRuleDto rule = rule(FaultType.DROP);
+        rule.setPercentage(25);
+        faultInjector.add(rule);
+
+        int selected = 0;
+        for (int i = 0; i < 10_000; i++) {
+            selected += faultInjector.select("GET", "/api/employees/1").size();
+        }
+
+        assertTrue(selected > 2000 && selected < 3000, "selected " + selected);
+    }
+
+    @Test
+    @DisplayName("Rules can be listed, removed and cleared")
+    void addRemoveClear() {
+        String first = faultInjector.add(rule(FaultType.ERROR)).getId();
+        faultInjector.add(rule(FaultType.DROP));
+
+        assertEquals(2, faultInjector.getRules().size());
+        assertTrue(faultInjector.remove(first));
+        assertFalse(faultInjector.remove(first));
+        assertEquals(FaultType.DROP, faultInjector.getRules().get(0).getType());
+
+        faultInjector.clear();
+        assertTrue(faultInjector.select("GET", "/api/employees/1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Incomplete or out-of-range rules are rejected")
+    void add_InvalidRule() {
+        assertThrows(IllegalArgumentException.class, () -> faultInjector.add(new FaultRuleDto()));
+
+        FaultRuleDto percentage = rule(FaultType.DROP);
+        percentage.setPercentage(101);
+        assertThrows(IllegalArgumentException.class, () -> faultInjector.add(percentage));
+
+        FaultRuleDto status = rule(FaultType.ERROR);
+        status.setStatus(200);
+        assertThrows(IllegalArgumentException.class, () -> faultInjector.add(status));
+
+        FaultRuleDto latency = rule(FaultType.LATENCY);
+        latency.setLatencyMs(120_000);
+        assertThrows(IllegalArgumentException.class, () -> faultInjector.add(latency));
+    }
+
+    @Test
+    @DisplayName("Latency distributions stay within their bounds")
+    void latencyDistributions() {
+        SplittableRandom random = new SplittableRandom(42);
+        long sum = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(100, LatencyDistribution.FIXED.nextMs(100, null, 0, random));
+
+            long uniform = LatencyDistribution.UNIFORM.nextMs(100, 200L, 0, random);
+            assertTrue(uniform >= 100 && uniform <= 200);
+
+            long normal = LatencyDistribution.NORMAL.nextMs(10, null, 50, random);
+            assertTrue(normal >= 0);
+
+            long exponential = LatencyDistribution.EXPONENTIAL.nextMs(100, 1000L, 0, random);
+            assertTrue(exponential >= 0 && exponential <= 1000);
+            sum += exponential;
+        }
+
+        // The cap barely moves the mean of an exponential with a mean of a tenth of it
+        assertEquals(100, sum / 10_000.0, 10);
+    }
+
+    private static FaultRuleDto rule(FaultType type) {
+        FaultRuleDto rule = new FaultRuleDto();
+        rule.setType(type);
+        return rule;
+    }
+}
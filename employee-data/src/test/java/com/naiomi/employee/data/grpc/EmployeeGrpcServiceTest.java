@@ -0,0 +1,236 @@
+package com.naiomi.employee.data.grpc;
+
+import com.naiomi.employee.contract.EmployeeResponse;
+import com.naiomi.employee.data.event.EmployeeChangeType;
+import com.naiomi.employee.data.grpc.proto.Employee;
+import com.naiomi.employee.data.grpc.proto.EmployeesGrpc;
+import com.naiomi.employee.data.grpc.proto.GetEmployeeRequest;
+import com.naiomi.employee.data.grpc.proto.ListEmployeesRequest;
+import com.naiomi.employee.data.grpc.proto.UpsertEmployeeAck;
+import com.naiomi.employee.data.grpc.proto.UpsertEmployeeRequest;
+import com.naiomi.employee.data.service.EmployeeService;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class EmployeeGrpcServiceTest {
+
+    private EmployeeService employeeService;
+    private EmployeeGrpcService grpcService;
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        employeeService = mock(EmployeeService.class);
+        grpcService = new EmployeeGrpcService(employeeService, mock(PlatformTransactionManager.class), 2, 2, 50);
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).addService(grpcService).build().start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+        grpcService.stop();
+    }
+
+    @Test
+    @DisplayName("GetEmployee returns the employee, or NOT_FOUND")
+    void testGetEmployee() {
+        when(employeeService.getEmployeeById(1L)).thenReturn(employee(1L));
+        when(employeeService.getEmployeeById(2L)).thenThrow(new IllegalArgumentException("Employee not found with ID: 2"));
+        EmployeesGrpc.EmployeesBlockingStub stub = EmployeesGrpc.newBlockingStub(channel);
+
+        Employee employee = stub.getEmployee(GetEmployeeRequest.newBuilder().setId(1L).build());
+        assertEquals("John Doe", employee.getName());
+        assertEquals(1L, employee.getRoleId());
+
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                () -> stub.getEmployee(GetEmployeeRequest.newBuilder().setId(2L).build()));
+        assertEquals(Status.Code.NOT_FOUND, e.getStatus().getCode());
+    }
+
+    @Test
+    @DisplayName("ListEmployees pages through the employees in ID order up to the limit")
+    void testListEmployees() {
+        when(employeeService.getEmployeesAfter(anyLong(), anyInt())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return LongStream.rangeClosed(afterId + 1, Math.min(afterId + limit, 5)).mapToObj(this::employee).toList();
+        });
+
+        List<Long> ids = new ArrayList<>();
+        EmployeesGrpc.newBlockingStub(channel)
+                .listEmployees(ListEmployeesRequest.newBuilder().setAfterId(1L).build())
+                .forEachRemaining(employee -> ids.add(employee.getId()));
+        assertEquals(List.of(2L, 3L, 4L, 5L), ids);
+        // Keyset pages of two, and an empty page to find the end
+        verify(employeeService).getEmployeesAfter(1L, 2);
+        verify(employeeService).getEmployeesAfter(3L, 2);
+        verify(employeeService).getEmployeesAfter(5L, 2);
+
+        ids.clear();
+        EmployeesGrpc.newBlockingStub(channel)
+                .listEmployees(ListEmployeesRequest.newBuilder().setLimit(3).build())
+                .forEachRemaining(employee -> ids.add(employee.getId()));
+        assertEquals(List.of(1L, 2L, 3L), ids);
+    }
+
+    @Test
+    @DisplayName("ListEmployees stops reading pages when the deadline expires")
+    void testListEmployeesDeadline() throws Exception {
+        when(employeeService.getEmployeesAfter(anyLong(), anyInt())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            Thread.sleep(20);
+            return List.of(employee(afterId + 1), employee(afterId + 2));
+        });
+
+        Iterator<Employee> employees = EmployeesGrpc.newBlockingStub(channel)
+                .withDeadlineAfter(200, TimeUnit.MILLISECONDS)
+                .listEmployees(ListEmployeesRequest.getDefaultInstance());
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                () -> employees.forEachRemaining(employee -> { }));
+        assertEquals(Status.Code.DEADLINE_EXCEEDED, e.getStatus().getCode());
+
+        Thread.sleep(100);
+        int pagesRead = mockingDetails(employeeService).getInvocations().size();
+        Thread.sleep(200);
+        assertEquals(pagesRead, mockingDetails(employeeService).getInvocations().size());
+    }
+
+    @Test
+    @DisplayName("UpsertEmployees writes in batches and acks every request, rejected ones included")
+    void testUpsertEmployees() throws Exception {
+        when(employeeService.upsertEmployees(anyList())).thenAnswer(invocation -> {
+            List<EmployeeService.Upsert> upserts = invocation.getArgument(0);
+            return upserts.stream().map(upsert -> upsert.request().roleId() == null
+                    ? new EmployeeService.UpsertResult(null, null, "Role ID must not be null")
+                    : new EmployeeService.UpsertResult(upsert.id() == null ? EmployeeChangeType.CREATED : EmployeeChangeType.UPDATED,
+                    employee(upsert.id() == null ? 10L : upsert.id()), null)).toList();
+        });
+
+        List<UpsertEmployeeAck> acks = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+        StreamObserver<UpsertEmployeeRequest> requests = EmployeesGrpc.newStub(channel)
+                .upsertEmployees(new StreamObserver<>() {
+                    @Override
+                    public void onNext(UpsertEmployeeAck ack) {
+                        acks.add(ack);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        completed.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        completed.complete(null);
+                    }
+                });
+        requests.onNext(request(1, 0, 1L));
+        requests.onNext(request(2, 3, 1L));
+        requests.onNext(request(3, 4, 0L));
+        requests.onNext(request(4, 5, 1L));
+        requests.onNext(request(5, 0, 1L));
+        requests.onCompleted();
+        completed.get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), acks.stream().map(UpsertEmployeeAck::getSequence).toList());
+        assertEquals(UpsertEmployeeAck.Status.CREATED, acks.get(0).getStatus());
+        assertEquals(UpsertEmployeeAck.Status.UPDATED, acks.get(1).getStatus());
+        assertEquals(3L, acks.get(1).getEmployee().getId());
+        assertEquals(UpsertEmployeeAck.Status.REJECTED, acks.get(2).getStatus());
+        assertEquals("Role ID must not be null", acks.get(2).getMessage());
+        // Batches of two, the last one written on half-close
+        verify(employeeService, times(3)).upsertEmployees(anyList());
+    }
+
+    @Test
+    @DisplayName("A slow lingering batch does not hold up the lingering batches of other streams")
+    void testUpsertLingerFlushesIndependently() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(employeeService.upsertEmployees(anyList())).thenAnswer(invocation -> {
+            List<EmployeeService.Upsert> upserts = invocation.getArgument(0);
+            if (upserts.get(0).id() == 1L) {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return upserts.stream()
+                    .map(upsert -> new EmployeeService.UpsertResult(EmployeeChangeType.UPDATED, employee(upsert.id()), null))
+                    .toList();
+        });
+
+        CompletableFuture<UpsertEmployeeAck> slowAck = new CompletableFuture<>();
+        CompletableFuture<UpsertEmployeeAck> fastAck = new CompletableFuture<>();
+        StreamObserver<UpsertEmployeeRequest> slow = EmployeesGrpc.newStub(channel).upsertEmployees(firstAck(slowAck));
+        StreamObserver<UpsertEmployeeRequest> fast = EmployeesGrpc.newStub(channel).upsertEmployees(firstAck(fastAck));
+        // Neither batch is full, so both are written once the linger time has passed
+        slow.onNext(request(1, 1, 1L));
+        Thread.sleep(100);
+        fast.onNext(request(1, 2, 1L));
+
+        assertEquals(2L, fastAck.get(2, TimeUnit.SECONDS).getEmployee().getId());
+        assertFalse(slowAck.isDone());
+        release.countDown();
+        assertEquals(1L, slowAck.get(5, TimeUnit.SECONDS).getEmployee().getId());
+        slow.onCompleted();
+        fast.onCompleted();
+    }
+
+    private static StreamObserver<UpsertEmployeeAck> firstAck(CompletableFuture<UpsertEmployeeAck> ack) {
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(UpsertEmployeeAck value) {
+                ack.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                ack.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        };
+    }
+
+    private UpsertEmployeeRequest request(long sequence, long id, long roleId) {
+        return UpsertEmployeeRequest.newBuilder()
+                .setSequence(sequence)
+                .setId(id)
+                .setName("John Doe")
+                .setRoleId(roleId)
+                .build();
+    }
+
+    private EmployeeResponse employee(long id) {
+        return new EmployeeResponse(id, "John Doe", 1L);
+    }
+}
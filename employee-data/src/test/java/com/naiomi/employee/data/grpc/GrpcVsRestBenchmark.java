@@ -0,0 +1,192 @@
+package com.naiomi.employee.data.grpc;
+
+import com.naiomi.employee.data.EmployeeDataApplication;
+import com.naiomi.employee.data.grpc.proto.EmployeesGrpc;
+import com.naiomi.employee.data.grpc.proto.GetEmployeeRequest;
+import com.naiomi.employee.data.grpc.proto.ListEmployeesRequest;
+import com.naiomi.employee.data.grpc.proto.UpsertEmployeeAck;
+import com.naiomi.employee.data.grpc.proto.UpsertEmployeeRequest;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares the REST endpoints of employee-data with the {@code Employees} gRPC service.
+ * <p>
+ * Both run against the same application, started with random ports. Three workloads are
+ * measured, each over a warmed-up connection:
+ * </p>
+ * <ul>
+ *     <li>unary: reads employees one by one, {@code GET /api/employees/{id}} versus {@code GetEmployee}</li>
+ *     <li>sync: reads every employee, {@code GET /api/employees/ids} plus one GET per ID versus one
+ *     {@code ListEmployees} stream</li>
+ *     <li>write: updates every employee, one {@code PUT /api/employees/{id}} each versus one
+ *     {@code UpsertEmployees} stream</li>
+ * </ul>
+ * Run with: {@code java ... GrpcVsRestBenchmark [employees] [requests]}
+ */
+public class GrpcVsRestBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int employees = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+
+        ConfigurableApplicationContext context = SpringApplication.run(EmployeeDataApplication.class,
+                "--server.port=0", "--grpc.port=0", "--warmup.enabled=false", "--logging.level.root=WARN");
+        ManagedChannel channel = NettyChannelBuilder
+                .forAddress("localhost", context.getBean(GrpcServer.class).getPort())
+                .usePlaintext()
+                .build();
+        try {
+            String url = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort()
+                    + "/api/employees";
+            HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            EmployeesGrpc.EmployeesBlockingStub blocking = EmployeesGrpc.newBlockingStub(channel);
+            EmployeesGrpc.EmployeesStub async = EmployeesGrpc.newStub(channel);
+
+            long[] ids = createEmployees(async, employees);
+            System.out.printf("employees=%d requests=%d%n%n", employees, requests);
+            for (int round = 0; round < 2; round++) {
+                // The first round warms up both stacks and is not reported
+                boolean report = round == 1;
+                unary(report, "unary rest", requests, ids, id -> {
+                    HttpResponse<byte[]> response = http.send(HttpRequest.newBuilder(URI.create(url + "/" + id)).build(),
+                            HttpResponse.BodyHandlers.ofByteArray());
+                    check(response.statusCode() == 200, response.statusCode());
+                });
+                unary(report, "unary grpc", requests, ids,
+                        id -> blocking.getEmployee(GetEmployeeRequest.newBuilder().setId(id).build()));
+
+                bulk(report, "sync rest", employees, () -> {
+                    String body = http.send(HttpRequest.newBuilder(URI.create(url + "/ids")).build(),
+                            HttpResponse.BodyHandlers.ofString()).body();
+                    for (String id : body.substring(1, body.length() - 1).split(",")) {
+                        http.send(HttpRequest.newBuilder(URI.create(url + "/" + id)).build(),
+                                HttpResponse.BodyHandlers.ofByteArray());
+                    }
+                });
+                bulk(report, "sync grpc", employees, () -> {
+                    AtomicInteger count = new AtomicInteger();
+                    blocking.listEmployees(ListEmployeesRequest.getDefaultInstance())
+                            .forEachRemaining(employee -> count.incrementAndGet());
+                    check(count.get() >= employees, count.get());
+                });
+
+                int generation = round;
+                bulk(report, "write rest", employees, () -> {
+                    for (long id : ids) {
+                        String body = "{\"name\":\"Bench Employee" + id + "-" + generation + "\",\"roleId\":2}";
+                        HttpResponse<byte[]> response = http.send(HttpRequest.newBuilder(URI.create(url + "/" + id))
+                                        .header("Content-Type", "application/json")
+                                        .PUT(HttpRequest.BodyPublishers.ofString(body))
+                                        .build(),
+                                HttpResponse.BodyHandlers.ofByteArray());
+                        check(response.statusCode() == 200, response.statusCode());
+                    }
+                });
+                bulk(report, "write grpc", employees, () -> upsert(async, ids, "Bench Employee%d-" + generation + "g"));
+            }
+        } finally {
+            channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+            context.close();
+        }
+    }
+
+    private static long[] createEmployees(EmployeesGrpc.EmployeesStub async, int employees) throws Exception {
+        long[] ids = upsert(async, new long[employees], "Bench Employee%d");
+        check(Arrays.stream(ids).allMatch(id -> id > 0), "created employee without ID");
+        return ids;
+    }
+
+    /**
+     * Streams one upsert per entry of {@code ids} (0 creates) and waits for all acks.
+     *
+     * @return the IDs of the written employees, by sequence
+     */
+    private static long[] upsert(EmployeesGrpc.EmployeesStub async, long[] ids, String nameFormat) throws Exception {
+        long[] written = new long[ids.length];
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+        StreamObserver<UpsertEmployeeRequest> requests = async.upsertEmployees(new StreamObserver<>() {
+            @Override
+            public void onNext(UpsertEmployeeAck ack) {
+                if (ack.getStatus() == UpsertEmployeeAck.Status.REJECTED) {
+                    completed.completeExceptionally(new IllegalStateException(ack.getMessage()));
+                }
+                written[(int) ack.getSequence()] = ack.getEmployee().getId();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                completed.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                completed.complete(null);
+            }
+        });
+        for (int i = 0; i < ids.length; i++) {
+            requests.onNext(UpsertEmployeeRequest.newBuilder()
+                    .setSequence(i)
+                    .setId(ids[i])
+                    .setName(String.format(nameFormat, i))
+                    .setRoleId(1)
+                    .build());
+        }
+        requests.onCompleted();
+        completed.get(5, TimeUnit.MINUTES);
+        return written;
+    }
+
+    private static void unary(boolean report, String variant, int requests, long[] ids, Call call) throws Exception {
+        long[] latencies = new long[requests];
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            long callStart = System.nanoTime();
+            call.run(ids[i % ids.length]);
+            latencies[i] = System.nanoTime() - callStart;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (report) {
+            Arrays.sort(latencies);
+            System.out.printf("%-11s %8.0f calls/s  p50 %7.1f us  p99 %7.1f us%n", variant,
+                    requests / (elapsed / 1e9), latencies[requests / 2] / 1e3, latencies[requests * 99 / 100] / 1e3);
+        }
+    }
+
+    private static void bulk(boolean report, String variant, int employees, Task task) throws Exception {
+        long start = System.nanoTime();
+        task.run();
+        long elapsed = System.nanoTime() - start;
+        if (report) {
+            System.out.printf("%-11s %8.0f employees/s  total %8.1f ms%n", variant,
+                    employees / (elapsed / 1e9), elapsed / 1e6);
+        }
+    }
+
+    private static void check(boolean condition, Object detail) {
+        if (!condition) {
+            throw new IllegalStateException("Unexpected result: " + detail);
+        }
+    }
+
+    private interface Call {
+        void run(long id) throws Exception;
+    }
+
+    private interface Task {
+        void run() throws Exception;
+    }
+}
@@ -1,7 +1,7 @@
 package com.naiomi.employee.data.mapper;
 
-import com.naiomi.employee.data.dto.EmployeeApiRequestDto;
-import com.naiomi.employee.data.dto.EmployeeApiResponseDto;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
 import com.naiomi.employee.data.model.Employee;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,7 +20,7 @@ class EmployeeMapperTest {
     }
 
     @Test
-    @DisplayName("Should map Employee to EmployeeApiResponseDto correctly")
+    @DisplayName("Should map Employee to EmployeeResponse correctly")
     void testToResponseDto() {
         // Prepare test data
         Employee employee = new Employee();
@@ -29,21 +29,19 @@ class EmployeeMapperTest {
         employee.setSurname("Doe");
 
         // Perform mapping
-        EmployeeApiResponseDto responseDto = employeeMapper.toResponseDto(employee);
+        EmployeeResponse responseDto = employeeMapper.toResponseDto(employee);
 
         // Assertions
         assertNotNull(responseDto);
-        assertEquals(1L, responseDto.getId());
-        assertEquals("John Doe", responseDto.getName());
+        assertEquals(1L, responseDto.id());
+        assertEquals("John Doe", responseDto.name());
     }
 
     @Test
-    @DisplayName("Should update Employee entity fields from EmployeeApiRequestDto")
+    @DisplayName("Should update Employee entity fields from EmployeeRequest")
     void testUpdateEmployeeFromRequestDto() {
         // Prepare test data
-        EmployeeApiRequestDto requestDto = new EmployeeApiRequestDto();
-        requestDto.setName("Jane Doe");
-        requestDto.setRoleId(2L);
+        EmployeeRequest requestDto = new EmployeeRequest("Jane Doe", 2L);
 
         Employee employee = new Employee();
         employee.setFirstname("John");
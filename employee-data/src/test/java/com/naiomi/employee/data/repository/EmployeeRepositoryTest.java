@@ -0,0 +1,67 @@
+package com.naiomi.employee.data.repository;
+
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import com.naiomi.employee.data.constant.EmployeeField;
+import com.naiomi.employee.data.model.Employee;
+import com.naiomi.employee.data.service.EmployeeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class EmployeeRepositoryTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Test
+    @DisplayName("Should read only the requested fields, in declaration order")
+    void testFindFieldsById() {
+        EmployeeResponse created = employeeService.createEmployee(request("Jane Doe", 3L));
+
+        Map<String, Object> fields = employeeRepository.findFieldsById(created.id(),
+                EnumSet.of(EmployeeField.ROLE_ID, EmployeeField.NAME)).orElseThrow();
+
+        assertEquals(List.of("name", "roleId"), List.copyOf(fields.keySet()));
+        assertEquals("Jane Doe", fields.get("name"));
+        assertEquals(3L, fields.get("roleId"));
+
+        Map<String, Object> all = employeeRepository.findFieldsById(created.id(),
+                EnumSet.allOf(EmployeeField.class)).orElseThrow();
+        assertEquals(Map.of("id", created.id(), "name", "Jane Doe", "roleId", 3L), all);
+    }
+
+    @Test
+    @DisplayName("Should return empty for a missing employee")
+    void testFindFieldsById_Missing() {
+        assertTrue(employeeRepository.findFieldsById(-1L, EnumSet.of(EmployeeField.NAME)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should look up several employees in one query, leaving out missing IDs")
+    void testFindByIdIn() {
+        EmployeeResponse first = employeeService.createEmployee(request("Ann Lee", 1L));
+        EmployeeResponse second = employeeService.createEmployee(request("Bob Lee", 2L));
+
+        List<Long> found = employeeRepository.findByIdInOrderByIdAsc(List.of(second.id(), -1L, first.id())).stream()
+                .map(Employee::getId)
+                .toList();
+
+        assertEquals(List.of(first.id(), second.id()), found);
+    }
+
+    private EmployeeRequest request(String name, Long roleId) {
+        return new EmployeeRequest(name, roleId);
+    }
+}
@@ -0,0 +1,80 @@
+package com.naiomi.employee.data.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.data.EmployeeDataApplication;
+import com.naiomi.employee.data.constant.EmployeeField;
+import com.naiomi.employee.data.service.EmployeeService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongFunction;
+
+/**
+ * Compares full employee reads with sparse fieldsets in employee-data.
+ * <p>
+ * Each variant runs the service call and the JSON serialization of a controller response on
+ * the calling thread and reports the thread CPU time and response bytes per request. A full
+ * read loads the entity through {@link EmployeeRepository#findById} and maps it, a sparse
+ * read uses the projection query of {@link EmployeeRepositoryImpl}.
+ * </p>
+ * Run with: {@code java ... SparseFieldsBenchmark [employees] [requests]}
+ */
+public class SparseFieldsBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int employees = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+
+        ConfigurableApplicationContext context = SpringApplication.run(EmployeeDataApplication.class,
+                "--server.port=0", "--warmup.enabled=false", "--logging.level.root=WARN");
+        try {
+            EmployeeService employeeService = context.getBean(EmployeeService.class);
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < employees; i++) {
+                EmployeeRequest request = new EmployeeRequest("Employee " + i, (long) (i % 3) + 1);
+                ids.add(employeeService.createEmployee(request).id());
+            }
+
+            System.out.printf("employees=%d requests=%d%n%n", employees, requests);
+            for (int round = 0; round < 2; round++) {
+                // The first round warms up the JIT and is not reported
+                boolean report = round == 1;
+                run("full", ids, requests, report, objectMapper, employeeService::getEmployeeById);
+                run("name", ids, requests, report, objectMapper,
+                        id -> employeeService.getEmployeeFieldsById(id, EnumSet.of(EmployeeField.NAME)));
+                Set<EmployeeField> all = EnumSet.allOf(EmployeeField.class);
+                run("id,name,roleId", ids, requests, report, objectMapper,
+                        id -> employeeService.getEmployeeFieldsById(id, all));
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void run(String variant, List<Long> ids, int requests, boolean report,
+                            ObjectMapper objectMapper, LongFunction<Object> read) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long bytes = 0;
+        long cpuStart = threads.getCurrentThreadCpuTime();
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            bytes += objectMapper.writeValueAsBytes(read.apply(ids.get(i % ids.size()))).length;
+        }
+        long cpu = threads.getCurrentThreadCpuTime() - cpuStart;
+        long elapsed = System.nanoTime() - start;
+
+        if (report) {
+            System.out.printf("%-15s bytes/request=%6.1f  cpu/request=%7.1f us  elapsed/request=%7.1f us%n",
+                    variant, (double) bytes / requests, cpu / 1e3 / requests, elapsed / 1e3 / requests);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.naiomi.employee.data.service;
+
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import com.naiomi.employee.data.dto.ChangeDto;
+import com.naiomi.employee.data.dto.ChangeFeedDto;
+import com.naiomi.employee.data.dto.EmployeeSnapshotDto;
+import com.naiomi.employee.data.exception.ChangeFeedExpiredException;
+import com.naiomi.employee.data.repository.ChangeLogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Its own database, as the gap timeout differs from the other test contexts
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:employee-db-changes;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false",
+        "changes.gap-timeout-ms=" + ChangeFeedServiceTest.GAP_TIMEOUT_MS})
+class ChangeFeedServiceTest {
+
+    static final long GAP_TIMEOUT_MS = 2000;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private RoleService roleService;
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Should record every employee mutation with consecutive sequence numbers")
+    void testEmployeeMutationsRecorded() {
+        long since = changeFeedService.getHeadSequence();
+
+        EmployeeResponse created = employeeService.createEmployee(request("Jane Doe", 2L));
+        employeeService.updateEmployee(created.id(), request("Janet Doe", 2L));
+        employeeService.deleteEmployeeById(created.id());
+
+        ChangeFeedDto feed = changeFeedService.getChanges(since, 100);
+        List<ChangeDto> changes = feed.getChanges().stream()
+                .filter(change -> created.id().equals(change.getEntityId()) && "EMPLOYEE".equals(change.getEntity()))
+                .toList();
+
+        assertEquals(List.of("INSERT", "UPDATE", "DELETE"), changes.stream().map(ChangeDto::getOperation).toList());
+        for (int i = 0; i < feed.getChanges().size(); i++) {
+            assertEquals(since + i + 1, feed.getChanges().get(i).getSeq());
+        }
+        assertNull(changes.get(0).getEmployee(), "Deleted employees carry no state");
+        assertEquals(feed.getLastSequence(), feed.getHeadSequence());
+        assertFalse(feed.isHasMore());
+    }
+
+    @Test
+    @DisplayName("Should page through changes and include the current employee state")
+    void testPaging() {
+        long since = changeFeedService.getHeadSequence();
+        EmployeeResponse first = employeeService.createEmployee(request("Ann Lee", 1L));
+        employeeService.createEmployee(request("Bob Lee", 1L));
+
+        ChangeFeedDto page = changeFeedService.getChanges(since, 1);
+        assertTrue(page.isHasMore());
+        assertEquals(since + 1, page.getLastSequence());
+        assertEquals("Ann Lee", page.getChanges().get(0).getEmployee().name());
+        assertEquals(first.id(), page.getChanges().get(0).getEmployee().id());
+
+        ChangeFeedDto next = changeFeedService.getChanges(page.getLastSequence(), 10);
+        assertEquals("Bob Lee", next.getChanges().get(0).getEmployee().name());
+    }
+
+    @Test
+    @DisplayName("Should record changes made by the role deletion procedure")
+    void testStoredProcedureRecorded() {
+        EmployeeResponse keeper = employeeService.createEmployee(request("Kim Keeper", 1L));
+        EmployeeResponse manager = employeeService.createEmployee(request("Max Power", 3L));
+        long since = changeFeedService.getHeadSequence();
+
+        roleService.deleteRole(3L, keeper.id());
+
+        assertTrue(changeFeedService.getChanges(since, 100).getChanges().stream()
+                .anyMatch(change -> "EMPLOYEE".equals(change.getEntity())
+                        && manager.id().equals(change.getEntityId())
+                        && "DELETE".equals(change.getOperation())));
+
+        EmployeeSnapshotDto snapshot = changeFeedService.getSnapshot();
+        assertTrue(snapshot.getSequence() > since);
+        assertTrue(snapshot.getEmployees().stream().anyMatch(employee -> keeper.id().equals(employee.id())));
+        assertTrue(snapshot.getEmployees().stream().noneMatch(employee -> manager.id().equals(employee.id())));
+    }
+
+    @Test
+    @DisplayName("Should reject reads from before the retained changes")
+    void testExpired() {
+        employeeService.createEmployee(request("Old Change", 1L));
+        long head = changeFeedService.getHeadSequence();
+        transactionTemplate.executeWithoutResult(status -> {
+            changeLogRepository.markPrunedUpTo(head - 1);
+            changeLogRepository.deleteUpTo(head - 1);
+        });
+
+        assertThrows(ChangeFeedExpiredException.class, () -> changeFeedService.getChanges(0, 10));
+        assertEquals(1, changeFeedService.getChanges(head - 1, 10).getChanges().size());
+        assertThrows(IllegalArgumentException.class, () -> changeFeedService.getChanges(head, 0));
+    }
+
+    @Test
+    @DisplayName("Should not make writers wait for each other, nor hand out changes past an open transaction")
+    void testConcurrentWriters() throws Exception {
+        long since = changeFeedService.getHeadSequence();
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> open = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            employeeService.createEmployee(request("Slow Writer", 1L));
+            written.countDown();
+            await(release);
+        }));
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+
+        try {
+            CompletableFuture.runAsync(() -> employeeService.createEmployee(request("Fast Writer", 1L)))
+                    .get(5, TimeUnit.SECONDS);
+
+            ChangeFeedDto feed = changeFeedService.getChanges(since, 100);
+            assertTrue(feed.getChanges().isEmpty(), "The change before it may still commit");
+            assertEquals(since, feed.getHeadSequence());
+        } finally {
+            release.countDown();
+            open.get(5, TimeUnit.SECONDS);
+        }
+
+        ChangeFeedDto feed = changeFeedService.getChanges(since, 100);
+        assertEquals(List.of("Slow Writer", "Fast Writer"),
+                feed.getChanges().stream().map(change -> change.getEmployee().name()).toList());
+        assertEquals(since + 2, feed.getHeadSequence());
+    }
+
+    @Test
+    @DisplayName("Should skip the gap of a rolled back change once it is older than the gap timeout")
+    void testRolledBackGap() throws Exception {
+        long since = changeFeedService.getHeadSequence();
+        transactionTemplate.executeWithoutResult(status -> {
+            employeeService.createEmployee(request("Rolled Back", 1L));
+            status.setRollbackOnly();
+        });
+        EmployeeResponse committed = employeeService.createEmployee(request("Committed", 1L));
+
+        assertTrue(changeFeedService.getChanges(since, 100).getChanges().isEmpty());
+
+        Thread.sleep(GAP_TIMEOUT_MS + 200);
+        ChangeFeedDto feed = changeFeedService.getChanges(since, 100);
+        assertEquals(1, feed.getChanges().size());
+        assertEquals(since + 2, feed.getChanges().get(0).getSeq());
+        assertEquals(committed.id(), feed.getChanges().get(0).getEntityId());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static EmployeeRequest request(String name, Long roleId) {
+        return new EmployeeRequest(name, roleId);
+    }
+}
@@ -1,8 +1,10 @@
 package com.naiomi.employee.data.service;
 
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
 import com.naiomi.employee.data.constant.RoleType;
-import com.naiomi.employee.data.dto.EmployeeApiRequestDto;
-import com.naiomi.employee.data.dto.EmployeeApiResponseDto;
+import com.naiomi.employee.data.event.EmployeeChangeEvent;
+import com.naiomi.employee.data.event.EmployeeChangeType;
 import com.naiomi.employee.data.mapper.EmployeeMapper;
 import com.naiomi.employee.data.model.Employee;
 import com.naiomi.employee.data.model.Role;
@@ -15,7 +17,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,6 +39,9 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeMapper employeeMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -64,26 +71,21 @@ class EmployeeServiceTest {
         when(employeeRepository.save(any(Employee.class))).thenReturn(mockEmployee);
 
         // Mock mapper response
-        EmployeeApiResponseDto expectedResponse = new EmployeeApiResponseDto();
-        expectedResponse.setId(1L);
-        expectedResponse.setName("John Doe");
-        expectedResponse.setRoleId(1L);
+        EmployeeResponse expectedResponse = new EmployeeResponse(1L, "John Doe", 1L);
 
         when(employeeMapper.toResponseDto(any(Employee.class))).thenReturn(expectedResponse);
 
         // Input DTO
-        EmployeeApiRequestDto requestDto = new EmployeeApiRequestDto();
-        requestDto.setName("John Doe");
-        requestDto.setRoleId(1L);
+        EmployeeRequest requestDto = new EmployeeRequest("John Doe", 1L);
 
         // Call the service method
-        EmployeeApiResponseDto actualResponse = employeeService.createEmployee(requestDto);
+        EmployeeResponse actualResponse = employeeService.createEmployee(requestDto);
 
         // Assertions
         assertNotNull(actualResponse);
-        assertEquals(expectedResponse.getId(), actualResponse.getId());
-        assertEquals(expectedResponse.getName(), actualResponse.getName());
-        assertEquals(expectedResponse.getRoleId(), actualResponse.getRoleId());
+        assertEquals(expectedResponse.id(), actualResponse.id());
+        assertEquals(expectedResponse.name(), actualResponse.name());
+        assertEquals(expectedResponse.roleId(), actualResponse.roleId());
 
         // Verify interactions
         verify(roleRepository, times(1)).findById(1L);
@@ -100,26 +102,21 @@ class EmployeeServiceTest {
         when(employeeRepository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Mock mapper response
-        EmployeeApiResponseDto expectedResponse = new EmployeeApiResponseDto();
-        expectedResponse.setId(1L);
-        expectedResponse.setName("Jane Doe");
-        expectedResponse.setRoleId(2L);
+        EmployeeResponse expectedResponse = new EmployeeResponse(1L, "Jane Doe", 2L);
 
         when(employeeMapper.toResponseDto(any(Employee.class))).thenReturn(expectedResponse);
 
         // Input DTO
-        EmployeeApiRequestDto requestDto = new EmployeeApiRequestDto();
-        requestDto.setName("Jane Doe");
-        requestDto.setRoleId(2L);
+        EmployeeRequest requestDto = new EmployeeRequest("Jane Doe", 2L);
 
         // Call the service method
-        EmployeeApiResponseDto actualResponse = employeeService.updateEmployee(1L, requestDto);
+        EmployeeResponse actualResponse = employeeService.updateEmployee(1L, requestDto);
 
         // Assertions
         assertNotNull(actualResponse);
-        assertEquals(expectedResponse.getId(), actualResponse.getId());
-        assertEquals(expectedResponse.getName(), actualResponse.getName());
-        assertEquals(expectedResponse.getRoleId(), actualResponse.getRoleId());
+        assertEquals(expectedResponse.id(), actualResponse.id());
+        assertEquals(expectedResponse.name(), actualResponse.name());
+        assertEquals(expectedResponse.roleId(), actualResponse.roleId());
 
         // Verify interactions
         verify(employeeRepository, times(1)).findById(1L);
@@ -127,6 +124,10 @@ class EmployeeServiceTest {
         verify(employeeMapper, times(1)).updateEmployeeFromRequestDto(eq(requestDto), any(Employee.class));
         verify(employeeRepository, times(1)).save(any(Employee.class));
         verify(employeeMapper, times(1)).toResponseDto(any(Employee.class));
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) ->
+                event instanceof EmployeeChangeEvent change
+                        && change.getType() == EmployeeChangeType.UPDATED
+                        && change.getEmployeeId() == 1L));
     }
 
     @Test
@@ -136,12 +137,46 @@ class EmployeeServiceTest {
         when(roleRepository.findById(1L)).thenReturn(Optional.empty());
 
         // Input DTO
-        EmployeeApiRequestDto requestDto = new EmployeeApiRequestDto();
-        requestDto.setName("John Doe");
-        requestDto.setRoleId(1L);
+        EmployeeRequest requestDto = new EmployeeRequest("John Doe", 1L);
 
         // Call service and expect exception
         assertThrows(IllegalArgumentException.class, () -> employeeService.createEmployee(requestDto));
     }
 
+    @Test
+    @DisplayName("Should return the IDs of all employees")
+    void testGetEmployeeIds() {
+        when(employeeRepository.findAllIds()).thenReturn(List.of(1L, 2L, 5L));
+
+        assertEquals(List.of(1L, 2L, 5L), employeeService.getEmployeeIds());
+        verify(employeeRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should write valid upserts together and reject only the invalid ones")
+    void testUpsertEmployees() {
+        when(roleRepository.findAllById(any())).thenReturn(List.of(mockRole));
+        when(employeeRepository.findAllById(any())).thenReturn(List.of(mockEmployee));
+        when(employeeMapper.toResponseDto(any(Employee.class))).thenReturn(new EmployeeResponse(null, null, null));
+
+        EmployeeRequest valid = new EmployeeRequest("Jane Doe", 1L);
+        EmployeeRequest unknownRole = new EmployeeRequest("Jane Doe", 9L);
+
+        List<EmployeeService.UpsertResult> results = employeeService.upsertEmployees(List.of(
+                new EmployeeService.Upsert(null, valid),
+                new EmployeeService.Upsert(1L, valid),
+                new EmployeeService.Upsert(7L, valid),
+                new EmployeeService.Upsert(null, unknownRole)));
+
+        assertEquals(EmployeeChangeType.CREATED, results.get(0).type());
+        assertEquals(EmployeeChangeType.UPDATED, results.get(1).type());
+        assertEquals("Employee not found with ID: 7", results.get(2).error());
+        assertEquals("Role not found with ID: 9", results.get(3).error());
+        assertNull(results.get(3).employee());
+
+        // One write for the whole batch, and an event for every written employee
+        verify(employeeRepository, times(1)).saveAll(argThat((List<Employee> employees) -> employees.size() == 2));
+        verify(employeeRepository, never()).save(any(Employee.class));
+        verify(eventPublisher, times(2)).publishEvent(any(EmployeeChangeEvent.class));
+    }
 }
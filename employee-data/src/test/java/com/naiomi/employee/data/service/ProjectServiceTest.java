@@ -0,0 +1,79 @@
+package com.naiomi.employee.data.service;
+
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.data.constant.RoleType;
+import com.naiomi.employee.data.dto.ProjectDto;
+import com.naiomi.employee.data.dto.RoleDto;
+import com.naiomi.employee.data.model.Employee;
+import com.naiomi.employee.data.model.Project;
+import com.naiomi.employee.data.repository.EmployeeRepository;
+import com.naiomi.employee.data.repository.ProjectRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ProjectServiceTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should return the projects assigned to an employee")
+    void testGetProjectsByEmployeeId() {
+        Long withProjects = employeeService.createEmployee(request("Jane Doe", 2L)).id();
+        Long withoutProjects = employeeService.createEmployee(request("John Doe", 2L)).id();
+        Employee employee = employeeRepository.getReferenceById(withProjects);
+        projectRepository.save(new Project("Payroll", employee));
+        projectRepository.save(new Project("Onboarding", employee));
+
+        List<ProjectDto> projects = projectService.getProjectsByEmployeeId(withProjects);
+
+        assertEquals(List.of("Payroll", "Onboarding"), projects.stream().map(ProjectDto::getName).toList());
+        assertTrue(projectService.getProjectsByEmployeeId(withoutProjects).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> projectService.getProjectsByEmployeeId(-1L));
+    }
+
+    @Test
+    @DisplayName("Should read projects through idx_project_employee_id")
+    void testProjectsByEmployeeUsesIndex() {
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT id, name FROM projects WHERE employee_id = 1 ORDER BY id", String.class);
+
+        assertTrue(plan.toUpperCase().contains("IDX_PROJECT_EMPLOYEE_ID"), plan);
+    }
+
+    @Test
+    @DisplayName("Should resolve the role of an employee")
+    void testGetRoleByEmployeeId() {
+        Long id = employeeService.createEmployee(request("Jane Doe", 3L)).id();
+
+        RoleDto role = employeeService.getRoleByEmployeeId(id);
+
+        assertEquals(3L, role.getId());
+        assertEquals(RoleType.MANAGER, role.getName());
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getRoleByEmployeeId(-1L));
+    }
+
+    private EmployeeRequest request(String name, Long roleId) {
+        return new EmployeeRequest(name, roleId);
+    }
+}
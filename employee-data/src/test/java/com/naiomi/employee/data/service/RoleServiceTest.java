@@ -1,9 +1,12 @@
 package com.naiomi.employee.data.service;
 
+import com.naiomi.employee.data.event.EmployeeChangeEvent;
+import com.naiomi.employee.data.event.EmployeeChangeType;
 import com.naiomi.employee.data.repository.RoleRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.mockito.Mockito.*;
 
@@ -14,7 +17,8 @@ class RoleServiceTest {
     void deleteRole_ShouldCallRepositoryWithCorrectParameters() {
         // Arrange
         RoleRepository mockRoleRepository = Mockito.mock(RoleRepository.class);
-        RoleService roleService = new RoleService(mockRoleRepository);
+        ApplicationEventPublisher mockEventPublisher = Mockito.mock(ApplicationEventPublisher.class);
+        RoleService roleService = new RoleService(mockRoleRepository, mockEventPublisher);
 
         Long roleToDelete = 1L;
         Long defaultEmployeeId = 2L;
@@ -25,5 +29,9 @@ class RoleServiceTest {
         // Assert
         verify(mockRoleRepository, times(1))
                 .deleteRoleWithEmployeesAndReassignProjects(roleToDelete, defaultEmployeeId);
+        verify(mockEventPublisher, times(1)).publishEvent(argThat((Object event) ->
+                event instanceof EmployeeChangeEvent change
+                        && change.getType() == EmployeeChangeType.ROLE_DELETED
+                        && roleToDelete.equals(change.getRoleId())));
     }
 }
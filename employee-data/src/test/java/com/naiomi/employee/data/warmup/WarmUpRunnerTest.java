@@ -0,0 +1,59 @@
+package com.naiomi.employee.data.warmup;
+
+import com.naiomi.employee.data.repository.EmployeeRepository;
+import com.naiomi.employee.data.repository.RoleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class WarmUpRunnerTest {
+
+    @Autowired
+    private WarmUpRunner warmUpRunner;
+
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Value("${warmup.connections}")
+    private int connections;
+
+    @Value("${warmup.iterations}")
+    private int iterations;
+
+    @Test
+    @DisplayName("Application accepts traffic once the warm-up has completed")
+    void readiness_AfterWarmUp() {
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, applicationAvailability.getReadinessState());
+    }
+
+    @Test
+    @DisplayName("Warm-up opens the configured number of pooled connections")
+    void warmUpConnections_OpensConfiguredCount() {
+        assertEquals(connections, warmUpRunner.warmUpConnections());
+    }
+
+    @Test
+    @DisplayName("Warm-up exercises the repositories without writing anything")
+    void warmUpInProcess_IsReadOnly() {
+        long employees = employeeRepository.count();
+        long roles = roleRepository.count();
+
+        assertEquals(iterations, warmUpRunner.warmUpInProcess(System.nanoTime() + 10_000_000_000L));
+
+        assertEquals(employees, employeeRepository.count());
+        assertEquals(roles, roleRepository.count());
+    }
+}
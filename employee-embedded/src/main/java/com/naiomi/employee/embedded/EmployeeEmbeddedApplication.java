@@ -0,0 +1,83 @@
+package com.naiomi.employee.embedded;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naiomi.employee.api.EmployeeApiApplication;
+import com.naiomi.employee.data.EmployeeDataApplication;
+import com.naiomi.employee.data.exception.GlobalExceptionHandler;
+import com.naiomi.employee.data.service.EmployeeService;
+import com.naiomi.employee.data.service.ProjectService;
+import jakarta.validation.Validator;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
+
+/**
+ * Runs employee-data and employee-api in one JVM, for sites too small to be worth two processes.
+ * <p>
+ * Each module keeps its own application context and configuration file; the embedded overrides
+ * are in {@code embedded-data.properties} and {@code embedded-api.properties}. employee-data
+ * starts first, listening on {@code 127.0.0.1} only. employee-api then reads, creates, updates
+ * and deletes employees, and reads their roles and projects, through an
+ * {@link InProcessEmployeeDataClient}, without HTTP or JSON. The change events, ID filter and
+ * replica of employee-api still call employee-data over loopback HTTP.
+ * </p>
+ * Command line arguments are passed to employee-api. employee-data is configured with
+ * {@code embedded.data.*} system properties or environment variables, e.g. {@code embedded.data.port}.
+ */
+public class EmployeeEmbeddedApplication {
+
+    /**
+     * Number of startup steps kept per module for the {@code /admin/startup} report.
+     */
+    private static final int STARTUP_STEP_CAPACITY = 10_000;
+
+    private static final String[] DATA_ARGS = {
+            "--spring.config.location=classpath:/application.yml,classpath:/embedded-data.properties"
+    };
+    private static final String API_CONFIG_LOCATION =
+            "--spring.config.location=classpath:/application.properties,classpath:/embedded-api.properties";
+
+    public static void main(String[] args) {
+        run(args);
+    }
+
+    /**
+     * Starts both modules.
+     *
+     * @return the context of employee-api; closing it closes employee-data as well
+     */
+    public static ConfigurableApplicationContext run(String... args) {
+        ConfigurableApplicationContext data = new SpringApplicationBuilder(EmployeeDataApplication.class)
+                .applicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY))
+                .run(DATA_ARGS);
+        try {
+            InProcessEmployeeDataClient client = new InProcessEmployeeDataClient(
+                    data.getBean(EmployeeService.class),
+                    data.getBean(ProjectService.class),
+                    data.getBean(Validator.class),
+                    data.getBean(GlobalExceptionHandler.class),
+                    data.getBean(ObjectMapper.class));
+
+            String[] apiArgs = new String[args.length + 1];
+            apiArgs[0] = API_CONFIG_LOCATION;
+            System.arraycopy(args, 0, apiArgs, 1, args.length);
+
+            return new SpringApplicationBuilder(EmployeeApiApplication.class)
+                    .applicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY))
+                    .properties("embedded.data.local-port=" + data.getEnvironment().getProperty("local.server.port"))
+                    .initializers(api -> {
+                        api.getBeanFactory().registerSingleton("inProcessEmployeeDataClient", client);
+                        api.addApplicationListener(event -> {
+                            if (event instanceof ContextClosedEvent closed && closed.getApplicationContext() == api) {
+                                data.close();
+                            }
+                        });
+                    })
+                    .run(apiArgs);
+        } catch (RuntimeException e) {
+            data.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.naiomi.employee.embedded;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naiomi.employee.api.client.EmployeeDataClient;
+import com.naiomi.employee.api.dto.ProjectDto;
+import com.naiomi.employee.api.dto.RoleDto;
+import com.naiomi.employee.api.model.EmployeeField;
+import com.naiomi.employee.api.model.Role;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import com.naiomi.employee.data.exception.EmployeeNotFoundException;
+import com.naiomi.employee.data.exception.GlobalExceptionHandler;
+import com.naiomi.employee.data.service.EmployeeService;
+import com.naiomi.employee.data.service.ProjectService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Calls the {@link EmployeeService} and {@link ProjectService} of employee-data directly, for
+ * employee-api running in the same JVM.
+ * <p>
+ * Both modules share the request and response types of employee-contract, so they are passed
+ * as they are instead of being written as JSON; roles and projects are copied into the DTOs of
+ * employee-api. Everything else the HTTP endpoints of employee-data do is kept: requests are
+ * validated like {@code @Valid} request bodies, and failures are turned into the response employee-data's
+ * {@link GlobalExceptionHandler} would send, thrown as the {@link HttpStatusCodeException} that
+ * {@link org.springframework.web.client.RestTemplate} would throw for it. employee-api therefore
+ * sees the same errors with both transports.
+ * </p>
+ */
+public class InProcessEmployeeDataClient implements EmployeeDataClient {
+
+    private final EmployeeService employeeService;
+    private final ProjectService projectService;
+    private final Validator validator;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final ObjectMapper objectMapper;
+
+    public InProcessEmployeeDataClient(EmployeeService employeeService, ProjectService projectService,
+                                       Validator validator, GlobalExceptionHandler exceptionHandler,
+                                       ObjectMapper objectMapper) {
+        this.employeeService = employeeService;
+        this.projectService = projectService;
+        this.validator = validator;
+        this.exceptionHandler = exceptionHandler;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public EmployeeResponse createEmployee(EmployeeRequest request) {
+        validate(request);
+        return call(() -> employeeService.createEmployee(request));
+    }
+
+    @Override
+    public EmployeeResponse getEmployee(Long id, Set<EmployeeField> fields) {
+        if (fields == null) {
+            return call(() -> employeeService.getEmployeeById(id));
+        }
+        return call(() -> toResponse(employeeService.getEmployeeFieldsById(id,
+                com.naiomi.employee.data.constant.EmployeeField.parse(EmployeeField.toDataFields(fields)))));
+    }
+
+    @Override
+    public List<EmployeeResponse> getEmployees(Collection<Long> ids) {
+        return call(() -> employeeService.getEmployeesByIds(ids));
+    }
+
+    @Override
+    public EmployeeResponse updateEmployee(Long id, EmployeeRequest request) {
+        validate(request);
+        return call(() -> employeeService.updateEmployee(id, request));
+    }
+
+    @Override
+    public void deleteEmployee(Long id) {
+        call(() -> {
+            employeeService.deleteEmployeeById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public RoleDto getRole(Long employeeId) {
+        com.naiomi.employee.data.dto.RoleDto role = call(() -> employeeService.getRoleByEmployeeId(employeeId));
+        return new RoleDto(role.getId(), role.getName() == null ? null : Role.valueOf(role.getName().name()));
+    }
+
+    @Override
+    public List<ProjectDto> getProjects(Long employeeId) {
+        return call(() -> projectService.getProjectsByEmployeeId(employeeId)).stream()
+                .map(project -> new ProjectDto(project.getId(), project.getName()))
+                .toList();
+    }
+
+    /**
+     * Validates the request like the {@code @Valid} request body of employee-data.
+     */
+    private void validate(EmployeeRequest request) {
+        Set<ConstraintViolation<EmployeeRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            Map<String, String> errors = new HashMap<>();
+            violations.forEach(violation ->
+                    errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+            throw toException(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors));
+        }
+    }
+
+    private <T> T call(Supplier<T> call) {
+        try {
+            return call.get();
+        } catch (EmployeeNotFoundException e) {
+            throw toException(exceptionHandler.handleEmployeeNotFoundException(e));
+        } catch (IllegalArgumentException e) {
+            throw toException(exceptionHandler.handleIllegalArgumentException(e));
+        } catch (RuntimeException e) {
+            throw toException(exceptionHandler.handleGenericException(e));
+        }
+    }
+
+    private HttpStatusCodeException toException(ResponseEntity<Map<String, String>> response) {
+        HttpStatusCode status = response.getStatusCode();
+        String statusText = status instanceof HttpStatus httpStatus ? httpStatus.getReasonPhrase() : "";
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(response.getBody());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not write error response", e);
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        String message = status.value() + " " + statusText + ": \"" + new String(body, StandardCharsets.UTF_8) + "\"";
+
+        if (status.is4xxClientError()) {
+            return HttpClientErrorException.create(message, status, statusText, headers, body, StandardCharsets.UTF_8);
+        }
+        return HttpServerErrorException.create(message, status, statusText, headers, body, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A partial read only has the requested fields, the others stay {@code null} as when read
+     * from JSON.
+     */
+    private static EmployeeResponse toResponse(Map<String, Object> fields) {
+        return new EmployeeResponse(toLong(fields.get("id")), (String) fields.get("name"),
+                toLong(fields.get("roleId")));
+    }
+
+    private static Long toLong(Object value) {
+        return value == null ? null : ((Number) value).longValue();
+    }
+}
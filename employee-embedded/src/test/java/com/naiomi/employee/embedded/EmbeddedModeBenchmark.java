@@ -0,0 +1,113 @@
+package com.naiomi.employee.embedded;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Load for {@code scripts/embedded-benchmark.sh}: creates employees through a running employee-api
+ * and reads them back by ID, printing latency percentiles and throughput.
+ * <p>
+ * Only the JDK is needed on the classpath, so the same client measures the two-process setup
+ * and employee-embedded. Run with the employee cache and stale store disabled so that every read
+ * reaches employee-data.
+ * </p>
+ * Run with: {@code java ... EmbeddedModeBenchmark [url] [requests] [concurrency] [employees]}
+ */
+public class EmbeddedModeBenchmark {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : "http://localhost:9090/employees";
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        int employees = args.length > 3 ? Integer.parseInt(args[3]) : 100;
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        long[] ids = new long[employees];
+        for (int i = 0; i < employees; i++) {
+            ids[i] = create(client, url, i);
+        }
+
+        // Warm up the read path of both modules before measuring
+        run(client, url, ids, concurrency, Math.min(requests, 5000));
+        long start = System.nanoTime();
+        long[] latencies = run(client, url, ids, concurrency, requests);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Arrays.sort(latencies);
+        System.out.printf("requests=%d concurrency=%d%n", requests, concurrency);
+        System.out.printf("throughput %8.0f req/s%n", requests / seconds);
+        System.out.printf("p50 %8.1f us  p90 %8.1f us  p99 %8.1f us  max %8.1f us%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+                latencies[latencies.length - 1] / 1e3);
+    }
+
+    private static long create(HttpClient client, String url, int index) throws Exception {
+        String body = "{\"firstName\":\"Bench\",\"surname\":\"Employee" + index + "\",\"role\":\"ADMIN\"}";
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(url))
+                .header("Role", "ADMIN")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = ID.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Could not create employee: " + response.statusCode() + " " + response.body());
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static long[] run(HttpClient client, String url, long[] ids, int concurrency, int requests)
+            throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        for (int t = 0; t < concurrency; t++) {
+            executor.execute(() -> {
+                try {
+                    for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                        long id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(url + "/" + id))
+                                .header("Role", "ADMIN")
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                                failures.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            failures.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - start;
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        if (failures.get() > 0) {
+            throw new IllegalStateException(failures.get() + " of " + requests + " reads failed");
+        }
+        return latencies;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1e3;
+    }
+}
@@ -0,0 +1,80 @@
+package com.naiomi.employee.embedded;
+
+import com.naiomi.employee.api.client.EmployeeDataClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeEmbeddedApplicationTest {
+
+    private static ConfigurableApplicationContext context;
+    private static RestTemplate restTemplate;
+    private static String baseUrl;
+
+    @BeforeAll
+    static void start() {
+        System.setProperty("embedded.data.port", "0");
+        System.setProperty("embedded.grpc.port", "0");
+        context = EmployeeEmbeddedApplication.run("--server.port=0", "--warmup.enabled=false");
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/employees";
+        restTemplate = new RestTemplate();
+    }
+
+    @AfterAll
+    static void stop() {
+        context.close();
+        System.clearProperty("embedded.data.port");
+        System.clearProperty("embedded.grpc.port");
+    }
+
+    @Test
+    @DisplayName("Employee-api Uses The In-Process Client")
+    void usesInProcessClient() {
+        assertInstanceOf(InProcessEmployeeDataClient.class, context.getBean(EmployeeDataClient.class));
+    }
+
+    @Test
+    @DisplayName("Create, Read, Update And Delete Through Employee-api")
+    void crudThroughEmployeeApi() {
+        Map<?, ?> created = restTemplate.postForObject(baseUrl,
+                new HttpEntity<>(Map.of("firstName", "Ada", "surname", "Lovelace", "role", "ADMIN"), role("ADMIN")), Map.class);
+        Number id = (Number) created.get("id");
+        assertNotNull(id);
+
+        Map<?, ?> read = get("/" + id);
+        assertEquals("Ada", read.get("firstName"));
+        assertEquals("Lovelace", read.get("surname"));
+        assertEquals("Ada", get("/" + id + "?fields=firstName").get("firstName"));
+
+        restTemplate.exchange(baseUrl + "/" + id, HttpMethod.PUT,
+                new HttpEntity<>(Map.of("firstName", "Ada", "surname", "King", "role", "USER"), role("USER")), Map.class);
+        assertEquals("King", get("/" + id).get("surname"));
+
+        restTemplate.exchange(baseUrl + "/" + id, HttpMethod.DELETE, new HttpEntity<>(role("ADMIN")), Map.class);
+        // Same answer as with two processes
+        HttpClientErrorException.NotFound deleted = assertThrows(HttpClientErrorException.NotFound.class,
+                () -> get("/" + id));
+        assertTrue(deleted.getResponseBodyAsString().contains("Employee not found with ID: " + id));
+    }
+
+    private Map<?, ?> get(String path) {
+        return restTemplate.exchange(baseUrl + path, HttpMethod.GET, new HttpEntity<>(role("ADMIN")), Map.class).getBody();
+    }
+
+    private static HttpHeaders role(String role) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Role", role);
+        return headers;
+    }
+}
@@ -0,0 +1,214 @@
+package com.naiomi.employee.embedded;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naiomi.employee.api.client.EmployeeDataClient;
+import com.naiomi.employee.api.client.RestEmployeeDataClient;
+import com.naiomi.employee.api.dto.ProjectDto;
+import com.naiomi.employee.api.dto.RoleDto;
+import com.naiomi.employee.api.model.EmployeeField;
+import com.naiomi.employee.api.model.Role;
+import com.naiomi.employee.api.retry.RetryPolicy;
+import com.naiomi.employee.contract.EmployeeRequest;
+import com.naiomi.employee.contract.EmployeeResponse;
+import com.naiomi.employee.contract.http.ContractJsonHttpMessageConverter;
+import com.naiomi.employee.data.constant.RoleType;
+import com.naiomi.employee.data.controller.EmployeeController;
+import com.naiomi.employee.data.controller.ProjectController;
+import com.naiomi.employee.data.exception.EmployeeNotFoundException;
+import com.naiomi.employee.data.exception.GlobalExceptionHandler;
+import com.naiomi.employee.data.service.EmployeeService;
+import com.naiomi.employee.data.service.ProjectService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.test.web.client.MockMvcClientHttpRequestFactory;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs every call through the in-process client and through HTTP against the real controller of
+ * employee-data, and expects the same outcome from both.
+ */
+class InProcessEmployeeDataClientTest {
+
+    private static final String URL = "http://localhost/api/employees";
+
+    private EmployeeService employeeService;
+    private ProjectService projectService;
+    private EmployeeDataClient inProcess;
+    private EmployeeDataClient overHttp;
+
+    @BeforeEach
+    void setUp() {
+        employeeService = mock(EmployeeService.class);
+        projectService = mock(ProjectService.class);
+        GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler();
+        inProcess = new InProcessEmployeeDataClient(employeeService, projectService,
+                Validation.buildDefaultValidatorFactory().getValidator(), exceptionHandler, new ObjectMapper());
+
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new EmployeeController(employeeService),
+                        new ProjectController(projectService))
+                .setControllerAdvice(exceptionHandler)
+                .build();
+        RestTemplate restTemplate = new RestTemplate(new MockMvcClientHttpRequestFactory(mockMvc));
+        restTemplate.getMessageConverters().add(0, new ContractJsonHttpMessageConverter());
+        overHttp = new RestEmployeeDataClient(restTemplate,
+                new RetryPolicy(new SimpleMeterRegistry(), 1, 1, 1, 0.1, 10), URL);
+    }
+
+    @Test
+    @DisplayName("Create Employee: Same Response")
+    void createEmployee_SameResponse() {
+        when(employeeService.createEmployee(any())).thenReturn(new EmployeeResponse(1L, "John Doe", 2L));
+
+        EmployeeResponse expected = overHttp.createEmployee(new EmployeeRequest("John Doe", 2L));
+        EmployeeResponse actual = inProcess.createEmployee(new EmployeeRequest("John Doe", 2L));
+
+        assertEquals(expected, actual);
+        assertEquals("John Doe", actual.name());
+    }
+
+    @Test
+    @DisplayName("Create Employee: Same Validation Errors")
+    void createEmployee_SameValidationErrors() {
+        assertSameFailure(
+                () -> overHttp.createEmployee(new EmployeeRequest(" ", null)),
+                () -> inProcess.createEmployee(new EmployeeRequest(" ", null)),
+                HttpClientErrorException.BadRequest.class);
+        verify(employeeService, never()).createEmployee(any());
+    }
+
+    @Test
+    @DisplayName("Get Employee: Same Error When Not Found")
+    void getEmployee_SameErrorWhenNotFound() {
+        when(employeeService.getEmployeeById(1L))
+                .thenThrow(new EmployeeNotFoundException(1L));
+
+        assertSameFailure(() -> overHttp.getEmployee(1L, null), () -> inProcess.getEmployee(1L, null),
+                HttpClientErrorException.NotFound.class);
+    }
+
+    @Test
+    @DisplayName("Get Employee Fields: Only The Requested Fields")
+    void getEmployeeFields_SameResponse() {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("name", "John Doe");
+        when(employeeService.getEmployeeFieldsById(eq(1L), anySet())).thenReturn(fields);
+
+        EmployeeResponse expected = overHttp.getEmployee(1L, EnumSet.of(EmployeeField.FIRST_NAME));
+        EmployeeResponse actual = inProcess.getEmployee(1L, EnumSet.of(EmployeeField.FIRST_NAME));
+
+        assertEquals(expected, actual);
+        assertNull(actual.id());
+        assertNull(actual.roleId());
+    }
+
+    @Test
+    @DisplayName("Get Employees: Same Employees For A Batch")
+    void getEmployees_SameResponse() {
+        when(employeeService.getEmployeesByIds(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(new EmployeeResponse(1L, "John Doe", 2L), new EmployeeResponse(3L, "Jane Doe", 1L)));
+
+        List<EmployeeResponse> expected = overHttp.getEmployees(List.of(1L, 2L, 3L));
+        List<EmployeeResponse> actual = inProcess.getEmployees(List.of(1L, 2L, 3L));
+
+        assertEquals(expected, actual);
+        assertEquals(2, actual.size());
+    }
+
+    @Test
+    @DisplayName("Update Employee: Same Error For Unknown Role")
+    void updateEmployee_SameErrorForUnknownRole() {
+        when(employeeService.updateEmployee(eq(1L), any()))
+                .thenThrow(new IllegalArgumentException("Role not found with ID: 9"));
+
+        assertSameFailure(
+                () -> overHttp.updateEmployee(1L, new EmployeeRequest("John Doe", 9L)),
+                () -> inProcess.updateEmployee(1L, new EmployeeRequest("John Doe", 9L)),
+                HttpClientErrorException.BadRequest.class);
+    }
+
+    @Test
+    @DisplayName("Delete Employee: Same Error When The Service Fails")
+    void deleteEmployee_SameErrorWhenServiceFails() {
+        doThrow(new IllegalStateException("Connection lost")).when(employeeService).deleteEmployeeById(1L);
+
+        assertSameFailure(() -> overHttp.deleteEmployee(1L), () -> inProcess.deleteEmployee(1L),
+                HttpServerErrorException.InternalServerError.class);
+    }
+
+    @Test
+    @DisplayName("Get Role: Same Role")
+    void getRole_SameResponse() {
+        when(employeeService.getRoleByEmployeeId(1L))
+                .thenReturn(new com.naiomi.employee.data.dto.RoleDto(2L, RoleType.ADMIN));
+
+        RoleDto expected = overHttp.getRole(1L);
+        RoleDto actual = inProcess.getRole(1L);
+
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(Role.ADMIN, actual.getName());
+    }
+
+    @Test
+    @DisplayName("Get Role: Same Error When Not Found")
+    void getRole_SameErrorWhenNotFound() {
+        when(employeeService.getRoleByEmployeeId(1L)).thenThrow(new EmployeeNotFoundException(1L));
+
+        assertSameFailure(() -> overHttp.getRole(1L), () -> inProcess.getRole(1L),
+                HttpClientErrorException.NotFound.class);
+    }
+
+    @Test
+    @DisplayName("Get Projects: Same Projects")
+    void getProjects_SameResponse() {
+        when(projectService.getProjectsByEmployeeId(1L)).thenReturn(List.of(
+                new com.naiomi.employee.data.dto.ProjectDto(7L, "Payroll"),
+                new com.naiomi.employee.data.dto.ProjectDto(8L, "Hiring")));
+
+        List<ProjectDto> expected = overHttp.getProjects(1L);
+        List<ProjectDto> actual = inProcess.getProjects(1L);
+
+        assertEquals(expected.stream().map(ProjectDto::getName).toList(),
+                actual.stream().map(ProjectDto::getName).toList());
+        assertEquals(expected.stream().map(ProjectDto::getId).toList(),
+                actual.stream().map(ProjectDto::getId).toList());
+        assertEquals(2, actual.size());
+    }
+
+    @Test
+    @DisplayName("Get Projects: Same Error When Not Found")
+    void getProjects_SameErrorWhenNotFound() {
+        when(projectService.getProjectsByEmployeeId(1L)).thenThrow(new EmployeeNotFoundException(1L));
+
+        assertSameFailure(() -> overHttp.getProjects(1L), () -> inProcess.getProjects(1L),
+                HttpClientErrorException.NotFound.class);
+    }
+
+    private static void assertSameFailure(Executable overHttp, Executable inProcess,
+                                          Class<? extends HttpStatusCodeException> type) {
+        HttpStatusCodeException expected = assertThrows(type, overHttp);
+        HttpStatusCodeException actual = assertThrows(type, inProcess);
+        assertEquals(expected.getStatusCode(), actual.getStatusCode());
+        assertEquals(expected.getResponseBodyAsString(), actual.getResponseBodyAsString());
+    }
+}
@@ -0,0 +1,65 @@
+package com.naiomi.employee.perf;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * End-to-end load test: starts the services, creates the employees, runs the workload, prints the
+ * result per endpoint and writes it as JSON, optionally next to an earlier result.
+ * <p>
+ * Run with: {@code java -jar employee-perf/target/employee-perf-0.0.1-SNAPSHOT.jar [--name=value ...]},
+ * see {@link PerfOptions}.
+ * </p>
+ */
+public class EmployeePerfRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeePerfRunner.class);
+
+    public static void main(String[] args) throws Exception {
+        PerfOptions options;
+        try {
+            options = PerfOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        PerfResult result;
+        try (LocalDeployment ignored = LocalDeployment.start(options)) {
+            result = run(options);
+        }
+
+        PerfReport.print(result, System.out);
+        result.write(options.out());
+        logger.info("Result written to {}", options.out().toAbsolutePath());
+        if (options.baseline() != null) {
+            PerfReport.compare(PerfResult.read(options.baseline()), result, System.out);
+        }
+    }
+
+    /**
+     * Runs the workload against services that are already up.
+     */
+    static PerfResult run(PerfOptions options) throws InterruptedException {
+        // Response handling is light; a few threads keep up with any rate the services can take
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(2))
+                    .executor(executor)
+                    .build();
+            LoadGenerator generator = new LoadGenerator(options, client, new IdPool());
+            generator.seed(options.employees());
+            return generator.run();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
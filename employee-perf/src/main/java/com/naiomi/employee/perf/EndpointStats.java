@@ -0,0 +1,94 @@
+package com.naiomi.employee.perf;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The outcomes and latencies of the calls of one {@link Operation}, recorded concurrently by the
+ * response threads.
+ * <p>
+ * Latencies are in microseconds from the time the call was scheduled to be sent, not the time it
+ * was sent, so a stalled server or client shows up in the percentiles instead of lowering the load
+ * (no coordinated omission). Calls that fail without a response, such as timeouts, are recorded
+ * too.
+ * </p>
+ */
+public class EndpointStats {
+
+    static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+    static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Operation operation;
+    private final Recorder recorder = new Recorder(MAX_LATENCY_MICROS, SIGNIFICANT_DIGITS);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    public EndpointStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    public void recordResponse(int status, long latencyNanos) {
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        recordLatency(latencyNanos);
+    }
+
+    public void recordFailure(long latencyNanos) {
+        failures.increment();
+        recordLatency(latencyNanos);
+    }
+
+    /**
+     * Counts a call not sent because too many were waiting for a response.
+     */
+    public void recordDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * Counts a call not sent because there was no employee to target.
+     */
+    public void recordSkipped() {
+        skipped.increment();
+    }
+
+    public Operation operation() {
+        return operation;
+    }
+
+    /**
+     * @return the latencies recorded since the last call, in microseconds
+     */
+    public Histogram histogram() {
+        return recorder.getIntervalHistogram();
+    }
+
+    public Map<String, Long> statuses() {
+        Map<String, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(String.valueOf(status), count.sum()));
+        return counts;
+    }
+
+    public long failures() {
+        return failures.sum();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public long skipped() {
+        return skipped.sum();
+    }
+
+    private void recordLatency(long latencyNanos) {
+        recorder.recordValue(Math.max(0, Math.min(MAX_LATENCY_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos))));
+    }
+}
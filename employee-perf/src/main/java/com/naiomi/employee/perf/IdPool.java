@@ -0,0 +1,99 @@
+package com.naiomi.employee.perf;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * The IDs of the employees known to exist, with their role IDs, for picking the targets of reads,
+ * updates and deletes.
+ * <p>
+ * Hot keys are the oldest IDs: rank 1 of a {@link ZipfianGenerator} is the first employee added.
+ * A removed ID is replaced by the newest one, so ranks shift a little as employees are deleted.
+ * </p>
+ */
+public class IdPool {
+
+    private final List<Long> ids = new ArrayList<>();
+    private final Map<Long, Integer> indexes = new HashMap<>();
+    private final Map<Long, Long> roleIds = new HashMap<>();
+
+    public synchronized void add(long id, long roleId) {
+        if (indexes.putIfAbsent(id, ids.size()) == null) {
+            ids.add(id);
+        }
+        roleIds.put(id, roleId);
+    }
+
+    public synchronized void setRole(long id, long roleId) {
+        if (indexes.containsKey(id)) {
+            roleIds.put(id, roleId);
+        }
+    }
+
+    /**
+     * @return an ID picked by Zipfian rank, or {@code -1} if the pool is empty
+     */
+    public synchronized long hot(ZipfianGenerator zipf, RandomGenerator random) {
+        if (ids.isEmpty()) {
+            return -1;
+        }
+        return ids.get((int) zipf.next(ids.size(), random) - 1);
+    }
+
+    /**
+     * @return an ID picked uniformly at random, or {@code -1} if the pool is empty
+     */
+    public synchronized long any(RandomGenerator random) {
+        return ids.isEmpty() ? -1 : ids.get(random.nextInt(ids.size()));
+    }
+
+    /**
+     * Removes an ID picked uniformly at random, so that no other call targets it while it is deleted.
+     *
+     * @return the ID, or {@code -1} if the pool is empty
+     */
+    public synchronized long take(RandomGenerator random) {
+        if (ids.isEmpty()) {
+            return -1;
+        }
+        long id = ids.get(random.nextInt(ids.size()));
+        remove(id);
+        return id;
+    }
+
+    public synchronized void remove(long id) {
+        Integer index = indexes.remove(id);
+        if (index == null) {
+            return;
+        }
+        roleIds.remove(id);
+        long last = ids.remove(ids.size() - 1);
+        if (last != id) {
+            ids.set(index, last);
+            indexes.put(last, index);
+        }
+    }
+
+    /**
+     * Removes the employees of a role, as deleting the role deletes them.
+     *
+     * @return the number of IDs removed
+     */
+    public synchronized int removeRole(long roleId) {
+        List<Long> removed = new ArrayList<>();
+        roleIds.forEach((id, role) -> {
+            if (role == roleId) {
+                removed.add(id);
+            }
+        });
+        removed.forEach(this::remove);
+        return removed.size();
+    }
+
+    public synchronized int size() {
+        return ids.size();
+    }
+}
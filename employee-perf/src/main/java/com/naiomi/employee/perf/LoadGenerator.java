@@ -0,0 +1,287 @@
+package com.naiomi.employee.perf;
+
+import com.naiomi.employee.contract.RoleCode;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Drives employee-api with an open workload: calls are sent at the scheduled rate whether or not
+ * earlier calls have been answered, as independent users would, up to {@code --max-in-flight}.
+ * <p>
+ * Reads and updates pick employees by Zipfian rank from the {@link IdPool}, deletes pick them
+ * uniformly, and a share of reads targets IDs that never existed. Creates are sent with the
+ * {@code ADMIN} role and updates with the {@code USER} role, which become the employees' roles.
+ * Role deletions go to employee-data, as employee-api has no endpoint for them.
+ * </p>
+ */
+public class LoadGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+
+    /**
+     * IDs from here on are never assigned during a run.
+     */
+    static final long UNKNOWN_ID_BASE = 1_000_000_000L;
+
+    private static final int SEED_CONCURRENCY = 32;
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private final PerfOptions options;
+    private final HttpClient client;
+    private final IdPool pool;
+    private final ZipfianGenerator zipf;
+    private final String authorization;
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final AtomicLong names = new AtomicLong();
+    private final AtomicBoolean failureLogged = new AtomicBoolean();
+
+    public LoadGenerator(PerfOptions options, HttpClient client, IdPool pool) {
+        this.options = options;
+        this.client = client;
+        this.pool = pool;
+        this.zipf = new ZipfianGenerator(options.zipfExponent());
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((options.user() + ":" + options.password()).getBytes(StandardCharsets.UTF_8));
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats(operation));
+        }
+    }
+
+    /**
+     * Creates employees through employee-api before the run, a few at a time.
+     *
+     * @throws IllegalStateException if more than half of the creates fail
+     */
+    public void seed(int count) throws InterruptedException {
+        Semaphore permits = new Semaphore(SEED_CONCURRENCY);
+        AtomicInteger failed = new AtomicInteger();
+        for (int i = 0; i < count; i++) {
+            permits.acquire();
+            client.sendAsync(create(), HttpResponse.BodyHandlers.ofString()).whenComplete((response, failure) -> {
+                if (failure != null || !added(response)) {
+                    failed.incrementAndGet();
+                }
+                permits.release();
+            });
+        }
+        permits.acquire(SEED_CONCURRENCY);
+        if (count > 0 && failed.get() * 2 > count) {
+            throw new IllegalStateException(failed.get() + " of " + count + " employees could not be created, is "
+                    + options.apiUrl() + " up and are the credentials right?");
+        }
+        logger.info("Created {} employees ({} failed)", count - failed.get(), failed.get());
+    }
+
+    /**
+     * Runs the warm-up, whose calls are not recorded, and then the recorded phase, and waits for
+     * the calls still in flight.
+     */
+    public PerfResult run() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(options.seed());
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+
+        long start = System.nanoTime();
+        long measureStart = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long end = measureStart + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+        Instant startedAt = Instant.now().plusSeconds(options.warmupSeconds());
+        logger.info("Offering {} requests/s for {} s of warm-up and {} s recorded", options.rate(),
+                options.warmupSeconds(), options.durationSeconds());
+
+        double next = start;
+        while (next < end) {
+            long intended = (long) next;
+            waitUntil(intended);
+            fire(random, inFlight, intended, intended >= measureStart);
+            next += options.poisson() ? -Math.log(1 - random.nextDouble()) * meanGapNanos : meanGapNanos;
+        }
+
+        if (!inFlight.tryAcquire(options.maxInFlight(), options.timeoutMs() + 5000L, TimeUnit.MILLISECONDS)) {
+            logger.warn("{} calls still in flight after the run are not counted",
+                    options.maxInFlight() - inFlight.availablePermits());
+        }
+        return result(startedAt);
+    }
+
+    private void fire(SplittableRandom random, Semaphore inFlight, long intended, boolean recorded) {
+        Call call = call(options.mix().next(random), random);
+        EndpointStats endpoint = stats.get(call.operation());
+        if (call.request() == null) {
+            if (recorded) {
+                endpoint.recordSkipped();
+            }
+            return;
+        }
+        if (!inFlight.tryAcquire()) {
+            if (recorded) {
+                endpoint.recordDropped();
+            }
+            return;
+        }
+        client.sendAsync(call.request(), HttpResponse.BodyHandlers.ofString()).whenComplete((response, failure) -> {
+            long latency = System.nanoTime() - intended;
+            if (failure != null) {
+                if (recorded) {
+                    endpoint.recordFailure(latency);
+                }
+                if (failureLogged.compareAndSet(false, true)) {
+                    logger.warn("Calls are failing without a response, first {} {}: {}", call.request().method(),
+                            call.request().uri(), failure.toString());
+                }
+            } else {
+                if (recorded) {
+                    endpoint.recordResponse(response.statusCode(), latency);
+                }
+                apply(call, response);
+            }
+            inFlight.release();
+        });
+    }
+
+    private Call call(Operation operation, SplittableRandom random) {
+        return switch (operation) {
+            case READ, READ_UNKNOWN -> {
+                if (random.nextDouble() < options.unknownRatio()) {
+                    long id = UNKNOWN_ID_BASE + random.nextLong(UNKNOWN_ID_BASE);
+                    yield new Call(Operation.READ_UNKNOWN, id, read(id, random));
+                }
+                long id = pool.hot(zipf, random);
+                yield new Call(Operation.READ, id, id < 0 ? null : read(id, random));
+            }
+            case CREATE -> new Call(operation, -1, create());
+            case UPDATE -> {
+                long id = pool.hot(zipf, random);
+                yield new Call(operation, id, id < 0 ? null : update(id));
+            }
+            case DELETE -> {
+                long id = pool.take(random);
+                yield new Call(operation, id, id < 0 ? null : request("/employees/" + id, RoleCode.ADMIN).DELETE().build());
+            }
+            case DELETE_ROLE -> {
+                long defaultEmployeeId = Math.max(1, pool.any(random));
+                URI uri = URI.create(options.dataUrl() + "/roles/" + options.deleteRoleId()
+                        + "?defaultEmployeeId=" + defaultEmployeeId);
+                yield new Call(operation, options.deleteRoleId(), HttpRequest.newBuilder(uri)
+                        .timeout(Duration.ofMillis(options.timeoutMs()))
+                        .DELETE()
+                        .build());
+            }
+        };
+    }
+
+    /**
+     * Keeps the pool in line with the employees that exist after a call.
+     */
+    private void apply(Call call, HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            return;
+        }
+        switch (call.operation()) {
+            case CREATE -> added(response);
+            case UPDATE -> pool.setRole(call.id(), RoleCode.USER.id());
+            case DELETE_ROLE -> pool.removeRole(call.id());
+            default -> {
+            }
+        }
+    }
+
+    private boolean added(HttpResponse<String> response) {
+        Matcher matcher = ID.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            return false;
+        }
+        pool.add(Long.parseLong(matcher.group(1)), RoleCode.ADMIN.id());
+        return true;
+    }
+
+    private HttpRequest read(long id, SplittableRandom random) {
+        return request("/employees/" + id, random.nextBoolean() ? RoleCode.ADMIN : RoleCode.USER).GET().build();
+    }
+
+    private HttpRequest create() {
+        String body = "{\"firstName\":\"Perf\",\"surname\":\"Employee" + names.incrementAndGet() + "\",\"role\":\"ADMIN\"}";
+        return request("/employees", RoleCode.ADMIN)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest update(long id) {
+        String body = "{\"firstName\":\"Perf\",\"surname\":\"Updated" + names.incrementAndGet() + "\",\"role\":\"USER\"}";
+        return request("/employees/" + id, RoleCode.USER)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, RoleCode role) {
+        return HttpRequest.newBuilder(URI.create(options.apiUrl() + path))
+                .timeout(Duration.ofMillis(options.timeoutMs()))
+                .header("Authorization", authorization)
+                .header("Role", role.name());
+    }
+
+    private PerfResult result(Instant startedAt) {
+        double seconds = options.durationSeconds();
+        Histogram all = new Histogram(EndpointStats.MAX_LATENCY_MICROS, EndpointStats.SIGNIFICANT_DIGITS);
+        Map<String, Long> allStatuses = new TreeMap<>();
+        long failures = 0;
+        long dropped = 0;
+        long skipped = 0;
+        List<PerfResult.EndpointResult> endpoints = new ArrayList<>();
+        for (EndpointStats endpoint : stats.values()) {
+            Histogram histogram = endpoint.histogram();
+            Map<String, Long> statuses = endpoint.statuses();
+            if (histogram.getTotalCount() == 0 && endpoint.dropped() == 0 && endpoint.skipped() == 0) {
+                continue;
+            }
+            endpoints.add(PerfResult.EndpointResult.of(endpoint.operation().endpoint(), histogram, seconds, statuses,
+                    endpoint.failures(), endpoint.dropped(), endpoint.skipped()));
+            all.add(histogram);
+            statuses.forEach((status, count) -> allStatuses.merge(status, count, Long::sum));
+            failures += endpoint.failures();
+            dropped += endpoint.dropped();
+            skipped += endpoint.skipped();
+        }
+        PerfResult.EndpointResult total = PerfResult.EndpointResult.of("all", all, seconds, allStatuses,
+                failures, dropped, skipped);
+        return new PerfResult(startedAt.toString(), options.describe(), seconds, options.rate(), pool.size(),
+                total, endpoints);
+    }
+
+    private static void waitUntil(long nanoTime) {
+        for (long remaining = nanoTime - System.nanoTime(); remaining > 0; remaining = nanoTime - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * A call to send, with the employee or role it targets, or no request if there is nothing to target.
+     */
+    private record Call(Operation operation, long id, HttpRequest request) {
+    }
+}
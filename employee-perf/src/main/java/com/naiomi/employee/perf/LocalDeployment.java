@@ -0,0 +1,171 @@
+package com.naiomi.employee.perf;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts employee-data, or its in-memory stand-in, and employee-api from their jars on the ports of
+ * {@code --data-url} and {@code --api-url}, and stops them when closed. Their output goes to
+ * {@code employee-data.log} and {@code employee-api.log} next to the result file.
+ * <p>
+ * Build the jars first with {@code mvn -DskipTests package}. With {@code --boot=stub} the employee
+ * cache of employee-api is disabled, as the stand-in serves no change events.
+ * </p>
+ */
+public class LocalDeployment implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalDeployment.class);
+
+    private static final String VERSION = "0.0.1-SNAPSHOT";
+
+    private final List<Process> processes = new ArrayList<>();
+    private final Thread shutdownHook = new Thread(this::stopAll);
+
+    private LocalDeployment() {
+    }
+
+    /**
+     * @throws IllegalStateException if a jar is missing or a service does not become ready in time
+     */
+    public static LocalDeployment start(PerfOptions options) throws IOException, InterruptedException {
+        LocalDeployment deployment = new LocalDeployment();
+        if (options.boot() == PerfOptions.Boot.NONE) {
+            return deployment;
+        }
+        Runtime.getRuntime().addShutdownHook(deployment.shutdownHook);
+        try {
+            deployment.startAll(options);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            deployment.close();
+            throw e;
+        }
+        return deployment;
+    }
+
+    private void startAll(PerfOptions options) throws IOException, InterruptedException {
+        Path logs = options.out().toAbsolutePath().getParent();
+        Files.createDirectories(logs);
+        String dataUrl = options.dataUrl().toString();
+
+        List<String> dataArgs = new ArrayList<>();
+        String dataReadyPath;
+        if (options.boot() == PerfOptions.Boot.STUB) {
+            dataArgs.add(jar(options, "employee-data-stub"));
+            dataArgs.add("--port=" + options.dataUrl().getPort());
+            dataArgs.add("--employees=0");
+            dataReadyPath = "/api/employees/ids";
+        } else {
+            dataArgs.add(jar(options, "employee-data"));
+            dataArgs.add("--server.port=" + options.dataUrl().getPort());
+            dataReadyPath = "/actuator/health/readiness";
+        }
+        dataArgs.addAll(options.dataArgs());
+        Process data = launch("employee-data", options, dataArgs, logs);
+        awaitReady("employee-data", data, URI.create(dataUrl + dataReadyPath), options);
+
+        List<String> apiArgs = new ArrayList<>();
+        apiArgs.add(jar(options, "employee-api"));
+        apiArgs.add("--server.port=" + options.apiUrl().getPort());
+        apiArgs.add("--employee.data.url=" + dataUrl + "/api/employees");
+        apiArgs.add("--employee.data.events-url=" + dataUrl + "/api/employees/events");
+        apiArgs.add("--employee.data.changes-url=" + dataUrl + "/changes");
+        if (options.boot() == PerfOptions.Boot.STUB) {
+            apiArgs.add("--employee.cache.enabled=false");
+        }
+        apiArgs.addAll(options.apiArgs());
+        Process api = launch("employee-api", options, apiArgs, logs);
+        awaitReady("employee-api", api, URI.create(options.apiUrl() + "/actuator/health/readiness"), options);
+    }
+
+    private Process launch(String name, PerfOptions options, List<String> jarAndArgs, Path logs) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(options.jvmArgs());
+        command.add("-jar");
+        command.addAll(jarAndArgs);
+        Path log = logs.resolve(name + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        processes.add(process);
+        logger.info("Started {} (pid {}), logging to {}", name, process.pid(), log);
+        return process;
+    }
+
+    private static void awaitReady(String name, Process process, URI readiness, PerfOptions options)
+            throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(readiness).timeout(Duration.ofSeconds(2)).build();
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(options.bootTimeoutSeconds());
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with code " + process.exitValue() + ", see its log");
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() / 100 == 2) {
+                    logger.info("{} ready after {} ms", name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(200);
+        }
+        throw new IllegalStateException(name + " not ready at " + readiness + " after "
+                + options.bootTimeoutSeconds() + " s, see its log");
+    }
+
+    private static String jar(PerfOptions options, String module) {
+        Path jar = options.root().resolve(module).resolve("target").resolve(module + "-" + VERSION + ".jar");
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("Missing " + jar.toAbsolutePath()
+                    + ", build first with mvn -DskipTests package or set --root to the repository root");
+        }
+        return jar.toString();
+    }
+
+    @Override
+    public void close() {
+        stopAll();
+        if (!processes.isEmpty()) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // Already shutting down
+            }
+        }
+        processes.clear();
+    }
+
+    /**
+     * Stops employee-api first, so that it does not see employee-data go away.
+     */
+    private void stopAll() {
+        for (int i = processes.size() - 1; i >= 0; i--) {
+            Process process = processes.get(i);
+            process.destroy();
+            try {
+                if (!process.waitFor(15, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
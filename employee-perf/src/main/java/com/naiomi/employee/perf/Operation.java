@@ -0,0 +1,46 @@
+package com.naiomi.employee.perf;
+
+/**
+ * The calls of the workload. Reads of unknown IDs are reported apart from other reads, as
+ * employee-api answers most of them from its ID filter without calling employee-data.
+ */
+public enum Operation {
+    READ("read", "GET /employees/{id}"),
+    READ_UNKNOWN(null, "GET /employees/{id} (unknown ID)"),
+    CREATE("create", "POST /employees"),
+    UPDATE("update", "PUT /employees/{id}"),
+    DELETE("delete", "DELETE /employees/{id}"),
+    DELETE_ROLE("delete-role", "DELETE /roles/{roleId}");
+
+    private final String key;
+    private final String endpoint;
+
+    Operation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * @return the name of the operation in {@code --mix}, or {@code null} if it is not mixed in directly
+     */
+    public String key() {
+        return key;
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @throws IllegalArgumentException if no operation has this key
+     */
+    public static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (key.equals(operation.key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + key
+                + ". Allowed operations are read, create, update, delete, delete-role");
+    }
+}
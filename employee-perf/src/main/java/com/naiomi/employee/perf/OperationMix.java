@@ -0,0 +1,78 @@
+package com.naiomi.employee.perf;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Relative weights of the operations, written as {@code read:80,create:7,update:8,delete:5,delete-role:0.05}.
+ * Operations left out have weight 0.
+ */
+public final class OperationMix {
+
+    private final Map<Operation, Double> weights;
+    private final Operation[] operations;
+    private final double[] cumulative;
+
+    private OperationMix(Map<Operation, Double> weights) {
+        this.weights = weights;
+        this.operations = weights.keySet().toArray(new Operation[0]);
+        this.cumulative = new double[operations.length];
+        double total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += weights.get(operations[i]);
+            cumulative[i] = total;
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the mix is malformed, names an unknown operation or has no weight
+     */
+    public static OperationMix parse(String mix) {
+        Map<Operation, Double> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry + ". Use operation:weight");
+            }
+            double weight;
+            try {
+                weight = Double.parseDouble(parts[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid weight for " + parts[0] + ": " + parts[1], e);
+            }
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight must not be negative: " + entry);
+            }
+            if (weight > 0) {
+                weights.put(Operation.fromKey(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The mix needs at least one operation with a positive weight");
+        }
+        return new OperationMix(weights);
+    }
+
+    public Operation next(RandomGenerator random) {
+        double roll = random.nextDouble(cumulative[cumulative.length - 1]);
+        for (int i = 0; i < cumulative.length - 1; i++) {
+            if (roll < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder mix = new StringBuilder();
+        weights.forEach((operation, weight) -> {
+            if (!mix.isEmpty()) {
+                mix.append(',');
+            }
+            mix.append(operation.key()).append(':').append(weight % 1 == 0 ? String.valueOf(weight.longValue()) : weight);
+        });
+        return mix.toString();
+    }
+}
@@ -0,0 +1,247 @@
+package com.naiomi.employee.perf;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line options of the load test, each written as {@code --name=value}. See the
+ * {@code employee-perf} section of the README for the list and defaults.
+ *
+ * @param boot               which services to start before the run
+ * @param root               the repository root, where the service jars are looked up
+ * @param apiUrl             the base URL of employee-api
+ * @param dataUrl            the base URL of employee-data, for role deletions
+ * @param rate               the offered load in requests per second
+ * @param poisson            whether arrivals are a Poisson process rather than evenly spaced
+ * @param warmupSeconds      the length of the unrecorded warm-up phase
+ * @param durationSeconds    the length of the recorded phase
+ * @param employees          the number of employees created before the warm-up
+ * @param mix                the relative weights of the operations
+ * @param zipfExponent       the skew of the IDs read and updated
+ * @param unknownRatio       the share of reads that target IDs that never existed
+ * @param deleteRoleId       the role deleted by role deletions
+ * @param user               the Basic auth user of employee-api
+ * @param password           the Basic auth password of employee-api
+ * @param maxInFlight        the most requests waiting for a response; arrivals beyond it are counted as dropped
+ * @param timeoutMs          the response timeout of each request
+ * @param bootTimeoutSeconds how long to wait for started services to become ready
+ * @param seed               the seed of the operation and ID choices
+ * @param out                the result file to write
+ * @param baseline           an earlier result file to compare with, or {@code null}
+ * @param jvmArgs            extra JVM options of started services
+ * @param apiArgs            extra arguments of a started employee-api
+ * @param dataArgs           extra arguments of a started employee-data or stand-in
+ */
+public record PerfOptions(
+        Boot boot,
+        Path root,
+        URI apiUrl,
+        URI dataUrl,
+        double rate,
+        boolean poisson,
+        int warmupSeconds,
+        int durationSeconds,
+        int employees,
+        OperationMix mix,
+        double zipfExponent,
+        double unknownRatio,
+        long deleteRoleId,
+        String user,
+        String password,
+        int maxInFlight,
+        int timeoutMs,
+        int bootTimeoutSeconds,
+        long seed,
+        Path out,
+        Path baseline,
+        List<String> jvmArgs,
+        List<String> apiArgs,
+        List<String> dataArgs) {
+
+    /**
+     * The services started by the load test.
+     */
+    public enum Boot {
+        /** employee-data and employee-api from their jars */
+        REAL,
+        /** the in-memory stand-in for employee-data and employee-api from their jars */
+        STUB,
+        /** nothing: the services at the given URLs are already running */
+        NONE
+    }
+
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("boot", "real");
+        DEFAULTS.put("root", ".");
+        DEFAULTS.put("api-url", "http://localhost:9090");
+        DEFAULTS.put("data-url", "http://localhost:9091");
+        DEFAULTS.put("rate", "200");
+        DEFAULTS.put("arrivals", "poisson");
+        DEFAULTS.put("warmup", "10");
+        DEFAULTS.put("duration", "60");
+        DEFAULTS.put("employees", "1000");
+        DEFAULTS.put("mix", "read:80,create:7,update:8,delete:5,delete-role:0.05");
+        DEFAULTS.put("zipf", "0.99");
+        DEFAULTS.put("unknown-ratio", "0.05");
+        DEFAULTS.put("delete-role-id", "3");
+        DEFAULTS.put("user", "user");
+        DEFAULTS.put("password", "d1b82d02-3868-4575-8ca6-41abc3e9edd2");
+        DEFAULTS.put("max-in-flight", "10000");
+        DEFAULTS.put("timeout-ms", "10000");
+        DEFAULTS.put("boot-timeout", "180");
+        DEFAULTS.put("seed", "42");
+        DEFAULTS.put("out", "");
+        DEFAULTS.put("baseline", "");
+        DEFAULTS.put("jvm-args", "");
+        DEFAULTS.put("api-args", "");
+        DEFAULTS.put("data-args", "");
+    }
+
+    /**
+     * @throws IllegalArgumentException if an option is unknown or its value is invalid
+     */
+    public static PerfOptions parse(String... args) {
+        Map<String, String> values = new LinkedHashMap<>(DEFAULTS);
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Invalid option: " + arg + ". Use --name=value");
+            }
+            String name = arg.substring(2, equals);
+            if (!DEFAULTS.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown option: --" + name + ". Allowed options are --"
+                        + String.join(", --", DEFAULTS.keySet()));
+            }
+            values.put(name, arg.substring(equals + 1));
+        }
+
+        String arrivals = values.get("arrivals").toLowerCase(Locale.ROOT);
+        if (!arrivals.equals("poisson") && !arrivals.equals("constant")) {
+            throw new IllegalArgumentException("Invalid value for --arrivals: " + arrivals + ". Use poisson or constant");
+        }
+        Boot boot;
+        try {
+            boot = Boot.valueOf(values.get("boot").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value for --boot: " + values.get("boot")
+                    + ". Use real, stub or none", e);
+        }
+        String out = values.get("out");
+        String baseline = values.get("baseline");
+
+        PerfOptions options = new PerfOptions(
+                boot,
+                Path.of(values.get("root")),
+                url(values, "api-url"),
+                url(values, "data-url"),
+                number(values, "rate"),
+                arrivals.equals("poisson"),
+                (int) number(values, "warmup"),
+                (int) number(values, "duration"),
+                (int) number(values, "employees"),
+                OperationMix.parse(values.get("mix")),
+                number(values, "zipf"),
+                number(values, "unknown-ratio"),
+                (long) number(values, "delete-role-id"),
+                values.get("user"),
+                values.get("password"),
+                (int) number(values, "max-in-flight"),
+                (int) number(values, "timeout-ms"),
+                (int) number(values, "boot-timeout"),
+                (long) number(values, "seed"),
+                out.isBlank() ? defaultOut() : Path.of(out),
+                baseline.isBlank() ? null : Path.of(baseline),
+                words(values.get("jvm-args")),
+                words(values.get("api-args")),
+                words(values.get("data-args")));
+        options.validate();
+        return options;
+    }
+
+    /**
+     * @return the options as given on the command line, with defaults filled in, for the result file
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("boot", boot.name().toLowerCase(Locale.ROOT));
+        description.put("apiUrl", apiUrl.toString());
+        description.put("dataUrl", dataUrl.toString());
+        description.put("rate", rate);
+        description.put("arrivals", poisson ? "poisson" : "constant");
+        description.put("warmupSeconds", warmupSeconds);
+        description.put("durationSeconds", durationSeconds);
+        description.put("employees", employees);
+        description.put("mix", mix.toString());
+        description.put("zipf", zipfExponent);
+        description.put("unknownRatio", unknownRatio);
+        description.put("deleteRoleId", deleteRoleId);
+        description.put("maxInFlight", maxInFlight);
+        description.put("timeoutMs", timeoutMs);
+        description.put("seed", seed);
+        description.put("jvmArgs", jvmArgs);
+        description.put("apiArgs", apiArgs);
+        description.put("dataArgs", dataArgs);
+        return description;
+    }
+
+    private void validate() {
+        if (!(rate > 0)) {
+            throw new IllegalArgumentException("Rate must be positive: " + rate);
+        }
+        if (warmupSeconds < 0 || durationSeconds <= 0) {
+            throw new IllegalArgumentException("Warm-up must not be negative and duration must be positive");
+        }
+        if (employees < 0) {
+            throw new IllegalArgumentException("Employees must not be negative: " + employees);
+        }
+        if (!(zipfExponent > 0)) {
+            throw new IllegalArgumentException("Zipf exponent must be positive: " + zipfExponent);
+        }
+        if (unknownRatio < 0 || unknownRatio > 1) {
+            throw new IllegalArgumentException("Unknown ratio must be between 0 and 1: " + unknownRatio);
+        }
+        if (maxInFlight <= 0 || timeoutMs <= 0 || bootTimeoutSeconds <= 0) {
+            throw new IllegalArgumentException("Max in flight, timeout and boot timeout must be positive");
+        }
+    }
+
+    private static double number(Map<String, String> values, String name) {
+        try {
+            return Double.parseDouble(values.get(name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for --" + name + ": " + values.get(name), e);
+        }
+    }
+
+    private static URI url(Map<String, String> values, String name) {
+        String value = values.get(name);
+        URI uri;
+        try {
+            uri = URI.create(value.endsWith("/") ? value.substring(0, value.length() - 1) : value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value for --" + name + ": " + value, e);
+        }
+        if (uri.getHost() == null || uri.getPort() < 0) {
+            throw new IllegalArgumentException("--" + name + " needs a host and a port: " + value);
+        }
+        return uri;
+    }
+
+    private static List<String> words(String value) {
+        return value.isBlank() ? List.of() : Arrays.asList(value.trim().split("\\s+"));
+    }
+
+    private static Path defaultOut() {
+        return Path.of("target", "perf",
+                "result-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+    }
+}
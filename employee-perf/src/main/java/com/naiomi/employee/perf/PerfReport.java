@@ -0,0 +1,86 @@
+package com.naiomi.employee.perf;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Prints a {@link PerfResult} as a table, and its changes from an earlier result.
+ */
+public final class PerfReport {
+
+    private static final String ROW = "%-34s %9s %9s %7s %8s %8s %8s %8s %8s %9s  %s%n";
+
+    private PerfReport() {
+    }
+
+    public static void print(PerfResult result, PrintStream out) {
+        out.printf("%n%.0f requests/s offered for %.0f s, %d employees left%n%n", result.offeredRate(), result.seconds(),
+                result.employeesLeft());
+        out.printf(ROW, "endpoint", "requests", "req/s", "errors", "mean", "p50", "p90", "p99", "p99.9", "max (ms)",
+                "statuses");
+        for (PerfResult.EndpointResult endpoint : result.endpoints()) {
+            row(endpoint, out);
+        }
+        row(result.total(), out);
+    }
+
+    /**
+     * Prints the throughput and the p50 and p99 latencies of each endpoint next to the baseline's.
+     */
+    public static void compare(PerfResult baseline, PerfResult result, PrintStream out) {
+        Map<String, PerfResult.EndpointResult> before = baseline.endpoints().stream()
+                .collect(Collectors.toMap(PerfResult.EndpointResult::endpoint, endpoint -> endpoint));
+        before.put(baseline.total().endpoint(), baseline.total());
+
+        out.printf("%n%-34s %28s %28s %28s%n", "vs baseline", "req/s", "p50 (ms)", "p99 (ms)");
+        for (PerfResult.EndpointResult endpoint : result.endpoints()) {
+            change(before.get(endpoint.endpoint()), endpoint, out);
+        }
+        change(before.get(result.total().endpoint()), result.total(), out);
+    }
+
+    private static void row(PerfResult.EndpointResult endpoint, PrintStream out) {
+        PerfResult.Latency latency = endpoint.latencyMs();
+        String statuses = endpoint.statuses().entrySet().stream()
+                .map(status -> status.getKey() + ":" + status.getValue())
+                .collect(Collectors.joining(" "));
+        if (endpoint.failures() > 0) {
+            statuses += " failed:" + endpoint.failures();
+        }
+        if (endpoint.dropped() > 0) {
+            statuses += " dropped:" + endpoint.dropped();
+        }
+        if (endpoint.skipped() > 0) {
+            statuses += " skipped:" + endpoint.skipped();
+        }
+        out.printf(ROW, endpoint.endpoint(), endpoint.requests(), format(endpoint.throughput()),
+                String.format("%.2f%%", endpoint.errorRate() * 100), format(latency.mean()), format(latency.p50()),
+                format(latency.p90()), format(latency.p99()), format(latency.p999()), format(latency.max()),
+                statuses.strip());
+    }
+
+    private static void change(PerfResult.EndpointResult before, PerfResult.EndpointResult after, PrintStream out) {
+        if (before == null) {
+            out.printf("%-34s %28s%n", after.endpoint(), "not in baseline");
+            return;
+        }
+        out.printf("%-34s %28s %28s %28s%n", after.endpoint(),
+                change(before, after, PerfResult.EndpointResult::throughput),
+                change(before, after, endpoint -> endpoint.latencyMs().p50()),
+                change(before, after, endpoint -> endpoint.latencyMs().p99()));
+    }
+
+    private static String change(PerfResult.EndpointResult before, PerfResult.EndpointResult after,
+                                 ToDoubleFunction<PerfResult.EndpointResult> metric) {
+        double from = metric.applyAsDouble(before);
+        double to = metric.applyAsDouble(after);
+        String percent = from == 0 ? "n/a" : String.format("%+.1f%%", (to - from) / from * 100);
+        return format(from) + " -> " + format(to) + " (" + percent + ")";
+    }
+
+    private static String format(double value) {
+        return value >= 100 ? String.format("%.0f", value) : String.format("%.2f", value);
+    }
+}
@@ -0,0 +1,119 @@
+package com.naiomi.employee.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+
+/**
+ * The machine-readable result of a run, written as JSON so that runs can be compared.
+ *
+ * @param startedAt     when the recorded phase started, ISO-8601
+ * @param options       the options of the run
+ * @param seconds       the length of the recorded phase
+ * @param offeredRate   the requests per second scheduled
+ * @param employeesLeft the employees known to exist after the run
+ * @param total         all endpoints together
+ * @param endpoints     one entry per endpoint called
+ */
+public record PerfResult(
+        String startedAt,
+        Map<String, Object> options,
+        double seconds,
+        double offeredRate,
+        int employeesLeft,
+        EndpointResult total,
+        List<EndpointResult> endpoints) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * @param endpoint   the endpoint, see {@link Operation#endpoint()}
+     * @param requests   the calls completed, with or without a response
+     * @param throughput the calls completed per second
+     * @param statuses   the number of responses per status code
+     * @param failures   the calls that got no response
+     * @param dropped    the calls not sent because too many were in flight
+     * @param skipped    the calls not sent because there was no employee to target
+     * @param latencyMs  the latency percentiles in milliseconds
+     * @param histogram  the latencies in microseconds, as a Base64 compressed HdrHistogram
+     */
+    public record EndpointResult(
+            String endpoint,
+            long requests,
+            double throughput,
+            Map<String, Long> statuses,
+            long failures,
+            long dropped,
+            long skipped,
+            Latency latencyMs,
+            String histogram) {
+
+        public static EndpointResult of(String endpoint, Histogram histogram, double seconds, Map<String, Long> statuses,
+                                        long failures, long dropped, long skipped) {
+            return new EndpointResult(endpoint, histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+                    statuses, failures, dropped, skipped, Latency.of(histogram), encode(histogram));
+        }
+
+        /**
+         * @return the share of calls answered with a 5xx status or not answered at all
+         */
+        public double errorRate() {
+            long errors = failures + statuses.entrySet().stream()
+                    .filter(status -> status.getKey().startsWith("5"))
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+
+        public Histogram decodeHistogram() {
+            try {
+                return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(Base64.getDecoder().decode(histogram)),
+                        EndpointStats.MAX_LATENCY_MICROS);
+            } catch (DataFormatException e) {
+                throw new IllegalStateException("Invalid histogram of " + endpoint, e);
+            }
+        }
+
+        private static String encode(Histogram histogram) {
+            ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+            int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+            return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+        }
+    }
+
+    /**
+     * Latency percentiles in milliseconds.
+     */
+    public record Latency(double mean, double p50, double p90, double p99, double p999, double max) {
+
+        static Latency of(Histogram micros) {
+            return new Latency(micros.getMean() / 1000,
+                    micros.getValueAtPercentile(50) / 1000.0,
+                    micros.getValueAtPercentile(90) / 1000.0,
+                    micros.getValueAtPercentile(99) / 1000.0,
+                    micros.getValueAtPercentile(99.9) / 1000.0,
+                    micros.getMaxValue() / 1000.0);
+        }
+    }
+
+    public void write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        MAPPER.writeValue(file.toFile(), this);
+    }
+
+    public static PerfResult read(Path file) throws IOException {
+        return MAPPER.readValue(file.toFile(), PerfResult.class);
+    }
+}
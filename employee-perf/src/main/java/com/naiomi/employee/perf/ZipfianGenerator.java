@@ -0,0 +1,71 @@
+package com.naiomi.employee.perf;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws ranks from 1 to n with probability proportional to {@code 1 / rank^exponent}, so a few hot
+ * keys get most of the traffic. An exponent of 0.99 is the usual choice for key-value workloads.
+ * <p>
+ * Uses rejection-inversion sampling (Hörmann and Derflinger), which needs no table of the n
+ * probabilities, so n can change from one draw to the next as employees are created and deleted.
+ * </p>
+ */
+public final class ZipfianGenerator {
+
+    private final double exponent;
+
+    public ZipfianGenerator(double exponent) {
+        if (!(exponent > 0)) {
+            throw new IllegalArgumentException("Zipf exponent must be positive: " + exponent);
+        }
+        this.exponent = exponent;
+    }
+
+    /**
+     * @return a rank from 1, the hottest, to {@code n}
+     */
+    public long next(long n, RandomGenerator random) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive: " + n);
+        }
+        double hIntegralX1 = hIntegral(1.5) - 1;
+        double hIntegralN = hIntegral(n + 0.5);
+        double s = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+        while (true) {
+            double u = hIntegralN + random.nextDouble() * (hIntegralX1 - hIntegralN);
+            double x = hIntegralInverse(u);
+            long k = Math.max(1, Math.min(n, (long) (x + 0.5)));
+            if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    public double exponent() {
+        return exponent;
+    }
+
+    private double h(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    private double hIntegral(double x) {
+        double logX = Math.log(x);
+        return expm1OverX((1 - exponent) * logX) * logX;
+    }
+
+    private double hIntegralInverse(double x) {
+        double t = Math.max(-1, x * (1 - exponent));
+        return Math.exp(log1pOverX(t) * x);
+    }
+
+    // log1p(x) / x and expm1(x) / x, with their Taylor series near 0 where the division is inexact
+
+    private static double log1pOverX(double x) {
+        return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1 - x * (0.5 - x * (1.0 / 3 - 0.25 * x));
+    }
+
+    private static double expm1OverX(double x) {
+        return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1 + x * 0.5 * (1 + x * (1.0 / 3) * (1 + 0.25 * x));
+    }
+}
@@ -0,0 +1,76 @@
+package com.naiomi.employee.perf;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdPoolTest {
+
+    private final IdPool pool = new IdPool();
+    private final SplittableRandom random = new SplittableRandom(1);
+
+    @Test
+    @DisplayName("An empty pool has no ID to pick")
+    void empty() {
+        assertEquals(-1, pool.hot(new ZipfianGenerator(0.99), random));
+        assertEquals(-1, pool.any(random));
+        assertEquals(-1, pool.take(random));
+    }
+
+    @Test
+    @DisplayName("Taken IDs leave the pool and the others stay pickable")
+    void take() {
+        for (long id = 1; id <= 5; id++) {
+            pool.add(id, 1);
+        }
+
+        Set<Long> taken = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            taken.add(pool.take(random));
+            Set<Long> left = new HashSet<>();
+            for (int j = 0; j < 100; j++) {
+                left.add(pool.any(random));
+            }
+            left.forEach(id -> assertFalse(taken.contains(id), "picked taken ID " + id));
+        }
+        assertEquals(Set.of(1L, 2L, 3L, 4L, 5L), taken);
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    @DisplayName("Deleting a role removes the IDs with that role")
+    void removeRole() {
+        pool.add(1, 1);
+        pool.add(2, 1);
+        pool.add(3, 1);
+        pool.setRole(2, 2);
+
+        assertEquals(2, pool.removeRole(1));
+        assertEquals(1, pool.size());
+        assertEquals(2, pool.any(random));
+    }
+
+    @Test
+    @DisplayName("The oldest IDs are the hottest")
+    void hot() {
+        for (long id = 1; id <= 1000; id++) {
+            pool.add(id, 1);
+        }
+        ZipfianGenerator zipf = new ZipfianGenerator(0.99);
+
+        int first = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (pool.hot(zipf, random) == 1) {
+                first++;
+            }
+        }
+
+        // About 1 / H(1000, 0.99), i.e. 13% of the picks
+        assertTrue(first > 1000 && first < 1700, "first " + first);
+    }
+}
@@ -0,0 +1,138 @@
+package com.naiomi.employee.perf;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorTest {
+
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final Map<String, Set<String>> roleHeaders = new ConcurrentHashMap<>();
+    private final Set<String> authorizations = ConcurrentHashMap.newKeySet();
+    private HttpServer server;
+
+    @TempDir
+    Path temp;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        // Answers for employee-api and employee-data at once
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.createContext("/", this::answer);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("The workload is offered at the configured rate and recorded per endpoint")
+    void run_RecordsPerEndpoint() throws Exception {
+        PerfOptions options = options("--rate=300", "--arrivals=constant", "--employees=20",
+                "--mix=read:60,create:10,update:10,delete:10,delete-role:10", "--unknown-ratio=0.2");
+
+        PerfResult result = EmployeePerfRunner.run(options);
+
+        assertEquals(300, result.total().requests(), 15);
+        assertEquals(0, result.total().dropped());
+        assertEquals(Set.of("GET /employees/{id}", "GET /employees/{id} (unknown ID)", "POST /employees",
+                        "PUT /employees/{id}", "DELETE /employees/{id}", "DELETE /roles/{roleId}"),
+                result.endpoints().stream().map(PerfResult.EndpointResult::endpoint).collect(Collectors.toSet()));
+        PerfResult.EndpointResult unknown = endpoint(result, "GET /employees/{id} (unknown ID)");
+        assertEquals(Set.of("404"), unknown.statuses().keySet());
+        assertTrue(unknown.latencyMs().p50() > 0);
+
+        assertEquals(Set.of("ADMIN"), roleHeaders.get("POST"));
+        assertEquals(Set.of("USER"), roleHeaders.get("PUT"));
+        assertEquals(Set.of("ADMIN", "USER"), roleHeaders.get("GET"));
+        assertEquals(Set.of("Basic dXNlcjpkMWI4MmQwMi0zODY4LTQ1NzUtOGNhNi00MWFiYzNlOWVkZDI="), authorizations);
+    }
+
+    @Test
+    @DisplayName("Results are written as JSON with their histograms and can be compared")
+    void result_WriteReadCompare() throws Exception {
+        PerfResult result = EmployeePerfRunner.run(options("--rate=100", "--employees=5"));
+        Path file = temp.resolve("result.json");
+
+        result.write(file);
+        PerfResult read = PerfResult.read(file);
+
+        assertEquals(result.total().requests(), read.total().requests());
+        assertEquals(result.total().requests(), read.total().decodeHistogram().getTotalCount());
+        assertEquals(result.endpoints().get(0).latencyMs(), read.endpoints().get(0).latencyMs());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PerfReport.print(read, new PrintStream(out, true, StandardCharsets.UTF_8));
+        PerfReport.compare(result, read, new PrintStream(out, true, StandardCharsets.UTF_8));
+        String report = out.toString(StandardCharsets.UTF_8);
+        assertTrue(report.contains("GET /employees/{id}"), report);
+        assertTrue(report.contains("(+0.0%)"), report);
+    }
+
+    private PerfOptions options(String... args) {
+        String url = "http://localhost:" + server.getAddress().getPort();
+        String[] all = new String[args.length + 6];
+        all[0] = "--boot=none";
+        all[1] = "--api-url=" + url;
+        all[2] = "--data-url=" + url;
+        all[3] = "--warmup=0";
+        all[4] = "--duration=1";
+        all[5] = "--out=" + temp.resolve("out.json");
+        System.arraycopy(args, 0, all, 6, args.length);
+        return PerfOptions.parse(all);
+    }
+
+    private static PerfResult.EndpointResult endpoint(PerfResult result, String name) {
+        return result.endpoints().stream().filter(endpoint -> endpoint.endpoint().equals(name)).findFirst().orElseThrow();
+    }
+
+    private void answer(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        exchange.getRequestBody().readAllBytes();
+
+        String body;
+        int status = 200;
+        if (path.startsWith("/roles/")) {
+            body = "Role and associated employees deleted. Projects reassigned.";
+        } else {
+            roleHeaders.computeIfAbsent(method, key -> ConcurrentHashMap.newKeySet())
+                    .add(exchange.getRequestHeaders().getFirst("Role"));
+            authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+            if (method.equals("POST")) {
+                body = "{\"firstName\":\"Perf\",\"id\":" + nextId.getAndIncrement() + ",\"roleId\":1}";
+            } else if (Long.parseLong(path.substring(path.lastIndexOf('/') + 1)) >= LoadGenerator.UNKNOWN_ID_BASE) {
+                status = 404;
+                body = "{\"status\":404,\"error\":\"Not Found\"}";
+            } else {
+                body = "{}";
+            }
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
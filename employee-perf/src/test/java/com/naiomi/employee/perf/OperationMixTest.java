@@ -0,0 +1,41 @@
+package com.naiomi.employee.perf;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OperationMixTest {
+
+    @Test
+    @DisplayName("Operations are drawn in proportion to their weights")
+    void next_Proportional() {
+        OperationMix mix = OperationMix.parse("read:70, create:20,delete:10,update:0");
+        SplittableRandom random = new SplittableRandom(1);
+
+        Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+        for (int i = 0; i < 100_000; i++) {
+            counts.merge(mix.next(random), 1, Integer::sum);
+        }
+
+        assertEquals(70_000, counts.get(Operation.READ), 1000);
+        assertEquals(20_000, counts.get(Operation.CREATE), 1000);
+        assertEquals(10_000, counts.get(Operation.DELETE), 1000);
+        assertNull(counts.get(Operation.UPDATE));
+        assertEquals("read:70,create:20,delete:10", mix.toString());
+    }
+
+    @Test
+    @DisplayName("Malformed mixes are rejected")
+    void parse_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("read"));
+        assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("read:lots"));
+        assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("read:-1"));
+        assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("scan:10"));
+        assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("read:0"));
+    }
+}
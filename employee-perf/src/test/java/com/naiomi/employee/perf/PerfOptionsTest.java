@@ -0,0 +1,57 @@
+package com.naiomi.employee.perf;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerfOptionsTest {
+
+    @Test
+    @DisplayName("Without options both services are started and offered 200 requests/s")
+    void parse_Defaults() {
+        PerfOptions options = PerfOptions.parse();
+
+        assertEquals(PerfOptions.Boot.REAL, options.boot());
+        assertEquals(9090, options.apiUrl().getPort());
+        assertEquals(9091, options.dataUrl().getPort());
+        assertEquals(200, options.rate());
+        assertTrue(options.poisson());
+        assertEquals(60, options.durationSeconds());
+        assertEquals("read:80,create:7,update:8,delete:5,delete-role:0.05", options.mix().toString());
+        assertTrue(options.out().startsWith(Path.of("target", "perf")));
+        assertNull(options.baseline());
+    }
+
+    @Test
+    @DisplayName("Options override the defaults")
+    void parse_Overrides() {
+        PerfOptions options = PerfOptions.parse("--boot=stub", "--api-url=http://localhost:19090/", "--rate=1500",
+                "--arrivals=constant", "--api-args=--employee.cache.enabled=false --warmup.enabled=false",
+                "--out=run.json", "--baseline=before.json");
+
+        assertEquals(PerfOptions.Boot.STUB, options.boot());
+        assertEquals("http://localhost:19090", options.apiUrl().toString());
+        assertEquals(1500, options.rate());
+        assertFalse(options.poisson());
+        assertEquals(List.of("--employee.cache.enabled=false", "--warmup.enabled=false"), options.apiArgs());
+        assertEquals(Path.of("run.json"), options.out());
+        assertEquals(Path.of("before.json"), options.baseline());
+        assertEquals("constant", options.describe().get("arrivals"));
+    }
+
+    @Test
+    @DisplayName("Unknown options and invalid values are rejected")
+    void parse_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> PerfOptions.parse("--threads=8"));
+        assertThrows(IllegalArgumentException.class, () -> PerfOptions.parse("rate=10"));
+        assertThrows(IllegalArgumentException.class, () -> PerfOptions.parse("--boot=docker"));
+        assertThrows(IllegalArgumentException.class, () -> PerfOptions.parse("--arrivals=bursty"));
+        assertThrows(IllegalArgumentException.class, () -> PerfOptions.parse("--rate=0"));
+        assertThrows(IllegalArgumentException.class, () -> PerfOptions.parse("--unknown-ratio=2"));
+        assertThrows(IllegalArgumentException.class, () -> PerfOptions.parse("--api-url=localhost"));
+    }
+}
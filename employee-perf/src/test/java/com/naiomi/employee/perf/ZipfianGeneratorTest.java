@@ -0,0 +1,50 @@
+package com.naiomi.employee.perf;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZipfianGeneratorTest {
+
+    private final SplittableRandom random = new SplittableRandom(1);
+
+    @Test
+    @DisplayName("Ranks follow 1 / rank^s, with rank 1 the hottest")
+    void next_FollowsZipfLaw() {
+        ZipfianGenerator zipf = new ZipfianGenerator(1.0);
+        int n = 100;
+        int[] counts = new int[n + 1];
+        int samples = 200_000;
+        for (int i = 0; i < samples; i++) {
+            long rank = zipf.next(n, random);
+            assertTrue(rank >= 1 && rank <= n, "rank " + rank);
+            counts[(int) rank]++;
+        }
+
+        double harmonic = 0;
+        for (int k = 1; k <= n; k++) {
+            harmonic += 1.0 / k;
+        }
+        for (int k : new int[]{1, 2, 10}) {
+            double expected = samples / (k * harmonic);
+            assertEquals(expected, counts[k], expected * 0.05, "rank " + k);
+        }
+    }
+
+    @Test
+    @DisplayName("The key space can change between draws")
+    void next_AnySize() {
+        ZipfianGenerator zipf = new ZipfianGenerator(0.99);
+
+        assertEquals(1, zipf.next(1, random));
+        for (long n = 2; n < 10_000; n *= 3) {
+            long rank = zipf.next(n, random);
+            assertTrue(rank >= 1 && rank <= n);
+        }
+        assertThrows(IllegalArgumentException.class, () -> zipf.next(0, random));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfianGenerator(0));
+    }
+}
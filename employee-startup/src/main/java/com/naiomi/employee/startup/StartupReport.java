@@ -0,0 +1,30 @@
+package com.naiomi.employee.startup;
+
+import java.util.List;
+
+/**
+ * The startup timeline of an application, as built by {@link StartupTimelineService}.
+ *
+ * @param recorded      whether the application was launched with a buffering startup recorder
+ * @param timeToReadyMs the time from launch to readiness, or {@code null} if not ready yet
+ * @param budgetMs      the configured startup budget
+ * @param totalSteps    the number of steps recorded, before the limit is applied
+ * @param steps         the sorted steps
+ */
+public record StartupReport(boolean recorded, Long timeToReadyMs, long budgetMs, int totalSteps, List<Step> steps) {
+
+    /**
+     * A single recorded startup step.
+     *
+     * @param id            the identifier of the step, unique within the timeline
+     * @param parentId      the identifier of the enclosing step, or {@code null} for top-level steps
+     * @param name          the name of the step, for example {@code spring.beans.instantiate}
+     * @param beanName      the bean the step belongs to, if any
+     * @param startOffsetMs when the step started, relative to the start of the timeline
+     * @param durationMs    the time spent in the step, including nested steps
+     * @param selfMs        the time spent in the step itself, excluding nested steps
+     */
+    public record Step(long id, Long parentId, String name, String beanName,
+                       double startOffsetMs, double durationMs, double selfMs) {
+    }
+}
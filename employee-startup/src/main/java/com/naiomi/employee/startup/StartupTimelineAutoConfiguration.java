@@ -0,0 +1,22 @@
+package com.naiomi.employee.startup;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.metrics.ApplicationStartup;
+
+/**
+ * Registers the {@link StartupTimelineService} in every application that depends on this module.
+ */
+@AutoConfiguration
+public class StartupTimelineAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public StartupTimelineService startupTimelineService(ApplicationStartup applicationStartup,
+                                                         @Value("${startup.budget-ms:60000}") long budgetMs,
+                                                         @Value("${startup.enforce-budget:false}") boolean enforceBudget) {
+        return new StartupTimelineService(applicationStartup, budgetMs, enforceBudget);
+    }
+}
@@ -0,0 +1,144 @@
+package com.naiomi.employee.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Turns the startup steps recorded by {@link BufferingApplicationStartup} into a sorted report
+ * and checks the time to readiness against {@code startup.budget-ms}.
+ * <p>
+ * Shared by employee-api and employee-data, which each serve the report at {@code /admin/startup}
+ * in their own DTOs. Registered by {@link StartupTimelineAutoConfiguration}.
+ * </p>
+ */
+public class StartupTimelineService implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimelineService.class);
+
+    private static final int STEPS_IN_BUDGET_MESSAGE = 5;
+
+    private final ApplicationStartup applicationStartup;
+    private final long budgetMs;
+    private final boolean enforceBudget;
+
+    private volatile Duration timeToReady;
+
+    public StartupTimelineService(ApplicationStartup applicationStartup, long budgetMs, boolean enforceBudget) {
+        this.applicationStartup = applicationStartup;
+        this.budgetMs = budgetMs;
+        this.enforceBudget = enforceBudget;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (event.getTimeTaken() != null) {
+            timeToReady = event.getTimeTaken();
+            verifyBudget(timeToReady);
+        }
+    }
+
+    /**
+     * Fails startup (or logs a warning when not enforced) if the application took longer
+     * than the configured budget to become ready.
+     *
+     * @param taken the time from launch to readiness
+     * @throws IllegalStateException if the budget is exceeded and enforced
+     */
+    public void verifyBudget(Duration taken) {
+        if (taken.toMillis() <= budgetMs) {
+            logger.info("Application ready in {} ms (budget {} ms)", taken.toMillis(), budgetMs);
+            return;
+        }
+
+        String slowest = getReport(STEPS_IN_BUDGET_MESSAGE, "self").steps().stream()
+                .map(step -> String.format("%s%s=%.1fms", step.name(),
+                        step.beanName() != null ? "[" + step.beanName() + "]" : "", step.selfMs()))
+                .collect(Collectors.joining(", "));
+        String message = String.format("Startup took %d ms, exceeding the budget of %d ms. Slowest steps: %s",
+                taken.toMillis(), budgetMs, slowest.isEmpty() ? "not recorded" : slowest);
+
+        if (enforceBudget) {
+            throw new IllegalStateException(message);
+        }
+        logger.warn(message);
+    }
+
+    /**
+     * Builds the startup report.
+     *
+     * @param limit  the maximum number of steps to return
+     * @param sortBy "duration" (inclusive time, default), "self" (exclusive time) or "start"
+     * @return the report, flagged as not recorded if the application was not launched with
+     *         a {@link BufferingApplicationStartup}
+     * @throws IllegalArgumentException if the sort order is unknown
+     */
+    public StartupReport getReport(int limit, String sortBy) {
+        Comparator<StartupReport.Step> order = comparator(sortBy);
+        Long readyMs = timeToReady != null ? timeToReady.toMillis() : null;
+        if (!(applicationStartup instanceof BufferingApplicationStartup bufferingStartup)) {
+            return new StartupReport(false, readyMs, budgetMs, 0, List.of());
+        }
+
+        StartupTimeline timeline = bufferingStartup.getBufferedTimeline();
+        Instant origin = timeline.getStartTime();
+
+        // Children overlap their parent, so subtract them to get the time spent in the step itself
+        Map<Long, Duration> childTime = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : timeline.getEvents()) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                childTime.merge(parentId, event.getDuration(), Duration::plus);
+            }
+        }
+
+        List<StartupReport.Step> steps = timeline.getEvents().stream()
+                .map(event -> toStep(event, origin, childTime.getOrDefault(event.getStartupStep().getId(), Duration.ZERO)))
+                .sorted(order)
+                .limit(Math.max(limit, 0))
+                .toList();
+
+        return new StartupReport(true, readyMs, budgetMs, timeline.getEvents().size(), steps);
+    }
+
+    private StartupReport.Step toStep(StartupTimeline.TimelineEvent event, Instant origin, Duration children) {
+        StartupStep step = event.getStartupStep();
+        String beanName = null;
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                beanName = tag.getValue();
+            }
+        }
+        Duration self = event.getDuration().minus(children);
+        return new StartupReport.Step(step.getId(), step.getParentId(), step.getName(), beanName,
+                toMillis(Duration.between(origin, event.getStartTime())),
+                toMillis(event.getDuration()),
+                toMillis(self.isNegative() ? Duration.ZERO : self));
+    }
+
+    private Comparator<StartupReport.Step> comparator(String sortBy) {
+        return switch (sortBy == null ? "duration" : sortBy.toLowerCase()) {
+            case "self" -> Comparator.comparingDouble(StartupReport.Step::selfMs).reversed();
+            case "start" -> Comparator.comparingDouble(StartupReport.Step::startOffsetMs);
+            case "duration" -> Comparator.comparingDouble(StartupReport.Step::durationMs).reversed();
+            default -> throw new IllegalArgumentException("Invalid sort: " + sortBy + ". Allowed values are duration, self, start");
+        };
+    }
+
+    private static double toMillis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+}
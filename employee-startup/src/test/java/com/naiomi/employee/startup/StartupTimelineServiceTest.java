@@ -0,0 +1,98 @@
+package com.naiomi.employee.startup;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupTimelineServiceTest {
+
+    private BufferingApplicationStartup applicationStartup;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        applicationStartup = new BufferingApplicationStartup(100);
+
+        // "outer" spends most of its time waiting on "inner"
+        StartupStep outer = applicationStartup.start("spring.beans.instantiate").tag("beanName", "outer");
+        StartupStep inner = applicationStartup.start("spring.beans.instantiate").tag("beanName", "inner");
+        Thread.sleep(30);
+        inner.end();
+        Thread.sleep(5);
+        outer.end();
+    }
+
+    @Test
+    @DisplayName("Report is sorted by inclusive duration and carries bean names")
+    void getReport_SortedByDuration() {
+        StartupTimelineService service = new StartupTimelineService(applicationStartup, 60_000, false);
+
+        StartupReport report = service.getReport(10, "duration");
+
+        assertTrue(report.recorded());
+        assertEquals(2, report.totalSteps());
+        List<StartupReport.Step> steps = report.steps();
+        assertEquals("outer", steps.get(0).beanName());
+        assertEquals("inner", steps.get(1).beanName());
+        assertEquals(steps.get(0).id(), steps.get(1).parentId());
+    }
+
+    @Test
+    @DisplayName("Self time excludes time spent in child steps")
+    void getReport_SortedBySelfTime() {
+        StartupTimelineService service = new StartupTimelineService(applicationStartup, 60_000, false);
+
+        List<StartupReport.Step> steps = service.getReport(10, "self").steps();
+
+        assertEquals("inner", steps.get(0).beanName());
+        assertTrue(steps.get(1).selfMs() < steps.get(1).durationMs());
+    }
+
+    @Test
+    @DisplayName("Report honours the limit and rejects unknown sort orders")
+    void getReport_LimitAndInvalidSort() {
+        StartupTimelineService service = new StartupTimelineService(applicationStartup, 60_000, false);
+
+        assertEquals(1, service.getReport(1, "start").steps().size());
+        assertThrows(IllegalArgumentException.class, () -> service.getReport(10, "name"));
+    }
+
+    @Test
+    @DisplayName("Report is flagged as not recorded without a buffering startup")
+    void getReport_NotRecorded() {
+        StartupTimelineService service = new StartupTimelineService(ApplicationStartup.DEFAULT, 60_000, false);
+
+        StartupReport report = service.getReport(10, "duration");
+
+        assertFalse(report.recorded());
+        assertTrue(report.steps().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Exceeding an enforced budget fails startup with the slowest steps")
+    void verifyBudget_Enforced() {
+        StartupTimelineService service = new StartupTimelineService(applicationStartup, 1_000, true);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> service.verifyBudget(Duration.ofSeconds(2)));
+        assertTrue(exception.getMessage().contains("exceeding the budget of 1000 ms"));
+        assertTrue(exception.getMessage().contains("[inner]"));
+
+        assertDoesNotThrow(() -> service.verifyBudget(Duration.ofMillis(500)));
+    }
+
+    @Test
+    @DisplayName("Exceeding a budget that is not enforced only logs a warning")
+    void verifyBudget_NotEnforced() {
+        StartupTimelineService service = new StartupTimelineService(applicationStartup, 1_000, false);
+
+        assertDoesNotThrow(() -> service.verifyBudget(Duration.ofSeconds(2)));
+    }
+}
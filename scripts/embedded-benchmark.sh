@@ -0,0 +1,95 @@
+#!/usr/bin/env bash
+#
+# Two-process versus embedded benchmark.
+#
+# Starts each deployment, loads it with EmbeddedModeBenchmark and prints the read latency,
+# throughput and the resident set size (RSS) of the server processes after the load:
+#   two-process  employee-data and employee-api jars, calling each other over HTTP
+#   embedded     the employee-embedded jar, employee-api calling employee-data in-process
+#
+# Build first:   mvn -DskipTests package
+# Usage:         scripts/embedded-benchmark.sh [requests] [concurrency]
+#
+# The employee cache and the stale store of employee-api are disabled so that every read reaches
+# employee-data. Extra employee-api arguments can be passed through APP_ARGS, JVM options for the
+# servers through JAVA_OPTS.
+
+set -euo pipefail
+
+REQUESTS=${1:-20000}
+CONCURRENCY=${2:-1}
+APP_ARGS=${APP_ARGS:-}
+JAVA_OPTS=${JAVA_OPTS:-}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+API_JAR="$ROOT/employee-api/target/employee-api-0.0.1-SNAPSHOT.jar"
+DATA_JAR="$ROOT/employee-data/target/employee-data-0.0.1-SNAPSHOT.jar"
+EMBEDDED_JAR="$ROOT/employee-embedded/target/employee-embedded-0.0.1-SNAPSHOT.jar"
+CLIENT_CLASSES="$ROOT/employee-embedded/target/test-classes"
+
+API_ARGS="--employee.cache.enabled=false --employee.stale.enabled=false --warmup.enabled=false $APP_ARGS"
+PIDS=()
+
+rss_mb() {
+  awk '/VmRSS/ { printf "%.1f", $2 / 1024 }' "/proc/$1/status"
+}
+
+wait_ready() {
+  local url=$1 deadline=$(( $(date +%s) + TIMEOUT_SECONDS ))
+  until [[ "$(curl -s -o /dev/null -w '%{http_code}' "$url" || true)" =~ ^2 ]]; do
+    if (( $(date +%s) > deadline )); then
+      echo "Timed out waiting for $url" >&2
+      exit 1
+    fi
+    sleep 0.2
+  done
+}
+
+stop_all() {
+  for pid in "${PIDS[@]}"; do
+    kill "$pid" 2> /dev/null || true
+    wait "$pid" 2> /dev/null || true
+  done
+  PIDS=()
+}
+trap stop_all EXIT
+
+measure() {
+  local mode=$1 total=0 pid rss
+  shift
+  echo "== $mode"
+  java -cp "$CLIENT_CLASSES" com.naiomi.employee.embedded.EmbeddedModeBenchmark \
+    http://localhost:9090/employees "$REQUESTS" "$CONCURRENCY"
+  for pid in "${PIDS[@]}"; do
+    rss=$(rss_mb "$pid")
+    printf 'rss pid %-8s %10s MB\n' "$pid" "$rss"
+    total=$(awk -v a="$total" -v b="$rss" 'BEGIN { print a + b }')
+  done
+  printf 'rss total        %10s MB\n\n' "$total"
+  stop_all
+}
+
+for jar in "$API_JAR" "$DATA_JAR" "$EMBEDDED_JAR"; do
+  [[ -f "$jar" ]] || { echo "Missing $jar, build first" >&2; exit 1; }
+done
+[[ -d "$CLIENT_CLASSES" ]] || { echo "Missing $CLIENT_CLASSES, build first" >&2; exit 1; }
+
+# shellcheck disable=SC2086
+java $JAVA_OPTS -jar "$DATA_JAR" --warmup.enabled=false > /dev/null 2>&1 &
+PIDS+=($!)
+wait_ready http://localhost:9091/actuator/health/readiness
+# shellcheck disable=SC2086
+java $JAVA_OPTS -jar "$API_JAR" $API_ARGS \
+  --employee.data.url=http://localhost:9091/api/employees \
+  --employee.data.events-url=http://localhost:9091/api/employees/events \
+  --employee.data.changes-url=http://localhost:9091/changes > /dev/null 2>&1 &
+PIDS+=($!)
+wait_ready http://localhost:9090/actuator/health/readiness
+measure two-process
+
+# shellcheck disable=SC2086
+java $JAVA_OPTS -Dwarmup.enabled=false -jar "$EMBEDDED_JAR" $API_ARGS > /dev/null 2>&1 &
+PIDS+=($!)
+wait_ready http://localhost:9090/actuator/health/readiness
+measure embedded
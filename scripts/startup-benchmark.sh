@@ -0,0 +1,106 @@
+#!/usr/bin/env bash
+#
+# Startup benchmark for employee-api and employee-data.
+#
+# Measures time-to-first-successful-request and resident set size (RSS) for each
+# startup mode of a module:
+#   jar      standard executable jar
+#   aot      same jar with -Dspring.aot.enabled=true
+#   aot-cds  extracted jar with AOT and the AppCDS archive from the training run
+#   native   native executable (only if target/<module> exists, see the "native" profile)
+#
+# Build first:   mvn -Pfast-startup -DskipTests package
+# Usage:         scripts/startup-benchmark.sh <employee-api|employee-data> [runs] [url]
+#
+# The default URL is the readiness probe, i.e. the first request a load balancer would
+# route. Extra application arguments can be passed through APP_ARGS.
+
+set -euo pipefail
+
+MODULE=${1:?"usage: $0 <employee-api|employee-data> [runs] [url]"}
+RUNS=${2:-5}
+
+case "$MODULE" in
+  employee-api)  PORT=9090 ;;
+  employee-data) PORT=9091 ;;
+  *) echo "Unknown module: $MODULE" >&2; exit 1 ;;
+esac
+
+URL=${3:-"http://localhost:${PORT}/actuator/health/readiness"}
+APP_ARGS=${APP_ARGS:-}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+TARGET="$ROOT/$MODULE/target"
+JAR="$TARGET/$MODULE-0.0.1-SNAPSHOT.jar"
+EXTRACTED_JAR="$TARGET/fast-startup/$MODULE-0.0.1-SNAPSHOT.jar"
+CDS_ARCHIVE="$TARGET/fast-startup/application.jsa"
+NATIVE="$TARGET/$MODULE"
+
+now_ms() {
+  date +%s%3N
+}
+
+rss_mb() {
+  awk '/VmRSS/ { printf "%.1f", $2 / 1024 }' "/proc/$1/status"
+}
+
+# Starts the given command, waits for the first 2xx response and prints "<ms> <rss-mb>".
+measure() {
+  local start pid status
+  start=$(now_ms)
+  # shellcheck disable=SC2086
+  "$@" $APP_ARGS > /dev/null 2>&1 &
+  pid=$!
+
+  while true; do
+    status=$(curl -s -o /dev/null -w '%{http_code}' "$URL" || true)
+    if [[ "$status" =~ ^2 ]]; then
+      echo "$(( $(now_ms) - start )) $(rss_mb "$pid")"
+      break
+    fi
+    if ! kill -0 "$pid" 2> /dev/null || (( $(now_ms) - start > TIMEOUT_SECONDS * 1000 )); then
+      echo "failed -"
+      break
+    fi
+    sleep 0.01
+  done
+
+  kill "$pid" 2> /dev/null || true
+  wait "$pid" 2> /dev/null || true
+}
+
+run_mode() {
+  local mode=$1
+  shift
+  local times=() line ms rss
+  for ((i = 1; i <= RUNS; i++)); do
+    line=$(measure "$@")
+    read -r ms rss <<< "$line"
+    printf '%-8s run %-3s %8s ms %10s MB\n' "$mode" "$i" "$ms" "$rss"
+    [[ "$ms" != "failed" ]] && times+=("$ms")
+  done
+  if ((${#times[@]} > 0)); then
+    printf '%-8s median  %8s ms\n\n' "$mode" "$(printf '%s\n' "${times[@]}" | sort -n | awk '{ a[NR] = $1 } END { print a[int((NR + 1) / 2)] }')"
+  fi
+}
+
+echo "Benchmarking $MODULE ($RUNS runs per mode) against $URL"
+echo
+
+[[ -f "$JAR" ]] || { echo "Missing $JAR, build the module first" >&2; exit 1; }
+
+run_mode jar java -jar "$JAR"
+
+if [[ -f "$EXTRACTED_JAR" ]]; then
+  run_mode aot java -Dspring.aot.enabled=true -jar "$JAR"
+  run_mode aot-cds java -XX:SharedArchiveFile="$CDS_ARCHIVE" -Xlog:cds=off -Dspring.aot.enabled=true -jar "$EXTRACTED_JAR"
+else
+  echo "Skipping aot and aot-cds: build with -Pfast-startup"
+fi
+
+if [[ -x "$NATIVE" ]]; then
+  run_mode native "$NATIVE"
+else
+  echo "Skipping native: build with -Pnative native:compile"
+fi